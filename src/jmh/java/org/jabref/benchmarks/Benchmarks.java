@@ -2,11 +2,26 @@ package org.jabref.benchmarks;
 
 import java.io.IOException;
 import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
 import java.util.Random;
 import java.util.stream.Collectors;
 
+import javax.swing.undo.CompoundEdit;
+
 import org.jabref.Globals;
+import org.jabref.gui.journals.UndoableAbbreviator;
+import org.jabref.gui.journals.UndoableUnabbreviator;
+import org.jabref.logic.bibtex.comparator.FieldComparator;
+import org.jabref.logic.bibtex.comparator.FieldComparatorStack;
+import org.jabref.logic.citationstyle.CitationStyle;
+import org.jabref.logic.citationstyle.CitationStyleEnginePool;
+import org.jabref.logic.citationstyle.CitationStyleOutputFormat;
+import org.jabref.logic.exporter.BibDatabaseWriter;
 import org.jabref.logic.exporter.BibtexDatabaseWriter;
 import org.jabref.logic.exporter.SavePreferences;
 import org.jabref.logic.exporter.StringSaveSession;
@@ -14,6 +29,12 @@ import org.jabref.logic.formatter.bibtexfields.HtmlToLatexFormatter;
 import org.jabref.logic.importer.ParseException;
 import org.jabref.logic.importer.ParserResult;
 import org.jabref.logic.importer.fileformat.BibtexParser;
+import org.jabref.logic.importer.fileformat.ParallelBibtexParser;
+import org.jabref.logic.integrity.IntegrityCheck;
+import org.jabref.logic.integrity.IntegrityMessage;
+import org.jabref.logic.journals.Abbreviation;
+import org.jabref.logic.journals.JournalAbbreviationLoader;
+import org.jabref.logic.journals.JournalAbbreviationRepository;
 import org.jabref.logic.layout.format.HTMLChars;
 import org.jabref.logic.layout.format.LatexToUnicodeFormatter;
 import org.jabref.logic.search.SearchQuery;
@@ -22,15 +43,24 @@ import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.database.BibDatabaseMode;
 import org.jabref.model.database.BibDatabaseModeDetection;
+import org.jabref.model.entry.AuthorList;
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.FieldName;
+import org.jabref.model.entry.Month;
 import org.jabref.model.groups.GroupHierarchyType;
 import org.jabref.model.groups.KeywordGroup;
 import org.jabref.model.groups.WordKeywordGroup;
 import org.jabref.model.metadata.MetaData;
+import org.jabref.model.metadata.SaveOrderConfig;
+import org.jabref.model.search.SearchMatcher;
+import org.jabref.model.search.rules.ContainBasedSearchRule;
+import org.jabref.model.search.rules.GrammarBasedSearchRule;
+import org.jabref.model.search.rules.RegexBasedSearchRule;
 import org.jabref.preferences.JabRefPreferences;
 
 import org.openjdk.jmh.Main;
 import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
@@ -77,6 +107,21 @@ public class Benchmarks {
         return parser.parse(new StringReader(bibtexString));
     }
 
+    /**
+     * Run with "-prof gc" to see the allocation rate
+     */
+    @Benchmark
+    public ParserResult parseLargeFile(LargeBibtexFile largeFile) throws IOException {
+        BibtexParser parser = new BibtexParser(Globals.prefs.getImportFormatPreferences());
+        return parser.parse(new StringReader(largeFile.bibtexString));
+    }
+
+    @Benchmark
+    public ParserResult parseLargeFileInParallel(LargeBibtexFile largeFile) throws IOException {
+        ParallelBibtexParser parser = new ParallelBibtexParser(Globals.prefs.getImportFormatPreferences());
+        return parser.parse(new StringReader(largeFile.bibtexString));
+    }
+
     @Benchmark
     public String write() throws Exception {
         BibtexDatabaseWriter<StringSaveSession> databaseWriter = new BibtexDatabaseWriter<>(StringSaveSession::new);
@@ -100,6 +145,31 @@ public class Benchmarks {
         return database.getEntries().parallelStream().filter(searchQuery::isMatch).collect(Collectors.toList());
     }
 
+    @Benchmark
+    public List<BibEntry> indexedSearch() {
+        SearchQuery searchQuery = new SearchQuery("Journal Title 500", false, false);
+        return searchQuery.findMatches(database);
+    }
+
+    @Benchmark
+    public List<BibEntry> containBasedSearch() {
+        SearchMatcher matcher = new ContainBasedSearchRule(false).compile("Journal Title 500");
+        return database.getEntries().stream().filter(matcher::isMatch).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<BibEntry> regexBasedSearch() {
+        SearchMatcher matcher = new RegexBasedSearchRule(false).compile("Journal Title 50\\d");
+        return database.getEntries().stream().filter(matcher::isMatch).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<BibEntry> grammarBasedSearch() {
+        SearchMatcher matcher = new GrammarBasedSearchRule(false, false)
+                .compile("journal = \"Journal Title 500\" and (year = 1500 or not keyword = testkeyword)");
+        return database.getEntries().stream().filter(matcher::isMatch).collect(Collectors.toList());
+    }
+
     @Benchmark
     public BibDatabaseMode inferBibDatabaseMode() {
         return BibDatabaseModeDetection.inferMode(database);
@@ -129,7 +199,264 @@ public class Benchmarks {
         return group.containsAll(database.getEntries());
     }
 
+    @Benchmark
+    public long journalAbbreviationLookup(JournalAbbreviations abbreviations) {
+        return abbreviations.journalNames.stream().filter(abbreviations.repository::isKnownName).count();
+    }
+
+    @Benchmark
+    public int abbreviateAndUnabbreviateJournals(JournalAbbreviations abbreviations) {
+        UndoableAbbreviator abbreviator = new UndoableAbbreviator(abbreviations.repository, true);
+        UndoableUnabbreviator unabbreviator = new UndoableUnabbreviator(abbreviations.repository);
+        CompoundEdit edit = new CompoundEdit();
+        int changes = 0;
+        for (BibEntry entry : abbreviations.database.getEntries()) {
+            if (abbreviator.abbreviate(abbreviations.database, entry, FieldName.JOURNAL, edit)) {
+                changes++;
+            }
+        }
+        for (BibEntry entry : abbreviations.database.getEntries()) {
+            if (unabbreviator.unabbreviate(abbreviations.database, entry, FieldName.JOURNAL, edit)) {
+                changes++;
+            }
+        }
+        return changes;
+    }
+
+    @Benchmark
+    public List<IntegrityMessage> checkIntegrity(GeneratedLibrary library) {
+        // as in the GUI, the checkers are created for each run
+        IntegrityCheck check = new IntegrityCheck(library.databaseContext,
+                Globals.prefs.getFileDirectoryPreferences(),
+                Globals.prefs.getBibtexKeyPatternPreferences(),
+                library.abbreviationRepository);
+        return check.checkBibtexDatabase();
+    }
+
+    /**
+     * Parses the authors of all entries by several threads, as searching and grouping do
+     */
+    @Benchmark
+    public int parseAuthorsInParallel(GeneratedLibrary library) {
+        return library.databaseContext.getDatabase().getEntries().parallelStream()
+                .map(entry -> entry.getField(FieldName.AUTHOR))
+                .filter(Optional::isPresent)
+                .mapToInt(authors -> AuthorList.parse(authors.get()).getNumberOfAuthors())
+                .sum();
+    }
+
+    /**
+     * Starts a new engine for each citation, as it was done before engines were pooled
+     */
+    @Benchmark
+    public List<String> generateCitationWithColdEngine(CitationStyleEntries entries) throws IOException {
+        return new CitationStyleEnginePool().generateCitations(entries.singleEntry, entries.style,
+                CitationStyleOutputFormat.HTML);
+    }
+
+    @Benchmark
+    public List<String> generateCitationWithWarmEngine(CitationStyleEntries entries) throws IOException {
+        return entries.enginePool.generateCitations(entries.singleEntry, entries.style, CitationStyleOutputFormat.HTML);
+    }
+
+    @Benchmark
+    public List<String> generateCitationsOfManyEntriesWithWarmEngine(CitationStyleEntries entries) throws IOException {
+        return entries.enginePool.generateCitations(entries.database.getEntries(), entries.style,
+                CitationStyleOutputFormat.HTML);
+    }
+
+    /**
+     * Sorts the entries as when saving, by author, year and title
+     */
+    @Benchmark
+    public List<BibEntry> sortEntriesForSaving(SortableLibrary library) {
+        return BibDatabaseWriter.getSortedEntries(library.databaseContext, library.entries, library.savePreferences);
+    }
+
+    /**
+     * Sorts the entries as the main table does when sorting by the author, year and title columns
+     */
+    @Benchmark
+    public List<BibEntry> sortEntriesForTable(SortableLibrary library) {
+        List<BibEntry> sorted = new ArrayList<>(library.entries);
+        sorted.sort(library.tableComparator);
+        return sorted;
+    }
+
     public static void main(String[] args) throws IOException, RunnerException {
         Main.main(args);
     }
+
+    @State(Scope.Thread)
+    public static class JournalAbbreviations {
+
+        private final JournalAbbreviationRepository repository = new JournalAbbreviationRepository();
+        private final List<String> journalNames = new ArrayList<>();
+        private final BibDatabase database = new BibDatabase();
+
+        @Setup
+        public void init() {
+            repository.addEntries(JournalAbbreviationLoader.getBuiltInAbbreviations());
+
+            // full names, abbreviations in both styles and unknown names in a different case
+            List<Abbreviation> abbreviations = new ArrayList<>(repository.getAbbreviations());
+            Random randomizer = new Random(42);
+            for (int i = 0; i < 10000; i++) {
+                Abbreviation abbreviation = abbreviations.get(randomizer.nextInt(abbreviations.size()));
+                switch (i % 4) {
+                    case 0:
+                        journalNames.add(abbreviation.getName());
+                        break;
+                    case 1:
+                        journalNames.add(abbreviation.getIsoAbbreviation());
+                        break;
+                    case 2:
+                        journalNames.add(abbreviation.getMedlineAbbreviation().toUpperCase(Locale.ROOT));
+                        break;
+                    default:
+                        journalNames.add("Unknown Journal " + i);
+                        break;
+                }
+            }
+
+            for (String journalName : journalNames) {
+                BibEntry entry = new BibEntry();
+                entry.setField(FieldName.JOURNAL, journalName);
+                database.insertEntry(entry);
+            }
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class CitationStyleEntries {
+
+        private final CitationStyleEnginePool enginePool = new CitationStyleEnginePool();
+        private final String style = CitationStyle.getDefault().getSource();
+        private final BibDatabase database = new BibDatabase();
+        private List<BibEntry> singleEntry;
+
+        @Setup
+        public void init() throws IOException {
+            for (int i = 0; i < 1000; i++) {
+                BibEntry entry = new BibEntry("article");
+                entry.setCiteKey("id" + i);
+                entry.setField(FieldName.AUTHOR, "Lastname, Firstname and Other, A. and Another, B.");
+                entry.setField(FieldName.TITLE, "This is my title " + i);
+                entry.setField(FieldName.JOURNAL, "Journal Title " + i);
+                entry.setField(FieldName.VOLUME, Integer.toString(i));
+                entry.setField(FieldName.PAGES, "1--" + i);
+                entry.setField(FieldName.YEAR, "2017");
+                database.insertEntry(entry);
+            }
+            singleEntry = Collections.singletonList(database.getEntries().get(0));
+
+            // start the engine of the warm benchmarks
+            enginePool.generateCitations(singleEntry, style, CitationStyleOutputFormat.HTML);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class GeneratedLibrary {
+
+        private static final int NUMBER_OF_ENTRIES = 50000;
+
+        private final JournalAbbreviationRepository abbreviationRepository = new JournalAbbreviationRepository();
+        private BibDatabaseContext databaseContext;
+
+        @Setup
+        public void init() {
+            Globals.prefs = JabRefPreferences.getInstance();
+            abbreviationRepository.addEntries(JournalAbbreviationLoader.getBuiltInAbbreviations());
+
+            // mostly valid entries, every tenth one has a few problems
+            BibDatabase database = new BibDatabase();
+            Random randomizer = new Random(42);
+            for (int i = 0; i < NUMBER_OF_ENTRIES; i++) {
+                BibEntry entry = new BibEntry(i % 3 == 0 ? "inproceedings" : "article");
+                entry.setCiteKey("Lastname" + (1950 + (i % 70)) + i);
+                entry.setField(FieldName.AUTHOR, "Lastname, Firstname and Other" + randomizer.nextInt(1000) + ", F.");
+                entry.setField(FieldName.TITLE, "A {Title} about Topic " + i);
+                entry.setField(FieldName.JOURNAL, "Journal Title " + (i % 500));
+                entry.setField(FieldName.YEAR, Integer.toString(1950 + (i % 70)));
+                entry.setField(FieldName.PAGES, (i % 100) + "--" + ((i % 100) + 10));
+                entry.setField(FieldName.DOI, "10.1000/" + i);
+                if ((i % 10) == 0) {
+                    entry.setField(FieldName.URL, "www.example.org/" + i);
+                    entry.setField(FieldName.MONTH, "thirteenth");
+                    entry.setField(FieldName.CROSSREF, "missing" + i);
+                }
+                database.insertEntry(entry);
+            }
+            databaseContext = new BibDatabaseContext(database, new MetaData(), new Defaults());
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class SortableLibrary {
+
+        private static final int NUMBER_OF_ENTRIES = 100000;
+
+        private final List<BibEntry> entries = new ArrayList<>();
+        private final FieldComparatorStack<BibEntry> tableComparator = new FieldComparatorStack<>(Arrays.asList(
+                new FieldComparator(FieldName.AUTHOR), new FieldComparator(FieldName.YEAR, true),
+                new FieldComparator(FieldName.TITLE)));
+        private BibDatabaseContext databaseContext;
+        private SavePreferences savePreferences;
+
+        @Setup
+        public void init() {
+            BibDatabase database = new BibDatabase();
+            Random randomizer = new Random(42);
+            for (int i = 0; i < NUMBER_OF_ENTRIES; i++) {
+                BibEntry entry = new BibEntry("article");
+                entry.setCiteKey("Lastname" + i);
+                entry.setField(FieldName.AUTHOR, "Firstname Lastname" + randomizer.nextInt(1000) + " and Other, A.");
+                entry.setField(FieldName.TITLE, "{A} Title about \\emph{Topic} " + randomizer.nextInt(10000));
+                entry.setField(FieldName.YEAR, Integer.toString(1950 + randomizer.nextInt(70)));
+                entry.setMonth(Month.getMonthByNumber(1 + randomizer.nextInt(12)).get());
+                database.insertEntry(entry);
+            }
+            entries.addAll(database.getEntries());
+            Collections.shuffle(entries, randomizer);
+
+            MetaData metaData = new MetaData();
+            metaData.setSaveOrderConfig(new SaveOrderConfig(false,
+                    new SaveOrderConfig.SortCriterion(FieldName.AUTHOR, false),
+                    new SaveOrderConfig.SortCriterion(FieldName.YEAR, true),
+                    new SaveOrderConfig.SortCriterion(FieldName.TITLE, false)));
+            databaseContext = new BibDatabaseContext(database, metaData, new Defaults());
+            savePreferences = new SavePreferences().withSaveInOriginalOrder(false);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class LargeBibtexFile {
+
+        @Param({"10000", "100000"})
+        private int numberOfEntries;
+
+        private String bibtexString;
+
+        @Setup
+        public void init() throws Exception {
+            Globals.prefs = JabRefPreferences.getInstance();
+
+            BibDatabase database = new BibDatabase();
+            for (int i = 0; i < numberOfEntries; i++) {
+                BibEntry entry = new BibEntry();
+                entry.setCiteKey("id" + i);
+                entry.setField("title", "This is my title " + i);
+                entry.setField("author", "Firstname Lastname and FirstnameA LastnameA and FirstnameB LastnameB" + i);
+                entry.setField("journal", "Journal Title " + i);
+                entry.setField("abstract", "This abstract is a bit longer, because abstracts usually are the largest part of an entry " + i);
+                entry.setField("year", "1" + i);
+                database.insertEntry(entry);
+            }
+            BibtexDatabaseWriter<StringSaveSession> databaseWriter = new BibtexDatabaseWriter<>(StringSaveSession::new);
+            StringSaveSession saveSession = databaseWriter.savePartOfDatabase(
+                    new BibDatabaseContext(database, new MetaData(), new Defaults()), database.getEntries(),
+                    new SavePreferences());
+            bibtexString = saveSession.getStringValue();
+        }
+    }
 }
@@ -0,0 +1,81 @@
+package org.jabref.benchmarks;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.Random;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.RunnerException;
+
+/**
+ * Compares the indexed lookups of {@link BibDatabase} with a linear scan over all entries, which is what the lookups
+ * did before the index was introduced.
+ */
+@State(Scope.Thread)
+public class EntryLookupBenchmarks {
+
+    @Param({"10000", "100000"})
+    private int numberOfEntries;
+
+    private final Random randomizer = new Random();
+    private BibDatabase database;
+    private String[] keys;
+    private String[] ids;
+
+    @Setup
+    public void init() {
+        database = new BibDatabase();
+        keys = new String[numberOfEntries];
+        ids = new String[numberOfEntries];
+        for (int i = 0; i < numberOfEntries; i++) {
+            BibEntry entry = new BibEntry();
+            entry.setCiteKey("key" + i);
+            entry.setField("title", "This is my title " + i);
+            entry.setField("crossref", "key" + randomizer.nextInt(numberOfEntries));
+            database.insertEntry(entry);
+            keys[i] = "key" + i;
+            ids[i] = entry.getId();
+        }
+    }
+
+    @Benchmark
+    public Optional<BibEntry> getEntryByKey() {
+        return database.getEntryByKey(keys[randomizer.nextInt(numberOfEntries)]);
+    }
+
+    @Benchmark
+    public Optional<BibEntry> getEntryByKeyLinearScan() {
+        String key = keys[randomizer.nextInt(numberOfEntries)];
+        return database.getEntries().stream()
+                .filter(entry -> key.equals(entry.getCiteKeyOptional().orElse(null)))
+                .findFirst();
+    }
+
+    @Benchmark
+    public Optional<BibEntry> getEntryById() {
+        return database.getEntryById(ids[randomizer.nextInt(numberOfEntries)]);
+    }
+
+    @Benchmark
+    public Optional<BibEntry> getEntryByIdLinearScan() {
+        String id = ids[randomizer.nextInt(numberOfEntries)];
+        return database.getEntries().stream().filter(entry -> entry.getId().equals(id)).findFirst();
+    }
+
+    @Benchmark
+    public Optional<BibEntry> getReferencedEntry() {
+        return database.getReferencedEntry(database.getEntries().get(randomizer.nextInt(numberOfEntries)));
+    }
+
+    public static void main(String[] args) throws IOException, RunnerException {
+        Main.main(args);
+    }
+}
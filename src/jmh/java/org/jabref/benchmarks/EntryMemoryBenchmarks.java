@@ -0,0 +1,91 @@
+package org.jabref.benchmarks;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jol.info.GraphLayout;
+
+/**
+ * Measures the memory taken by {@link BibEntry} instances.
+ * <p>
+ * {@link #main(String[])} prints the bytes retained per entry as computed by JOL, both for single entries and for
+ * entries inserted into a database. Afterwards, the benchmarks creating the entries are run; run them with the GC
+ * profiler (<code>-prof gc</code>) to get the bytes allocated per operation.
+ */
+@State(Scope.Thread)
+public class EntryMemoryBenchmarks {
+
+    private static final int NUMBER_OF_MEASURED_ENTRIES = 10000;
+
+    @Param({"10000"})
+    private int numberOfEntries;
+
+    @Benchmark
+    public List<BibEntry> createEntries() {
+        return createEntries(numberOfEntries);
+    }
+
+    @Benchmark
+    public BibDatabase createDatabase() {
+        BibDatabase database = new BibDatabase();
+        database.insertEntries(createEntries(numberOfEntries));
+        return database;
+    }
+
+    /**
+     * Creates entries with the fields of a typical article
+     */
+    private static List<BibEntry> createEntries(int numberOfEntries) {
+        List<BibEntry> entries = new ArrayList<>(numberOfEntries);
+        for (int i = 0; i < numberOfEntries; i++) {
+            BibEntry entry = new BibEntry("article");
+            entry.setCiteKey("Lastname" + i);
+            entry.setField(fieldName("author"), "Firstname Lastname and FirstnameA LastnameA and FirstnameB LastnameB " + i);
+            entry.setField(fieldName("title"), "This is my title " + i);
+            entry.setField(fieldName("journal"), "Journal Title " + (i % 100));
+            entry.setField(fieldName("year"), String.valueOf(1900 + (i % 100)));
+            entry.setField(fieldName("volume"), String.valueOf(i % 50));
+            entry.setField(fieldName("number"), String.valueOf(i % 12));
+            entry.setField(fieldName("pages"), i + "--" + (i + 10));
+            entry.setField(fieldName("doi"), "10.1000/" + i);
+            entry.setField(fieldName("keywords"), "keyword" + (i % 10) + ", keyword" + (i % 20));
+            entry.setField(fieldName("abstract"),
+                    "This abstract is a bit longer, because abstracts usually are the largest part of an entry " + i);
+            entries.add(entry);
+        }
+        return entries;
+    }
+
+    /**
+     * Returns a new instance of the field name, as the parser creates one for each field it reads
+     */
+    private static String fieldName(String name) {
+        return new StringBuilder(name).toString();
+    }
+
+    private static void printBytesPerEntry(String description, Object root, int numberOfEntries) {
+        long bytes = GraphLayout.parseInstance(root).totalSize();
+        System.out.println(String.format("%s: %d bytes per entry", description, bytes / numberOfEntries));
+    }
+
+    public static void main(String[] args) throws IOException, RunnerException {
+        List<BibEntry> entries = createEntries(NUMBER_OF_MEASURED_ENTRIES);
+        printBytesPerEntry("Entries", entries, NUMBER_OF_MEASURED_ENTRIES);
+
+        BibDatabase database = new BibDatabase();
+        database.insertEntries(entries);
+        printBytesPerEntry("Entries in a database", database, NUMBER_OF_MEASURED_ENTRIES);
+
+        Main.main(args);
+    }
+}
@@ -15,6 +15,7 @@ import org.jabref.logic.journals.JournalAbbreviationLoader;
 import org.jabref.logic.protectedterms.ProtectedTermsLoader;
 import org.jabref.logic.remote.server.RemoteListenerServerLifecycle;
 import org.jabref.logic.util.BuildInfo;
+import org.jabref.logic.util.io.FileIndex;
 import org.jabref.preferences.JabRefPreferences;
 
 import com.google.common.base.StandardSystemProperty;
@@ -118,6 +119,7 @@ public class Globals {
 
     public static void stopBackgroundTasks() {
         stopTelemetryClient();
+        FileIndex.shutdown();
     }
 
     public static Optional<TelemetryClient> getTelemetryClient() {
@@ -129,6 +129,8 @@ import org.jabref.model.database.DatabaseLocation;
 import org.jabref.model.database.KeyCollisionException;
 import org.jabref.model.database.event.BibDatabaseContextChangedEvent;
 import org.jabref.model.database.event.CoarseChangeFilter;
+import org.jabref.model.database.event.EntriesAddedEvent;
+import org.jabref.model.database.event.EntriesRemovedEvent;
 import org.jabref.model.database.event.EntryAddedEvent;
 import org.jabref.model.database.event.EntryRemovedEvent;
 import org.jabref.model.entry.BibEntry;
@@ -265,6 +267,10 @@ public class BasePanel extends JPanel implements ClipboardOwner {
 
     @Subscribe
     public void listen(BibDatabaseContextChangedEvent event) {
+        if ((event instanceof EntryAddedEvent) || (event instanceof EntryRemovedEvent)) {
+            // entries added or removed in bulk are marked once by the following EntriesAddedEvent or EntriesRemovedEvent
+            return;
+        }
         SwingUtilities.invokeLater(() -> this.markBaseChanged());
 
     }
@@ -452,15 +458,18 @@ public class BasePanel extends JPanel implements ClipboardOwner {
                 final NamedCompound ce = new NamedCompound(Localization.lang("Autogenerate BibTeX keys"));
                 AbstractBibtexKeyPattern citeKeyPattern = bibDatabaseContext.getMetaData()
                         .getCiteKeyPattern(Globals.prefs.getBibtexKeyPatternPreferences().getKeyPattern());
-                for (BibEntry entry : entries) {
-                    String oldCiteKey = entry.getCiteKeyOptional().orElse("");
-                    BibtexKeyPatternUtil.makeAndSetLabel(citeKeyPattern, bibDatabaseContext.getDatabase(),
-                            entry, Globals.prefs.getBibtexKeyPatternPreferences());
-                    String newCiteKey = entry.getCiteKeyOptional().orElse("");
-                    if (!oldCiteKey.equals(newCiteKey)) {
-                        ce.addEdit(new UndoableKeyChange(entry, oldCiteKey, newCiteKey));
+                // the links to the changed keys are updated once at the end
+                bibDatabaseContext.getDatabase().changeKeys(() -> {
+                    for (BibEntry entry : entries) {
+                        String oldCiteKey = entry.getCiteKeyOptional().orElse("");
+                        BibtexKeyPatternUtil.makeAndSetLabel(citeKeyPattern, bibDatabaseContext.getDatabase(),
+                                entry, Globals.prefs.getBibtexKeyPatternPreferences());
+                        String newCiteKey = entry.getCiteKeyOptional().orElse("");
+                        if (!oldCiteKey.equals(newCiteKey)) {
+                            ce.addEdit(new UndoableKeyChange(entry, oldCiteKey, newCiteKey));
+                        }
                     }
-                }
+                });
                 ce.end();
 
                 // register the undo event only if new cite keys were generated
@@ -852,7 +861,9 @@ public class BasePanel extends JPanel implements ClipboardOwner {
         }
         for (BibEntry entry : entries) {
             compound.addEdit(new UndoableRemoveEntry(bibDatabaseContext.getDatabase(), entry, BasePanel.this));
-            bibDatabaseContext.getDatabase().removeEntry(entry);
+        }
+        bibDatabaseContext.getDatabase().removeEntries(entries);
+        for (BibEntry entry : entries) {
             ensureNotShowingBottomPanel(entry);
         }
         compound.end();
@@ -883,6 +894,7 @@ public class BasePanel extends JPanel implements ClipboardOwner {
             // for the first inserted entry.
             BibEntry firstBE = null;
 
+            List<BibEntry> pastedEntries = new ArrayList<>(bes.size());
             for (BibEntry be1 : bes) {
 
                 BibEntry be = (BibEntry) be1.clone();
@@ -896,10 +908,11 @@ public class BasePanel extends JPanel implements ClipboardOwner {
                 // entries must exist
                 // independently of the copied
                 // ones.
-                bibDatabaseContext.getDatabase().insertEntry(be);
+                pastedEntries.add(be);
 
                 ce.addEdit(new UndoableInsertEntry(bibDatabaseContext.getDatabase(), be, BasePanel.this));
             }
+            bibDatabaseContext.getDatabase().insertEntries(pastedEntries);
             ce.end();
             getUndoManager().addEdit(ce);
             output(formatOutputMessage(Localization.lang("Pasted"), bes.size()));
@@ -2093,15 +2106,15 @@ public class BasePanel extends JPanel implements ClipboardOwner {
 
     private class GroupTreeListener {
         @Subscribe
-        public void listen(EntryAddedEvent addedEntryEvent) {
-            // if the added entry is an undo don't add it to the current group
-            if (addedEntryEvent.getEntryEventSource() == EntryEventSource.UNDO) {
+        public void listen(EntriesAddedEvent addedEntriesEvent) {
+            // if the added entries are an undo don't add them to the current group
+            if (addedEntriesEvent.getEntryEventSource() == EntryEventSource.UNDO) {
                 return;
             }
 
-            // Automatically add new entry to the selected group (or set of groups)
+            // Automatically add new entries to the selected group (or set of groups)
             if (Globals.prefs.getBoolean(JabRefPreferences.AUTO_ASSIGN_GROUP)) {
-                final List<BibEntry> entries = Collections.singletonList(addedEntryEvent.getBibEntry());
+                final List<BibEntry> entries = addedEntriesEvent.getBibEntries();
                 Globals.stateManager.getSelectedGroup(bibDatabaseContext).forEach(
                         selectedGroup -> selectedGroup.addEntriesToGroup(entries));
             }
@@ -2111,33 +2124,44 @@ public class BasePanel extends JPanel implements ClipboardOwner {
     private class EntryRemovedListener {
 
         @Subscribe
-        public void listen(EntryRemovedEvent entryRemovedEvent) {
-            // if the entry that is displayed in the current entry editor is removed, close the entry editor
-            if (isShowingEditor() && currentEditor.getEntry().equals(entryRemovedEvent.getBibEntry())) {
-                currentEditor.close();
-            }
+        public void listen(EntriesRemovedEvent entriesRemovedEvent) {
+            for (BibEntry removedEntry : entriesRemovedEvent.getBibEntries()) {
+                // if the entry that is displayed in the current entry editor is removed, close the entry editor
+                if (isShowingEditor() && currentEditor.getEntry().equals(removedEntry)) {
+                    currentEditor.close();
+                }
 
-            if (selectionListener.getPreview().getEntry().equals(entryRemovedEvent.getBibEntry())) {
-                selectionListener.setPreviewActive(false);
+                if (selectionListener.getPreview().getEntry().equals(removedEntry)) {
+                    selectionListener.setPreviewActive(false);
+                }
             }
         }
     }
 
     /**
-     * Ensures that the search auto completer is up to date when entries are changed AKA Let the auto completer, if any,
-     * harvest words from the entry
+     * Ensures that the search auto completer is up to date when entries are changed or removed AKA Let the auto
+     * completer, if any, harvest words from the entry
      */
     private class SearchAutoCompleteListener {
 
         @Subscribe
-        public void listen(EntryAddedEvent addedEntryEvent) {
-            searchAutoCompleter.indexEntry(addedEntryEvent.getBibEntry());
+        public void listen(EntriesAddedEvent addedEntriesEvent) {
+            for (BibEntry entry : addedEntriesEvent.getBibEntries()) {
+                searchAutoCompleter.indexEntry(entry);
+            }
         }
 
         @Subscribe
         public void listen(EntryChangedEvent entryChangedEvent) {
             searchAutoCompleter.indexEntry(entryChangedEvent.getBibEntry());
         }
+
+        @Subscribe
+        public void listen(EntriesRemovedEvent removedEntriesEvent) {
+            for (BibEntry entry : removedEntriesEvent.getBibEntries()) {
+                searchAutoCompleter.removeEntry(entry);
+            }
+        }
     }
 
     /**
@@ -2146,7 +2170,7 @@ public class BasePanel extends JPanel implements ClipboardOwner {
     private class SearchListener {
 
         @Subscribe
-        public void listen(EntryAddedEvent addedEntryEvent) {
+        public void listen(EntriesAddedEvent addedEntriesEvent) {
             frame.getGlobalSearchBar().performSearch();
         }
 
@@ -2157,7 +2181,7 @@ public class BasePanel extends JPanel implements ClipboardOwner {
         }
 
         @Subscribe
-        public void listen(EntryRemovedEvent removedEntryEvent) {
+        public void listen(EntriesRemovedEvent removedEntriesEvent) {
             // IMO only used to update the status (found X entries)
             frame.getGlobalSearchBar().performSearch();
         }
@@ -2,7 +2,10 @@ package org.jabref.gui;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
 
 import javax.swing.SwingUtilities;
 
@@ -16,6 +19,8 @@ import org.jabref.gui.undo.UndoableRemoveEntry;
 import org.jabref.gui.worker.CallBack;
 import org.jabref.logic.bibtex.DuplicateCheck;
 import org.jabref.logic.l10n.Localization;
+import org.jabref.model.database.BibDatabaseMode;
+import org.jabref.model.database.DuplicateIndex;
 import org.jabref.model.entry.BibEntry;
 
 import spin.Spin;
@@ -115,16 +120,16 @@ public class DuplicateSearch implements Runnable {
             public void run() {
                 // Now, do the actual removal:
                 if (!toRemove.isEmpty()) {
+                    panel.getDatabase().removeEntries(toRemove);
                     for (BibEntry entry : toRemove) {
-                        panel.getDatabase().removeEntry(entry);
                         ce.addEdit(new UndoableRemoveEntry(panel.getDatabase(), entry, panel));
                     }
                     panel.markBaseChanged();
                 }
                 // and adding merged entries:
                 if (!toAdd.isEmpty()) {
+                    panel.getDatabase().insertEntries(toAdd);
                     for (BibEntry entry : toAdd) {
-                        panel.getDatabase().insertEntry(entry);
                         ce.addEdit(new UndoableInsertEntry(panel.getDatabase(), entry, panel));
                     }
                     panel.markBaseChanged();
@@ -149,21 +154,31 @@ public class DuplicateSearch implements Runnable {
 
         @Override
         public void run() {
-            for (int i = 0; (i < (bes.size() - 1)) && !finished; i++) {
-                for (int j = i + 1; (j < bes.size()) && !finished; j++) {
-                    BibEntry first = bes.get(i);
-                    BibEntry second = bes.get(j);
-                    boolean eq = DuplicateCheck.isDuplicate(first, second, panel.getBibDatabaseContext().getMode());
-
-                    // If (suspected) duplicates, add them to the duplicates vector.
-                    if (eq) {
+            // only compare the candidates of the index, on all processors
+            DuplicateIndex index = new DuplicateIndex(bes);
+            Map<BibEntry, Integer> positions = new IdentityHashMap<>();
+            for (int i = 0; i < bes.size(); i++) {
+                positions.put(bes.get(i), i);
+            }
+            BibDatabaseMode mode = panel.getBibDatabaseContext().getMode();
+
+            IntStream.range(0, bes.size()).parallel().forEach(i -> {
+                BibEntry first = bes.get(i);
+                for (BibEntry second : index.getCandidates(first)) {
+                    if (finished) {
+                        return;
+                    }
+
+                    // each pair is compared once, in the order of the database
+                    if ((positions.get(second) > i) && DuplicateCheck.isDuplicate(first, second, mode)) {
+                        // If (suspected) duplicates, add them to the duplicates vector.
                         synchronized (duplicates) {
                             duplicates.add(Arrays.asList(first, second));
                             duplicates.notifyAll(); // send wake up all
                         }
                     }
                 }
-            }
+            });
             finished = true;
             // if no duplicates found, the graphical thread will never wake up
             synchronized (duplicates) {
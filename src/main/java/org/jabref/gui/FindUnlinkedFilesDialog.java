@@ -168,7 +168,7 @@ public class FindUnlinkedFilesDialog extends JabRefDialog {
 
         databaseContext = panel.getDatabaseContext();
         creatorManager = new EntryFromFileCreatorManager();
-        crawler = new UnlinkedFilesCrawler(databaseContext);
+        crawler = new UnlinkedFilesCrawler(databaseContext, Globals.prefs.getFileIndexDirectory());
 
         lastSelectedDirectory = loadLastSelectedDirectory();
 
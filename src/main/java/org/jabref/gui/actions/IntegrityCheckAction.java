@@ -2,9 +2,12 @@ package org.jabref.gui.actions;
 
 import java.awt.Component;
 import java.awt.event.ActionEvent;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import javax.swing.Action;
 import javax.swing.JButton;
@@ -63,15 +66,33 @@ public class IntegrityCheckAction extends MnemonicAwareAction {
         integrityProgressBar.setIndeterminate(true);
         integrityProgressBar.setStringPainted(true);
         integrityProgressBar.setString(Localization.lang("Checking integrity..."));
-        integrityDialog.add(integrityProgressBar);
+        AtomicBoolean canceled = new AtomicBoolean();
+        JButton cancelButton = new JButton(Localization.lang("Cancel"));
+        cancelButton.addActionListener(event -> canceled.set(true));
+        integrityDialog.add(FormBuilder.create()
+                .layout(new FormLayout("fill:pref:grow, 2dlu, pref", "pref"))
+                .add(integrityProgressBar).xy(1, 1)
+                .add(cancelButton).xy(3, 1)
+                .getPanel());
         integrityDialog.pack();
-        SwingWorker<List<IntegrityMessage>, Void> worker = new SwingWorker<List<IntegrityMessage>, Void>() {
+        // the number of problems is shown while the entries are checked in parallel
+        SwingWorker<List<IntegrityMessage>, Integer> worker = new SwingWorker<List<IntegrityMessage>, Integer>() {
             @Override
             protected List<IntegrityMessage> doInBackground() {
-                List<IntegrityMessage> messages = check.checkBibtexDatabase();
+                List<IntegrityMessage> messages = new ArrayList<>();
+                check.checkBibtexDatabase(entryMessages -> {
+                    messages.addAll(entryMessages);
+                    publish(messages.size());
+                }, canceled::get);
                 return messages;
             }
 
+            @Override
+            protected void process(List<Integer> numbersOfProblems) {
+                integrityProgressBar.setString(Localization.lang("Checking integrity...") + " " + Localization
+                        .lang("%0 problem(s) found", String.valueOf(numbersOfProblems.get(numbersOfProblems.size() - 1))));
+            }
+
             @Override
             protected void done() {
                 integrityDialog.dispose();
@@ -79,11 +100,15 @@ public class IntegrityCheckAction extends MnemonicAwareAction {
         };
         worker.execute();
         integrityDialog.setVisible(true);
-        List<IntegrityMessage> messages = null;
+        List<IntegrityMessage> messages;
         try {
             messages = worker.get();
-        } catch (Exception ex) {
+        } catch (InterruptedException | ExecutionException ex) {
             LOGGER.error("Integrity check failed.", ex);
+            return;
+        }
+        if (canceled.get()) {
+            return;
         }
 
         if (messages.isEmpty()) {
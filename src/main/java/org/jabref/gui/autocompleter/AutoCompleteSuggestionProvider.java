@@ -10,4 +10,9 @@ import org.controlsfx.control.textfield.AutoCompletionBinding;
 
 public interface AutoCompleteSuggestionProvider<T> extends Callback<AutoCompletionBinding.ISuggestionRequest, Collection<T>> {
     void indexEntry(BibEntry entry);
+
+    /**
+     * Removes the suggestions of the given entry, as it is no longer part of the database
+     */
+    void removeEntry(BibEntry entry);
 }
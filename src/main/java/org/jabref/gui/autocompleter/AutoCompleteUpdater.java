@@ -1,12 +1,14 @@
 package org.jabref.gui.autocompleter;
 
-import org.jabref.model.database.event.EntryAddedEvent;
+import org.jabref.model.database.event.EntriesAddedEvent;
+import org.jabref.model.database.event.EntriesRemovedEvent;
+import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.event.EntryChangedEvent;
 
 import com.google.common.eventbus.Subscribe;
 
 /**
- * Ensures that suggestion providers are up to date when entries are changed or added.
+ * Ensures that suggestion providers are up to date when entries are changed, added or removed.
  */
 public class AutoCompleteUpdater {
 
@@ -17,8 +19,17 @@ public class AutoCompleteUpdater {
     }
 
     @Subscribe
-    public void listen(EntryAddedEvent addedEntryEvent) {
-        suggestionProviders.indexEntry(addedEntryEvent.getBibEntry());
+    public void listen(EntriesAddedEvent addedEntriesEvent) {
+        for (BibEntry entry : addedEntriesEvent.getBibEntries()) {
+            suggestionProviders.indexEntry(entry);
+        }
+    }
+
+    @Subscribe
+    public void listen(EntriesRemovedEvent removedEntriesEvent) {
+        for (BibEntry entry : removedEntriesEvent.getBibEntries()) {
+            suggestionProviders.removeEntry(entry);
+        }
     }
 
     @Subscribe
@@ -1,12 +1,11 @@
 package org.jabref.gui.autocompleter;
 
+import java.util.Collections;
 import java.util.Comparator;
 
 import org.jabref.logic.bibtex.comparator.EntryComparator;
 import org.jabref.model.entry.BibEntry;
 
-import org.controlsfx.control.textfield.AutoCompletionBinding;
-
 /**
  * Delivers possible completions as a list of {@link BibEntry} based on their cite key.
  */
@@ -18,7 +17,8 @@ public class BibEntrySuggestionProvider extends SuggestionProvider<BibEntry> imp
             return;
         }
 
-        addPossibleSuggestions(entry);
+        // entries without key cannot be completed
+        indexSuggestions(entry, entry.hasCiteKey() ? Collections.singletonList(entry) : Collections.emptyList());
     }
 
     @Override
@@ -27,10 +27,13 @@ public class BibEntrySuggestionProvider extends SuggestionProvider<BibEntry> imp
     }
 
     @Override
-    protected boolean isMatch(BibEntry suggestion, AutoCompletionBinding.ISuggestionRequest request) {
-        String userTextLower = request.getUserText().toLowerCase();
-        return suggestion.getCiteKeyOptional()
-                .map(key -> key.toLowerCase().contains(userTextLower))
-                .orElse(false);
+    protected String getSearchText(BibEntry suggestion) {
+        return suggestion.getCiteKeyOptional().orElse("");
+    }
+
+    @Override
+    protected boolean isSameSuggestion(BibEntry suggestion, BibEntry otherSuggestion) {
+        // entries are compared by content, but equal entries are suggested separately
+        return suggestion == otherSuggestion;
     }
 }
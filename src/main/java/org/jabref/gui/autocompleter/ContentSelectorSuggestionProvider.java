@@ -37,4 +37,9 @@ public class ContentSelectorSuggestionProvider implements AutoCompleteSuggestion
     public void indexEntry(BibEntry entry) {
         suggestionProvider.indexEntry(entry);
     }
+
+    @Override
+    public void removeEntry(BibEntry entry) {
+        suggestionProvider.removeEntry(entry);
+    }
 }
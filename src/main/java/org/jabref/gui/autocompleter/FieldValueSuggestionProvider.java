@@ -1,5 +1,6 @@
 package org.jabref.gui.autocompleter;
 
+import java.util.Collections;
 import java.util.Objects;
 
 import org.jabref.model.entry.BibEntry;
@@ -15,12 +16,22 @@ class FieldValueSuggestionProvider extends StringSuggestionProvider implements A
         this.fieldName = Objects.requireNonNull(fieldName);
     }
 
+    /**
+     * @param sharedSuggestions suggestions shared with other suggestion providers, which are offered in addition
+     */
+    FieldValueSuggestionProvider(String fieldName, SuggestionIndex<String> sharedSuggestions) {
+        super(sharedSuggestions);
+        this.fieldName = Objects.requireNonNull(fieldName);
+    }
+
     @Override
     public void indexEntry(BibEntry entry) {
         if (entry == null) {
             return;
         }
 
-        entry.getField(fieldName).ifPresent(fieldValue -> addPossibleSuggestions(fieldValue.trim()));
+        indexSuggestions(entry, entry.getField(fieldName)
+                .map(fieldValue -> Collections.singletonList(fieldValue.trim()))
+                .orElse(Collections.emptyList()));
     }
 }
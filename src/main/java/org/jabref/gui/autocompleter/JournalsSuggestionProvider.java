@@ -1,24 +1,39 @@
 package org.jabref.gui.autocompleter;
 
-import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
 import java.util.stream.Collectors;
 
 import org.jabref.logic.journals.Abbreviation;
 import org.jabref.logic.journals.JournalAbbreviationLoader;
 import org.jabref.logic.journals.JournalAbbreviationPreferences;
+import org.jabref.logic.journals.JournalAbbreviationRepository;
 
 public class JournalsSuggestionProvider extends FieldValueSuggestionProvider {
 
+    /**
+     * The names of the known journals are indexed once per repository and shared by all journal fields of all
+     * databases. The repository is replaced as soon as the journal lists are changed.
+     */
+    private static final Map<JournalAbbreviationRepository, SuggestionIndex<String>> JOURNAL_NAMES = new WeakHashMap<>();
 
     JournalsSuggestionProvider(String fieldName, AutoCompletePreferences preferences,
                                JournalAbbreviationLoader abbreviationLoader) {
-        super(fieldName);
+        super(fieldName, getJournalNames(abbreviationLoader, preferences.getJournalAbbreviationPreferences()));
+    }
 
-        JournalAbbreviationPreferences journalAbbreviationPreferences = preferences.getJournalAbbreviationPreferences();
-        List<String> journals = abbreviationLoader.getRepository(journalAbbreviationPreferences)
-                .getAbbreviations().stream()
-                .map(Abbreviation::getName)
-                .collect(Collectors.toList());
-        addPossibleSuggestions(journals);
+    private static SuggestionIndex<String> getJournalNames(JournalAbbreviationLoader abbreviationLoader,
+                                                           JournalAbbreviationPreferences journalAbbreviationPreferences) {
+        JournalAbbreviationRepository repository = abbreviationLoader.getRepository(journalAbbreviationPreferences);
+        synchronized (JOURNAL_NAMES) {
+            return JOURNAL_NAMES.computeIfAbsent(repository, key -> {
+                SuggestionIndex<String> journalNames = new SuggestionIndex<>(name -> name, Objects::equals);
+                journalNames.add(repository.getAbbreviations().stream()
+                        .map(Abbreviation::getName)
+                        .collect(Collectors.toList()));
+                return journalNames;
+            });
+        }
     }
 }
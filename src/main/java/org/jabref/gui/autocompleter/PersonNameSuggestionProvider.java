@@ -1,5 +1,6 @@
 package org.jabref.gui.autocompleter;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
@@ -9,8 +10,6 @@ import org.jabref.model.entry.Author;
 import org.jabref.model.entry.AuthorList;
 import org.jabref.model.entry.BibEntry;
 
-import org.controlsfx.control.textfield.AutoCompletionBinding;
-
 /**
  * Delivers possible completions as a list of {@link Author}s.
  */
@@ -36,14 +35,11 @@ public class PersonNameSuggestionProvider extends SuggestionProvider<Author> imp
             return;
         }
 
+        List<Author> authors = new ArrayList<>();
         for (String fieldName : fieldNames) {
-            entry.getField(fieldName).ifPresent(fieldValue ->  {
-                AuthorList authorList = AuthorList.parse(fieldValue);
-                for (Author author : authorList.getAuthors()) {
-                    addPossibleSuggestions(author);
-                }
-            });
+            entry.getField(fieldName).ifPresent(fieldValue -> authors.addAll(AuthorList.parse(fieldValue).getAuthors()));
         }
+        indexSuggestions(entry, authors);
     }
 
     @Override
@@ -52,9 +48,7 @@ public class PersonNameSuggestionProvider extends SuggestionProvider<Author> imp
     }
 
     @Override
-    protected boolean isMatch(Author suggestion, AutoCompletionBinding.ISuggestionRequest request) {
-        String userTextLower = request.getUserText().toLowerCase();
-        String suggestionStr = suggestion.getLastFirst(false).toLowerCase();
-        return suggestionStr.contains(userTextLower);
+    protected String getSearchText(Author suggestion) {
+        return suggestion.getLastFirst(false);
     }
 }
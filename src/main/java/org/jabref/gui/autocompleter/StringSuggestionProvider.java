@@ -2,8 +2,6 @@ package org.jabref.gui.autocompleter;
 
 import java.util.Comparator;
 
-import org.controlsfx.control.textfield.AutoCompletionBinding;
-
 class StringSuggestionProvider extends SuggestionProvider<String> {
 
     private final Comparator<String> stringComparator = Comparator.naturalOrder();
@@ -12,15 +10,20 @@ class StringSuggestionProvider extends SuggestionProvider<String> {
 
     }
 
+    /**
+     * @param sharedSuggestions suggestions shared with other suggestion providers, which are offered in addition
+     */
+    StringSuggestionProvider(SuggestionIndex<String> sharedSuggestions) {
+        super(sharedSuggestions);
+    }
+
     @Override
     protected Comparator<String> getComparator() {
         return stringComparator;
     }
 
     @Override
-    protected boolean isMatch(String suggestion, AutoCompletionBinding.ISuggestionRequest request) {
-        String userTextLower = request.getUserText().toLowerCase();
-        String suggestionStr = suggestion.toLowerCase();
-        return suggestionStr.contains(userTextLower);
+    protected String getSearchText(String suggestion) {
+        return suggestion;
     }
 }
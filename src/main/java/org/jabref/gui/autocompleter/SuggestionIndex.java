@@ -0,0 +1,221 @@
+package org.jabref.gui.autocompleter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+
+import org.jabref.model.entry.BibEntry;
+
+/**
+ * Stores the possible suggestions of a {@link SuggestionProvider} and finds those whose text contains the text typed by
+ * the user without testing every suggestion.
+ * <p>
+ * The texts are indexed in lower case by their trigrams, i.e., all their substrings of three characters. A text
+ * containing the typed text also contains its trigrams, thus only the texts containing its rarest trigram have to be
+ * tested. As prefixes are substrings, they are found the same way. Typed texts shorter than a trigram are tested
+ * against all distinct texts.
+ * <p>
+ * Each suggestion is counted by how often it has been added. The suggestions added for an entry are remembered, so
+ * that they are removed again when the entry is indexed again after a change or is removed. A suggestion is dropped as
+ * soon as it has been removed as often as it has been added.
+ */
+class SuggestionIndex<T> {
+
+    private static final int GRAM_LENGTH = 3;
+
+    private final Function<T, String> getText;
+    private final BiPredicate<T, T> isSameSuggestion;
+
+    /**
+     * lower case text -> suggestions having this text
+     */
+    private final Map<String, Text<T>> texts = new HashMap<>();
+
+    /**
+     * trigram -> texts containing it
+     */
+    private final Map<String, Set<Text<T>>> textsByGram = new HashMap<>();
+
+    // entries are compared by content, but equal entries are indexed separately
+    private final Map<BibEntry, List<Suggestion<T>>> suggestionsByEntry = new IdentityHashMap<>();
+
+    /**
+     * @param getText          the text a suggestion is found by
+     * @param isSameSuggestion whether two suggestions with the same text are counted as one
+     */
+    SuggestionIndex(Function<T, String> getText, BiPredicate<T, T> isSameSuggestion) {
+        this.getText = Objects.requireNonNull(getText);
+        this.isSameSuggestion = Objects.requireNonNull(isSameSuggestion);
+    }
+
+    /**
+     * Adds suggestions which do not belong to an entry, e.g., predefined values. These are kept until the index is
+     * cleared.
+     */
+    public synchronized void add(Collection<T> suggestions) {
+        for (T suggestion : suggestions) {
+            addSuggestion(suggestion);
+        }
+    }
+
+    /**
+     * Replaces the suggestions added for the given entry before
+     */
+    public synchronized void indexEntry(BibEntry entry, Collection<T> suggestions) {
+        List<Suggestion<T>> addedSuggestions = new ArrayList<>(suggestions.size());
+        for (T suggestion : suggestions) {
+            addedSuggestions.add(addSuggestion(suggestion));
+        }
+
+        // the new ones are added first, so that unchanged suggestions are not removed in between
+        List<Suggestion<T>> previousSuggestions = addedSuggestions.isEmpty() ?
+                suggestionsByEntry.remove(entry) : suggestionsByEntry.put(entry, addedSuggestions);
+        if (previousSuggestions != null) {
+            previousSuggestions.forEach(this::removeSuggestion);
+        }
+    }
+
+    /**
+     * Removes the suggestions added for the given entry
+     */
+    public synchronized void removeEntry(BibEntry entry) {
+        List<Suggestion<T>> previousSuggestions = suggestionsByEntry.remove(entry);
+        if (previousSuggestions != null) {
+            previousSuggestions.forEach(this::removeSuggestion);
+        }
+    }
+
+    public synchronized void clear() {
+        texts.clear();
+        textsByGram.clear();
+        suggestionsByEntry.clear();
+    }
+
+    /**
+     * Returns the first suggestions in the given order whose text contains the given text, ignoring case.
+     *
+     * @param maximumNumberOfSuggestions the number of suggestions returned at most
+     */
+    public synchronized List<T> find(String text, Comparator<T> comparator, int maximumNumberOfSuggestions) {
+        String searchedText = toLowerCase(text);
+
+        // keeps the first suggestions, the last of them is at the head
+        PriorityQueue<T> firstSuggestions = new PriorityQueue<>(comparator.reversed());
+        for (Text<T> candidate : getCandidates(searchedText)) {
+            if (candidate.text.contains(searchedText)) {
+                for (Suggestion<T> suggestion : candidate.suggestions) {
+                    firstSuggestions.add(suggestion.value);
+                    if (firstSuggestions.size() > maximumNumberOfSuggestions) {
+                        firstSuggestions.poll();
+                    }
+                }
+            }
+        }
+
+        List<T> result = new ArrayList<>(firstSuggestions);
+        result.sort(comparator);
+        return result;
+    }
+
+    private Collection<Text<T>> getCandidates(String searchedText) {
+        if (searchedText.length() < GRAM_LENGTH) {
+            return texts.values();
+        }
+
+        Set<Text<T>> candidates = null;
+        for (int i = 0; i <= (searchedText.length() - GRAM_LENGTH); i++) {
+            Set<Text<T>> textsWithGram = textsByGram.get(searchedText.substring(i, i + GRAM_LENGTH));
+            if (textsWithGram == null) {
+                return Collections.emptySet();
+            }
+            if ((candidates == null) || (textsWithGram.size() < candidates.size())) {
+                candidates = textsWithGram;
+            }
+        }
+        return candidates;
+    }
+
+    private Suggestion<T> addSuggestion(T value) {
+        String lowerCaseText = toLowerCase(getText.apply(value));
+        Text<T> text = texts.get(lowerCaseText);
+        if (text == null) {
+            text = new Text<>(lowerCaseText);
+            texts.put(lowerCaseText, text);
+            for (int i = 0; i <= (lowerCaseText.length() - GRAM_LENGTH); i++) {
+                textsByGram.computeIfAbsent(lowerCaseText.substring(i, i + GRAM_LENGTH), gram -> new HashSet<>())
+                        .add(text);
+            }
+        }
+
+        for (Suggestion<T> suggestion : text.suggestions) {
+            if (isSameSuggestion.test(suggestion.value, value)) {
+                suggestion.count++;
+                return suggestion;
+            }
+        }
+        Suggestion<T> suggestion = new Suggestion<>(value, text);
+        text.suggestions.add(suggestion);
+        return suggestion;
+    }
+
+    private void removeSuggestion(Suggestion<T> suggestion) {
+        suggestion.count--;
+        if (suggestion.count > 0) {
+            return;
+        }
+
+        Text<T> text = suggestion.text;
+        text.suggestions.remove(suggestion);
+        if (text.suggestions.isEmpty() && (texts.get(text.text) == text)) {
+            texts.remove(text.text);
+            for (int i = 0; i <= (text.text.length() - GRAM_LENGTH); i++) {
+                String gram = text.text.substring(i, i + GRAM_LENGTH);
+                Set<Text<T>> textsWithGram = textsByGram.get(gram);
+                if (textsWithGram != null) {
+                    textsWithGram.remove(text);
+                    if (textsWithGram.isEmpty()) {
+                        textsByGram.remove(gram);
+                    }
+                }
+            }
+        }
+    }
+
+    private static String toLowerCase(String text) {
+        return text.toLowerCase(Locale.ROOT);
+    }
+
+    private static class Text<T> {
+
+        private final String text;
+        private final List<Suggestion<T>> suggestions = new ArrayList<>(1);
+
+        Text(String text) {
+            this.text = text;
+        }
+    }
+
+    private static class Suggestion<T> {
+
+        private final T value;
+        private final Text<T> text;
+        private int count = 1;
+
+        Suggestion(T value, Text<T> text) {
+            this.value = value;
+            this.text = text;
+        }
+    }
+}
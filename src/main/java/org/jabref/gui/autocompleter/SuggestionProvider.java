@@ -31,26 +31,50 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
-import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 
 import javafx.util.Callback;
 
+import org.jabref.model.entry.BibEntry;
+
 import org.controlsfx.control.textfield.AutoCompletionBinding.ISuggestionRequest;
 
 /**
  * This is a simple implementation of a generic suggestion provider callback.
- * The complexity of suggestion generation is O(n) where n is the number of possible suggestions.
+ * The suggestions are looked up in a {@link SuggestionIndex}, thus only suggestions sharing parts of their text with
+ * the user text are tested.
  *
  * @param <T> Type of suggestions
  *
- * This class is a copy of {@link impl.org.controlsfx.autocompletion.SuggestionProvider} with the only difference that
- *           we use a set instead of list to store the suggestions in order to eliminate duplicates.
+ * This class is based on {@link impl.org.controlsfx.autocompletion.SuggestionProvider}. Different from it, duplicate
+ *           suggestions are eliminated, the suggestions of an entry are updated when it is indexed again and only the
+ *           first suggestions are returned.
  */
 public abstract class SuggestionProvider<T> implements Callback<ISuggestionRequest, Collection<T>> {
 
-    private final Collection<T> possibleSuggestions = new HashSet<>();
-    private final Object possibleSuggestionsLock = new Object();
+    /**
+     * More suggestions do not help in a popup
+     */
+    private static final int MAXIMUM_NUMBER_OF_SUGGESTIONS = 100;
+
+    private final SuggestionIndex<T> possibleSuggestions = new SuggestionIndex<>(this::getSearchText,
+            this::isSameSuggestion);
+    private final Optional<SuggestionIndex<T>> sharedSuggestions;
+
+    public SuggestionProvider() {
+        this.sharedSuggestions = Optional.empty();
+    }
+
+    /**
+     * @param sharedSuggestions suggestions shared with other suggestion providers, which are offered in addition
+     */
+    protected SuggestionProvider(SuggestionIndex<T> sharedSuggestions) {
+        this.sharedSuggestions = Optional.of(sharedSuggestions);
+    }
 
     /**
      * Create a default suggestion provider based on the toString() method of the generic objects
@@ -88,34 +112,54 @@ public abstract class SuggestionProvider<T> implements Callback<ISuggestionReque
      * @param newPossible
      */
     public void addPossibleSuggestions(Collection<T> newPossible) {
-        synchronized (possibleSuggestionsLock) {
-            possibleSuggestions.addAll(newPossible);
+        possibleSuggestions.add(newPossible);
+    }
+
+    /**
+     * Replaces the possible suggestions taken from the given entry before
+     *
+     * @param suggestions the possible suggestions contained in the entry now
+     */
+    protected void indexSuggestions(BibEntry entry, Collection<T> suggestions) {
+        possibleSuggestions.indexEntry(entry, suggestions);
+    }
+
+    /**
+     * Removes the possible suggestions taken from the given entry, unless they are contained in other entries
+     */
+    public void removeEntry(BibEntry entry) {
+        if (entry == null) {
+            return;
         }
+
+        possibleSuggestions.removeEntry(entry);
     }
 
     /**
      * Remove all current possible suggestions
      */
     public void clearSuggestions() {
-        synchronized (possibleSuggestionsLock) {
-            possibleSuggestions.clear();
-        }
+        possibleSuggestions.clear();
     }
 
     @Override
     public final Collection<T> call(final ISuggestionRequest request) {
-        List<T> suggestions = new ArrayList<>();
-        if (!request.getUserText().isEmpty()) {
-            synchronized (possibleSuggestionsLock) {
-                for (T possibleSuggestion : possibleSuggestions) {
-                    if (isMatch(possibleSuggestion, request)) {
-                        suggestions.add(possibleSuggestion);
-                    }
-                }
-            }
-            Collections.sort(suggestions, getComparator());
+        if (request.getUserText().isEmpty()) {
+            return new ArrayList<>();
         }
-        return suggestions;
+
+        List<T> suggestions = possibleSuggestions.find(request.getUserText(), getComparator(),
+                MAXIMUM_NUMBER_OF_SUGGESTIONS);
+        if (!sharedSuggestions.isPresent()) {
+            return suggestions;
+        }
+
+        Set<T> allSuggestions = new LinkedHashSet<>(suggestions);
+        allSuggestions.addAll(sharedSuggestions.get().find(request.getUserText(), getComparator(),
+                MAXIMUM_NUMBER_OF_SUGGESTIONS));
+        List<T> sortedSuggestions = new ArrayList<>(allSuggestions);
+        Collections.sort(sortedSuggestions, getComparator());
+        return sortedSuggestions.subList(0, Math.min(sortedSuggestions.size(), MAXIMUM_NUMBER_OF_SUGGESTIONS));
     }
 
 
@@ -132,12 +176,19 @@ public abstract class SuggestionProvider<T> implements Callback<ISuggestionReque
     protected abstract Comparator<T> getComparator();
 
     /**
-     * Check the given possible suggestion is a match (is a valid suggestion)
+     * Get the text the user text is searched in, ignoring case, to check whether the given possible suggestion is a
+     * match (is a valid suggestion)
      * @param suggestion
-     * @param request
      * @return
      */
-    protected abstract boolean isMatch(T suggestion, ISuggestionRequest request);
+    protected abstract String getSearchText(T suggestion);
+
+    /**
+     * Check whether two possible suggestions having the same search text are duplicates
+     */
+    protected boolean isSameSuggestion(T suggestion, T otherSuggestion) {
+        return Objects.equals(suggestion, otherSuggestion);
+    }
 
 
     /***************************************************************************
@@ -190,10 +241,8 @@ public abstract class SuggestionProvider<T> implements Callback<ISuggestionReque
 
         /**{@inheritDoc}*/
         @Override
-        protected boolean isMatch(T suggestion, ISuggestionRequest request) {
-            String userTextLower = request.getUserText().toLowerCase();
-            String suggestionStr = suggestion.toString().toLowerCase();
-            return suggestionStr.contains(userTextLower);
+        protected String getSearchText(T suggestion) {
+            return suggestion.toString();
         }
     }
 }
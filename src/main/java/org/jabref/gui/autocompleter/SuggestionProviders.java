@@ -56,6 +56,15 @@ public class SuggestionProviders {
         }
     }
 
+    /**
+     * This methods removes the suggestions which are only contained in the given entry.
+     */
+    public void removeEntry(BibEntry bibEntry) {
+        for (AutoCompleteSuggestionProvider<?> autoCompleter : providers.values()) {
+            autoCompleter.removeEntry(bibEntry);
+        }
+    }
+
     private AutoCompleteSuggestionProvider<?> initalizeSuggestionProvider(String fieldName, AutoCompletePreferences preferences, JournalAbbreviationLoader abbreviationLoader) {
         if (InternalBibtexFields.getFieldProperties(fieldName).contains(FieldProperty.PERSON_NAMES)) {
             return new PersonNameSuggestionProvider(fieldName);
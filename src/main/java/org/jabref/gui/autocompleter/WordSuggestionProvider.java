@@ -1,5 +1,7 @@
 package org.jabref.gui.autocompleter;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.StringTokenizer;
 
@@ -24,11 +26,13 @@ public class WordSuggestionProvider extends StringSuggestionProvider implements
             return;
         }
 
+        List<String> words = new ArrayList<>();
         entry.getField(fieldName).ifPresent(fieldValue -> {
             StringTokenizer tok = new StringTokenizer(fieldValue, SEPARATING_CHARS);
             while (tok.hasMoreTokens()) {
-                addPossibleSuggestions(tok.nextToken());
+                words.add(tok.nextToken());
             }
         });
+        indexSuggestions(entry, words);
     }
 }
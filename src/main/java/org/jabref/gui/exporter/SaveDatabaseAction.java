@@ -255,6 +255,7 @@ public class SaveDatabaseAction extends AbstractWorker {
         try {
             if (success) {
                 session.commit(file.toPath());
+                cacheEntrySerializations(session, selectedOnly);
                 // Make sure to remember which encoding we used.
                 panel.getBibDatabaseContext().getMetaData().setEncoding(encoding, ChangePropagation.DO_NOT_POST_EVENT);
             } else {
@@ -268,6 +269,7 @@ public class SaveDatabaseAction extends AbstractWorker {
             if (ans == JOptionPane.YES_OPTION) {
                 session.setUseBackup(false);
                 session.commit(file.toPath());
+                cacheEntrySerializations(session, selectedOnly);
                 panel.getBibDatabaseContext().getMetaData().setEncoding(encoding, ChangePropagation.DO_NOT_POST_EVENT);
             } else {
                 success = false;
@@ -277,6 +279,16 @@ public class SaveDatabaseAction extends AbstractWorker {
         return success;
     }
 
+    /**
+     * After the whole library has been written to its file, the next save can write the unchanged entries as written
+     * now
+     */
+    private static void cacheEntrySerializations(SaveSession session, boolean selectedOnly) {
+        if (!selectedOnly) {
+            session.cacheEntrySerializations();
+        }
+    }
+
     /**
      * Run the "Save" operation. This method offloads the actual save operation to a background thread, but
      * still runs synchronously using Spin (the method returns only after completing the operation).
@@ -25,11 +25,14 @@ import org.jabref.logic.groups.DefaultGroupsFactory;
 import org.jabref.logic.layout.format.LatexToUnicodeFormatter;
 import org.jabref.model.FieldChange;
 import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.database.event.EntriesAddedEvent;
+import org.jabref.model.database.event.EntriesRemovedEvent;
 import org.jabref.model.entry.BibEntry;
-import org.jabref.model.entry.event.EntryEvent;
+import org.jabref.model.entry.event.EntryChangedEvent;
 import org.jabref.model.groups.AbstractGroup;
 import org.jabref.model.groups.AutomaticGroup;
 import org.jabref.model.groups.GroupEntryChanger;
+import org.jabref.model.groups.GroupMembershipIndex;
 import org.jabref.model.groups.GroupTreeNode;
 import org.jabref.model.strings.StringUtil;
 
@@ -52,12 +55,27 @@ public class GroupNodeViewModel {
     private final BooleanBinding anySelectedEntriesMatched;
     private final BooleanBinding allSelectedEntriesMatched;
     private final TaskExecutor taskExecutor;
+    private final Optional<GroupMembershipIndex> membershipIndex;
 
     public GroupNodeViewModel(BibDatabaseContext databaseContext, StateManager stateManager, TaskExecutor taskExecutor, GroupTreeNode groupNode) {
+        this(databaseContext, stateManager, taskExecutor, groupNode, Optional.empty());
+    }
+
+    /**
+     * Creates the view model of a group tree whose numbers of matches are taken from the given index. The view models
+     * of the subgroups share the index.
+     */
+    GroupNodeViewModel(BibDatabaseContext databaseContext, StateManager stateManager, TaskExecutor taskExecutor, GroupMembershipIndex membershipIndex) {
+        this(databaseContext, stateManager, taskExecutor, membershipIndex.getRoot(), Optional.of(membershipIndex));
+    }
+
+    private GroupNodeViewModel(BibDatabaseContext databaseContext, StateManager stateManager, TaskExecutor taskExecutor,
+            GroupTreeNode groupNode, Optional<GroupMembershipIndex> membershipIndex) {
         this.databaseContext = Objects.requireNonNull(databaseContext);
         this.taskExecutor = Objects.requireNonNull(taskExecutor);
         this.stateManager = Objects.requireNonNull(stateManager);
         this.groupNode = Objects.requireNonNull(groupNode);
+        this.membershipIndex = Objects.requireNonNull(membershipIndex);
 
         LatexToUnicodeFormatter formatter = new LatexToUnicodeFormatter();
         displayName = formatter.format(groupNode.getName());
@@ -80,7 +98,12 @@ public class GroupNodeViewModel {
         expandedProperty.addListener((observable, oldValue, newValue) -> groupNode.getGroup().setExpanded(newValue));
 
         // Register listener
-        databaseContext.getDatabase().registerListener(this);
+        if (membershipIndex.isPresent()) {
+            // the index relays the entry events after updating the numbers of matches
+            membershipIndex.get().registerListener(this);
+        } else {
+            databaseContext.getDatabase().registerListener(this);
+        }
 
         ObservableList<Boolean> selectedEntriesMatchStatus = EasyBind.map(stateManager.getSelectedEntries(), groupNode::matches);
         anySelectedEntriesMatched = BindingsHelper.any(selectedEntriesMatchStatus, matched -> matched);
@@ -96,7 +119,20 @@ public class GroupNodeViewModel {
     }
 
     private GroupNodeViewModel toViewModel(GroupTreeNode child) {
-        return new GroupNodeViewModel(databaseContext, stateManager, taskExecutor, child);
+        return new GroupNodeViewModel(databaseContext, stateManager, taskExecutor, child, membershipIndex);
+    }
+
+    /**
+     * Unregisters this view model and the ones of the subgroups from the entry events, so that they are no longer
+     * updated once the group tree is replaced.
+     */
+    void unregisterListeners() {
+        if (membershipIndex.isPresent()) {
+            membershipIndex.get().unregisterListener(this);
+        } else {
+            databaseContext.getDatabase().unregisterListener(this);
+        }
+        children.forEach(GroupNodeViewModel::unregisterListeners);
     }
 
     public List<FieldChange> addEntriesToGroup(List<BibEntry> entries) {
@@ -202,16 +238,26 @@ public class GroupNodeViewModel {
     * Gets invoked if an entry in the current database changes.
     */
     @Subscribe
-    public void listen(@SuppressWarnings("unused") EntryEvent entryEvent) {
+    public void listen(@SuppressWarnings("unused") EntryChangedEvent entryChangedEvent) {
+        calculateNumberOfMatches();
+    }
+
+    @Subscribe
+    public void listen(@SuppressWarnings("unused") EntriesAddedEvent entriesAddedEvent) {
+        calculateNumberOfMatches();
+    }
+
+    @Subscribe
+    public void listen(@SuppressWarnings("unused") EntriesRemovedEvent entriesRemovedEvent) {
         calculateNumberOfMatches();
     }
 
     private void calculateNumberOfMatches() {
         // We calculate the new hit value
-        // We could be more intelligent and try to figure out the new number of hits based on the entry change
-        // for example, a previously matched entry gets removed -> hits = hits - 1
+        // The index only tests the changed entry, otherwise all entries are tested
         BackgroundTask
-                .wrap(() -> groupNode.calculateNumberOfMatches(databaseContext.getDatabase()))
+                .wrap(() -> membershipIndex.map(index -> index.getHits(groupNode))
+                        .orElseGet(() -> groupNode.calculateNumberOfMatches(databaseContext.getDatabase())))
                 .onSuccess(hits::setValue)
                 .executeWith(taskExecutor);
     }
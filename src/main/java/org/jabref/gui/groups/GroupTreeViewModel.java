@@ -2,8 +2,10 @@ package org.jabref.gui.groups;
 
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.WeakHashMap;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -30,6 +32,7 @@ import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.groups.AbstractGroup;
 import org.jabref.model.groups.ExplicitGroup;
+import org.jabref.model.groups.GroupMembershipIndex;
 import org.jabref.model.groups.GroupTreeNode;
 import org.jabref.model.metadata.MetaData;
 
@@ -45,6 +48,8 @@ public class GroupTreeViewModel extends AbstractViewModel {
     private final Comparator<GroupTreeNode> compAlphabetIgnoreCase = (GroupTreeNode v1, GroupTreeNode v2) -> v1
             .getName()
             .compareToIgnoreCase(v2.getName());
+    // the group trees of the open databases keep their index when switching between them
+    private final Map<BibDatabaseContext, GroupMembershipIndex> membershipIndexes = new WeakHashMap<>();
     private Optional<BibDatabaseContext> currentDatabase;
 
     public GroupTreeViewModel(StateManager stateManager, DialogService dialogService, TaskExecutor taskExecutor) {
@@ -116,9 +121,13 @@ public class GroupTreeViewModel extends AbstractViewModel {
             GroupNodeViewModel newRoot = newDatabase
                     .map(BibDatabaseContext::getMetaData)
                     .flatMap(MetaData::getGroups)
-                    .map(root -> new GroupNodeViewModel(newDatabase.get(), stateManager, taskExecutor, root))
+                    .map(root -> new GroupNodeViewModel(newDatabase.get(), stateManager, taskExecutor,
+                            getMembershipIndex(newDatabase.get(), root)))
                     .orElse(GroupNodeViewModel.getAllEntriesGroup(newDatabase.get(), stateManager, taskExecutor));
 
+            if (rootGroup.get() != null) {
+                rootGroup.get().unregisterListeners();
+            }
             rootGroup.setValue(newRoot);
             this.selectedGroups.setAll(
                     stateManager.getSelectedGroup(newDatabase.get()).stream()
@@ -129,6 +138,22 @@ public class GroupTreeViewModel extends AbstractViewModel {
         currentDatabase = newDatabase;
     }
 
+    /**
+     * Returns the index of the given group tree, which is only created once per database and group tree. The index is
+     * built when the numbers of matches are calculated in the background.
+     */
+    private GroupMembershipIndex getMembershipIndex(BibDatabaseContext database, GroupTreeNode root) {
+        GroupMembershipIndex index = membershipIndexes.get(database);
+        if ((index == null) || (index.getRoot() != root)) {
+            if (index != null) {
+                index.shutdown();
+            }
+            index = new GroupMembershipIndex(database.getDatabase(), root);
+            membershipIndexes.put(database, index);
+        }
+        return index;
+    }
+
     /**
      * Opens "New Group Dialog" and add the resulting group to the specified group
      */
@@ -512,9 +512,7 @@ public class ImportInspectionDialog extends JabRefDialog implements ImportInspec
             // added yet. They only needed to be in it while we generated the keys,
             // to keep
             // control over key uniqueness.
-            for (BibEntry entry : entries) {
-                database.removeEntry(entry);
-            }
+            database.removeEntries(entries);
         } finally {
             entries.getReadWriteLock().writeLock().unlock();
         }
@@ -792,8 +790,8 @@ public class ImportInspectionDialog extends JabRefDialog implements ImportInspec
         private void removeEntriesToDelete(NamedCompound ce) {
             for (BibEntry entry : entriesToDelete) {
                 ce.addEdit(new UndoableRemoveEntry(panel.getDatabase(), entry, panel));
-                panel.getDatabase().removeEntry(entry);
             }
+            panel.getDatabase().removeEntries(entriesToDelete);
         }
 
         private void addSelectedEntries(NamedCompound ce, final List<BibEntry> selected) {
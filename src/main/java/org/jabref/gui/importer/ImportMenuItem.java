@@ -214,9 +214,7 @@ public class ImportMenuItem extends JMenuItem implements ActionListener {
                 }
 
                 // Merge entries:
-                for (BibEntry entry : pr.getDatabase().getEntries()) {
-                    database.insertEntry(entry);
-                }
+                database.insertEntries(pr.getDatabase().getEntries());
 
                 // Merge strings:
                 for (BibtexString bs : pr.getDatabase().getStringValues()) {
@@ -238,12 +236,12 @@ public class ImportMenuItem extends JMenuItem implements ActionListener {
                 UpdateField.setAutomaticFields(entries, Globals.prefs.getUpdateFieldPreferences()); // set timestamp and owner
 
                 boolean markEntries = !openInNew && EntryMarker.shouldMarkEntries();
-                for (BibEntry entry : entries) {
-                    if (markEntries) {
+                if (markEntries) {
+                    for (BibEntry entry : entries) {
                         EntryMarker.markEntry(entry, EntryMarker.IMPORT_MARK_LEVEL, false, new NamedCompound(""));
                     }
-                    database.insertEntry(entry);
                 }
+                database.insertEntries(new ArrayList<>(entries));
             }
         }
 
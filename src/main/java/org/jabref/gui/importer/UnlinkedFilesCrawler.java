@@ -2,9 +2,13 @@ package org.jabref.gui.importer;
 
 import java.io.File;
 import java.io.FileFilter;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import javax.swing.event.ChangeEvent;
@@ -12,6 +16,7 @@ import javax.swing.event.ChangeListener;
 
 import org.jabref.gui.FindUnlinkedFilesDialog.CheckableTreeNode;
 import org.jabref.gui.FindUnlinkedFilesDialog.FileNodeWrapper;
+import org.jabref.logic.util.io.FileIndex;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
 
@@ -25,10 +30,16 @@ public class UnlinkedFilesCrawler {
     private static final FileFilter DIRECTORY_FILTER = pathname -> (pathname != null) && pathname.isDirectory();
 
     private final BibDatabaseContext databaseContext;
+    private final Optional<Path> fileIndexDirectory;
 
 
-    public UnlinkedFilesCrawler(BibDatabaseContext databaseContext) {
+    /**
+     * @param fileIndexDirectory the directory the {@link FileIndex}es are stored in, if empty the directories are
+     *                           listed from the file system
+     */
+    public UnlinkedFilesCrawler(BibDatabaseContext databaseContext, Optional<Path> fileIndexDirectory) {
         this.databaseContext = databaseContext;
+        this.fileIndexDirectory = Objects.requireNonNull(fileIndexDirectory);
     }
 
     public CheckableTreeNode searchDirectory(File directory, FileFilter filter) {
@@ -37,7 +48,8 @@ public class UnlinkedFilesCrawler {
     }
 
     /**
-     * Searches recursively all files in the specified directory. <br>
+     * Searches recursively all files in the specified directory, which are looked up in its {@link FileIndex} if the
+     * directories are indexed. <br>
      * <br>
      * All {@link File}s, which match the {@link FileFilter} that comes with the
      * {@link EntryFromFileCreatorManager}, are taken into the resulting tree. <br>
@@ -63,26 +75,34 @@ public class UnlinkedFilesCrawler {
             return null;
         }
 
-        File[] filesArray = directory.listFiles(ff);
-        List<File> files;
-        if (filesArray == null) {
-            files = Collections.emptyList();
-        } else {
-            files = Arrays.asList(filesArray);
+        Optional<FileIndex> index = fileIndexDirectory.map(indexDirectory -> FileIndex.of(directory.toPath(), indexDirectory));
+        index.ifPresent(FileIndex::refresh);
+        return searchDirectory(directory, index, ff, state, changeListener);
+    }
+
+    /**
+     * Builds the tree of the directory from the {@link FileIndex} containing it, if present, instead of listing the
+     * directories
+     */
+    private CheckableTreeNode searchDirectory(File directory, Optional<FileIndex> index, UnlinkedPDFFileFilter ff,
+                                              AtomicBoolean state, ChangeListener changeListener) {
+        /* Cancellation of the search from outside! */
+        if ((state == null) || !state.get()) {
+            return null;
+        }
+
+        List<File> files = new ArrayList<>();
+        for (File file : listFiles(directory, index)) {
+            if (ff.accept(file)) {
+                files.add(file);
+            }
         }
         CheckableTreeNode root = new CheckableTreeNode(null);
 
         int filesCount = 0;
 
-        filesArray = directory.listFiles(DIRECTORY_FILTER);
-        List<File> subDirectories;
-        if (filesArray == null) {
-            subDirectories = Collections.emptyList();
-        } else {
-            subDirectories = Arrays.asList(filesArray);
-        }
-        for (File subDirectory : subDirectories) {
-            CheckableTreeNode subRoot = searchDirectory(subDirectory, ff, state, changeListener);
+        for (File subDirectory : listSubdirectories(directory, index)) {
+            CheckableTreeNode subRoot = searchDirectory(subDirectory, index, ff, state, changeListener);
             if ((subRoot != null) && (subRoot.getChildCount() > 0)) {
                 filesCount += ((FileNodeWrapper) subRoot.getUserObject()).fileCount;
                 root.add(subRoot);
@@ -101,4 +121,29 @@ public class UnlinkedFilesCrawler {
         return root;
     }
 
+    private static List<File> listFiles(File directory, Optional<FileIndex> index) {
+        if (index.isPresent()) {
+            List<File> files = new ArrayList<>();
+            for (Path file : index.get().getFiles(directory.toPath())) {
+                files.add(file.toFile());
+            }
+            return files;
+        }
+
+        File[] filesArray = directory.listFiles(file -> !file.isDirectory());
+        return filesArray == null ? Collections.emptyList() : Arrays.asList(filesArray);
+    }
+
+    private static List<File> listSubdirectories(File directory, Optional<FileIndex> index) {
+        if (index.isPresent()) {
+            List<File> subdirectories = new ArrayList<>();
+            for (Path subdirectory : index.get().getSubdirectories(directory.toPath())) {
+                subdirectories.add(subdirectory.toFile());
+            }
+            return subdirectories;
+        }
+
+        File[] filesArray = directory.listFiles(DIRECTORY_FILTER);
+        return filesArray == null ? Collections.emptyList() : Arrays.asList(filesArray);
+    }
 }
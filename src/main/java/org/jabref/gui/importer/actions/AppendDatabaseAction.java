@@ -75,11 +75,11 @@ public class AppendDatabaseAction implements BaseAction {
                 BibEntry entry = (BibEntry) originalEntry.clone();
                 UpdateField.setAutomaticFields(entry, overwriteOwner, overwriteTimeStamp,
                         Globals.prefs.getUpdateFieldPreferences());
-                database.insertEntry(entry);
                 appendedEntries.add(entry);
                 originalEntries.add(originalEntry);
                 ce.addEdit(new UndoableInsertEntry(database, entry, panel));
             }
+            database.insertEntries(appendedEntries);
         }
 
         if (importStrings) {
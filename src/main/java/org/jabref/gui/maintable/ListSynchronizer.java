@@ -1,7 +1,7 @@
 package org.jabref.gui.maintable;
 
-import org.jabref.model.database.event.EntryAddedEvent;
-import org.jabref.model.database.event.EntryRemovedEvent;
+import org.jabref.model.database.event.EntriesAddedEvent;
+import org.jabref.model.database.event.EntriesRemovedEvent;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.event.EntryChangedEvent;
 
@@ -17,20 +17,22 @@ public class ListSynchronizer {
     }
 
     @Subscribe
-    public void listen(EntryAddedEvent entryAddedEvent) {
+    public void listen(EntriesAddedEvent entriesAddedEvent) {
         lock();
         try {
-            list.add(entryAddedEvent.getBibEntry());
+            list.addAll(entriesAddedEvent.getBibEntries());
         } finally {
             unlock();
         }
     }
 
     @Subscribe
-    public void listen(EntryRemovedEvent entryRemovedEvent) {
+    public void listen(EntriesRemovedEvent entriesRemovedEvent) {
         lock();
         try {
-            list.remove(entryRemovedEvent.getBibEntry());
+            for (BibEntry entry : entriesRemovedEvent.getBibEntries()) {
+                list.remove(entry);
+            }
         } finally {
             unlock();
         }
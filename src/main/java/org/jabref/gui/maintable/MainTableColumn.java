@@ -82,6 +82,13 @@ public class MainTableColumn {
         return isIconColumn;
     }
 
+    /**
+     * Returns whether the column displays the fields of its database, which are not displayed as icons
+     */
+    boolean isFieldColumn() {
+        return database.isPresent();
+    }
+
     public boolean isFileFilter() {
         return false; // Overridden in SpecialMainTableColumns for file filter columns
     }
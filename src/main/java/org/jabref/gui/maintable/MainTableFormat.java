@@ -31,8 +31,11 @@ public class MainTableFormat implements TableFormat<BibEntry> {
 
     private final List<MainTableColumn> tableColumns = new ArrayList<>();
 
+    private final MainTableValueCache valueCache;
+
     public MainTableFormat(BibDatabase database) {
         this.database = database;
+        this.valueCache = new MainTableValueCache(database);
     }
 
     @Override
@@ -72,9 +75,14 @@ public class MainTableFormat implements TableFormat<BibEntry> {
 
     @Override
     public Object getColumnValue(BibEntry be, int col) {
-        return tableColumns.get(col).getColumnValue(be);
+        MainTableColumn column = tableColumns.get(col);
+        if (column.isFieldColumn()) {
+            return valueCache.getColumnValue(be, col, column);
+        }
+        return column.getColumnValue(be);
     }
 
+
     public void updateTableFormat() {
         // clear existing column configuration
         tableColumns.clear();
@@ -148,6 +156,7 @@ public class MainTableFormat implements TableFormat<BibEntry> {
             }
         }
 
+        valueCache.clear(tableColumns.size());
     }
 
 }
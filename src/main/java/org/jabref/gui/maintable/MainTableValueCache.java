@@ -0,0 +1,151 @@
+package org.jabref.gui.maintable;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.event.EntriesRemovedEvent;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.FieldName;
+
+import com.google.common.eventbus.Subscribe;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/**
+ * Caches the values of the field columns of the main table, as converting LaTeX and formatting names on every repaint
+ * and every sort of a large table takes long.
+ * <p>
+ * A value is computed again if the entry has been changed since, if the entry references another entry via crossref
+ * and that entry has been changed or replaced, or if the value references a string and a string has been changed.
+ * This is checked by the modification counts on each access, thus an outdated value is never returned, regardless of
+ * whether the cache or the table is notified about a change first.
+ */
+class MainTableValueCache {
+
+    private static final Log LOGGER = LogFactory.getLog(MainTableValueCache.class);
+
+    private final BibDatabase database;
+
+    // entries are compared by content, but equal entries are displayed separately
+    private final Map<BibEntry, CachedValue[]> values = new IdentityHashMap<>();
+    private int numberOfColumns;
+
+    private long hits;
+    private long misses;
+
+    MainTableValueCache(BibDatabase database) {
+        this.database = Objects.requireNonNull(database);
+        database.registerListener(this);
+    }
+
+    /**
+     * Returns the value of the column with the given index, see {@link MainTableColumn#getColumnValue(BibEntry)}
+     */
+    public synchronized Object getColumnValue(BibEntry entry, int columnIndex, MainTableColumn column) {
+        CachedValue[] entryValues = values.computeIfAbsent(entry, key -> new CachedValue[numberOfColumns]);
+        CachedValue cachedValue = entryValues[columnIndex];
+        if ((cachedValue != null) && isUpToDate(entry, cachedValue)) {
+            hits++;
+            return cachedValue.value;
+        }
+
+        misses++;
+        long modificationCount = entry.getModificationCount();
+        long stringsModificationCount = database.getStringsModificationCount();
+        Optional<BibEntry> referencedEntry = entry.hasField(FieldName.CROSSREF) ?
+                database.getReferencedEntry(entry) : Optional.empty();
+        long referencedModificationCount = referencedEntry.map(BibEntry::getModificationCount).orElse(0L);
+
+        Object value = column.getColumnValue(entry);
+        entryValues[columnIndex] = new CachedValue(value, modificationCount, referencedEntry.orElse(null),
+                referencedModificationCount,
+                referencesString(entry, referencedEntry, column) ? stringsModificationCount : CachedValue.NO_STRINGS);
+        return value;
+    }
+
+    private boolean isUpToDate(BibEntry entry, CachedValue cachedValue) {
+        if (cachedValue.modificationCount != entry.getModificationCount()) {
+            return false;
+        }
+        if ((cachedValue.stringsModificationCount != CachedValue.NO_STRINGS)
+                && (cachedValue.stringsModificationCount != database.getStringsModificationCount())) {
+            return false;
+        }
+        if (entry.hasField(FieldName.CROSSREF)) {
+            BibEntry referencedEntry = database.getReferencedEntry(entry).orElse(null);
+            if (referencedEntry != cachedValue.referencedEntry) {
+                return false;
+            }
+            return (referencedEntry == null)
+                    || (cachedValue.referencedModificationCount == referencedEntry.getModificationCount());
+        }
+        return true;
+    }
+
+    private static boolean referencesString(BibEntry entry, Optional<BibEntry> referencedEntry, MainTableColumn column) {
+        for (String field : column.getBibtexFields()) {
+            if (containsHash(entry.getFieldOrAlias(field))
+                    || containsHash(referencedEntry.flatMap(referenced -> referenced.getFieldOrAlias(field)))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean containsHash(Optional<String> value) {
+        return value.isPresent() && (value.get().indexOf('#') >= 0);
+    }
+
+    /**
+     * Removes all values, as the columns have been changed
+     */
+    public synchronized void clear(int numberOfColumns) {
+        LOGGER.debug("Main table value cache: " + hits + " hits, " + misses + " misses");
+        values.clear();
+        this.numberOfColumns = numberOfColumns;
+    }
+
+    /**
+     * Returns the number of values taken from the cache since it has been created
+     */
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    /**
+     * Returns the number of values computed since the cache has been created
+     */
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    @Subscribe
+    public synchronized void listen(EntriesRemovedEvent entriesRemovedEvent) {
+        for (BibEntry entry : entriesRemovedEvent.getBibEntries()) {
+            values.remove(entry);
+        }
+    }
+
+    private static class CachedValue {
+
+        private static final long NO_STRINGS = -1;
+
+        private final Object value;
+        private final long modificationCount;
+        private final BibEntry referencedEntry;
+        private final long referencedModificationCount;
+        private final long stringsModificationCount;
+
+        CachedValue(Object value, long modificationCount, BibEntry referencedEntry, long referencedModificationCount,
+                long stringsModificationCount) {
+            this.value = value;
+            this.modificationCount = modificationCount;
+            this.referencedEntry = referencedEntry;
+            this.referencedModificationCount = referencedModificationCount;
+            this.stringsModificationCount = stringsModificationCount;
+        }
+    }
+}
@@ -110,6 +110,7 @@ public class SharedDatabaseUIManager {
 
         dbmsSynchronizer = bibDatabaseContext.getDBMSSynchronizer();
         dbmsSynchronizer.openSharedDatabase(dbmsConnectionProperties);
+        dbmsSynchronizer.setLocalChangeExecutor(SwingUtilities::invokeLater);
         dbmsSynchronizer.registerListener(this);
         frame.output(Localization.lang("Connection to %0 server established.", dbmsConnectionProperties.getType().toString()));
         return frame.addTab(bibDatabaseContext, true);
@@ -138,6 +139,7 @@ public class SharedDatabaseUIManager {
 
         dbmsSynchronizer = bibDatabaseContext.getDBMSSynchronizer();
         dbmsSynchronizer.openSharedDatabase(dbmsConnectionProperties);
+        dbmsSynchronizer.setLocalChangeExecutor(SwingUtilities::invokeLater);
         dbmsSynchronizer.registerListener(this);
         parserResult.setDatabaseContext(bibDatabaseContext);
         frame.output(Localization.lang("Connection to %0 server established.", dbmsConnectionProperties.getType().toString()));
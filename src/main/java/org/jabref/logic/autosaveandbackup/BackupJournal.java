@@ -0,0 +1,263 @@
+package org.jabref.logic.autosaveandbackup;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/**
+ * Append-only log of the entry changes made after a backup snapshot of a library has been written.
+ * <p>
+ * The journal starts with the ids of the entries in the order they were written to the snapshot. It is followed by one
+ * line per added or removed entry and per changed field. All records can be applied repeatedly, thus a change made
+ * while the snapshot was written may be contained in both the snapshot and the journal.
+ * <p>
+ * Lines are only appended. A line which has not been terminated (e.g., because JabRef crashed while writing it) is
+ * ignored when replaying the journal.
+ */
+class BackupJournal implements Closeable {
+
+    private static final Log LOGGER = LogFactory.getLog(BackupJournal.class);
+
+    private static final char SNAPSHOT_ENTRY = 'E';
+    private static final char ENTRY_ADDED = 'A';
+    private static final char ENTRY_REMOVED = 'R';
+    private static final char FIELD_SET = 'F';
+    private static final char FIELD_CLEARED = 'C';
+    private static final char SEPARATOR = '\t';
+
+    private final FileChannel channel;
+    private final Writer writer;
+    private boolean unsynced;
+
+    private BackupJournal(FileChannel channel) {
+        this.channel = channel;
+        this.writer = Channels.newWriter(channel, StandardCharsets.UTF_8.newEncoder(), 8192);
+    }
+
+    /**
+     * Creates a new journal, replacing an existing one.
+     *
+     * @param snapshotIds the ids of the entries in the order they were written to the snapshot
+     */
+    static BackupJournal create(Path path, List<String> snapshotIds) throws IOException {
+        BackupJournal journal = new BackupJournal(FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE));
+        StringBuilder header = new StringBuilder();
+        for (String id : snapshotIds) {
+            appendRecord(header, SNAPSHOT_ENTRY, id);
+        }
+        journal.append(header.toString());
+        return journal;
+    }
+
+    static String entryAdded(BibEntry entry) {
+        StringBuilder records = new StringBuilder();
+        appendRecord(records, ENTRY_ADDED, entry.getId(), entry.getType());
+        for (Map.Entry<String, String> field : entry.getFieldMap().entrySet()) {
+            appendRecord(records, FIELD_SET, entry.getId(), field.getKey(), field.getValue());
+        }
+        return records.toString();
+    }
+
+    static String entryRemoved(BibEntry entry) {
+        StringBuilder records = new StringBuilder();
+        appendRecord(records, ENTRY_REMOVED, entry.getId());
+        return records.toString();
+    }
+
+    /**
+     * @param entryId  the id of the entry before the change, which differs from the current one if the id was changed
+     * @param newValue the new value or null if the field was removed
+     */
+    static String fieldChanged(String entryId, String field, String newValue) {
+        StringBuilder records = new StringBuilder();
+        if (newValue == null) {
+            appendRecord(records, FIELD_CLEARED, entryId, field);
+        } else {
+            appendRecord(records, FIELD_SET, entryId, field, newValue);
+        }
+        return records.toString();
+    }
+
+    private static void appendRecord(StringBuilder records, char type, String... values) {
+        records.append(type);
+        for (String value : values) {
+            records.append(SEPARATOR).append(escape(value));
+        }
+        records.append('\n');
+    }
+
+    private static String escape(String value) {
+        StringBuilder escaped = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\':
+                    escaped.append("\\\\");
+                    break;
+                case '\t':
+                    escaped.append("\\t");
+                    break;
+                case '\n':
+                    escaped.append("\\n");
+                    break;
+                case '\r':
+                    escaped.append("\\r");
+                    break;
+                default:
+                    escaped.append(c);
+            }
+        }
+        return escaped.toString();
+    }
+
+    private static String unescape(String value) {
+        StringBuilder unescaped = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if ((c == '\\') && ((i + 1) < value.length())) {
+                i++;
+                switch (value.charAt(i)) {
+                    case 't':
+                        unescaped.append('\t');
+                        break;
+                    case 'n':
+                        unescaped.append('\n');
+                        break;
+                    case 'r':
+                        unescaped.append('\r');
+                        break;
+                    default:
+                        unescaped.append(value.charAt(i));
+                }
+            } else {
+                unescaped.append(c);
+            }
+        }
+        return unescaped.toString();
+    }
+
+    /**
+     * Applies the changes recorded in the journal to the database parsed from the snapshot.
+     *
+     * @return false if the journal does not belong to the snapshot, in this case the database is not changed
+     */
+    static boolean replay(Path path, BibDatabase database) throws IOException {
+        String content = new String(Files.readAllBytes(path), StandardCharsets.UTF_8);
+        // the text after the last line break is an incomplete record
+        String[] lines = content.substring(0, content.lastIndexOf('\n') + 1).split("\n");
+
+        List<BibEntry> snapshotEntries = database.getEntries();
+        Map<String, BibEntry> entriesById = new HashMap<>();
+        int line = 0;
+        while ((line < lines.length) && !lines[line].isEmpty() && (lines[line].charAt(0) == SNAPSHOT_ENTRY)) {
+            if (line >= snapshotEntries.size()) {
+                return false;
+            }
+            entriesById.put(unescape(lines[line].substring(2)), snapshotEntries.get(line));
+            line++;
+        }
+        if (line != snapshotEntries.size()) {
+            return false;
+        }
+
+        for (; line < lines.length; line++) {
+            if (lines[line].isEmpty()) {
+                continue;
+            }
+            List<String> values = split(lines[line]);
+            Optional<BibEntry> entry = Optional.ofNullable(entriesById.get(values.get(0)));
+            switch (lines[line].charAt(0)) {
+                case ENTRY_ADDED:
+                    if (!entry.isPresent()) {
+                        BibEntry newEntry = new BibEntry(values.get(1));
+                        database.insertEntry(newEntry);
+                        entriesById.put(values.get(0), newEntry);
+                    }
+                    break;
+                case ENTRY_REMOVED:
+                    entry.ifPresent(database::removeEntry);
+                    entriesById.remove(values.get(0));
+                    break;
+                case FIELD_SET:
+                    if (entry.isPresent()) {
+                        setField(entriesById, values.get(0), entry.get(), values.get(1), values.get(2));
+                    }
+                    break;
+                case FIELD_CLEARED:
+                    entry.ifPresent(presentEntry -> presentEntry.clearField(values.get(1)));
+                    break;
+                default:
+                    LOGGER.warn("Unknown record in backup journal: " + lines[line]);
+            }
+        }
+        return true;
+    }
+
+    private static void setField(Map<String, BibEntry> entriesById, String id, BibEntry entry, String field,
+            String value) {
+        if (BibEntry.ID_FIELD.equals(field)) {
+            // the entry keeps the id assigned when parsing the snapshot, only the journal refers to it by the new one
+            entriesById.remove(id);
+            entriesById.put(value, entry);
+        } else if (BibEntry.TYPE_HEADER.equals(field)) {
+            entry.setType(value);
+        } else {
+            entry.setField(field, value);
+        }
+    }
+
+    private static List<String> split(String record) {
+        List<String> values = new ArrayList<>();
+        int start = 2;
+        int end;
+        while ((end = record.indexOf(SEPARATOR, start)) >= 0) {
+            values.add(unescape(record.substring(start, end)));
+            start = end + 1;
+        }
+        values.add(unescape(record.substring(start)));
+        return values;
+    }
+
+    /**
+     * Appends the given records. They are written to disk by the next call of {@link #sync()}.
+     */
+    synchronized void append(String records) throws IOException {
+        writer.write(records);
+        unsynced = true;
+    }
+
+    /**
+     * Forces all records appended so far to the storage device.
+     */
+    synchronized void sync() throws IOException {
+        if (unsynced) {
+            writer.flush();
+            channel.force(false);
+            unsynced = false;
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        sync();
+        writer.close();
+    }
+}
@@ -5,24 +5,37 @@ import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
+import org.jabref.logic.bibtex.LatexFieldFormatterPreferences;
 import org.jabref.logic.exporter.BibtexDatabaseWriter;
 import org.jabref.logic.exporter.FileSaveSession;
 import org.jabref.logic.exporter.SaveException;
 import org.jabref.logic.exporter.SavePreferences;
+import org.jabref.logic.importer.OpenDatabase;
+import org.jabref.logic.importer.ParserResult;
 import org.jabref.logic.util.io.FileUtil;
 import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.database.BibDatabaseMode;
 import org.jabref.model.database.event.BibDatabaseContextChangedEvent;
 import org.jabref.model.database.event.CoarseChangeFilter;
+import org.jabref.model.database.event.EntriesEvent;
+import org.jabref.model.database.event.EntryAddedEvent;
+import org.jabref.model.database.event.EntryRemovedEvent;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.event.FieldChangedEvent;
 import org.jabref.preferences.JabRefPreferences;
 
 import com.google.common.eventbus.Subscribe;
@@ -34,12 +47,25 @@ import org.apache.commons.logging.LogFactory;
  * An intelligent {@link ExecutorService} with a {@link BlockingQueue} prevents a high load while making backups and
  * rejects all redundant backup tasks.
  * This class does not manage the .bak file which is created when opening a database.
+ * <p>
+ * If the backup journal is enabled, a complete backup is only written when starting and after
+ * {@link #MAXIMUM_JOURNALED_CHANGES} changes. In between, the changes of the entries are appended to a
+ * {@link BackupJournal} which is synced to disk periodically. Changes which can not be journaled (e.g., of the
+ * strings, the preamble or the meta data) trigger a complete backup as before.
  */
 public class BackupManager {
 
     private static final Log LOGGER = LogFactory.getLog(BackupManager.class);
 
     private static final String BACKUP_EXTENSION = ".sav";
+    private static final String JOURNAL_EXTENSION = ".journal";
+
+    /**
+     * Number of journaled changes after which a new complete backup is written and the journal is started anew
+     */
+    static final int MAXIMUM_JOURNALED_CHANGES = 1000;
+
+    private static final long JOURNAL_SYNC_INTERVAL_MILLISECONDS = 1000;
 
     private static Set<BackupManager> runningInstances = new HashSet<>();
 
@@ -47,22 +73,46 @@ public class BackupManager {
     private final JabRefPreferences preferences;
     private final ExecutorService executor;
     private final Runnable backupTask = () -> determineBackupPath().ifPresent(this::performBackup);
-    private final CoarseChangeFilter changeFilter;
+    private final boolean useJournal;
+    private CoarseChangeFilter changeFilter;
+    private ScheduledExecutorService journalSyncExecutor;
+
+    private BackupJournal journal;
+    /**
+     * Records of the changes made while a complete backup is written, null if no backup is being written
+     */
+    private StringBuilder pendingRecords;
+    private int journaledChanges;
+    private boolean shutdown;
 
     private BackupManager(BibDatabaseContext bibDatabaseContext) {
         this.bibDatabaseContext = bibDatabaseContext;
         this.preferences = JabRefPreferences.getInstance();
         BlockingQueue<Runnable> workerQueue = new ArrayBlockingQueue<>(1);
         this.executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.SECONDS, workerQueue);
+        this.useJournal = preferences.getBoolean(JabRefPreferences.BACKUP_JOURNAL);
 
-        changeFilter = new CoarseChangeFilter(bibDatabaseContext);
-        changeFilter.registerListener(this);
+        if (useJournal) {
+            // the journal needs every single change, thus the changes are not filtered
+            bibDatabaseContext.getDatabase().registerListener(this);
+            bibDatabaseContext.getMetaData().registerListener(this);
+            journalSyncExecutor = Executors.newSingleThreadScheduledExecutor();
+            journalSyncExecutor.scheduleWithFixedDelay(this::syncJournal, JOURNAL_SYNC_INTERVAL_MILLISECONDS,
+                    JOURNAL_SYNC_INTERVAL_MILLISECONDS, TimeUnit.MILLISECONDS);
+        } else {
+            changeFilter = new CoarseChangeFilter(bibDatabaseContext);
+            changeFilter.registerListener(this);
+        }
     }
 
     static Path getBackupPath(Path originalPath) {
         return FileUtil.addExtension(originalPath, BACKUP_EXTENSION);
     }
 
+    static Path getJournalPath(Path originalPath) {
+        return FileUtil.addExtension(getBackupPath(originalPath), JOURNAL_EXTENSION);
+    }
+
     /**
      * Starts the BackupManager which is associated with the given {@link BibDatabaseContext}.
      * As long as no database file is present in {@link BibDatabaseContext}, the {@link BackupManager} will do nothing.
@@ -99,11 +149,17 @@ public class BackupManager {
 
     /**
      * Restores the backup file by copying and overwriting the original one.
+     * If there is a backup journal, the journaled changes are applied to the backup before.
      *
      * @param originalPath Path to the file which should be equalized to the backup file.
      */
     public static void restoreBackup(Path originalPath) {
         Path backupPath = getBackupPath(originalPath);
+        Path journalPath = getJournalPath(originalPath);
+        if (Files.exists(journalPath) && restoreBackupWithJournal(backupPath, journalPath, originalPath)) {
+            return;
+        }
+
         try {
             Files.copy(backupPath, originalPath, StandardCopyOption.REPLACE_EXISTING);
         } catch (IOException e) {
@@ -111,25 +167,180 @@ public class BackupManager {
         }
     }
 
+    private static boolean restoreBackupWithJournal(Path backupPath, Path journalPath, Path originalPath) {
+        JabRefPreferences preferences = JabRefPreferences.getInstance();
+        try {
+            ParserResult parserResult = OpenDatabase.loadDatabase(backupPath.toFile(),
+                    preferences.getImportFormatPreferences());
+            if (parserResult.isInvalid() || !BackupJournal.replay(journalPath, parserResult.getDatabase())) {
+                LOGGER.warn("The backup journal does not belong to the backup file, restoring the backup file only.");
+                return false;
+            }
+
+            BibDatabaseContext context = parserResult.getDatabaseContext();
+            new BibtexDatabaseWriter<>(FileSaveSession::new)
+                    .saveDatabase(context, getSavePreferences(context, preferences)).commit(originalPath);
+            return true;
+        } catch (IOException | SaveException e) {
+            LOGGER.error("Error while replaying the backup journal.", e);
+            return false;
+        }
+    }
+
+    private static SavePreferences getSavePreferences(BibDatabaseContext context, JabRefPreferences preferences) {
+        Charset charset = context.getMetaData().getEncoding().orElse(preferences.getDefaultEncoding());
+        return SavePreferences.loadForSaveFromPreferences(preferences).withEncoding(charset).withMakeBackup(false);
+    }
+
     private Optional<Path> determineBackupPath() {
         return bibDatabaseContext.getDatabasePath().map(BackupManager::getBackupPath);
     }
 
     private void performBackup(Path backupPath) {
+        if (useJournal) {
+            performBackupWithJournal(backupPath);
+            return;
+        }
+
         try {
-            Charset charset = bibDatabaseContext.getMetaData().getEncoding().orElse(preferences.getDefaultEncoding());
-            SavePreferences savePreferences = SavePreferences.loadForSaveFromPreferences(preferences).withEncoding
-                    (charset).withMakeBackup(false);
-            new BibtexDatabaseWriter<>(FileSaveSession::new).saveDatabase(bibDatabaseContext, savePreferences).commit
-                    (backupPath);
+            new BibtexDatabaseWriter<>(FileSaveSession::new)
+                    .saveDatabase(bibDatabaseContext, getSavePreferences(bibDatabaseContext, preferences))
+                    .commit(backupPath);
         } catch (SaveException e) {
             LOGGER.error("Error while saving file.", e);
         }
     }
 
+    /**
+     * Writes a complete backup and starts a new journal. Changes made while the backup is written are collected and
+     * added to the new journal, as it is unknown whether the backup contains them.
+     */
+    private void performBackupWithJournal(Path backupPath) {
+        Path journalPath = FileUtil.addExtension(backupPath, JOURNAL_EXTENSION);
+        synchronized (this) {
+            // the old journal does not belong to the new backup
+            closeJournal();
+            deleteFile(journalPath);
+            pendingRecords = new StringBuilder();
+            journaledChanges = 0;
+        }
+
+        List<String> writtenIds = new ArrayList<>();
+        try {
+            new BibtexDatabaseWriter<FileSaveSession>(FileSaveSession::new) {
+
+                @Override
+                protected void writeEntry(BibEntry entry, BibDatabaseMode mode, Boolean isReformatFile,
+                        LatexFieldFormatterPreferences latexFieldFormatterPreferences) throws SaveException {
+                    writtenIds.add(entry.getId());
+                    super.writeEntry(entry, mode, isReformatFile, latexFieldFormatterPreferences);
+                }
+            }.saveDatabase(bibDatabaseContext, getSavePreferences(bibDatabaseContext, preferences)).commit(backupPath);
+        } catch (SaveException e) {
+            LOGGER.error("Error while saving file.", e);
+            synchronized (this) {
+                pendingRecords = null;
+            }
+            return;
+        }
+
+        synchronized (this) {
+            if (!shutdown) {
+                try {
+                    journal = BackupJournal.create(journalPath, writtenIds);
+                    journal.append(pendingRecords.toString());
+                } catch (IOException e) {
+                    LOGGER.error("Error while creating the backup journal.", e);
+                    closeJournal();
+                }
+            }
+            pendingRecords = null;
+        }
+    }
+
     @Subscribe
-    public synchronized void listen(@SuppressWarnings("unused") BibDatabaseContextChangedEvent event) {
-        startBackupTask();
+    public synchronized void listen(BibDatabaseContextChangedEvent event) {
+        if (useJournal) {
+            appendToJournal(event);
+        } else {
+            startBackupTask();
+        }
+    }
+
+    private void appendToJournal(BibDatabaseContextChangedEvent event) {
+        if (event instanceof EntriesEvent) {
+            // the entries have been journaled one by one already, in the order of their changes
+            return;
+        }
+
+        if ((journal == null) && (pendingRecords == null)) {
+            // there is no backup the change could be journaled for (yet)
+            startBackupTask();
+            return;
+        }
+
+        String records;
+        if (event instanceof FieldChangedEvent) {
+            FieldChangedEvent fieldChange = (FieldChangedEvent) event;
+            String entryId = BibEntry.ID_FIELD.equals(fieldChange.getFieldName()) ? fieldChange.getOldValue() :
+                    fieldChange.getBibEntry().getId();
+            records = BackupJournal.fieldChanged(entryId, fieldChange.getFieldName(), fieldChange.getNewValue());
+        } else if (event instanceof EntryAddedEvent) {
+            records = BackupJournal.entryAdded(((EntryAddedEvent) event).getBibEntry());
+        } else if (event instanceof EntryRemovedEvent) {
+            records = BackupJournal.entryRemoved(((EntryRemovedEvent) event).getBibEntry());
+        } else {
+            // only entries are journaled, all other changes (e.g., of the strings, the preamble or the meta data) need
+            // a complete backup
+            startBackupTask();
+            return;
+        }
+
+        if (pendingRecords != null) {
+            pendingRecords.append(records);
+        } else {
+            try {
+                journal.append(records);
+            } catch (IOException e) {
+                LOGGER.error("Error while writing the backup journal.", e);
+                closeJournal();
+            }
+        }
+
+        journaledChanges++;
+        if (journaledChanges >= MAXIMUM_JOURNALED_CHANGES) {
+            startBackupTask();
+        }
+    }
+
+    private void syncJournal() {
+        BackupJournal currentJournal;
+        synchronized (this) {
+            currentJournal = journal;
+        }
+        if (currentJournal == null) {
+            return;
+        }
+
+        try {
+            currentJournal.sync();
+        } catch (IOException e) {
+            // the journal may have been closed in the meantime
+            LOGGER.debug("Error while syncing the backup journal.", e);
+        }
+    }
+
+    private synchronized void closeJournal() {
+        if (journal == null) {
+            return;
+        }
+
+        try {
+            journal.close();
+        } catch (IOException e) {
+            LOGGER.error("Error while closing the backup journal.", e);
+        }
+        journal = null;
     }
 
     private void startBackupTask() {
@@ -145,13 +356,26 @@ public class BackupManager {
      * This method should only be used when closing a database/JabRef legally.
      */
     private void shutdown() {
-        changeFilter.unregisterListener(this);
-        changeFilter.shutdown();
+        if (useJournal) {
+            bibDatabaseContext.getDatabase().unregisterListener(this);
+            bibDatabaseContext.getMetaData().unregisterListener(this);
+            journalSyncExecutor.shutdown();
+            synchronized (this) {
+                shutdown = true;
+                closeJournal();
+            }
+        } else {
+            changeFilter.unregisterListener(this);
+            changeFilter.shutdown();
+        }
         executor.shutdown();
-        determineBackupPath().ifPresent(this::deleteBackupFile);
+        determineBackupPath().ifPresent(backupPath -> {
+            deleteFile(backupPath);
+            deleteFile(FileUtil.addExtension(backupPath, JOURNAL_EXTENSION));
+        });
     }
 
-    private void deleteBackupFile(Path backupPath) {
+    private void deleteFile(Path backupPath) {
         try {
             if (Files.exists(backupPath) && !Files.isDirectory(backupPath)) {
                 Files.delete(backupPath);
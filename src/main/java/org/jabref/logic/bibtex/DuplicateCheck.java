@@ -12,6 +12,7 @@ import org.jabref.logic.util.strings.StringSimilarity;
 import org.jabref.model.EntryTypes;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseMode;
+import org.jabref.model.database.DuplicateIndex;
 import org.jabref.model.entry.AuthorList;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.EntryType;
@@ -224,13 +225,16 @@ public class DuplicateCheck {
      * them is a duplicate of the given entry, as per
      * Util.isDuplicate(BibEntry, BibEntry), the duplicate is returned.
      * The search is terminated when the first duplicate is found.
+     * <p>
+     * Only the candidates found by the {@link DuplicateIndex} of the database are compared with the entry, in the order
+     * of the database.
      *
      * @param database The database to search.
      * @param entry    The entry of which we are looking for duplicates.
      * @return The first duplicate entry found. Empty Optional if no duplicates are found.
      */
     public static Optional<BibEntry> containsDuplicate(BibDatabase database, BibEntry entry, BibDatabaseMode bibDatabaseMode) {
-        for (BibEntry other : database.getEntries()) {
+        for (BibEntry other : database.getDuplicateIndex().getCandidates(entry)) {
             if (DuplicateCheck.isDuplicate(entry, other, bibDatabaseMode)) {
                 return Optional.of(other); // Duplicate found.
             }
@@ -1,5 +1,6 @@
 package org.jabref.logic.bibtex.comparator;
 
+import java.text.CollationKey;
 import java.text.Collator;
 import java.text.ParseException;
 import java.text.RuleBasedCollator;
@@ -83,58 +84,69 @@ public class FieldComparator implements Comparator<BibEntry> {
         return null;
     }
 
-    @Override
-    public int compare(BibEntry e1, BibEntry e2) {
-        String f1;
-        String f2;
-
+    /**
+     * Computes the values the entry is compared by. These are cached at the entry, so that each entry is prepared only
+     * once when sorting many entries.
+     */
+    private SortKey computeSortKey(BibEntry entry) {
+        String value;
         if (fieldType == FieldType.TYPE) {
             // Sort by type.
-            f1 = e1.getType();
-            f2 = e2.getType();
+            value = entry.getType();
         } else {
+            value = getField(entry);
+        }
+
+        if (value == null) {
+            return SortKey.MISSING;
+        }
+
+        if (fieldType == FieldType.NAME) {
             // If the field is author or editor, we rearrange names so they are
             // sorted according to last name.
-            f1 = getField(e1);
-            f2 = getField(e2);
+            value = AuthorList.fixAuthorForAlphabetization(value);
+        } else if (fieldType == FieldType.YEAR) {
+            return new SortKey(StringUtil.intValueOfOptional(value).orElse(0));
+        } else if (fieldType == FieldType.MONTH) {
+            return new SortKey(Month.parse(value).map(Month::getNumber).orElse(-1));
+        }
+
+        if (isNumeric) {
+            Optional<Integer> number = StringUtil.intValueOfOptional(value);
+            if (number.isPresent()) {
+                return new SortKey(number.get());
+            }
         }
 
-        // Catch all cases involving null:
-        if ((f1 == null) && (f2 == null)) {
+        return new SortKey(COLLATOR.getCollationKey(value.toLowerCase(Locale.ENGLISH)));
+    }
+
+    @Override
+    public int compare(BibEntry e1, BibEntry e2) {
+        SortKey k1 = e1.getSortKey(fieldName, this::computeSortKey);
+        SortKey k2 = e2.getSortKey(fieldName, this::computeSortKey);
+
+        // Catch all cases involving missing values:
+        if (k1.isMissing() && k2.isMissing()) {
             return 0;
-        } else if (f1 == null) {
+        } else if (k1.isMissing()) {
             return multiplier;
-        } else if (f2 == null) {
+        } else if (k2.isMissing()) {
             return -multiplier;
         }
 
-        // Now we know that both f1 and f2 are != null
-        if (fieldType == FieldType.NAME) {
-            f1 = AuthorList.fixAuthorForAlphabetization(f1);
-            f2 = AuthorList.fixAuthorForAlphabetization(f2);
-        } else if (fieldType == FieldType.YEAR) {
-            Integer f1year = StringUtil.intValueOfOptional(f1).orElse(0);
-            Integer f2year = StringUtil.intValueOfOptional(f2).orElse(0);
-            int comparisonResult = Integer.compare(f1year, f2year);
-            return comparisonResult * multiplier;
-        } else if (fieldType == FieldType.MONTH) {
-            int month1 = Month.parse(f1).map(Month::getNumber).orElse(-1);
-            int month2 = Month.parse(f2).map(Month::getNumber).orElse(-1);
-            return Integer.compare(month1, month2) * multiplier;
+        if ((fieldType == FieldType.YEAR) || (fieldType == FieldType.MONTH)) {
+            return Integer.compare(k1.number, k2.number) * multiplier;
         }
 
         if (isNumeric) {
-            Optional<Integer> i1 = StringUtil.intValueOfOptional(f1);
-            Optional<Integer> i2 = StringUtil.intValueOfOptional(f2);
-
-            if ((i2.isPresent()) && (i1.isPresent())) {
-                // Ok, parsing was successful. Update f1 and f2:
-                return i1.get().compareTo(i2.get()) * multiplier;
-            } else if (i1.isPresent()) {
+            if (k1.isNumber() && k2.isNumber()) {
+                return Integer.compare(k1.number, k2.number) * multiplier;
+            } else if (k1.isNumber()) {
                 // The first one was parseable, but not the second one.
                 // This means we consider one < two
                 return -1 * multiplier;
-            } else if (i2.isPresent()) {
+            } else if (k2.isNumber()) {
                 // The second one was parseable, but not the first one.
                 // This means we consider one > two
                 return 1 * multiplier;
@@ -142,9 +154,7 @@ public class FieldComparator implements Comparator<BibEntry> {
             // Else none of them were parseable, and we can fall back on comparing strings.
         }
 
-        String ours = f1.toLowerCase(Locale.ENGLISH);
-        String theirs = f2.toLowerCase(Locale.ENGLISH);
-        return COLLATOR.compare(ours, theirs) * multiplier;
+        return k1.collationKey.compareTo(k2.collationKey) * multiplier;
     }
 
     /**
@@ -155,4 +165,36 @@ public class FieldComparator implements Comparator<BibEntry> {
     public String getFieldName() {
         return fieldName;
     }
+
+    /**
+     * The value of an entry prepared for comparison: either a number or a collation key of the lower case text
+     */
+    private static class SortKey {
+
+        private static final SortKey MISSING = new SortKey(0, null);
+
+        private final int number;
+        private final CollationKey collationKey;
+
+        SortKey(int number) {
+            this(number, null);
+        }
+
+        SortKey(CollationKey collationKey) {
+            this(0, collationKey);
+        }
+
+        private SortKey(int number, CollationKey collationKey) {
+            this.number = number;
+            this.collationKey = collationKey;
+        }
+
+        boolean isMissing() {
+            return this == MISSING;
+        }
+
+        boolean isNumber() {
+            return collationKey == null;
+        }
+    }
 }
@@ -44,7 +44,10 @@ public class BibtexKeyPatternUtil extends BracketedPattern {
         entry.setCiteKey(newKey);
     }
 
-    private static String makeLabel(AbstractBibtexKeyPattern citeKeyPattern, BibDatabase database, BibEntry entry, BibtexKeyPatternPreferences bibtexKeyPatternPreferences) {
+    /**
+     * Generates a BibTeX label according to the given pattern, which may be resolved once for several entries
+     */
+    public static String makeLabel(AbstractBibtexKeyPattern citeKeyPattern, BibDatabase database, BibEntry entry, BibtexKeyPatternPreferences bibtexKeyPatternPreferences) {
         String key;
         StringBuilder stringBuilder = new StringBuilder();
         try {
@@ -3,7 +3,7 @@ package org.jabref.logic.citationstyle;
 import java.util.Objects;
 
 import org.jabref.model.database.BibDatabaseContext;
-import org.jabref.model.database.event.EntryRemovedEvent;
+import org.jabref.model.database.event.EntriesRemovedEvent;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.event.EntryChangedEvent;
 
@@ -69,11 +69,11 @@ public class CitationStyleCache {
         }
 
         /**
-         * removes the citation of the removed entry as it's not needed anymore
+         * removes the citations of the removed entries as they are not needed anymore
          */
         @Subscribe
-        public void listen(EntryRemovedEvent entryRemovedEvent) {
-            citationStyleCache.invalidate(entryRemovedEvent.getBibEntry());
+        public void listen(EntriesRemovedEvent entriesRemovedEvent) {
+            citationStyleCache.invalidateAll(entriesRemovedEvent.getBibEntries());
         }
     }
 }
@@ -0,0 +1,138 @@
+package org.jabref.logic.citationstyle;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jabref.model.entry.BibEntry;
+
+import de.undercouch.citeproc.CSL;
+import de.undercouch.citeproc.ItemDataProvider;
+import de.undercouch.citeproc.csl.CSLItemData;
+import de.undercouch.citeproc.output.Bibliography;
+
+/**
+ * Keeps CSL engines for reuse, as creating an engine starts a JavaScript engine and parses the style, which takes much
+ * longer than generating a citation with an engine already running.
+ * <p>
+ * An engine is used by a single thread at a time, thus several engines may be created for the same style and output
+ * format if citations are generated concurrently. Only a few engines are kept after use, the least recently used ones
+ * are dropped.
+ */
+public class CitationStyleEnginePool {
+
+    private static final int DEFAULT_MAXIMUM_IDLE_ENGINES = 4;
+
+    private final int maximumIdleEngines;
+    // the most recently used engine first
+    private final Deque<Engine> idleEngines = new ArrayDeque<>();
+
+    public CitationStyleEnginePool() {
+        this(DEFAULT_MAXIMUM_IDLE_ENGINES);
+    }
+
+    public CitationStyleEnginePool(int maximumIdleEngines) {
+        this.maximumIdleEngines = maximumIdleEngines;
+    }
+
+    /**
+     * Generates the citations of all entries with one engine. The order of the citations is given by the style.
+     *
+     * @throws IOException if the style cannot be parsed
+     */
+    public List<String> generateCitations(List<BibEntry> bibEntries, String style, CitationStyleOutputFormat outputFormat)
+            throws IOException {
+        Engine engine = borrowEngine(style, outputFormat);
+        // an engine which failed is not reused, its state is unknown
+        List<String> citations = engine.generateCitations(bibEntries);
+        returnEngine(engine);
+        return citations;
+    }
+
+    /**
+     * Returns the number of engines kept for reuse
+     */
+    public synchronized int getNumberOfIdleEngines() {
+        return idleEngines.size();
+    }
+
+    private Engine borrowEngine(String style, CitationStyleOutputFormat outputFormat) throws IOException {
+        synchronized (this) {
+            Iterator<Engine> engines = idleEngines.iterator();
+            while (engines.hasNext()) {
+                Engine engine = engines.next();
+                if (engine.isFor(style, outputFormat)) {
+                    engines.remove();
+                    return engine;
+                }
+            }
+        }
+        // outside of the lock, as it takes long
+        return new Engine(style, outputFormat);
+    }
+
+    private synchronized void returnEngine(Engine engine) {
+        idleEngines.addFirst(engine);
+        while (idleEngines.size() > maximumIdleEngines) {
+            idleEngines.removeLast();
+        }
+    }
+
+    private static class Engine {
+
+        private final String style;
+        private final CitationStyleOutputFormat outputFormat;
+        private final ItemDataProviderBuffer itemDataProvider = new ItemDataProviderBuffer();
+        private final CSL csl;
+
+        Engine(String style, CitationStyleOutputFormat outputFormat) throws IOException {
+            this.style = style;
+            this.outputFormat = outputFormat;
+            csl = new CSL(itemDataProvider, style);
+            csl.setOutputFormat(outputFormat.getFormat());
+        }
+
+        boolean isFor(String style, CitationStyleOutputFormat outputFormat) {
+            return (this.outputFormat == outputFormat) && this.style.equals(style);
+        }
+
+        List<String> generateCitations(List<BibEntry> bibEntries) {
+            for (BibEntry bibEntry : bibEntries) {
+                CSLItemData item = CitationStyleGenerator.bibEntryToCSLItemData(bibEntry);
+                itemDataProvider.items.put(item.getId(), item);
+            }
+
+            csl.registerCitationItems(itemDataProvider.getIds());
+            Bibliography bibliography = csl.makeBibliography();
+
+            // unregister the items, so that they are retrieved again if the entries have changed until the next
+            // generation and the items of large exports are not kept in memory
+            itemDataProvider.items.clear();
+            csl.registerCitationItems();
+            return Arrays.asList(bibliography.getEntries());
+        }
+    }
+
+    /**
+     * Provides the items of the current generation
+     */
+    private static class ItemDataProviderBuffer implements ItemDataProvider {
+
+        private final Map<String, CSLItemData> items = new LinkedHashMap<>();
+
+        @Override
+        public CSLItemData retrieveItem(String id) {
+            return items.get(id);
+        }
+
+        @Override
+        public String[] getIds() {
+            return items.keySet().toArray(new String[items.size()]);
+        }
+    }
+}
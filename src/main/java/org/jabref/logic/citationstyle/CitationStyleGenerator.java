@@ -1,7 +1,6 @@
 package org.jabref.logic.citationstyle;
 
 import java.io.IOException;
-import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -9,10 +8,8 @@ import java.util.Optional;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.model.entry.BibEntry;
 
-import de.undercouch.citeproc.CSL;
 import de.undercouch.citeproc.bibtex.BibTeXConverter;
 import de.undercouch.citeproc.csl.CSLItemData;
-import de.undercouch.citeproc.output.Bibliography;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.jbibtex.BibTeXEntry;
@@ -28,6 +25,7 @@ public class CitationStyleGenerator {
 
     private static final Log LOGGER = LogFactory.getLog(CitationStyleGenerator.class);
     private static final BibTeXConverter BIBTEX_CONVERTER = new BibTeXConverter();
+    private static final CitationStyleEnginePool ENGINE_POOL = new CitationStyleEnginePool();
 
     private CitationStyleGenerator() {
     }
@@ -59,16 +57,11 @@ public class CitationStyleGenerator {
     /**
      * WARNING: the citation is generated using JavaScript which may take some time, better call it from outside the main Thread
      * Generates the citation for multiple entries at once. This is useful when the Citation Style has an increasing number
+     * The entries are rendered by a single engine, which is reused for the next call with the same style and format.
      */
     public static List<String> generateCitations(List<BibEntry> bibEntries, String style, CitationStyleOutputFormat outputFormat) {
         try {
-            CSLItemData[] cslItemData = new CSLItemData[bibEntries.size()];
-            for (int i = 0; i < bibEntries.size(); i++) {
-                cslItemData[i] = bibEntryToCSLItemData(bibEntries.get(i));
-            }
-            Bibliography bibliography = CSL.makeAdhocBibliography(style, outputFormat.getFormat(), cslItemData);
-            return Arrays.asList(bibliography.getEntries());
-
+            return ENGINE_POOL.generateCitations(bibEntries, style, outputFormat);
         } catch (IOException | ArrayIndexOutOfBoundsException e) {
             LOGGER.error("Could not generate BibEntry citation", e);
             return Collections.singletonList(Localization.lang("Cannot generate preview based on selected citation style."));
@@ -88,7 +81,7 @@ public class CitationStyleGenerator {
     /**
      * Converts the {@link BibEntry} into {@link CSLItemData}.
      */
-    private static CSLItemData bibEntryToCSLItemData(BibEntry bibEntry) {
+    static CSLItemData bibEntryToCSLItemData(BibEntry bibEntry) {
         String citeKey = bibEntry.getCiteKeyOptional().orElse("");
         BibTeXEntry bibTeXEntry = new BibTeXEntry(new Key(bibEntry.getType()), new Key(citeKey));
 
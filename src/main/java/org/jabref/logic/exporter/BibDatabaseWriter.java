@@ -181,7 +181,12 @@ public abstract class BibDatabaseWriter<E extends SaveSession> {
 
         // Write database entries.
         List<BibEntry> sortedEntries = getSortedEntries(bibDatabaseContext, entries, preferences);
-        List<FieldChange> saveActionChanges = applySaveActions(sortedEntries, bibDatabaseContext.getMetaData());
+        // Unchanged entries are written as they were, thus the save actions are only applied to the changed ones
+        List<BibEntry> entriesToClean = sortedEntries;
+        if (!preferences.isReformatFile()) {
+            entriesToClean = sortedEntries.stream().filter(BibEntry::hasChanged).collect(Collectors.toList());
+        }
+        List<FieldChange> saveActionChanges = applySaveActions(entriesToClean, bibDatabaseContext.getMetaData());
         session.addFieldChanges(saveActionChanges);
 
         for (BibEntry entry : sortedEntries) {
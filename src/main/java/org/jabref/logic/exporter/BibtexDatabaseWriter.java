@@ -1,6 +1,7 @@
 package org.jabref.logic.exporter;
 
 import java.io.IOException;
+import java.io.StringWriter;
 import java.io.Writer;
 import java.nio.charset.Charset;
 import java.util.Map;
@@ -10,11 +11,13 @@ import org.jabref.logic.bibtex.InvalidFieldValueException;
 import org.jabref.logic.bibtex.LatexFieldFormatter;
 import org.jabref.logic.bibtex.LatexFieldFormatterPreferences;
 import org.jabref.logic.util.OS;
+import org.jabref.model.EntryTypes;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.database.BibDatabaseMode;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibtexString;
 import org.jabref.model.entry.CustomEntryType;
+import org.jabref.model.entry.EntryType;
 import org.jabref.model.metadata.MetaData;
 import org.jabref.model.strings.StringUtil;
 
@@ -161,15 +164,43 @@ public class BibtexDatabaseWriter<E extends SaveSession> extends BibDatabaseWrit
     @Override
     protected void writeEntry(BibEntry entry, BibDatabaseMode mode, Boolean isReformatFile,
             LatexFieldFormatterPreferences latexFieldFormatterPreferences) throws SaveException {
-        BibEntryWriter bibtexEntryWriter = new BibEntryWriter(
-                new LatexFieldFormatter(latexFieldFormatterPreferences), true);
+        String serializationFormat = getSerializationFormat(entry, mode, latexFieldFormatterPreferences);
         try {
-            bibtexEntryWriter.write(entry, getWriter(), mode, isReformatFile);
+            // If the entry has not been modified, write it as it was
+            if (!isReformatFile && entry.hasSerializationInFormat(serializationFormat)) {
+                getWriter().write(entry.getParsedSerialization());
+                return;
+            }
+
+            long modificationCount = entry.getModificationCount();
+            StringWriter serialization = new StringWriter();
+            BibEntryWriter bibtexEntryWriter = new BibEntryWriter(
+                    new LatexFieldFormatter(latexFieldFormatterPreferences), true);
+            bibtexEntryWriter.write(entry, serialization, mode, true);
+            getWriter().write(serialization.toString());
+
+            // the next save can reuse the serialization as long as the entry does not change, once it is committed
+            getActiveSession().addEntrySerialization(entry, serialization.toString(), serializationFormat,
+                    modificationCount);
         } catch (IOException e) {
             throw new SaveException(e, entry);
         }
     }
 
+    /**
+     * Identifies the settings the serialization of an entry depends on, including the definition of its entry type,
+     * which determines the order of the fields
+     */
+    private static String getSerializationFormat(BibEntry entry, BibDatabaseMode mode,
+            LatexFieldFormatterPreferences latexFieldFormatterPreferences) {
+        EntryType type = EntryTypes.getTypeOrDefault(entry.getType(), mode);
+        return mode + ";" + type.getName() + ";" + type.getRequiredFieldsFlat() + ";" + type.getOptionalFields() + ";"
+                + latexFieldFormatterPreferences.isResolveStringsAllFields() + ";"
+                + latexFieldFormatterPreferences.getDoNotResolveStringsFor() + ";"
+                + latexFieldFormatterPreferences.getLineLength() + ";"
+                + latexFieldFormatterPreferences.getFieldContentParserPreferences().getNonWrappableFields();
+    }
+
     private Writer getWriter() {
         return getActiveSession().getWriter();
     }
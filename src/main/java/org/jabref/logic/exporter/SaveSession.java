@@ -8,6 +8,7 @@ import java.util.List;
 import java.util.Objects;
 
 import org.jabref.model.FieldChange;
+import org.jabref.model.entry.BibEntry;
 
 public abstract class SaveSession {
 
@@ -15,6 +16,7 @@ public abstract class SaveSession {
     protected final Charset encoding;
     protected final VerifyingWriter writer;
     private final List<FieldChange> undoableFieldChanges = new ArrayList<>();
+    private final List<EntrySerialization> entrySerializations = new ArrayList<>();
 
     protected SaveSession(Charset encoding, boolean backup, VerifyingWriter writer) {
         this.encoding = Objects.requireNonNull(encoding);
@@ -49,4 +51,42 @@ public abstract class SaveSession {
     public void addFieldChanges(List<FieldChange> newUndoableFieldChanges) {
         this.undoableFieldChanges.addAll(newUndoableFieldChanges);
     }
+
+    /**
+     * Remembers the serialization of an entry written in this session, see {@link #cacheEntrySerializations()}
+     */
+    public void addEntrySerialization(BibEntry entry, String serialization, String serializationFormat,
+            long modificationCountBeforeSerialization) {
+        entrySerializations.add(new EntrySerialization(entry, serialization, serializationFormat,
+                modificationCountBeforeSerialization));
+    }
+
+    /**
+     * Stores the serializations written in this session in the entries, so that the next save writes the entries which
+     * have not been changed in the meantime as they are. Call this only after the library has been committed to its
+     * own file, as the cached serializations are written as the library's content.
+     */
+    public void cacheEntrySerializations() {
+        for (EntrySerialization serialization : entrySerializations) {
+            serialization.entry.cacheSerialization(serialization.serialization, serialization.serializationFormat,
+                    serialization.modificationCountBeforeSerialization);
+        }
+        entrySerializations.clear();
+    }
+
+    private static class EntrySerialization {
+
+        private final BibEntry entry;
+        private final String serialization;
+        private final String serializationFormat;
+        private final long modificationCountBeforeSerialization;
+
+        EntrySerialization(BibEntry entry, String serialization, String serializationFormat,
+                long modificationCountBeforeSerialization) {
+            this.entry = entry;
+            this.serialization = serialization;
+            this.serializationFormat = serializationFormat;
+            this.modificationCountBeforeSerialization = modificationCountBeforeSerialization;
+        }
+    }
 }
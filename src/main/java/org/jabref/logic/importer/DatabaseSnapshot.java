@@ -0,0 +1,438 @@
+package org.jabref.logic.importer;
+
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.IllegalCharsetNameException;
+import java.nio.charset.StandardCharsets;
+import java.nio.charset.UnsupportedCharsetException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.jabref.logic.exporter.MetaDataSerializer;
+import org.jabref.logic.importer.util.MetaDataParser;
+import org.jabref.logic.util.BuildInfo;
+import org.jabref.model.bibtexkeypattern.GlobalBibtexKeyPattern;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.KeyCollisionException;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibtexString;
+import org.jabref.model.entry.CustomEntryType;
+import org.jabref.model.entry.EntryType;
+import org.jabref.model.metadata.MetaData;
+
+import com.google.common.hash.Hashing;
+import com.google.common.io.MoreFiles;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/**
+ * A binary snapshot of the result of parsing a bib file, so that a file which has not been changed since it was last
+ * opened is loaded without reading it with each encoding and parsing it again.
+ * <p>
+ * The snapshot contains the entries and strings together with their parsed serializations, the serialized meta data
+ * and the custom entry types. It is stored in the user's home directory, not next to the bib file, so that the
+ * directory of the bib file (which is often under version control) is not cluttered. The snapshot is only used if
+ * the size, the time of the last modification and the hash of the content of the file equal the ones of the parsed
+ * file, and if the file has been parsed with the same preferences and JabRef version. Otherwise, the file has to be
+ * parsed again.
+ * <p>
+ * A snapshot which does not match its file any more is deleted. Snapshots which have not been used for 30 days, e.g.,
+ * as their file has been moved or deleted, are deleted when another snapshot is stored.
+ * <p>
+ * Results with warnings are not stored, so that the warnings are shown again each time the file is opened.
+ */
+public class DatabaseSnapshot {
+
+    /**
+     * Files smaller than this (in bytes) are parsed about as fast as a snapshot is validated and loaded
+     */
+    public static final long MINIMUM_FILE_SIZE = 256 * 1024;
+
+    private static final Log LOGGER = LogFactory.getLog(DatabaseSnapshot.class);
+
+    private static final Path SNAPSHOT_DIRECTORY = Paths.get(System.getProperty("user.home"), ".jabref", "snapshots");
+    private static final String SNAPSHOT_FILE_EXTENSION = ".snapshot";
+    private static final int FORMAT_VERSION = 1;
+    // snapshots of files which have not been opened for this time, e.g., as they have been moved, are deleted
+    private static final long MAXIMUM_UNUSED_TIME = TimeUnit.DAYS.toMillis(30);
+    // the parser may change between versions, thus a snapshot is only valid for the version which has written it
+    private static final String JABREF_VERSION = new BuildInfo().getVersion().getFullVersion();
+    // the snapshot stores the meta data as written to the file, which does not depend on the global key pattern
+    private static final GlobalBibtexKeyPattern NO_GLOBAL_KEY_PATTERN = new GlobalBibtexKeyPattern(
+            Collections.emptyList());
+
+    private final Path snapshotFile;
+
+    /**
+     * @param snapshotFile the file the snapshot is stored in
+     */
+    DatabaseSnapshot(Path snapshotFile) {
+        this.snapshotFile = snapshotFile;
+    }
+
+    /**
+     * Returns the snapshot of the given bib file, which does not need to exist yet
+     */
+    public static DatabaseSnapshot of(Path databaseFile) {
+        String path = databaseFile.toAbsolutePath().normalize().toString();
+        return new DatabaseSnapshot(
+                SNAPSHOT_DIRECTORY.resolve(Hashing.sha256().hashString(path, StandardCharsets.UTF_8)
+                        + SNAPSHOT_FILE_EXTENSION));
+    }
+
+    /**
+     * Loads the stored result of parsing the given version of the file.
+     *
+     * @return the result or an empty optional if there is no snapshot of this version of the file parsed with the given
+     * preferences
+     */
+    public Optional<ParserResult> load(FileVersion version, ImportFormatPreferences importFormatPreferences) {
+        if (!Files.exists(snapshotFile)) {
+            return Optional.empty();
+        }
+
+        try {
+            Optional<ByteBuffer> content = readContent(version, importFormatPreferences);
+            if (!content.isPresent()) {
+                LOGGER.debug("Snapshot " + snapshotFile + " does not match " + version.path);
+                delete();
+                return Optional.empty();
+            }
+
+            ParserResult result = readParserResult(content.get(), importFormatPreferences);
+            result.setFile(version.path.toFile());
+            markAsUsed();
+            return Optional.of(result);
+        } catch (IOException | ArithmeticException | BufferUnderflowException | IllegalArgumentException
+                | KeyCollisionException | ParseException e) {
+            LOGGER.warn("Could not read snapshot " + snapshotFile + ", the file is parsed", e);
+            delete();
+            return Optional.empty();
+        }
+    }
+
+    private void delete() {
+        try {
+            Files.deleteIfExists(snapshotFile);
+        } catch (IOException e) {
+            LOGGER.debug("Could not delete snapshot " + snapshotFile, e);
+        }
+    }
+
+    /**
+     * Sets the time of the last modification of the snapshot to now, so that it is not deleted as unused
+     */
+    private void markAsUsed() {
+        try {
+            Files.setLastModifiedTime(snapshotFile, FileTime.fromMillis(System.currentTimeMillis()));
+        } catch (IOException e) {
+            LOGGER.debug("Could not update the time of the last modification of " + snapshotFile, e);
+        }
+    }
+
+    /**
+     * Reads the content following the header if the header matches the given version and preferences. The content is
+     * read into memory instead of mapping the file, as a mapped file is only released on garbage collection and cannot
+     * be replaced on some platforms until then.
+     */
+    private Optional<ByteBuffer> readContent(FileVersion version, ImportFormatPreferences importFormatPreferences)
+            throws IOException {
+        try (FileChannel channel = FileChannel.open(snapshotFile, StandardOpenOption.READ)) {
+            DataInputStream header = new DataInputStream(Channels.newInputStream(channel));
+            if ((header.readInt() != FORMAT_VERSION)
+                    || !getParserConfiguration(importFormatPreferences).equals(header.readUTF())
+                    || !version.path.toString().equals(header.readUTF())
+                    || (header.readLong() != version.size)
+                    || (header.readLong() != version.lastModified)
+                    || !version.contentHash.equals(header.readUTF())) {
+                return Optional.empty();
+            }
+
+            ByteBuffer content = ByteBuffer.allocate(Math.toIntExact(channel.size() - channel.position()));
+            while (content.hasRemaining()) {
+                if (channel.read(content) < 0) {
+                    // truncated, which is detected while reading the content
+                    break;
+                }
+            }
+            content.flip();
+            return Optional.of(content);
+        }
+    }
+
+    /**
+     * Stores the result of parsing the given version of the file. Nothing is stored if the result has warnings or if
+     * the file has been changed while it was parsed.
+     */
+    public void store(FileVersion version, ParserResult result, ImportFormatPreferences importFormatPreferences) {
+        if (result.isInvalid() || result.hasWarnings() || !isStorable(result.getEntryTypes())) {
+            return;
+        }
+
+        try {
+            if (!version.isCurrent()) {
+                LOGGER.debug(version.path + " has been changed while it was parsed, no snapshot is stored");
+                return;
+            }
+
+            Files.createDirectories(snapshotFile.getParent());
+            Path temporaryFile = snapshotFile.resolveSibling(snapshotFile.getFileName() + ".tmp");
+            try (DataOutputStream output = new DataOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(temporaryFile)))) {
+                output.writeInt(FORMAT_VERSION);
+                output.writeUTF(getParserConfiguration(importFormatPreferences));
+                output.writeUTF(version.path.toString());
+                output.writeLong(version.size);
+                output.writeLong(version.lastModified);
+                output.writeUTF(version.contentHash);
+                writeParserResult(output, result);
+            }
+            Files.move(temporaryFile, snapshotFile, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            LOGGER.warn("Could not store snapshot " + snapshotFile, e);
+        }
+        deleteUnusedSnapshots();
+    }
+
+    /**
+     * Deletes the other snapshots in the directory of this snapshot which have neither been stored nor loaded for
+     * {@link #MAXIMUM_UNUSED_TIME}. This is done when storing, as a new snapshot is only stored after the file has
+     * been parsed, which takes longer anyway.
+     */
+    private void deleteUnusedSnapshots() {
+        long oldestUse = System.currentTimeMillis() - MAXIMUM_UNUSED_TIME;
+        try (DirectoryStream<Path> snapshots = Files.newDirectoryStream(snapshotFile.getParent(),
+                "*" + SNAPSHOT_FILE_EXTENSION)) {
+            for (Path snapshot : snapshots) {
+                if (!snapshot.equals(snapshotFile)
+                        && (Files.getLastModifiedTime(snapshot).toMillis() < oldestUse)) {
+                    Files.deleteIfExists(snapshot);
+                }
+            }
+        } catch (IOException e) {
+            LOGGER.debug("Could not delete unused snapshots", e);
+        }
+    }
+
+    /**
+     * Returns the preferences the result of the parser depends on
+     */
+    private static String getParserConfiguration(ImportFormatPreferences importFormatPreferences) {
+        return JABREF_VERSION + '\n' + importFormatPreferences.getEncoding() + '\n'
+                + importFormatPreferences.getKeywordSeparator() + '\n'
+                + importFormatPreferences.getFieldContentParserPreferences().getNonWrappableFields() + '\n'
+                + importFormatPreferences.isKeywordSyncEnabled();
+    }
+
+    private static boolean isStorable(Map<String, EntryType> entryTypes) {
+        // the parser only creates custom entry types, which can be written as they are written to the file
+        return entryTypes.values().stream().allMatch(type -> type instanceof CustomEntryType);
+    }
+
+    private static void writeParserResult(DataOutputStream output, ParserResult result) throws IOException {
+        BibDatabase database = result.getDatabase();
+        MetaData metaData = result.getMetaData();
+
+        writeString(output, metaData.getEncoding().map(Charset::name).orElse(null));
+        writeString(output, database.getSharedDatabaseID().orElse(null));
+        writeString(output, database.getPreamble().orElse(null));
+        writeString(output, database.getEpilog());
+
+        Map<String, String> serializedMetaData = MetaDataSerializer.getSerializedStringMap(metaData,
+                NO_GLOBAL_KEY_PATTERN);
+        output.writeInt(serializedMetaData.size());
+        for (Map.Entry<String, String> metaItem : serializedMetaData.entrySet()) {
+            writeString(output, metaItem.getKey());
+            writeString(output, metaItem.getValue());
+        }
+
+        output.writeInt(result.getEntryTypes().size());
+        for (EntryType type : result.getEntryTypes().values()) {
+            writeString(output, ((CustomEntryType) type).getAsString());
+        }
+
+        output.writeInt(result.getDuplicateKeys().size());
+        for (String key : result.getDuplicateKeys()) {
+            writeString(output, key);
+        }
+
+        List<BibtexString> strings = new ArrayList<>(database.getStringValues());
+        output.writeInt(strings.size());
+        for (BibtexString string : strings) {
+            writeString(output, string.getName());
+            writeString(output, string.getContent());
+            writeString(output, string.hasChanged() ? null : string.getParsedSerialization());
+        }
+
+        List<BibEntry> entries = database.getEntries();
+        output.writeInt(entries.size());
+        for (BibEntry entry : entries) {
+            writeString(output, entry.getType());
+            writeString(output, entry.getParsedSerialization());
+            writeString(output, entry.getUserComments());
+            output.writeBoolean(entry.hasChanged());
+
+            Map<String, String> fields = entry.getFieldMap();
+            output.writeInt(fields.size());
+            for (Map.Entry<String, String> field : fields.entrySet()) {
+                writeString(output, field.getKey());
+                writeString(output, field.getValue());
+            }
+        }
+    }
+
+    private static ParserResult readParserResult(ByteBuffer input, ImportFormatPreferences importFormatPreferences)
+            throws ParseException {
+        BibDatabase database = new BibDatabase();
+        Map<String, EntryType> entryTypes = new HashMap<>();
+
+        String encoding = readString(input);
+        database.setSharedDatabaseID(readString(input));
+        database.setPreamble(readString(input));
+        database.setEpilog(readString(input));
+
+        int numberOfMetaItems = input.getInt();
+        Map<String, String> serializedMetaData = new HashMap<>();
+        for (int i = 0; i < numberOfMetaItems; i++) {
+            serializedMetaData.put(readString(input), readString(input));
+        }
+        MetaData metaData = MetaDataParser.parse(serializedMetaData, importFormatPreferences.getKeywordSeparator());
+        if (encoding != null) {
+            try {
+                metaData.setEncoding(Charset.forName(encoding));
+            } catch (IllegalCharsetNameException | UnsupportedCharsetException e) {
+                throw new ParseException("Unknown encoding " + encoding, e);
+            }
+        }
+
+        int numberOfEntryTypes = input.getInt();
+        for (int i = 0; i < numberOfEntryTypes; i++) {
+            String definition = readString(input);
+            CustomEntryType type = CustomEntryType.parse(definition)
+                    .orElseThrow(() -> new ParseException("Ill-formed entry type " + definition));
+            entryTypes.put(type.getName(), type);
+        }
+
+        ParserResult result = new ParserResult(database, metaData, entryTypes);
+
+        int numberOfDuplicateKeys = input.getInt();
+        for (int i = 0; i < numberOfDuplicateKeys; i++) {
+            result.addDuplicateKey(readString(input));
+        }
+
+        int numberOfStrings = input.getInt();
+        for (int i = 0; i < numberOfStrings; i++) {
+            BibtexString string = new BibtexString(readString(input), readString(input));
+            String parsedSerialization = readString(input);
+            if (parsedSerialization != null) {
+                string.setParsedSerialization(parsedSerialization);
+            }
+            database.addString(string);
+        }
+
+        int numberOfEntries = input.getInt();
+        List<BibEntry> entries = new ArrayList<>(numberOfEntries);
+        for (int i = 0; i < numberOfEntries; i++) {
+            BibEntry entry = new BibEntry(readString(input));
+            String parsedSerialization = readString(input);
+            entry.setCommentsBeforeEntry(readString(input));
+            boolean hasChanged = input.get() != 0;
+
+            int numberOfFields = input.getInt();
+            for (int j = 0; j < numberOfFields; j++) {
+                entry.setField(readString(input), readString(input));
+            }
+
+            entry.setParsedSerialization(parsedSerialization);
+            entry.setChanged(hasChanged);
+            entries.add(entry);
+        }
+        // inserted at once, as the parallel parser does
+        database.insertEntries(entries);
+
+        return result;
+    }
+
+    /**
+     * Writes the length of the UTF-8 encoded string (-1 for null) followed by the encoded string. In contrast to
+     * {@link DataOutputStream#writeUTF(String)}, the string may be longer than 64 KB.
+     */
+    private static void writeString(DataOutputStream output, String string) throws IOException {
+        if (string == null) {
+            output.writeInt(-1);
+            return;
+        }
+
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    private static String readString(ByteBuffer input) {
+        int length = input.getInt();
+        if (length < 0) {
+            return null;
+        }
+
+        byte[] bytes = new byte[length];
+        input.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Identifies the content of a file by its size, the time of its last modification and the hash of its content.
+     */
+    public static class FileVersion {
+
+        private final Path path;
+        private final long size;
+        private final long lastModified;
+        private final String contentHash;
+
+        private FileVersion(Path path, long size, long lastModified, String contentHash) {
+            this.path = path;
+            this.size = size;
+            this.lastModified = lastModified;
+            this.contentHash = contentHash;
+        }
+
+        /**
+         * Reads the current version of the given file. The hash is computed before the file is parsed, so that a
+         * change during the parsing leads to a snapshot which does not match the changed file.
+         */
+        public static FileVersion of(Path file) throws IOException {
+            Path path = file.toAbsolutePath().normalize();
+            BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            String contentHash = MoreFiles.asByteSource(path).hash(Hashing.sha256()).toString();
+            return new FileVersion(path, attributes.size(), attributes.lastModifiedTime().toMillis(), contentHash);
+        }
+
+        /**
+         * Returns whether the size and the time of the last modification of the file are still the same
+         */
+        boolean isCurrent() throws IOException {
+            BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            return (attributes.size() == size) && (attributes.lastModifiedTime().toMillis() == lastModified);
+        }
+    }
+}
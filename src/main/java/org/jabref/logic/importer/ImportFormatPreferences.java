@@ -15,16 +15,19 @@ public class ImportFormatPreferences {
     private final BibtexKeyPatternPreferences bibtexKeyPatternPreferences;
     private final FieldContentParserPreferences fieldContentParserPreferences;
     private final boolean keywordSyncEnabled;
+    private final boolean databaseSnapshotEnabled;
 
     public ImportFormatPreferences(Set<CustomImporter> customImportList, Charset encoding, Character keywordSeparator,
             BibtexKeyPatternPreferences bibtexKeyPatternPreferences,
-            FieldContentParserPreferences fieldContentParserPreferences, boolean keywordSyncEnabled) {
+            FieldContentParserPreferences fieldContentParserPreferences, boolean keywordSyncEnabled,
+            boolean databaseSnapshotEnabled) {
         this.customImportList = customImportList;
         this.encoding = encoding;
         this.keywordSeparator = keywordSeparator;
         this.bibtexKeyPatternPreferences = bibtexKeyPatternPreferences;
         this.fieldContentParserPreferences = fieldContentParserPreferences;
         this.keywordSyncEnabled = keywordSyncEnabled;
+        this.databaseSnapshotEnabled = databaseSnapshotEnabled;
     }
 
     /**
@@ -53,7 +56,7 @@ public class ImportFormatPreferences {
 
     public ImportFormatPreferences withEncoding(Charset newEncoding) {
         return new ImportFormatPreferences(customImportList, newEncoding, keywordSeparator, bibtexKeyPatternPreferences,
-                fieldContentParserPreferences, keywordSyncEnabled);
+                fieldContentParserPreferences, keywordSyncEnabled, databaseSnapshotEnabled);
     }
 
     /**
@@ -63,4 +66,11 @@ public class ImportFormatPreferences {
     public boolean isKeywordSyncEnabled() {
         return keywordSyncEnabled;
     }
+
+    /**
+     * @return whether opened files are loaded from and stored in a {@link DatabaseSnapshot}
+     */
+    public boolean isDatabaseSnapshotEnabled() {
+        return databaseSnapshotEnabled;
+    }
 }
@@ -2,10 +2,13 @@ package org.jabref.logic.importer;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 
 import org.jabref.logic.importer.fileformat.BibtexImporter;
+import org.jabref.logic.importer.fileformat.ParallelBibtexParser;
 import org.jabref.logic.importer.util.ConvertLegacyExplicitGroups;
 import org.jabref.logic.importer.util.PostOpenAction;
 import org.jabref.logic.l10n.Localization;
@@ -65,12 +68,47 @@ public class OpenDatabase {
     }
 
     /**
-     * Opens a new database.
+     * Opens a new database. If enabled, the result is taken from the {@link DatabaseSnapshot} of the file if the file
+     * has not been changed since the snapshot was stored.
      */
     public static ParserResult loadDatabase(File fileToOpen, ImportFormatPreferences importFormatPreferences)
             throws IOException {
-        ParserResult result = new BibtexImporter(importFormatPreferences).importDatabase(fileToOpen.toPath(),
-                importFormatPreferences.getEncoding());
+        ParserResult result;
+        if (importFormatPreferences.isDatabaseSnapshotEnabled()
+                && (fileToOpen.length() >= DatabaseSnapshot.MINIMUM_FILE_SIZE)) {
+            result = loadDatabaseUsingSnapshot(fileToOpen.toPath(), importFormatPreferences);
+        } else {
+            result = parseDatabase(fileToOpen, importFormatPreferences);
+        }
+
+        applyPostActions(result);
+
+        return result;
+    }
+
+    private static ParserResult loadDatabaseUsingSnapshot(Path fileToOpen,
+            ImportFormatPreferences importFormatPreferences) throws IOException {
+        DatabaseSnapshot snapshot = DatabaseSnapshot.of(fileToOpen);
+        DatabaseSnapshot.FileVersion version = DatabaseSnapshot.FileVersion.of(fileToOpen);
+        Optional<ParserResult> storedResult = snapshot.load(version, importFormatPreferences);
+        if (storedResult.isPresent()) {
+            LOGGER.debug("Loaded " + fileToOpen + " from its snapshot");
+            return storedResult.get();
+        }
+
+        ParserResult result = parseDatabase(fileToOpen.toFile(), importFormatPreferences);
+        snapshot.store(version, result, importFormatPreferences);
+        return result;
+    }
+
+    /**
+     * Parses the file and synchronizes the special fields, i.e., creates the result stored in a snapshot
+     */
+    private static ParserResult parseDatabase(File fileToOpen, ImportFormatPreferences importFormatPreferences)
+            throws IOException {
+        boolean parseInParallel = fileToOpen.length() >= ParallelBibtexParser.MINIMUM_FILE_SIZE;
+        ParserResult result = new BibtexImporter(importFormatPreferences, parseInParallel)
+                .importDatabase(fileToOpen.toPath(), importFormatPreferences.getEncoding());
 
         if (importFormatPreferences.isKeywordSyncEnabled()) {
             for (BibEntry entry : result.getDatabase().getEntries()) {
@@ -79,8 +117,6 @@ public class OpenDatabase {
             LOGGER.debug("Synchronized special fields based on keywords");
         }
 
-        applyPostActions(result);
-
         return result;
     }
 
@@ -25,10 +25,19 @@ public class BibtexImporter extends Importer {
     private static final String SIGNATURE = "This file was created with JabRef";
 
     private final ImportFormatPreferences importFormatPreferences;
+    private final boolean parseInParallel;
 
 
     public BibtexImporter(ImportFormatPreferences importFormatPreferences) {
+        this(importFormatPreferences, false);
+    }
+
+    /**
+     * @param parseInParallel whether to use a {@link ParallelBibtexParser}, which only pays off for large files
+     */
+    public BibtexImporter(ImportFormatPreferences importFormatPreferences, boolean parseInParallel) {
         this.importFormatPreferences = importFormatPreferences;
+        this.parseInParallel = parseInParallel;
     }
     /**
      * @return true as we have no effective way to decide whether a file is in bibtex format or not. See
@@ -67,6 +76,9 @@ public class BibtexImporter extends Importer {
 
     @Override
     public ParserResult importDatabase(BufferedReader reader) throws IOException {
+        if (parseInParallel) {
+            return new ParallelBibtexParser(importFormatPreferences).parse(reader);
+        }
         return new BibtexParser(importFormatPreferences).parse(reader);
     }
 
@@ -4,14 +4,11 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
-import java.io.PushbackReader;
 import java.io.Reader;
 import java.io.StringReader;
 import java.nio.charset.StandardCharsets;
 import java.util.Collection;
-import java.util.Deque;
 import java.util.HashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -59,16 +56,23 @@ import org.apache.commons.logging.LogFactory;
 public class BibtexParser implements Parser {
 
     private static final Log LOGGER = LogFactory.getLog(BibtexParser.class);
-    private static final Integer LOOKAHEAD = 64;
+    static final int LOOKAHEAD = 64;
     private final FieldContentParser fieldContentParser;
-    private final Deque<Character> pureTextFromFile = new LinkedList<>();
     private final ImportFormatPreferences importFormatPreferences;
-    private PushbackReader pushbackReader;
+    private MarkedCharBuffer buffer;
     private BibDatabase database;
     private Map<String, EntryType> entryTypes;
     private boolean eof;
     private int line = 1;
     private ParserResult parserResult;
+    /**
+     * Collects the parsed items if only a part of a file is parsed, null otherwise
+     */
+    private ParsedChunk chunk;
+    /**
+     * Whether the parser is inside an item, i.e., between the @ and the end of the item
+     */
+    private boolean parsingItem;
 
 
     public BibtexParser(ImportFormatPreferences importFormatPreferences) {
@@ -137,7 +141,11 @@ public class BibtexParser implements Parser {
      */
     public ParserResult parse(Reader in) throws IOException {
         Objects.requireNonNull(in);
-        pushbackReader = new PushbackReader(in, BibtexParser.LOOKAHEAD);
+        return parse(MarkedCharBuffer.of(in, BibtexParser.LOOKAHEAD));
+    }
+
+    ParserResult parse(MarkedCharBuffer content) throws IOException {
+        buffer = content;
 
         // Bibtex related contents.
         initializeParserResult();
@@ -153,6 +161,29 @@ public class BibtexParser implements Parser {
         }
     }
 
+    /**
+     * Parses a part of a file starting at the beginning of the file or at an @ which starts an item. In contrast to
+     * {@link #parse(Reader)}, the entries and strings are not added to the database, the meta data is not parsed and
+     * the text after the last item is not stored as epilog. This is left to {@link ParallelBibtexParser}, which merges
+     * the chunks.
+     */
+    ParsedChunk parseChunk(MarkedCharBuffer content) throws IOException {
+        buffer = content;
+        chunk = new ParsedChunk();
+
+        initializeParserResult();
+        chunk.setParserResult(parserResult);
+
+        parseDatabaseID();
+
+        skipWhitespace();
+
+        parseItems(chunk.getMeta());
+
+        chunk.setRemainingText(getPureTextFromFile());
+        return chunk;
+    }
+
     private void initializeParserResult() {
         database = new BibDatabase();
         entryTypes = new HashMap<>(); // To store custom entry types parsed.
@@ -183,19 +214,39 @@ public class BibtexParser implements Parser {
     private ParserResult parseFileContent() throws IOException {
         Map<String, String> meta = new HashMap<>();
 
+        parseItems(meta);
+
+        // Instantiate meta data:
+        try {
+            parserResult.setMetaData(MetaDataParser.parse(meta, importFormatPreferences.getKeywordSeparator()));
+        } catch (ParseException exception) {
+            parserResult.addException(exception);
+        }
+
+        parseRemainingContent();
+
+        return parserResult;
+    }
+
+    private void parseItems(Map<String, String> meta) throws IOException {
         while (!eof) {
             boolean found = consumeUncritically('@');
             if (!found) {
                 break;
             }
 
+            parsingItem = true;
             skipWhitespace();
 
             // Try to read the entry type
             String entryType = parseTextToken().toLowerCase(Locale.ROOT).trim();
 
             if ("preamble".equals(entryType)) {
-                database.setPreamble(parsePreamble());
+                String preamble = parsePreamble();
+                database.setPreamble(preamble);
+                if (chunk != null) {
+                    chunk.setPreamble(preamble);
+                }
                 // Consume new line which signals end of preamble
                 skipOneNewline();
                 // the preamble is saved verbatim anyways, so the text read so far can be dropped
@@ -208,20 +259,10 @@ public class BibtexParser implements Parser {
                 // Not a comment, preamble, or string. Thus, it is an entry
                 parseAndAddEntry(entryType);
             }
+            parsingItem = false;
 
             skipWhitespace();
         }
-
-        // Instantiate meta data:
-        try {
-            parserResult.setMetaData(MetaDataParser.parse(meta, importFormatPreferences.getKeywordSeparator()));
-        } catch (ParseException exception) {
-            parserResult.addException(exception);
-        }
-
-        parseRemainingContent();
-
-        return parserResult;
     }
 
     private void parseRemainingContent() {
@@ -236,6 +277,7 @@ public class BibtexParser implements Parser {
          * for the user.
          */
         try {
+            boolean firstTextOfChunk = isFirstTextOfChunk();
             // collect all comments and the entry type definition in front of the actual entry
             // this is at least `@Type`
             String commentsAndEntryTypeDefinition = dumpTextReadSoFarToString();
@@ -247,6 +289,11 @@ public class BibtexParser implements Parser {
             // store complete parsed serialization (comments, type definition + type contents)
             entry.setParsedSerialization(commentsAndEntryTypeDefinition + dumpTextReadSoFarToString());
 
+            if (chunk != null) {
+                chunk.addEntry(entry, firstTextOfChunk);
+                return;
+            }
+
             boolean duplicateKey = database.insertEntry(entry);
             if (duplicateKey) {
                 parserResult.addDuplicateKey(entry.getCiteKey());
@@ -310,7 +357,12 @@ public class BibtexParser implements Parser {
 
     private void parseBibtexString() throws IOException {
         BibtexString bibtexString = parseString();
+        boolean firstTextOfChunk = isFirstTextOfChunk();
         bibtexString.setParsedSerialization(dumpTextReadSoFarToString());
+        if (chunk != null) {
+            chunk.addString(bibtexString, firstTextOfChunk);
+            return;
+        }
         try {
             database.addString(bibtexString);
         } catch (KeyCollisionException ex) {
@@ -325,7 +377,21 @@ public class BibtexParser implements Parser {
      * @return the text read so far
      */
     private String dumpTextReadSoFarToString() {
-        String result = getPureTextFromFile();
+        String text = getPureTextFromFile();
+        if (chunk != null) {
+            chunk.textDumped(text);
+        }
+        return removeFileHeader(text);
+    }
+
+    private boolean isFirstTextOfChunk() {
+        return (chunk != null) && !chunk.hasDumpedText();
+    }
+
+    /**
+     * Removes the JabRef file header from the text read so far, see {@link #dumpTextReadSoFarToString()}
+     */
+    static String removeFileHeader(String result) {
         int indexOfAt = result.indexOf("@");
 
         // if there is no entry found, simply return the content (necessary to parse text remaining after the last entry)
@@ -340,7 +406,7 @@ public class BibtexParser implements Parser {
         }
     }
 
-    private String purge(String context, String stringToPurge) {
+    private static String purge(String context, String stringToPurge) {
         // purge the encoding line if it exists
         int runningIndex = context.indexOf(stringToPurge);
         int indexOfAt = context.indexOf("@");
@@ -359,12 +425,7 @@ public class BibtexParser implements Parser {
     }
 
     private String getPureTextFromFile() {
-        StringBuilder entry = new StringBuilder();
-        while (!pureTextFromFile.isEmpty()) {
-            entry.append(pureTextFromFile.pollFirst());
-        }
-
-        return entry.toString();
+        return buffer.getTextSinceMark();
     }
 
     /**
@@ -372,7 +433,7 @@ public class BibtexParser implements Parser {
      *
      * @return a String without eof characters
      */
-    private String purgeEOFCharacters(String input) {
+    private static String purgeEOFCharacters(String input) {
 
         StringBuilder remainingText = new StringBuilder();
         for (Character character : input.toCharArray()) {
@@ -421,6 +482,8 @@ public class BibtexParser implements Parser {
     }
 
     private void skipOneNewline() throws IOException {
+        // the item is complete, the new line belongs to it only if there is one
+        parsingItem = false;
         skipSpace();
         if (peek() == '\r') {
             read();
@@ -430,7 +493,7 @@ public class BibtexParser implements Parser {
         }
     }
 
-    private boolean isEOFCharacter(int character) {
+    private static boolean isEOFCharacter(int character) {
         return (character == -1) || (character == 65535);
     }
 
@@ -460,20 +523,15 @@ public class BibtexParser implements Parser {
     }
 
     private int peek() throws IOException {
-        int character = read();
-        unread(character);
-
-        return character;
+        return buffer.peek();
     }
 
     private int read() throws IOException {
-        int character = pushbackReader.read();
-
-        if (!isEOFCharacter(character)) {
-            pureTextFromFile.offerLast((char) character);
-        }
+        int character = buffer.read();
         if (character == '\n') {
             line++;
+        } else if (parsingItem && (chunk != null) && isEOFCharacter(character)) {
+            chunk.setEndReachedInItem();
         }
         return character;
     }
@@ -482,10 +540,7 @@ public class BibtexParser implements Parser {
         if (character == '\n') {
             line--;
         }
-        pushbackReader.unread(character);
-        if (pureTextFromFile.getLast() == character) {
-            pureTextFromFile.pollLast();
-        }
+        buffer.unread(character);
     }
 
     private BibtexString parseString() throws IOException {
@@ -0,0 +1,204 @@
+package org.jabref.logic.importer.fileformat;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+
+/**
+ * Input of the {@link BibtexParser}: the complete content of a reader held in a single char array.
+ * <p>
+ * The buffer replaces a {@link java.io.PushbackReader} which additionally records every character read since the last
+ * call of {@link #getTextSinceMark()}. Instead of recording (and boxing) each character, the buffer only remembers the
+ * offset of the mark, so the recorded text is a slice of the array and lookahead is a simple array access.
+ * <p>
+ * Unreading a character which was not the one read last can not be represented by moving the offset back. This only
+ * happens in the error recovery of the parser. In that case the character is kept on a separate pushback stack and the
+ * recorded text is copied, so that the behavior is exactly the same as the one of a recording pushback reader.
+ */
+class MarkedCharBuffer {
+
+    static final int EOF = -1;
+    /**
+     * The character returned by {@link java.io.PushbackReader#read()} after {@link #EOF} has been unread
+     */
+    private static final char UNREAD_EOF = (char) EOF;
+
+    private final char[] buffer;
+    /**
+     * End of the content (exclusive), the buffer may hold more characters
+     */
+    private final int length;
+    private final int lookahead;
+
+    private int position;
+    private int markPosition;
+    /**
+     * Text recorded before the current mark position; only used after the recorded text had to be copied
+     */
+    private StringBuilder recordedPrefix;
+    /**
+     * Characters unread in a different order than they were read, top of the stack at the highest index
+     */
+    private char[] pushback = new char[0];
+    private int pushbackSize;
+    /**
+     * Number of characters unread, but not read again. Limited by lookahead as with a pushback reader.
+     */
+    private int unreadCount;
+
+    MarkedCharBuffer(char[] buffer, int length, int lookahead) {
+        this(buffer, 0, length, lookahead);
+    }
+
+    private MarkedCharBuffer(char[] buffer, int start, int length, int lookahead) {
+        this.buffer = buffer;
+        this.length = length;
+        this.lookahead = lookahead;
+        this.position = start;
+        this.markPosition = start;
+    }
+
+    /**
+     * Reads the complete content of the reader into a new buffer. The reader is not closed.
+     */
+    static MarkedCharBuffer of(Reader reader, int lookahead) throws IOException {
+        char[] content = new char[8192];
+        int length = 0;
+        int read;
+        while ((read = reader.read(content, length, content.length - length)) != -1) {
+            length += read;
+            if (length == content.length) {
+                content = Arrays.copyOf(content, content.length * 2);
+            }
+        }
+        return new MarkedCharBuffer(content, length, lookahead);
+    }
+
+    /**
+     * Returns a new buffer reading the characters from start (inclusive) to end (exclusive) of this buffer's content.
+     * The content is shared, thus creating a slice is cheap.
+     */
+    MarkedCharBuffer slice(int start, int end) {
+        return new MarkedCharBuffer(buffer, start, end, lookahead);
+    }
+
+    /**
+     * Returns the end of the content (exclusive), which is the number of characters unless this buffer is a slice.
+     */
+    int length() {
+        return length;
+    }
+
+    /**
+     * Returns the character at the given index of the content independent of the current position.
+     */
+    char charAt(int index) {
+        return buffer[index];
+    }
+
+    private static boolean isEOFCharacter(int character) {
+        return (character == EOF) || (character == UNREAD_EOF);
+    }
+
+    /**
+     * Reads the next character and records it (unless it is an EOF character).
+     *
+     * @return the character or {@link #EOF} if the end of the buffer has been reached
+     */
+    int read() {
+        if (unreadCount > 0) {
+            unreadCount--;
+        }
+
+        if (pushbackSize > 0) {
+            char character = pushback[--pushbackSize];
+            if (!isEOFCharacter(character)) {
+                copyRecordedText().append(character);
+            }
+            return character;
+        }
+
+        if (position >= length) {
+            return EOF;
+        }
+
+        char character = buffer[position];
+        if (isEOFCharacter(character)) {
+            // EOF characters are not recorded, thus the slice has to be interrupted
+            copyRecordedText();
+            markPosition = position + 1;
+        }
+        position++;
+        return character;
+    }
+
+    /**
+     * Returns the next character without consuming it.
+     */
+    int peek() throws IOException {
+        if ((pushbackSize == 0) && (position < length) && !isEOFCharacter(buffer[position])) {
+            // reading and unreading the character would leave it in the pushback buffer
+            unreadCount = Math.max(unreadCount, 1);
+            return buffer[position];
+        }
+
+        int character = read();
+        unread(character);
+        return character;
+    }
+
+    /**
+     * Pushes the character back, so that it is returned by the next call of {@link #read()}. If it is the last recorded
+     * character, it is removed from the recorded text.
+     */
+    void unread(int character) throws IOException {
+        if (unreadCount >= lookahead) {
+            throw new IOException("Pushback buffer overflow");
+        }
+        unreadCount++;
+
+        if ((pushbackSize == 0) && (position > markPosition) && (buffer[position - 1] == character)) {
+            // the usual case: the character read last is put back
+            position--;
+            return;
+        }
+
+        if (pushbackSize == pushback.length) {
+            pushback = Arrays.copyOf(pushback, Math.max(lookahead, 1));
+        }
+        pushback[pushbackSize++] = (char) character;
+
+        StringBuilder recordedText = copyRecordedText();
+        int last = recordedText.length() - 1;
+        if ((last >= 0) && (recordedText.charAt(last) == character)) {
+            recordedText.setLength(last);
+        }
+    }
+
+    /**
+     * Returns all characters recorded since the last call of this method and sets the mark to the current position.
+     */
+    String getTextSinceMark() {
+        String text;
+        if (recordedPrefix == null) {
+            text = new String(buffer, markPosition, position - markPosition);
+        } else {
+            text = recordedPrefix.append(buffer, markPosition, position - markPosition).toString();
+            recordedPrefix = null;
+        }
+        markPosition = position;
+        return text;
+    }
+
+    /**
+     * Moves the text recorded so far into the prefix, which allows modifying it independently of the buffer.
+     */
+    private StringBuilder copyRecordedText() {
+        if (recordedPrefix == null) {
+            recordedPrefix = new StringBuilder();
+        }
+        recordedPrefix.append(buffer, markPosition, position - markPosition);
+        markPosition = position;
+        return recordedPrefix;
+    }
+}
@@ -0,0 +1,202 @@
+package org.jabref.logic.importer.fileformat;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import org.jabref.logic.importer.ImportFormatPreferences;
+import org.jabref.logic.importer.ParseException;
+import org.jabref.logic.importer.ParserResult;
+import org.jabref.logic.importer.util.MetaDataParser;
+import org.jabref.logic.l10n.Localization;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.KeyCollisionException;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibtexString;
+import org.jabref.model.entry.EntryType;
+import org.jabref.model.metadata.MetaData;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/**
+ * Parses large BibTeX files using all available cores.
+ * <p>
+ * The file is split into chunks at @ characters which start a line and are not enclosed in braces. The chunks are
+ * parsed by separate {@link BibtexParser}s on the common fork-join pool and merged in file order. Strings, entries,
+ * the preamble, meta data and custom entry types are merged the same way the sequential parser processes them, thus
+ * duplicate keys and duplicate string names are reported as usual.
+ * <p>
+ * The prescan is only a heuristic. If a chunk boundary does not match the one of the sequential parser (e.g., an @ at
+ * the start of a line inside a quoted field) or if any chunk contains a parse error, the file is parsed again
+ * sequentially, so that the result is always the same as the one of {@link BibtexParser}.
+ */
+public class ParallelBibtexParser {
+
+    /**
+     * Files smaller than this (in bytes) are parsed faster by a single {@link BibtexParser}
+     */
+    public static final long MINIMUM_FILE_SIZE = 1024 * 1024;
+
+    /**
+     * Chunks are at least this large (in characters), otherwise the merge does not pay off
+     */
+    private static final int MINIMUM_CHUNK_SIZE = 256 * 1024;
+
+    private static final Log LOGGER = LogFactory.getLog(ParallelBibtexParser.class);
+
+    private static final char UNREAD_EOF = (char) MarkedCharBuffer.EOF;
+
+    private final ImportFormatPreferences importFormatPreferences;
+    private final int parallelism;
+    private final int minimumChunkSize;
+
+    public ParallelBibtexParser(ImportFormatPreferences importFormatPreferences) {
+        this(importFormatPreferences, ForkJoinPool.getCommonPoolParallelism(), MINIMUM_CHUNK_SIZE);
+    }
+
+    ParallelBibtexParser(ImportFormatPreferences importFormatPreferences, int parallelism, int minimumChunkSize) {
+        this.importFormatPreferences = Objects.requireNonNull(importFormatPreferences);
+        this.parallelism = Math.max(parallelism, 1);
+        this.minimumChunkSize = minimumChunkSize;
+    }
+
+    /**
+     * Returns the start indices of the chunks (including 0), each chunk but the first starting with an @.
+     *
+     * @param chunkSize the minimal number of characters of a chunk
+     * @return the start indices or only 0 if the content can not be split
+     */
+    static List<Integer> findChunkStarts(MarkedCharBuffer content, int chunkSize) {
+        List<Integer> chunkStarts = new ArrayList<>();
+        chunkStarts.add(0);
+
+        int braceLevel = 0;
+        char previous = '\n';
+        int nextChunkStart = chunkSize;
+        for (int i = 0; i < content.length(); i++) {
+            char character = content.charAt(i);
+            if ((character == '{') && (previous != '\\')) {
+                braceLevel++;
+            } else if ((character == '}') && (previous != '\\') && (braceLevel > 0)) {
+                braceLevel--;
+            } else if ((character == '@') && (braceLevel == 0) && (i >= nextChunkStart)
+                    && ((previous == '\n') || (previous == '\r'))) {
+                chunkStarts.add(i);
+                nextChunkStart = i + chunkSize;
+            } else if (character == UNREAD_EOF) {
+                // the sequential parser treats this character as end of file
+                chunkStarts.subList(1, chunkStarts.size()).clear();
+                return chunkStarts;
+            }
+            previous = character;
+        }
+        return chunkStarts;
+    }
+
+    /**
+     * Will parse the BibTeX data found when reading from reader, see {@link BibtexParser#parse(Reader)}.
+     */
+    public ParserResult parse(Reader in) throws IOException {
+        Objects.requireNonNull(in);
+        MarkedCharBuffer content = MarkedCharBuffer.of(in, BibtexParser.LOOKAHEAD);
+
+        // a few chunks per thread balance the load if the entries differ in size
+        int chunkSize = Math.max(minimumChunkSize, content.length() / (4 * parallelism));
+        List<Integer> chunkStarts = findChunkStarts(content, chunkSize);
+        if (chunkStarts.size() == 1) {
+            return new BibtexParser(importFormatPreferences).parse(content);
+        }
+
+        List<ForkJoinTask<ParsedChunk>> tasks = new ArrayList<>(chunkStarts.size());
+        for (int i = 0; i < chunkStarts.size(); i++) {
+            int end = (i + 1) < chunkStarts.size() ? chunkStarts.get(i + 1) : content.length();
+            MarkedCharBuffer chunkContent = content.slice(chunkStarts.get(i), end);
+            tasks.add(ForkJoinPool.commonPool()
+                    .submit(() -> new BibtexParser(importFormatPreferences).parseChunk(chunkContent)));
+        }
+
+        List<ParsedChunk> chunks = new ArrayList<>(tasks.size());
+        try {
+            for (ForkJoinTask<ParsedChunk> task : tasks) {
+                chunks.add(task.get());
+            }
+        } catch (InterruptedException | ExecutionException e) {
+            LOGGER.debug("Could not parse chunk", e);
+            return parseSequentially(content);
+        }
+
+        for (ParsedChunk chunk : chunks) {
+            if (chunk.isEndReachedInItem() || chunk.getParserResult().hasWarnings()) {
+                return parseSequentially(content);
+            }
+        }
+
+        return merge(chunks);
+    }
+
+    private ParserResult parseSequentially(MarkedCharBuffer content) throws IOException {
+        LOGGER.debug("Chunks do not match the file structure, parsing sequentially");
+        // the content itself has not been read, only slices of it
+        return new BibtexParser(importFormatPreferences).parse(content);
+    }
+
+    private ParserResult merge(List<ParsedChunk> chunks) throws IOException {
+        BibDatabase database = new BibDatabase();
+        Map<String, EntryType> entryTypes = new HashMap<>();
+        ParserResult parserResult = new ParserResult(database, new MetaData(), entryTypes);
+        Map<String, String> meta = new HashMap<>();
+
+        // the shared database id is part of the file header
+        chunks.get(0).getParserResult().getDatabase().getSharedDatabaseID().ifPresent(database::setSharedDatabaseID);
+
+        String textBeforeChunk = "";
+        for (ParsedChunk chunk : chunks) {
+            textBeforeChunk = chunk.addTextBefore(textBeforeChunk);
+
+            if (chunk.getPreamble() != null) {
+                database.setPreamble(chunk.getPreamble());
+            }
+
+            // Strings may be used by entries of other chunks, but they are resolved lazily anyways
+            for (BibtexString string : chunk.getStrings()) {
+                try {
+                    database.addString(string);
+                } catch (KeyCollisionException ex) {
+                    parserResult.addWarning(Localization.lang("Duplicate string name") + ": " + string.getName());
+                }
+            }
+
+            for (BibEntry entry : chunk.getEntries()) {
+                try {
+                    boolean duplicateKey = database.insertEntry(entry);
+                    if (duplicateKey) {
+                        parserResult.addDuplicateKey(entry.getCiteKey());
+                    }
+                } catch (KeyCollisionException kce) {
+                    throw new IOException("Duplicate ID in bibtex file: " + kce);
+                }
+            }
+
+            meta.putAll(chunk.getMeta());
+            entryTypes.putAll(chunk.getParserResult().getEntryTypes());
+        }
+
+        try {
+            parserResult.setMetaData(MetaDataParser.parse(meta, importFormatPreferences.getKeywordSeparator()));
+        } catch (ParseException exception) {
+            parserResult.addException(exception);
+        }
+
+        database.setEpilog(BibtexParser.removeFileHeader(textBeforeChunk).trim());
+
+        return parserResult;
+    }
+}
@@ -0,0 +1,139 @@
+package org.jabref.logic.importer.fileformat;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jabref.logic.importer.ParserResult;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibtexString;
+
+/**
+ * The items of a part of a file in the order they were parsed, see {@link BibtexParser#parseChunk(MarkedCharBuffer)}.
+ * <p>
+ * The parser stores the comments in front of an item as part of the item's serialization. The text in front of the
+ * first item of a chunk (the text after the last item of the previous chunk) is only known after the previous chunk has
+ * been parsed, thus it has to be added afterwards using {@link #addTextBefore(String)}.
+ */
+class ParsedChunk {
+
+    private final List<BibEntry> entries = new ArrayList<>();
+    private final List<BibtexString> strings = new ArrayList<>();
+    private final Map<String, String> meta = new HashMap<>();
+    private ParserResult parserResult;
+    private String preamble;
+
+    /**
+     * The text read before the first item whose text was dumped, null if no text was dumped
+     */
+    private String firstText;
+    private BibEntry firstTextEntry;
+    private BibtexString firstTextString;
+    private String remainingText = "";
+
+    private boolean endReachedInItem;
+
+    public List<BibEntry> getEntries() {
+        return entries;
+    }
+
+    public List<BibtexString> getStrings() {
+        return strings;
+    }
+
+    public Map<String, String> getMeta() {
+        return meta;
+    }
+
+    public ParserResult getParserResult() {
+        return parserResult;
+    }
+
+    public void setParserResult(ParserResult parserResult) {
+        this.parserResult = parserResult;
+    }
+
+    /**
+     * Returns the text of the last preamble of the chunk, null if the chunk does not contain a preamble
+     */
+    public String getPreamble() {
+        return preamble;
+    }
+
+    public void setPreamble(String preamble) {
+        this.preamble = preamble;
+    }
+
+    public void setRemainingText(String remainingText) {
+        this.remainingText = remainingText;
+    }
+
+    /**
+     * Returns whether the end of the chunk was reached while parsing an item. In this case the chunk boundary does not
+     * match the one of the sequential parser and the chunk has to be parsed again as part of the complete file.
+     */
+    public boolean isEndReachedInItem() {
+        return endReachedInItem;
+    }
+
+    public void setEndReachedInItem() {
+        endReachedInItem = true;
+    }
+
+    public boolean hasDumpedText() {
+        return firstText != null;
+    }
+
+    public void textDumped(String text) {
+        if (firstText == null) {
+            firstText = text;
+        }
+    }
+
+    /**
+     * @param firstTextOfChunk whether the serialization of the entry starts with the first text dumped in the chunk
+     */
+    public void addEntry(BibEntry entry, boolean firstTextOfChunk) {
+        entries.add(entry);
+        if (firstTextOfChunk) {
+            firstTextEntry = entry;
+        }
+    }
+
+    /**
+     * @param firstTextOfChunk whether the serialization of the string starts with the first text dumped in the chunk
+     */
+    public void addString(BibtexString string, boolean firstTextOfChunk) {
+        strings.add(string);
+        if (firstTextOfChunk) {
+            firstTextString = string;
+        }
+    }
+
+    /**
+     * Adds the text not consumed by the previous chunks in front of this chunk.
+     *
+     * @return the text not consumed by this chunk, which has to be added in front of the next chunk
+     */
+    public String addTextBefore(String text) {
+        if (firstText == null) {
+            // no item of this chunk took the text read so far
+            return text + remainingText;
+        }
+
+        if (!text.isEmpty()) {
+            String oldText = BibtexParser.removeFileHeader(firstText);
+            String newText = BibtexParser.removeFileHeader(text + firstText);
+            if (firstTextEntry != null) {
+                firstTextEntry.setCommentsBeforeEntry(newText.substring(0, newText.lastIndexOf('@')));
+                firstTextEntry.setParsedSerialization(
+                        newText + firstTextEntry.getParsedSerialization().substring(oldText.length()));
+            } else if (firstTextString != null) {
+                firstTextString.setParsedSerialization(
+                        newText + firstTextString.getParsedSerialization().substring(oldText.length()));
+            }
+        }
+        return remainingText;
+    }
+}
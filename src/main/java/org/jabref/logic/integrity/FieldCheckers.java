@@ -11,11 +11,12 @@ import org.jabref.model.entry.InternalBibtexFields;
 import org.jabref.model.metadata.FileDirectoryPreferences;
 
 import com.google.common.collect.ArrayListMultimap;
+import com.google.common.collect.ImmutableListMultimap;
 import com.google.common.collect.Multimap;
 
 public class FieldCheckers {
 
-    private Multimap<String, ValueChecker> fieldChecker;
+    private final Multimap<String, ValueChecker> fieldChecker;
 
     public FieldCheckers(BibDatabaseContext databaseContext, FileDirectoryPreferences fileDirectoryPreferences, JournalAbbreviationRepository abbreviationRepository) {
         fieldChecker = getAllMap(databaseContext, fileDirectoryPreferences, abbreviationRepository);
@@ -48,7 +49,8 @@ public class FieldCheckers {
         fieldCheckers.put(FieldName.URL, new UrlChecker());
         fieldCheckers.put(FieldName.YEAR, new YearChecker());
 
-        return fieldCheckers;
+        // immutable, so that the checkers can be looked up by several threads
+        return ImmutableListMultimap.copyOf(fieldCheckers);
     }
 
     public List<FieldChecker> getAll() {
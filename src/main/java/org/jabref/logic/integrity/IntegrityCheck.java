@@ -1,8 +1,12 @@
 package org.jabref.logic.integrity;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
 
 import org.jabref.logic.bibtexkeypattern.BibtexKeyPatternPreferences;
 import org.jabref.logic.journals.JournalAbbreviationRepository;
@@ -11,12 +15,15 @@ import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.FieldName;
 import org.jabref.model.metadata.FileDirectoryPreferences;
 
+/**
+ * Checks the entries of a database. The checkers are created once per instance and are shared by the threads checking
+ * the entries in parallel, thus they must not have mutable state.
+ */
 public class IntegrityCheck {
 
     private final BibDatabaseContext bibDatabaseContext;
-    private final FileDirectoryPreferences fileDirectoryPreferences;
-    private final BibtexKeyPatternPreferences bibtexKeyPatternPreferences;
-    private final JournalAbbreviationRepository journalAbbreviationRepository;
+    private final FieldCheckers fieldCheckers;
+    private final List<Checker> entryCheckers = new ArrayList<>();
 
     public IntegrityCheck(BibDatabaseContext bibDatabaseContext,
                           FileDirectoryPreferences fileDirectoryPreferences,
@@ -24,19 +31,56 @@ public class IntegrityCheck {
                           JournalAbbreviationRepository journalAbbreviationRepository
     ) {
         this.bibDatabaseContext = Objects.requireNonNull(bibDatabaseContext);
-        this.fileDirectoryPreferences = Objects.requireNonNull(fileDirectoryPreferences);
-        this.bibtexKeyPatternPreferences = Objects.requireNonNull(bibtexKeyPatternPreferences);
-        this.journalAbbreviationRepository = Objects.requireNonNull(journalAbbreviationRepository);
+        Objects.requireNonNull(fileDirectoryPreferences);
+        Objects.requireNonNull(bibtexKeyPatternPreferences);
+        Objects.requireNonNull(journalAbbreviationRepository);
+
+        fieldCheckers = new FieldCheckers(bibDatabaseContext, fileDirectoryPreferences, journalAbbreviationRepository);
+
+        if (!bibDatabaseContext.isBiblatexMode()) {
+            // BibTeX only checkers
+            entryCheckers.add(new ASCIICharacterChecker());
+            entryCheckers.add(new NoBibtexFieldChecker());
+            entryCheckers.add(new BibTeXEntryTypeChecker());
+            entryCheckers.add(new JournalInAbbreviationListChecker(FieldName.JOURNAL, journalAbbreviationRepository));
+        } else {
+            entryCheckers.add(new JournalInAbbreviationListChecker(FieldName.JOURNALTITLE, journalAbbreviationRepository));
+        }
+
+        entryCheckers.add(new BibtexKeyChecker());
+        entryCheckers.add(new TypeChecker());
+        entryCheckers.add(new BibStringChecker());
+        entryCheckers.add(new HTMLCharacterChecker());
+        entryCheckers.add(new EntryLinkChecker(bibDatabaseContext.getDatabase()));
+        entryCheckers.add(new BibtexkeyDeviationChecker(bibDatabaseContext, bibtexKeyPatternPreferences));
     }
 
     public List<IntegrityMessage> checkBibtexDatabase() {
         List<IntegrityMessage> result = new ArrayList<>();
+        checkBibtexDatabase(result::addAll, () -> false);
+        return result;
+    }
 
-        for (BibEntry entry : bibDatabaseContext.getDatabase().getEntries()) {
-            result.addAll(checkBibtexEntry(entry));
-        }
+    /**
+     * Checks the entries in parallel. The messages of each entry are passed to the consumer as soon as the entry and
+     * all entries before it have been checked, thus in the order of the database. The consumer is not called for
+     * entries without problems.
+     *
+     * @param messageConsumer called with the messages of one entry at a time, but not necessarily by the same thread
+     * @param isCanceled      queried before each entry is checked, once it returns true, the remaining entries are
+     *                        skipped
+     * @return whether all entries have been checked
+     */
+    public boolean checkBibtexDatabase(Consumer<List<IntegrityMessage>> messageConsumer, BooleanSupplier isCanceled) {
+        // a copy, so that the database may be changed while the entries are checked
+        List<BibEntry> entries = new ArrayList<>(bibDatabaseContext.getDatabase().getEntries());
 
-        return result;
+        entries.parallelStream()
+                .map(entry -> isCanceled.getAsBoolean() ? Collections.<IntegrityMessage> emptyList() : checkBibtexEntry(entry))
+                .filter(messages -> !messages.isEmpty())
+                .forEachOrdered(messageConsumer);
+
+        return !isCanceled.getAsBoolean();
     }
 
     private List<IntegrityMessage> checkBibtexEntry(BibEntry entry) {
@@ -46,28 +90,18 @@ public class IntegrityCheck {
             return result;
         }
 
-        FieldCheckers fieldCheckers = new FieldCheckers(bibDatabaseContext, fileDirectoryPreferences, journalAbbreviationRepository);
-        for (FieldChecker checker : fieldCheckers.getAll()) {
-            result.addAll(checker.check(entry));
+        // only the checkers of the fields present in the entry are run
+        for (Map.Entry<String, String> field : entry.getFieldMap().entrySet()) {
+            for (ValueChecker checker : fieldCheckers.getForField(field.getKey())) {
+                checker.checkValue(field.getValue())
+                        .ifPresent(message -> result.add(new IntegrityMessage(message, entry, field.getKey())));
+            }
         }
 
-        if (!bibDatabaseContext.isBiblatexMode()) {
-            // BibTeX only checkers
-            result.addAll(new ASCIICharacterChecker().check(entry));
-            result.addAll(new NoBibtexFieldChecker().check(entry));
-            result.addAll(new BibTeXEntryTypeChecker().check(entry));
-            result.addAll(new JournalInAbbreviationListChecker(FieldName.JOURNAL, journalAbbreviationRepository).check(entry));
-        } else {
-            result.addAll(new JournalInAbbreviationListChecker(FieldName.JOURNALTITLE, journalAbbreviationRepository).check(entry));
+        for (Checker checker : entryCheckers) {
+            result.addAll(checker.check(entry));
         }
 
-        result.addAll(new BibtexKeyChecker().check(entry));
-        result.addAll(new TypeChecker().check(entry));
-        result.addAll(new BibStringChecker().check(entry));
-        result.addAll(new HTMLCharacterChecker().check(entry));
-        result.addAll(new EntryLinkChecker(bibDatabaseContext.getDatabase()).check(entry));
-        result.addAll(new BibtexkeyDeviationChecker(bibDatabaseContext, bibtexKeyPatternPreferences).check(entry));
-
         return result;
     }
 
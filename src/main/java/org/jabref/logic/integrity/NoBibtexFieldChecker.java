@@ -17,7 +17,10 @@ import org.jabref.model.entry.InternalBibtexFields;
  */
 public class NoBibtexFieldChecker implements Checker {
 
-    private List<String> getAllBiblatexOnlyFields() {
+    // non-static initalization of the biblatex only fields as the user can customize the entry types during runtime
+    private final Set<String> allBiblatexOnlyFields = getAllBiblatexOnlyFields();
+
+    private static Set<String> getAllBiblatexOnlyFields() {
         Set<String> allBibtexFields = BibtexEntryTypes.ALL.stream().flatMap(type -> type.getAllFields().stream()).collect(Collectors.toSet());
         return BiblatexEntryTypes.ALL.stream()
                 .flatMap(type -> type.getAllFields().stream())
@@ -26,14 +29,11 @@ public class NoBibtexFieldChecker implements Checker {
                 .filter(fieldName -> !InternalBibtexFields.DEFAULT_GENERAL_FIELDS.contains(fieldName))
                 .filter(fieldName -> !fieldName.equals(FieldName.ABSTRACT))
                 .filter(fieldName -> !fieldName.equals(FieldName.REVIEW))
-                .sorted()
-                .collect(Collectors.toList());
+                .collect(Collectors.toSet());
     }
 
     @Override
     public List<IntegrityMessage> check(BibEntry entry) {
-        // non-static initalization of ALL_BIBLATEX_ONLY_FIELDS as the user can customize the entry types during runtime
-        final List<String> allBiblatexOnlyFields = getAllBiblatexOnlyFields();
         return entry.getFieldNames().stream()
                 .filter(name ->  allBiblatexOnlyFields.contains(name))
                 .map(name -> new IntegrityMessage(Localization.lang("biblatex field only"), entry, name)).collect(Collectors.toList());
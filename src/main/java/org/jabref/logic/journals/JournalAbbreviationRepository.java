@@ -1,8 +1,12 @@
 package org.jabref.logic.journals;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -12,11 +16,21 @@ import org.apache.commons.logging.LogFactory;
 
 /**
  * A repository for all journal abbreviations, including add and find methods.
+ * <p>
+ * The names are looked up case-insensitively using hash indexes of the full names, the ISO and the MEDLINE
+ * abbreviations. Thus, abbreviations must not be modified after they have been added.
  */
 public class JournalAbbreviationRepository {
 
     private static final Log LOGGER = LogFactory.getLog(JournalAbbreviationRepository.class);
-    private final Set<Abbreviation> abbreviations = new HashSet<>(16000); // We have over 15.000 abbreviations in the built-in lists
+    private static final int EXPECTED_SIZE = 16000; // We have over 15.000 abbreviations in the built-in lists
+
+    private final Set<Abbreviation> abbreviations = new HashSet<>(EXPECTED_SIZE);
+
+    // case-folded name -> abbreviations having this name, the last added one first
+    private final Map<String, List<Abbreviation>> fullNameIndex = new HashMap<>(EXPECTED_SIZE);
+    private final Map<String, List<Abbreviation>> isoAbbreviationIndex = new HashMap<>(EXPECTED_SIZE);
+    private final Map<String, List<Abbreviation>> medlineAbbreviationIndex = new HashMap<>(EXPECTED_SIZE);
 
     public JournalAbbreviationRepository(Abbreviation... abbreviations) {
         for (Abbreviation abbreviation : abbreviations) {
@@ -24,15 +38,40 @@ public class JournalAbbreviationRepository {
         }
     }
 
-    private static boolean isMatched(String name, Abbreviation abbreviation) {
-        return name.equalsIgnoreCase(abbreviation.getName())
-                || name.equalsIgnoreCase(abbreviation.getIsoAbbreviation())
-                || name.equalsIgnoreCase(abbreviation.getMedlineAbbreviation());
+    /**
+     * Folds the case of the name the same way {@link String#equalsIgnoreCase(String)} compares characters, so that
+     * two names are equal ignoring case if and only if their folded forms are equal.
+     */
+    static String foldCase(String name) {
+        char[] folded = new char[name.length()];
+        for (int i = 0; i < folded.length; i++) {
+            folded[i] = Character.toLowerCase(Character.toUpperCase(name.charAt(i)));
+        }
+        return new String(folded);
+    }
+
+    private static Optional<Abbreviation> lookUp(Map<String, List<Abbreviation>> index, String foldedName) {
+        List<Abbreviation> matches = index.get(foldedName);
+        if (matches == null) {
+            return Optional.empty();
+        }
+        return Optional.of(matches.get(0));
     }
 
-    private static boolean isMatchedAbbreviated(String name, Abbreviation abbreviation) {
-        return name.equalsIgnoreCase(abbreviation.getIsoAbbreviation())
-                || name.equalsIgnoreCase(abbreviation.getMedlineAbbreviation());
+    private static void addToIndex(Map<String, List<Abbreviation>> index, String name, Abbreviation abbreviation) {
+        index.computeIfAbsent(foldCase(name), key -> new ArrayList<>(1)).add(0, abbreviation);
+    }
+
+    private static void removeFromIndex(Map<String, List<Abbreviation>> index, String name, Abbreviation abbreviation) {
+        String foldedName = foldCase(name);
+        List<Abbreviation> matches = index.get(foldedName);
+        if (matches != null) {
+            // abbreviations are equal if their names are equal, thus they have to be compared by identity
+            matches.removeIf(match -> match == abbreviation);
+            if (matches.isEmpty()) {
+                index.remove(foldedName);
+            }
+        }
     }
 
     public int size() {
@@ -40,11 +79,12 @@ public class JournalAbbreviationRepository {
     }
 
     public boolean isKnownName(String journalName) {
-        return abbreviations.stream().anyMatch(abbreviation -> isMatched(journalName.trim(), abbreviation));
+        return getAbbreviation(journalName).isPresent();
     }
 
     public boolean isAbbreviatedName(String journalName) {
-        return abbreviations.stream().anyMatch(abbreviation -> isMatchedAbbreviated(journalName.trim(), abbreviation));
+        String foldedName = foldCase(journalName.trim());
+        return isoAbbreviationIndex.containsKey(foldedName) || medlineAbbreviationIndex.containsKey(foldedName);
     }
 
     /**
@@ -54,20 +94,40 @@ public class JournalAbbreviationRepository {
      * @return The abbreviated name
      */
     public Optional<Abbreviation> getAbbreviation(String journalName) {
-        return abbreviations.stream().filter(abbreviation -> isMatched(journalName.trim(), abbreviation)).findFirst();
+        String foldedName = foldCase(journalName.trim());
+        Optional<Abbreviation> abbreviation = lookUp(fullNameIndex, foldedName);
+        if (!abbreviation.isPresent()) {
+            abbreviation = lookUp(isoAbbreviationIndex, foldedName);
+        }
+        if (!abbreviation.isPresent()) {
+            abbreviation = lookUp(medlineAbbreviationIndex, foldedName);
+        }
+        return abbreviation;
     }
 
     public void addEntry(Abbreviation abbreviation) {
         Objects.requireNonNull(abbreviation);
 
         if (abbreviations.contains(abbreviation)) {
-            Abbreviation previous = getAbbreviation(abbreviation.getName()).get();
+            Abbreviation previous = fullNameIndex.get(foldCase(abbreviation.getName())).stream()
+                    .filter(abbreviation::equals)
+                    .findFirst().get();
             abbreviations.remove(previous);
+            removeFromIndexes(previous);
             LOGGER.info("Duplicate journal abbreviation - old one will be overwritten by new one\nOLD: "
                     + previous + "\nNEW: " + abbreviation);
         }
 
         abbreviations.add(abbreviation);
+        addToIndex(fullNameIndex, abbreviation.getName(), abbreviation);
+        addToIndex(isoAbbreviationIndex, abbreviation.getIsoAbbreviation(), abbreviation);
+        addToIndex(medlineAbbreviationIndex, abbreviation.getMedlineAbbreviation(), abbreviation);
+    }
+
+    private void removeFromIndexes(Abbreviation abbreviation) {
+        removeFromIndex(fullNameIndex, abbreviation.getName(), abbreviation);
+        removeFromIndex(isoAbbreviationIndex, abbreviation.getIsoAbbreviation(), abbreviation);
+        removeFromIndex(medlineAbbreviationIndex, abbreviation.getMedlineAbbreviation(), abbreviation);
     }
 
     public void addEntries(Collection<Abbreviation> abbreviationsToAdd) {
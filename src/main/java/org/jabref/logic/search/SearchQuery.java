@@ -3,9 +3,14 @@ package org.jabref.logic.search;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.jabref.logic.l10n.Localization;
 import org.jabref.logic.search.rules.describer.SearchDescribers;
+import org.jabref.model.database.BibDatabase;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.search.SearchMatcher;
 import org.jabref.model.search.rules.ContainBasedSearchRule;
@@ -20,6 +25,7 @@ public class SearchQuery implements SearchMatcher {
     private final boolean caseSensitive;
     private final boolean regularExpression;
     private final SearchRule rule;
+    private final SearchMatcher matcher;
     private final String description;
 
     public SearchQuery(String query, boolean caseSensitive, boolean regularExpression) {
@@ -27,6 +33,7 @@ public class SearchQuery implements SearchMatcher {
         this.caseSensitive = caseSensitive;
         this.regularExpression = regularExpression;
         this.rule = SearchRules.getSearchRuleByQuery(query, caseSensitive, regularExpression);
+        this.matcher = rule.compile(query);
         this.description = SearchDescribers.getSearchDescriberFor(rule, query).getDescription();
     }
 
@@ -37,7 +44,22 @@ public class SearchQuery implements SearchMatcher {
 
     @Override
     public boolean isMatch(BibEntry entry) {
-        return rule.applyRule(getQuery(), entry);
+        return matcher.isMatch(entry);
+    }
+
+    /**
+     * Returns the entries of the database matching this query in the order of the database.
+     * <p>
+     * Instead of checking each entry, the search index of the database is used to find the entries which may match.
+     * Only regular expressions and negations require checking all entries.
+     */
+    public List<BibEntry> findMatches(BibDatabase database) {
+        Optional<Set<BibEntry>> candidates = rule.getCandidates(getQuery(), database.getSearchIndex());
+        Stream<BibEntry> entries = database.getEntries().parallelStream();
+        if (candidates.isPresent()) {
+            entries = entries.filter(candidates.get()::contains);
+        }
+        return entries.filter(this::isMatch).collect(Collectors.toList());
     }
 
     public boolean isValid() {
@@ -1,16 +1,22 @@
 package org.jabref.logic.util.io;
 
+import java.nio.file.Path;
+import java.util.Optional;
+
 public class AutoLinkPreferences {
     boolean useRegularExpression;
     String regularExpression;
     Character keywordDelimiter;
     boolean onlyFindByExactCiteKey;
+    Optional<Path> fileIndexDirectory;
 
-    public AutoLinkPreferences(boolean useRegularExpression, String regularExpression, boolean onlyFindByExactCiteKey, Character keywordDelimiter) {
+    public AutoLinkPreferences(boolean useRegularExpression, String regularExpression, boolean onlyFindByExactCiteKey, Character keywordDelimiter,
+            Optional<Path> fileIndexDirectory) {
         this.useRegularExpression = useRegularExpression;
         this.regularExpression = regularExpression;
         this.onlyFindByExactCiteKey = onlyFindByExactCiteKey;
         this.keywordDelimiter = keywordDelimiter;
+        this.fileIndexDirectory = fileIndexDirectory;
     }
 
     public boolean isUseRegularExpression() {
@@ -28,4 +34,12 @@ public class AutoLinkPreferences {
     public Character getKeywordDelimiter() {
         return keywordDelimiter;
     }
+
+    /**
+     * Returns the directory the {@link FileIndex}es are stored in or an empty optional if the file directories are not
+     * indexed
+     */
+    public Optional<Path> getFileIndexDirectory() {
+        return fileIndexDirectory;
+    }
 }
@@ -1,7 +1,9 @@
 package org.jabref.logic.util.io;
 
 import java.io.IOException;
+import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
+import java.nio.file.LinkOption;
 import java.nio.file.Path;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
@@ -12,9 +14,11 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-import java.util.function.BiPredicate;
+import java.util.TreeSet;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.util.FileHelper;
@@ -25,10 +29,18 @@ import org.apache.commons.logging.LogFactory;
 class CiteKeyBasedFileFinder implements FileFinder {
 
     private static final Log LOGGER = LogFactory.getLog(CiteKeyBasedFileFinder.class);
+
+    private static final int NO_ENTRY = -1;
     private final boolean exactKeyOnly;
+    private final Optional<Path> fileIndexDirectory;
 
-    CiteKeyBasedFileFinder(boolean exactKeyOnly) {
+    /**
+     * @param fileIndexDirectory the directory the {@link FileIndex}es are stored in, if empty the directories are
+     *                           scanned on each search
+     */
+    CiteKeyBasedFileFinder(boolean exactKeyOnly, Optional<Path> fileIndexDirectory) {
         this.exactKeyOnly = exactKeyOnly;
+        this.fileIndexDirectory = Objects.requireNonNull(fileIndexDirectory);
     }
 
     @Override
@@ -47,55 +59,144 @@ class CiteKeyBasedFileFinder implements FileFinder {
         }
 
         // Now look for keys
-        nextFile:
-        for (Path file : filesWithExtension) {
+        CiteKeyIndex index = new CiteKeyIndex(entries);
+        Map<Integer, List<Path>> filesByEntry = filesWithExtension.parallelStream()
+                .collect(Collectors.groupingByConcurrent(index::findEntry));
+        for (Map.Entry<Integer, List<Path>> files : filesByEntry.entrySet()) {
+            if (files.getKey() != NO_ENTRY) {
+                result.get(entries.get(files.getKey())).addAll(files.getValue());
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns a list of all files in the given directories which have one of the given extension.
+     * The files are looked up in the {@link FileIndex} of each directory or, if the index is disabled, the
+     * subdirectories are scanned in parallel.
+     */
+    public Set<Path> findFilesByExtension(List<Path> directories, List<String> extensions) {
+        Objects.requireNonNull(extensions, "Extensions must not be null!");
+
+        Predicate<Path> isFileWithCorrectExtension = path -> extensions
+                .contains(FileHelper.getFileExtension(path).orElse(""));
+
+        Set<Path> result = new HashSet<>();
+        for (Path directory : directories) {
+            if (!Files.isDirectory(directory)) {
+                continue;
+            }
+
+            if (fileIndexDirectory.isPresent()) {
+                FileIndex index = FileIndex.of(directory, fileIndexDirectory.get());
+                index.refresh();
+                index.getFilesBelow(directory).stream().filter(isFileWithCorrectExtension).forEach(result::add);
+            } else {
+                // the scan blocks on I/O, thus it must not occupy the threads of the common pool
+                ForkJoinPool pool = new ForkJoinPool();
+                try {
+                    result.addAll(pool.invoke(new DirectoryScan(directory, isFileWithCorrectExtension)));
+                } finally {
+                    pool.shutdown();
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Finds the entry a file belongs to by its cite key. Like a scan of the entries in their order, the first entry
+     * whose key equals the file name without extension is found. Otherwise, if allowed, the first entry whose key is a
+     * prefix of the file name.
+     */
+    private class CiteKeyIndex {
+
+        // cite key -> position of the first entry having it
+        private final Map<String, Integer> entryByKey = new HashMap<>();
+        // only prefixes of these lengths have to be looked up
+        private final Set<Integer> keyLengths = new TreeSet<>();
+
+        CiteKeyIndex(List<BibEntry> entries) {
+            for (int i = 0; i < entries.size(); i++) {
+                Optional<String> citeKey = entries.get(i).getCiteKeyOptional();
+                if (citeKey.isPresent() && !citeKey.get().isEmpty()) {
+                    entryByKey.putIfAbsent(citeKey.get(), i);
+                    keyLengths.add(citeKey.get().length());
+                }
+            }
+        }
+
+        /**
+         * @return the position of the entry the file belongs to or {@link #NO_ENTRY}
+         */
+        int findEntry(Path file) {
             String name = file.getFileName().toString();
             int dot = name.lastIndexOf('.');
             // First, look for exact matches:
-            for (BibEntry entry : entries) {
-                Optional<String> citeKey = entry.getCiteKeyOptional();
-                if ((citeKey.isPresent()) && !citeKey.get().isEmpty() && (dot > 0)
-                        && name.substring(0, dot).equals(citeKey.get())) {
-                    result.get(entry).add(file);
-                    continue nextFile;
+            if (dot > 0) {
+                Integer entry = entryByKey.get(name.substring(0, dot));
+                if (entry != null) {
+                    return entry;
                 }
             }
             // If we get here, we did not find any exact matches. If non-exact
             // matches are allowed, try to find one:
+            int firstEntry = NO_ENTRY;
             if (!exactKeyOnly) {
-                for (BibEntry entry : entries) {
-                    Optional<String> citeKey = entry.getCiteKeyOptional();
-                    if ((citeKey.isPresent()) && !citeKey.get().isEmpty() && name.startsWith(citeKey.get())) {
-                        result.get(entry).add(file);
-                        continue nextFile;
+                for (int length : keyLengths) {
+                    if (length > name.length()) {
+                        break;
+                    }
+                    Integer entry = entryByKey.get(name.substring(0, length));
+                    if ((entry != null) && ((firstEntry == NO_ENTRY) || (entry < firstEntry))) {
+                        firstEntry = entry;
                     }
                 }
             }
+            return firstEntry;
         }
-
-        return result;
     }
 
     /**
-     * Returns a list of all files in the given directories which have one of the given extension.
+     * Collects the accepted files of a directory and, using forked tasks, of its subdirectories. Symbolic links to
+     * directories are not followed.
      */
-    public Set<Path> findFilesByExtension(List<Path> directories, List<String> extensions) {
-        Objects.requireNonNull(extensions, "Extensions must not be null!");
+    private static class DirectoryScan extends RecursiveTask<List<Path>> {
 
-        BiPredicate<Path, BasicFileAttributes> isFileWithCorrectExtension = (path, attributes) ->
-                !Files.isDirectory(path)
-                        && extensions.contains(FileHelper.getFileExtension(path).orElse(""));
+        private final Path directory;
+        private final Predicate<Path> filter;
 
-        Set<Path> result = new HashSet<>();
-        for (Path directory : directories) {
-            if (Files.exists(directory)) {
-                try (Stream<Path> files = Files.find(directory, Integer.MAX_VALUE, isFileWithCorrectExtension)) {
-                    result.addAll(files.collect(Collectors.toSet()));
-                } catch (IOException e) {
-                    LOGGER.error("Problem in finding files", e);
+        DirectoryScan(Path directory, Predicate<Path> filter) {
+            this.directory = directory;
+            this.filter = filter;
+        }
+
+        @Override
+        protected List<Path> compute() {
+            List<Path> files = new ArrayList<>();
+            List<DirectoryScan> subdirectoryScans = new ArrayList<>();
+            try (DirectoryStream<Path> children = Files.newDirectoryStream(directory)) {
+                for (Path child : children) {
+                    BasicFileAttributes attributes = Files.readAttributes(child, BasicFileAttributes.class,
+                            LinkOption.NOFOLLOW_LINKS);
+                    if (attributes.isDirectory()) {
+                        DirectoryScan scan = new DirectoryScan(child, filter);
+                        scan.fork();
+                        subdirectoryScans.add(scan);
+                    } else if (filter.test(child) && !Files.isDirectory(child)) {
+                        // symbolic links to directories are skipped
+                        files.add(child);
+                    }
                 }
+            } catch (IOException e) {
+                LOGGER.error("Problem in finding files", e);
             }
+
+            for (DirectoryScan scan : subdirectoryScans) {
+                files.addAll(scan.join());
+            }
+            return files;
         }
-        return result;
     }
 }
@@ -6,9 +6,11 @@ public class FileFinders {
      */
     public static FileFinder constructFromConfiguration(AutoLinkPreferences autoLinkPreferences) {
         if (autoLinkPreferences.isUseRegularExpression()) {
-            return new RegExpBasedFileFinder(autoLinkPreferences.getRegularExpression(), autoLinkPreferences.getKeywordDelimiter());
+            return new RegExpBasedFileFinder(autoLinkPreferences.getRegularExpression(), autoLinkPreferences.getKeywordDelimiter(),
+                    autoLinkPreferences.getFileIndexDirectory());
         } else {
-            return new CiteKeyBasedFileFinder(autoLinkPreferences.isOnlyFindByExactCiteKey());
+            return new CiteKeyBasedFileFinder(autoLinkPreferences.isOnlyFindByExactCiteKey(),
+                    autoLinkPreferences.getFileIndexDirectory());
         }
     }
 }
@@ -0,0 +1,633 @@
+package org.jabref.logic.util.io;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileStore;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.google.common.hash.Hashing;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/**
+ * An index of the files below a directory, storing the size and the time of the last modification of each file. Thus, the file finders do not have to crawl the directory tree, which is slow
+ * on network file systems, each time files are looked up.
+ * <p>
+ * The index is built on first use and stored in the given index directory, so that it is reused after a restart. On
+ * {@link #refresh()}, only the directories changed since the last refresh are listed again. If the file system
+ * provides a {@link WatchService}, the changed directories are taken from its events. Otherwise, a directory is
+ * considered changed if its time of the last modification differs from the indexed one. This is also the case on
+ * network file systems, where the changes made by other clients are not reported to the {@link WatchService}. Note
+ * that this time changes if files are added, removed or renamed, but not if a file is modified.
+ * <p>
+ * Directories which are not indexed yet, e.g., all directories when the index is built, are scanned in parallel.
+ * Symbolic links to directories are not followed.
+ */
+public class FileIndex {
+
+    private static final Log LOGGER = LogFactory.getLog(FileIndex.class);
+
+    public static final Path DEFAULT_INDEX_DIRECTORY = Paths.get(System.getProperty("user.home"), ".jabref",
+            "file-index");
+    private static final int FORMAT_VERSION = 2;
+    // file names are decoded differently depending on the locale, thus an index is only valid for the same encoding
+    private static final String FILE_NAME_ENCODING = System.getProperty("sun.jnu.encoding", "");
+    // types of network file stores as reported on Linux, e.g., NFS mounts are of type "nfs" or "nfs4"
+    private static final Set<String> NETWORK_FILE_STORE_TYPES = new HashSet<>(Arrays.asList("nfs", "nfs4", "cifs",
+            "smbfs", "smb2", "smb3", "afs", "ncpfs", "9p", "coda", "davfs", "fuse.sshfs"));
+
+    // index file -> index of the files below its root directory
+    private static final Map<Path, FileIndex> INDEXES = new HashMap<>();
+
+    private final Path root;
+    private final Path indexFile;
+
+    // absolute and normalized path -> content of the directory
+    private final Map<Path, IndexedDirectory> directories = new HashMap<>();
+    private final Map<WatchKey, Path> watchedDirectories = new HashMap<>();
+    private WatchService watchService;
+    // whether the directories loaded from the index file have been checked for changes
+    private boolean isUpToDate;
+    // whether the index differs from the index file
+    private boolean isModified;
+
+    /**
+     * @param indexFile     the file the index is stored in
+     * @param watchChanges  whether a {@link WatchService} should be used if it is available
+     */
+    FileIndex(Path root, Path indexFile, boolean watchChanges) {
+        this.root = normalize(root);
+        this.indexFile = indexFile;
+
+        if (watchChanges && !isOnNetworkFileStore(this.root)) {
+            try {
+                watchService = this.root.getFileSystem().newWatchService();
+            } catch (IOException | UnsupportedOperationException e) {
+                LOGGER.debug("Changes of " + this.root + " are detected by the modification times of the directories",
+                        e);
+            }
+        }
+        load();
+    }
+
+    /**
+     * Returns the index containing the given directory. If the directory is not part of an index stored in the given
+     * index directory yet, a new index of the directory is created, which has to be refreshed before its first use.
+     */
+    public static FileIndex of(Path directory, Path indexDirectory) {
+        Path normalizedDirectory = normalize(directory);
+        Path normalizedIndexDirectory = normalize(indexDirectory);
+        synchronized (INDEXES) {
+            for (FileIndex index : INDEXES.values()) {
+                if (index.contains(normalizedDirectory)
+                        && index.indexFile.getParent().equals(normalizedIndexDirectory)) {
+                    return index;
+                }
+            }
+            Path indexFile = normalizedIndexDirectory.resolve(getIndexFileName(normalizedDirectory));
+            return INDEXES.computeIfAbsent(indexFile, key -> new FileIndex(normalizedDirectory, key, true));
+        }
+    }
+
+    /**
+     * Stops watching the directories of all indexes. The indexes are created again on their next use.
+     */
+    public static void shutdown() {
+        synchronized (INDEXES) {
+            for (FileIndex index : INDEXES.values()) {
+                index.close();
+            }
+            INDEXES.clear();
+        }
+    }
+
+    private static boolean isOnNetworkFileStore(Path directory) {
+        try {
+            FileStore fileStore = Files.getFileStore(directory);
+            if (isNetworkFileStoreType(fileStore.type())) {
+                LOGGER.debug("Changes of " + directory + " on " + fileStore.type()
+                        + " are detected by the modification times of the directories");
+                return true;
+            }
+            return false;
+        } catch (IOException e) {
+            // e.g., the directory does not exist (yet), thus its file store is unknown
+            return true;
+        }
+    }
+
+    static boolean isNetworkFileStoreType(String type) {
+        return NETWORK_FILE_STORE_TYPES.contains(type.toLowerCase(Locale.ROOT));
+    }
+
+    private static String getIndexFileName(Path root) {
+        return Hashing.sha256().hashString(root.toString(), StandardCharsets.UTF_8) + ".idx";
+    }
+
+    private static Path normalize(Path path) {
+        return path.toAbsolutePath().normalize();
+    }
+
+    /**
+     * Returns whether the given path is located in the indexed directory
+     */
+    public boolean contains(Path path) {
+        return normalize(path).startsWith(root);
+    }
+
+    /**
+     * Updates the index to the current content of the directory and stores it if it has changed.
+     */
+    public synchronized void refresh() {
+        try {
+            if (!directories.containsKey(root)) {
+                // first use or the directory did not exist before
+                scanDirectory(root);
+            } else if (!isUpToDate || (watchService == null)) {
+                // the directories loaded from the index file could have been changed while the index was not in use
+                for (Path directory : new ArrayList<>(directories.keySet())) {
+                    checkDirectory(directory);
+                }
+            } else {
+                for (Path directory : pollChangedDirectories()) {
+                    // the directory may have been removed by the scan of its parent
+                    if (directories.containsKey(directory)) {
+                        scanDirectory(directory);
+                    }
+                }
+            }
+        } catch (RuntimeException e) {
+            // e.g., a file name which cannot be decoded, do not keep an incomplete index
+            clear();
+            throw e;
+        }
+        isUpToDate = true;
+
+        if (isModified) {
+            store();
+        }
+    }
+
+    private synchronized void close() {
+        if (watchService != null) {
+            stopWatching();
+        }
+        isUpToDate = false;
+    }
+
+    private void clear() {
+        directories.clear();
+        watchedDirectories.keySet().forEach(WatchKey::cancel);
+        watchedDirectories.clear();
+        isUpToDate = false;
+        isModified = false;
+    }
+
+    /**
+     * Returns the files directly in the given directory, resolved against the given path
+     */
+    public synchronized List<Path> getFiles(Path directory) {
+        IndexedDirectory indexedDirectory = directories.get(normalize(directory));
+        List<Path> files = new ArrayList<>();
+        if (indexedDirectory != null) {
+            for (String name : indexedDirectory.files.keySet()) {
+                files.add(directory.resolve(name));
+            }
+        }
+        return files;
+    }
+
+    /**
+     * Returns the directories directly in the given directory, resolved against the given path
+     */
+    public synchronized List<Path> getSubdirectories(Path directory) {
+        IndexedDirectory indexedDirectory = directories.get(normalize(directory));
+        List<Path> subdirectories = new ArrayList<>();
+        if (indexedDirectory != null) {
+            for (String name : indexedDirectory.subdirectories) {
+                subdirectories.add(directory.resolve(name));
+            }
+        }
+        return subdirectories;
+    }
+
+    /**
+     * Returns the files in the given directory and, recursively, in its subdirectories, resolved against the given
+     * path
+     */
+    public synchronized List<Path> getFilesBelow(Path directory) {
+        List<Path> files = new ArrayList<>();
+        collectFiles(normalize(directory), directory, files);
+        return files;
+    }
+
+    private void collectFiles(Path indexedPath, Path directory, List<Path> files) {
+        IndexedDirectory indexedDirectory = directories.get(indexedPath);
+        if (indexedDirectory == null) {
+            return;
+        }
+
+        for (String name : indexedDirectory.files.keySet()) {
+            files.add(directory.resolve(name));
+        }
+        for (String name : indexedDirectory.subdirectories) {
+            collectFiles(indexedPath.resolve(name), directory.resolve(name), files);
+        }
+    }
+
+    private void checkDirectory(Path directory) {
+        IndexedDirectory indexedDirectory = directories.get(directory);
+        if (indexedDirectory == null) {
+            // already removed by the scan of its parent
+            return;
+        }
+        if (!isUpToDate) {
+            // watch first, so that no change after the check is missed
+            watch(directory);
+        }
+
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(directory, BasicFileAttributes.class,
+                    LinkOption.NOFOLLOW_LINKS);
+            if (!attributes.isDirectory()
+                    || (attributes.lastModifiedTime().toMillis() != indexedDirectory.lastModified)) {
+                scanDirectory(directory);
+            }
+        } catch (IOException e) {
+            removeDirectory(directory);
+        }
+    }
+
+    /**
+     * Lists the given directory, replacing its indexed content, and scans the subdirectories which are not indexed
+     * yet
+     */
+    private void scanDirectory(Path directory) {
+        BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(directory, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+        } catch (IOException e) {
+            removeDirectory(directory);
+            return;
+        }
+        if (!attributes.isDirectory()) {
+            removeDirectory(directory);
+            return;
+        }
+
+        // watch first, so that no change after the listing is missed
+        watch(directory);
+
+        IndexedDirectory scannedDirectory = listDirectory(directory, attributes.lastModifiedTime().toMillis());
+        IndexedDirectory previousDirectory = directories.put(directory, scannedDirectory);
+        isModified = true;
+
+        if (previousDirectory != null) {
+            for (String name : previousDirectory.subdirectories) {
+                if (!scannedDirectory.subdirectories.contains(name)) {
+                    removeDirectory(directory.resolve(name));
+                }
+            }
+        }
+        List<Path> newSubdirectories = new ArrayList<>();
+        for (String name : scannedDirectory.subdirectories) {
+            // the indexed subdirectories are checked on their own
+            Path subdirectory = directory.resolve(name);
+            if (!directories.containsKey(subdirectory)) {
+                newSubdirectories.add(subdirectory);
+            }
+        }
+        scanNewDirectories(newSubdirectories);
+    }
+
+    /**
+     * Scans the given directories, which are not indexed yet, and their subdirectories in parallel. This speeds up
+     * building the index, especially on network file systems, where listing a directory takes a while. The scans run
+     * in a pool of their own, as they block on I/O and thus must not occupy the threads of the common pool.
+     */
+    private void scanNewDirectories(List<Path> newDirectories) {
+        if (newDirectories.isEmpty()) {
+            return;
+        }
+
+        Map<WatchKey, Path> watchKeys = new ConcurrentHashMap<>();
+        AtomicBoolean watchFailed = new AtomicBoolean();
+        List<DirectoryScan> scans = new ArrayList<>();
+        ForkJoinPool pool = new ForkJoinPool();
+        try {
+            for (Path directory : newDirectories) {
+                DirectoryScan scan = new DirectoryScan(directory, watchService, watchKeys, watchFailed);
+                pool.execute(scan);
+                scans.add(scan);
+            }
+            for (DirectoryScan scan : scans) {
+                directories.putAll(scan.join());
+            }
+        } finally {
+            pool.shutdown();
+        }
+        isModified = true;
+
+        if (watchService != null) {
+            if (watchFailed.get()) {
+                // e.g., the limit of watched directories has been reached
+                LOGGER.info("Changes of " + root + " are detected by the modification times of the directories");
+                stopWatching();
+            } else {
+                watchedDirectories.putAll(watchKeys);
+            }
+        }
+    }
+
+    /**
+     * Lists the files and subdirectories of the given directory
+     */
+    private static IndexedDirectory listDirectory(Path directory, long lastModified) {
+        IndexedDirectory scannedDirectory = new IndexedDirectory(lastModified);
+        try (DirectoryStream<Path> children = Files.newDirectoryStream(directory)) {
+            for (Path child : children) {
+                String name = child.getFileName().toString();
+                Optional<BasicFileAttributes> childAttributes = readAttributes(child);
+                if (!childAttributes.isPresent()) {
+                    continue;
+                }
+
+                if (childAttributes.get().isDirectory()) {
+                    scannedDirectory.subdirectories.add(name);
+                } else if (childAttributes.get().isRegularFile()) {
+                    scannedDirectory.files.put(name, new IndexedFile(childAttributes.get().size(),
+                            childAttributes.get().lastModifiedTime().toMillis()));
+                }
+            }
+        } catch (IOException e) {
+            LOGGER.warn("Could not list the content of " + directory, e);
+        }
+        return scannedDirectory;
+    }
+
+    /**
+     * Reads the attributes of the directory entry. Symbolic links to files are followed, symbolic links to
+     * directories are not.
+     */
+    private static Optional<BasicFileAttributes> readAttributes(Path path) {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class,
+                    LinkOption.NOFOLLOW_LINKS);
+            if (attributes.isSymbolicLink()) {
+                attributes = Files.readAttributes(path, BasicFileAttributes.class);
+                if (attributes.isDirectory()) {
+                    return Optional.empty();
+                }
+            }
+            return Optional.of(attributes);
+        } catch (IOException e) {
+            // removed in the meantime or a broken link
+            return Optional.empty();
+        }
+    }
+
+    private void removeDirectory(Path directory) {
+        IndexedDirectory indexedDirectory = directories.remove(directory);
+        if (indexedDirectory == null) {
+            return;
+        }
+
+        isModified = true;
+        watchedDirectories.entrySet().removeIf(watchedDirectory -> {
+            if (watchedDirectory.getValue().equals(directory)) {
+                watchedDirectory.getKey().cancel();
+                return true;
+            }
+            return false;
+        });
+        for (String name : indexedDirectory.subdirectories) {
+            removeDirectory(directory.resolve(name));
+        }
+    }
+
+    private void watch(Path directory) {
+        if (watchService == null) {
+            return;
+        }
+
+        try {
+            watchedDirectories.put(register(directory, watchService), directory);
+        } catch (IOException | UnsupportedOperationException e) {
+            // e.g., the limit of watched directories has been reached
+            LOGGER.info("Changes of " + root + " are detected by the modification times of the directories", e);
+            stopWatching();
+        }
+    }
+
+    private static WatchKey register(Path directory, WatchService watchService) throws IOException {
+        return directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                StandardWatchEventKinds.ENTRY_DELETE, StandardWatchEventKinds.ENTRY_MODIFY);
+    }
+
+    private void stopWatching() {
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            LOGGER.debug("Could not close watch service", e);
+        }
+        watchService = null;
+        watchedDirectories.clear();
+    }
+
+    private Set<Path> pollChangedDirectories() {
+        Set<Path> changedDirectories = new HashSet<>();
+        WatchKey key;
+        while ((key = watchService.poll()) != null) {
+            Path directory = watchedDirectories.get(key);
+            for (WatchEvent<?> event : key.pollEvents()) {
+                if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                    changedDirectories.addAll(directories.keySet());
+                }
+            }
+            if (directory != null) {
+                changedDirectories.add(directory);
+            }
+            if (!key.reset()) {
+                // the directory has been removed, which is also reported to its parent
+                watchedDirectories.remove(key);
+            }
+        }
+        return changedDirectories;
+    }
+
+    private void load() {
+        if (!Files.exists(indexFile)) {
+            return;
+        }
+
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(indexFile)))) {
+            if ((input.readInt() != FORMAT_VERSION) || !FILE_NAME_ENCODING.equals(input.readUTF())
+                    || !root.toString().equals(input.readUTF())) {
+                return;
+            }
+
+            int numberOfDirectories = input.readInt();
+            for (int i = 0; i < numberOfDirectories; i++) {
+                Path directory = root.resolve(input.readUTF());
+                IndexedDirectory indexedDirectory = new IndexedDirectory(input.readLong());
+                int numberOfSubdirectories = input.readInt();
+                for (int j = 0; j < numberOfSubdirectories; j++) {
+                    indexedDirectory.subdirectories.add(input.readUTF());
+                }
+                int numberOfFiles = input.readInt();
+                for (int j = 0; j < numberOfFiles; j++) {
+                    String name = input.readUTF();
+                    indexedDirectory.files.put(name, new IndexedFile(input.readLong(), input.readLong()));
+                }
+                directories.put(directory, indexedDirectory);
+            }
+        } catch (IOException e) {
+            LOGGER.warn("Could not read file index " + indexFile + ", the index is rebuilt", e);
+            directories.clear();
+        }
+    }
+
+    private void store() {
+        try {
+            Files.createDirectories(indexFile.getParent());
+            Path temporaryFile = indexFile.resolveSibling(indexFile.getFileName() + ".tmp");
+            try (DataOutputStream output = new DataOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(temporaryFile)))) {
+                output.writeInt(FORMAT_VERSION);
+                output.writeUTF(FILE_NAME_ENCODING);
+                output.writeUTF(root.toString());
+                output.writeInt(directories.size());
+                for (Map.Entry<Path, IndexedDirectory> directory : directories.entrySet()) {
+                    output.writeUTF(root.relativize(directory.getKey()).toString());
+                    output.writeLong(directory.getValue().lastModified);
+                    output.writeInt(directory.getValue().subdirectories.size());
+                    for (String name : directory.getValue().subdirectories) {
+                        output.writeUTF(name);
+                    }
+                    output.writeInt(directory.getValue().files.size());
+                    for (Map.Entry<String, IndexedFile> file : directory.getValue().files.entrySet()) {
+                        output.writeUTF(file.getKey());
+                        output.writeLong(file.getValue().size);
+                        output.writeLong(file.getValue().lastModified);
+                    }
+                }
+            }
+            Files.move(temporaryFile, indexFile, StandardCopyOption.REPLACE_EXISTING);
+            isModified = false;
+        } catch (IOException e) {
+            LOGGER.warn("Could not store file index " + indexFile, e);
+        }
+    }
+
+    /**
+     * Scans a directory which is not indexed yet and, in parallel, its subdirectories
+     */
+    private static class DirectoryScan extends RecursiveTask<Map<Path, IndexedDirectory>> {
+
+        private final Path directory;
+        private final WatchService watchService;
+        // shared by all scans started together, as the watch service may be used concurrently
+        private final Map<WatchKey, Path> watchKeys;
+        private final AtomicBoolean watchFailed;
+
+        DirectoryScan(Path directory, WatchService watchService, Map<WatchKey, Path> watchKeys,
+                      AtomicBoolean watchFailed) {
+            this.directory = directory;
+            this.watchService = watchService;
+            this.watchKeys = watchKeys;
+            this.watchFailed = watchFailed;
+        }
+
+        @Override
+        protected Map<Path, IndexedDirectory> compute() {
+            Map<Path, IndexedDirectory> scannedDirectories = new HashMap<>();
+            BasicFileAttributes attributes;
+            try {
+                attributes = Files.readAttributes(directory, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+            } catch (IOException e) {
+                // removed in the meantime
+                return scannedDirectories;
+            }
+            if (!attributes.isDirectory()) {
+                return scannedDirectories;
+            }
+
+            // watch first, so that no change after the listing is missed
+            if ((watchService != null) && !watchFailed.get()) {
+                try {
+                    watchKeys.put(register(directory, watchService), directory);
+                } catch (IOException | UnsupportedOperationException e) {
+                    watchFailed.set(true);
+                }
+            }
+
+            IndexedDirectory scannedDirectory = listDirectory(directory, attributes.lastModifiedTime().toMillis());
+            scannedDirectories.put(directory, scannedDirectory);
+
+            List<DirectoryScan> subdirectoryScans = new ArrayList<>();
+            for (String name : scannedDirectory.subdirectories) {
+                DirectoryScan scan = new DirectoryScan(directory.resolve(name), watchService, watchKeys, watchFailed);
+                scan.fork();
+                subdirectoryScans.add(scan);
+            }
+            for (DirectoryScan scan : subdirectoryScans) {
+                scannedDirectories.putAll(scan.join());
+            }
+            return scannedDirectories;
+        }
+    }
+
+    private static class IndexedDirectory {
+
+        private final long lastModified;
+        // sorted, so that the files are listed in a stable order
+        private final SortedMap<String, IndexedFile> files = new TreeMap<>();
+        private final SortedSet<String> subdirectories = new TreeSet<>();
+
+        IndexedDirectory(long lastModified) {
+            this.lastModified = lastModified;
+        }
+    }
+
+    private static class IndexedFile {
+
+        private final long size;
+        private final long lastModified;
+
+        IndexedFile(long size, long lastModified) {
+            this.size = size;
+            this.lastModified = lastModified;
+        }
+    }
+}
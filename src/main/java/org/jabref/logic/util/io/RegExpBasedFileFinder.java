@@ -1,17 +1,20 @@
 package org.jabref.logic.util.io;
 
-import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.jabref.logic.util.BracketedPattern;
 import org.jabref.model.database.BibDatabase;
@@ -31,13 +34,17 @@ class RegExpBasedFileFinder implements FileFinder {
     private static final Pattern SQUARE_BRACKETS_PATTERN = Pattern.compile("\\[.*?\\]");
     private final String regExp;
     private final Character keywordDelimiter;
+    private final Optional<Path> fileIndexDirectory;
 
     /**
      * @param regExp The expression deciding which names are acceptable.
+     * @param fileIndexDirectory The directory the {@link FileIndex}es are stored in, if empty the directories are
+     *                           listed from the file system.
      */
-    RegExpBasedFileFinder(String regExp, Character keywordDelimiter) {
+    RegExpBasedFileFinder(String regExp, Character keywordDelimiter, Optional<Path> fileIndexDirectory) {
         this.regExp = regExp;
         this.keywordDelimiter = keywordDelimiter;
+        this.fileIndexDirectory = Objects.requireNonNull(fileIndexDirectory);
     }
 
     /**
@@ -66,9 +73,21 @@ class RegExpBasedFileFinder implements FileFinder {
 
     @Override
     public Map<BibEntry, List<Path>> findAssociatedFiles(List<BibEntry> entries, List<Path> directories, List<String> extensions) {
+        // the directories are listed from their indexes, refreshed once for all entries
+        List<FileIndex> indexes = new ArrayList<>();
+        for (Path directory : directories) {
+            if (fileIndexDirectory.isPresent() && Files.isDirectory(directory)) {
+                FileIndex index = FileIndex.of(directory, fileIndexDirectory.get());
+                if (!indexes.contains(index)) {
+                    index.refresh();
+                    indexes.add(index);
+                }
+            }
+        }
+
         Map<BibEntry, List<Path>> res = new HashMap<>();
         for (BibEntry entry : entries) {
-            res.put(entry, findFiles(entry, extensions, directories));
+            res.put(entry, findFiles(entry, extensions, directories, indexes));
         }
         return res;
     }
@@ -79,11 +98,13 @@ class RegExpBasedFileFinder implements FileFinder {
      * @param entry The entry to search for.
      * @param extensions The extensions that are acceptable.
      * @param directories The root directories to search.
+     * @param indexes The indexes of the root directories.
      * @return A list of files paths matching the given criteria.
      */
-    private List<Path> findFiles(BibEntry entry, List<String> extensions, List<Path> directories) {
+    private List<Path> findFiles(BibEntry entry, List<String> extensions, List<Path> directories,
+                                 List<FileIndex> indexes) {
         String extensionRegExp = '(' + String.join("|", extensions) + ')';
-        return findFile(entry, directories, extensionRegExp);
+        return findFile(entry, directories, extensionRegExp, indexes);
     }
 
     /**
@@ -119,10 +140,10 @@ class RegExpBasedFileFinder implements FileFinder {
      * @return Will return the first file found to match the given criteria or
      *         null if none was found.
      */
-    private List<Path> findFile(BibEntry entry, List<Path> dirs, String extensionRegExp) {
+    private List<Path> findFile(BibEntry entry, List<Path> dirs, String extensionRegExp, List<FileIndex> indexes) {
         List<Path> res = new ArrayList<>();
         for (Path directory : dirs) {
-            res.addAll(findFile(entry, directory, regExp, extensionRegExp));
+            res.addAll(findFile(entry, directory, regExp, extensionRegExp, indexes));
         }
         return res;
     }
@@ -131,7 +152,8 @@ class RegExpBasedFileFinder implements FileFinder {
      * The actual work-horse. Will find absolute filepaths starting from the
      * given directory using the given regular expression string for search.
      */
-    private List<Path> findFile(BibEntry entry, Path directory, String file, String extensionRegExp) {
+    private List<Path> findFile(BibEntry entry, Path directory, String file, String extensionRegExp,
+                                List<FileIndex> indexes) {
         List<Path> res = new ArrayList<>();
 
         String fileName = file;
@@ -174,30 +196,18 @@ class RegExpBasedFileFinder implements FileFinder {
                 continue;
             }
             if ("*".equals(dirToProcess)) { // Do for all direct subdirs
-                File[] subDirs = actualDirectory.toFile().listFiles();
-                if (subDirs != null) {
-                    String restOfFileString = StringUtil.join(fileParts, "/", i + 1, fileParts.length);
-                    for (File subDir : subDirs) {
-                        if (subDir.isDirectory()) {
-                            res.addAll(findFile(entry, subDir.toPath(), restOfFileString, extensionRegExp));
-                        }
-                    }
+                String restOfFileString = StringUtil.join(fileParts, "/", i + 1, fileParts.length);
+                for (Path subDir : getSubdirectories(actualDirectory, false, indexes)) {
+                    res.addAll(findFile(entry, subDir, restOfFileString, extensionRegExp, indexes));
                 }
             }
             // Do for all direct and indirect subdirs
             if ("**".equals(dirToProcess)) {
                 String restOfFileString = StringUtil.join(fileParts, "/", i + 1, fileParts.length);
 
-                try {
-                    Path finalActualDirectory = actualDirectory;
-                    Files.walk(actualDirectory).forEach(subElement -> {
-                        // We only want to transverse directory (and not the current one; this is already done below)
-                        if (!finalActualDirectory.equals(subElement) && Files.isDirectory(subElement)) {
-                            res.addAll(findFile(entry, subElement, restOfFileString, extensionRegExp));
-                        }
-                    });
-                } catch (IOException e) {
-                    LOGGER.debug(e);
+                // We only want to transverse directory (and not the current one; this is already done below)
+                for (Path subElement : getSubdirectories(actualDirectory, true, indexes)) {
+                    res.addAll(findFile(entry, subElement, restOfFileString, extensionRegExp, indexes));
                 }
             } // End process directory information
         }
@@ -207,14 +217,57 @@ class RegExpBasedFileFinder implements FileFinder {
         String filenameToLookFor = expandBrackets(filePart, entry, null, keywordDelimiter).replaceAll(EXT_MARKER, extensionRegExp);
         final Pattern toMatch = Pattern.compile('^' + filenameToLookFor.replaceAll("\\\\\\\\", "\\\\") + '$',
                 Pattern.CASE_INSENSITIVE);
-        try {
-            List<Path> matches = Files.find(actualDirectory, 1,
-                    (path, attributes) -> toMatch.matcher(path.getFileName().toString()).matches())
-                    .collect(Collectors.toList());
-            res.addAll(matches);
+        for (Path path : getFiles(actualDirectory, indexes)) {
+            if (toMatch.matcher(path.getFileName().toString()).matches()) {
+                res.add(path);
+            }
+        }
+        return res;
+    }
+
+    private static Optional<FileIndex> getIndex(Path directory, List<FileIndex> indexes) {
+        return indexes.stream().filter(index -> index.contains(directory)).findFirst();
+    }
+
+    /**
+     * Returns the files in the directory. Directories outside of the indexed ones, e.g., reached by "..", are listed
+     * from the file system.
+     */
+    private static List<Path> getFiles(Path directory, List<FileIndex> indexes) {
+        Optional<FileIndex> index = getIndex(directory, indexes);
+        if (index.isPresent()) {
+            return index.get().getFiles(directory);
+        }
+
+        try (Stream<Path> children = Files.list(directory)) {
+            return children.filter(Files::isRegularFile).collect(Collectors.toList());
         } catch (IOException e) {
             LOGGER.debug(e);
+            return Collections.emptyList();
         }
-        return res;
+    }
+
+    /**
+     * Returns the direct subdirectories of the directory or, if recursive, all directories below it
+     */
+    private static List<Path> getSubdirectories(Path directory, boolean recursive, List<FileIndex> indexes) {
+        Optional<FileIndex> index = getIndex(directory, indexes);
+        if (!index.isPresent()) {
+            try (Stream<Path> subElements = recursive ? Files.walk(directory) : Files.list(directory)) {
+                return subElements.filter(subElement -> !directory.equals(subElement) && Files.isDirectory(subElement))
+                        .collect(Collectors.toList());
+            } catch (IOException e) {
+                LOGGER.debug(e);
+                return Collections.emptyList();
+            }
+        }
+
+        List<Path> subdirectories = index.get().getSubdirectories(directory);
+        if (recursive) {
+            for (int i = 0; i < subdirectories.size(); i++) {
+                subdirectories.addAll(index.get().getSubdirectories(subdirectories.get(i)));
+            }
+        }
+        return subdirectories;
     }
 }
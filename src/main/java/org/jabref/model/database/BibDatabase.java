@@ -8,6 +8,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -15,22 +16,25 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 
+import org.jabref.model.database.event.DatabaseContentChangedEvent;
+import org.jabref.model.database.event.EntriesAddedEvent;
+import org.jabref.model.database.event.EntriesRemovedEvent;
 import org.jabref.model.database.event.EntryAddedEvent;
 import org.jabref.model.database.event.EntryRemovedEvent;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibtexString;
 import org.jabref.model.entry.FieldName;
 import org.jabref.model.entry.InternalBibtexFields;
-import org.jabref.model.entry.Month;
+import org.jabref.model.entry.event.BibtexStringChangedEvent;
 import org.jabref.model.entry.event.EntryChangedEvent;
 import org.jabref.model.entry.event.EntryEventSource;
 import org.jabref.model.entry.event.FieldChangedEvent;
+import org.jabref.model.search.SearchIndex;
 import org.jabref.model.strings.StringUtil;
 
 import com.google.common.eventbus.EventBus;
@@ -43,29 +47,50 @@ import org.apache.commons.logging.LogFactory;
  */
 public class BibDatabase {
     private static final Log LOGGER = LogFactory.getLog(BibDatabase.class);
-    private static final Pattern RESOLVE_CONTENT_PATTERN = Pattern.compile(".*#[^#]+#.*");
     /**
      * State attributes
      */
     private final ObservableList<BibEntry> entries = FXCollections.synchronizedObservableList(FXCollections.observableArrayList());
     private final Map<String, BibtexString> bibtexStrings = new ConcurrentHashMap<>();
+    /**
+     * this is kept in sync with the strings of the database and caches their resolved contents
+     */
+    private final BibtexStringResolver stringResolver = new BibtexStringResolver();
     /**
      * this is kept in sync with the database (upon adding/removing an entry, it is updated as well)
      */
     private final DuplicationChecker duplicationChecker = new DuplicationChecker();
     /**
-     * contains all entry.getID() of the current database
+     * this is kept in sync with the database and allows to look up entries by their id or their key
+     */
+    private final EntryIndex entryIndex = new EntryIndex();
+    /**
+     * this is kept in sync with the database and allows to look up the entries linking to a key
+     */
+    private final EntryLinkIndex entryLinkIndex = new EntryLinkIndex();
+    private final KeyChangeListener keyChangeListener = new KeyChangeListener(this);
+    /**
+     * this is created on the first search and then kept in sync with the database
      */
-    private final Set<String> internalIDs = new HashSet<>();
+    private volatile SearchIndex searchIndex;
+    /**
+     * this is created on the first duplicate check and then kept in sync with the database
+     */
+    private volatile DuplicateIndex duplicateIndex;
     private final EventBus eventBus = new EventBus();
+    /**
+     * the events of all entries are posted to this bus, one bus per entry would take more memory than the entry itself
+     */
+    private final EventBus entryEventBus = new EventBus();
     private String preamble;
     // All file contents below the last entry in the file
     private String epilog = "";
     private String sharedDatabaseID;
 
     public BibDatabase() {
+        this.entryEventBus.register(this);
         this.eventBus.register(duplicationChecker);
-        this.registerListener(new KeyChangeListener(this));
+        this.registerListener(keyChangeListener);
     }
 
     /**
@@ -112,13 +137,36 @@ public class BibDatabase {
      * Returns whether an entry with the given ID exists (-> entry_type + hashcode).
      */
     public boolean containsEntryWithId(String id) {
-        return internalIDs.contains(id);
+        return entryIndex.containsId(id);
     }
 
     public ObservableList<BibEntry> getEntries() {
         return FXCollections.unmodifiableObservableList(entries);
     }
 
+    /**
+     * Returns the full-text index of the entries, which is built on the first call and then updated on each change.
+     */
+    public synchronized SearchIndex getSearchIndex() {
+        if (searchIndex == null) {
+            // the index is published before it is filled, so that no change made meanwhile is lost
+            searchIndex = new SearchIndex();
+            searchIndex.addEntries(entries);
+        }
+        return searchIndex;
+    }
+
+    /**
+     * Returns the index of the possible duplicates of the entries, which is built on the first call and then updated
+     * on each change.
+     */
+    public synchronized DuplicateIndex getDuplicateIndex() {
+        if (duplicateIndex == null) {
+            duplicateIndex = new DuplicateIndex(entries);
+        }
+        return duplicateIndex;
+    }
+
     /**
      * Returns a set of Strings, that contains all field names that are visible. This means that the fields
      * are not internal fields. Internal fields are fields, that are starting with "_".
@@ -138,12 +186,11 @@ public class BibDatabase {
      * Returns the entry with the given bibtex key.
      */
     public synchronized Optional<BibEntry> getEntryByKey(String key) {
-        for (BibEntry entry : entries) {
-            if (key.equals(entry.getCiteKeyOptional().orElse(null))) {
-                return Optional.of(entry);
-            }
+        List<BibEntry> entriesWithKey = getEntriesByKey(key);
+        if (entriesWithKey.isEmpty()) {
+            return Optional.empty();
         }
-        return Optional.empty();
+        return Optional.of(entriesWithKey.get(0));
     }
 
     /**
@@ -154,14 +201,14 @@ public class BibDatabase {
      * @return list of entries that contains the given key
      */
     public synchronized List<BibEntry> getEntriesByKey(String key) {
-        List<BibEntry> result = new ArrayList<>();
-
-        for (BibEntry entry : entries) {
-            entry.getCiteKeyOptional().ifPresent(entryKey -> {
-                if (key.equals(entryKey)) {
-                    result.add(entry);
-                }
-            });
+        Objects.requireNonNull(key);
+
+        List<BibEntry> result = entryIndex.getEntriesByKey(key);
+        if (result.size() > 1) {
+            // Duplicate keys are rare, so only then we have to pay for restoring the order of the database
+            Set<BibEntry> entriesWithKey = Collections.newSetFromMap(new IdentityHashMap<>());
+            entriesWithKey.addAll(result);
+            result = entries.stream().filter(entriesWithKey::contains).collect(Collectors.toList());
         }
         return result;
     }
@@ -173,7 +220,29 @@ public class BibDatabase {
      * @return The entry that has the given id
      */
     public synchronized Optional<BibEntry> getEntryById(String id) {
-        return entries.stream().filter(entry -> entry.getId().equals(id)).findFirst();
+        return entryIndex.getEntryById(id);
+    }
+
+    /**
+     * Returns all entries linking to the given key in one of their entry link fields, e.g., crossref or related.
+     * The order of the returned entries is not the order of the database.
+     */
+    public synchronized List<BibEntry> getEntriesLinkingTo(String key) {
+        return entryLinkIndex.getEntriesLinkingTo(key);
+    }
+
+    /**
+     * Runs the given changes of keys, e.g., the regeneration of the keys of many entries. The links to the changed
+     * keys are not updated after each change but afterwards in one pass, where each linking entry is updated once.
+     * Links to a key refer to the entry having this key before the changes.
+     */
+    public void changeKeys(Runnable keyChanges) {
+        keyChangeListener.startBulkChange();
+        try {
+            keyChanges.run();
+        } finally {
+            keyChangeListener.endBulkChange();
+        }
     }
 
     /**
@@ -209,21 +278,45 @@ public class BibDatabase {
         insertEntries(entries, EntryEventSource.LOCAL);
     }
 
-    private synchronized void insertEntries(List<BibEntry> newEntries, EntryEventSource eventSource) throws KeyCollisionException {
+    /**
+     * Inserts the entries, given that their IDs are not already in use. An {@link EntryAddedEvent} is posted for each
+     * entry, followed by one {@link EntriesAddedEvent} for all of them.
+     *
+     * @param newEntries  BibEntries to insert
+     * @param eventSource Source the events are sent from
+     * @throws KeyCollisionException thrown if the id of an entry is already present in the database or used twice, in
+     *                               this case no entry is inserted
+     */
+    public synchronized void insertEntries(List<BibEntry> newEntries, EntryEventSource eventSource) throws KeyCollisionException {
         Objects.requireNonNull(newEntries);
 
+        Set<String> newIds = new HashSet<>();
         for (BibEntry entry : newEntries) {
             String id = entry.getId();
-            if (containsEntryWithId(id)) {
+            if (containsEntryWithId(id) || !newIds.add(id)) {
                 throw new KeyCollisionException("ID is already in use, please choose another");
             }
+        }
 
-            internalIDs.add(id);
-            entry.registerListener(this);
+        for (BibEntry entry : newEntries) {
+            EntryAddedEvent event = new EntryAddedEvent(entry, eventSource);
+            entryIndex.listen(event);
+            entryLinkIndex.addEntry(entry);
+            if (searchIndex != null) {
+                searchIndex.addEntry(entry);
+            }
+            if (duplicateIndex != null) {
+                duplicateIndex.addEntry(entry);
+            }
+            entry.registerEventBus(entryEventBus);
 
-            eventBus.post(new EntryAddedEvent(entry, eventSource));
+            eventBus.post(event);
         }
         entries.addAll(newEntries);
+
+        if (!newEntries.isEmpty()) {
+            eventBus.post(new EntriesAddedEvent(new ArrayList<>(newEntries), eventSource));
+        }
     }
 
 
@@ -244,13 +337,60 @@ public class BibDatabase {
      * @param eventSource Source the event is sent from
      */
     public synchronized void removeEntry(BibEntry toBeDeleted, EntryEventSource eventSource) {
+        removeEntries(Collections.singletonList(toBeDeleted), eventSource);
+    }
+
+    /**
+     * Removes the given entries, see {@link #removeEntries(List, EntryEventSource)}
+     */
+    public synchronized void removeEntries(List<BibEntry> toBeDeleted) {
+        removeEntries(toBeDeleted, EntryEventSource.LOCAL);
+    }
+
+    /**
+     * Removes the given entries. The entries are removed based on their ids {@link BibEntry#id}, entries not
+     * contained in the database are ignored. An {@link EntryRemovedEvent} is posted for each removed entry, followed
+     * by one {@link EntriesRemovedEvent} for all of them. Changes of the removed entries are no longer relayed to the
+     * listeners of this database.
+     *
+     * @param toBeDeleted Entries to delete
+     * @param eventSource Source the events are sent from
+     */
+    public synchronized void removeEntries(List<BibEntry> toBeDeleted, EntryEventSource eventSource) {
         Objects.requireNonNull(toBeDeleted);
 
-        boolean anyRemoved = entries.removeIf(entry -> entry.getId().equals(toBeDeleted.getId()));
-        if (anyRemoved) {
-            internalIDs.remove(toBeDeleted.getId());
-            eventBus.post(new EntryRemovedEvent(toBeDeleted, eventSource));
+        // the passed entries may be copies of the stored ones, which are compared by content
+        Set<BibEntry> storedEntries = Collections.newSetFromMap(new IdentityHashMap<>());
+        List<BibEntry> removedStoredEntries = new ArrayList<>();
+        List<BibEntry> removedEntries = new ArrayList<>();
+        for (BibEntry entry : toBeDeleted) {
+            Optional<BibEntry> storedEntry = entryIndex.getEntryById(Objects.requireNonNull(entry).getId());
+            if (storedEntry.isPresent() && storedEntries.add(storedEntry.get())) {
+                removedStoredEntries.add(storedEntry.get());
+                removedEntries.add(entry);
+            }
+        }
+        if (removedEntries.isEmpty()) {
+            return;
+        }
+
+        entries.removeIf(storedEntries::contains);
+
+        for (int i = 0; i < removedEntries.size(); i++) {
+            // otherwise, the indexes would pick up changes of the removed entry again
+            removedStoredEntries.get(i).unregisterEventBus(entryEventBus);
+            EntryRemovedEvent event = new EntryRemovedEvent(removedEntries.get(i), eventSource);
+            entryIndex.listen(event);
+            entryLinkIndex.removeEntry(removedStoredEntries.get(i));
+            if (searchIndex != null) {
+                searchIndex.removeEntry(removedStoredEntries.get(i));
+            }
+            if (duplicateIndex != null) {
+                duplicateIndex.removeEntry(removedStoredEntries.get(i));
+            }
+            eventBus.post(event);
         }
+        eventBus.post(new EntriesRemovedEvent(removedEntries, eventSource));
     }
 
     /**
@@ -269,7 +409,10 @@ public class BibDatabase {
      * Sets the database's preamble.
      */
     public synchronized void setPreamble(String preamble) {
-        this.preamble = preamble;
+        if (!Objects.equals(this.preamble, preamble)) {
+            this.preamble = preamble;
+            eventBus.post(new DatabaseContentChangedEvent());
+        }
     }
 
     /**
@@ -285,13 +428,29 @@ public class BibDatabase {
         }
 
         bibtexStrings.put(string.getId(), string);
+        stringResolver.addString(string);
+        string.registerListener(this);
+        eventBus.post(new DatabaseContentChangedEvent());
     }
 
     /**
      * Removes the string with the given id.
      */
     public void removeString(String id) {
-        bibtexStrings.remove(id);
+        BibtexString removedString = bibtexStrings.remove(id);
+        if (removedString != null) {
+            removedString.unregisterListener(this);
+            stringResolver.removeString(removedString);
+            eventBus.post(new DatabaseContentChangedEvent());
+        }
+    }
+
+    /**
+     * Returns a number which changes whenever a string is added, removed or changed. Contents resolved for strings
+     * remain valid as long as the number has not changed.
+     */
+    public long getStringsModificationCount() {
+        return stringResolver.getGeneration();
     }
 
     /**
@@ -321,12 +480,7 @@ public class BibDatabase {
      * Returns the string with the given name.
      */
     public Optional<BibtexString> getStringByName(String name) {
-        for (BibtexString string : getStringValues()) {
-            if (string.getName().equals(name)) {
-                return Optional.of(string);
-            }
-        }
-        return Optional.empty();
+        return stringResolver.getStringByName(name);
     }
 
     /**
@@ -356,12 +510,7 @@ public class BibDatabase {
      * Returns true if a string with the given label already exists.
      */
     public synchronized boolean hasStringLabel(String label) {
-        for (BibtexString value : bibtexStrings.values()) {
-            if (value.getName().equals(label)) {
-                return true;
-            }
-        }
-        return false;
+        return stringResolver.getStringByName(label).isPresent();
     }
 
     /**
@@ -370,7 +519,7 @@ public class BibDatabase {
      */
     public String resolveForStrings(String content) {
         Objects.requireNonNull(content, "Content for resolveForStrings must not be null.");
-        return resolveContent(content, new HashSet<>(), new HashSet<>());
+        return stringResolver.resolveContent(content, null);
     }
 
     /**
@@ -383,13 +532,13 @@ public class BibDatabase {
         // All entries
         for (BibEntry entry : entries) {
             for (String fieldContent : entry.getFieldValues()) {
-                resolveContent(fieldContent, new HashSet<>(), allUsedIds);
+                stringResolver.resolveContent(fieldContent, allUsedIds);
             }
         }
 
         // Preamble
         if (preamble != null) {
-            resolveContent(preamble, new HashSet<>(), allUsedIds);
+            stringResolver.resolveContent(preamble, allUsedIds);
         }
 
         for (String stringId : allUsedIds) {
@@ -448,106 +597,15 @@ public class BibDatabase {
         return resultingEntry;
     }
 
-    /**
-     * If the label represents a string contained in this database, returns
-     * that string's content. Resolves references to other strings, taking
-     * care not to follow a circular reference pattern.
-     * If the string is undefined, returns null.
-     */
-    private String resolveString(String label, Set<String> usedIds, Set<String> allUsedIds) {
-        Objects.requireNonNull(label);
-        Objects.requireNonNull(usedIds);
-        Objects.requireNonNull(allUsedIds);
-
-        for (BibtexString string : bibtexStrings.values()) {
-            if (string.getName().equalsIgnoreCase(label)) {
-                // First check if this string label has been resolved
-                // earlier in this recursion. If so, we have a
-                // circular reference, and have to stop to avoid
-                // infinite recursion.
-                if (usedIds.contains(string.getId())) {
-                    LOGGER.info("Stopped due to circular reference in strings: " + label);
-                    return label;
-                }
-                // If not, log this string's ID now.
-                usedIds.add(string.getId());
-                if (allUsedIds != null) {
-                    allUsedIds.add(string.getId());
-                }
-
-                // Ok, we found the string. Now we must make sure we
-                // resolve any references to other strings in this one.
-                String result = string.getContent();
-                result = resolveContent(result, usedIds, allUsedIds);
-
-                // Finished with recursing this branch, so we remove our
-                // ID again:
-                usedIds.remove(string.getId());
-
-                return result;
-            }
-        }
-
-        // If we get to this point, the string has obviously not been defined locally.
-        // Check if one of the standard BibTeX month strings has been used:
-        Optional<Month> month = Month.getMonthByShortName(label);
-        return month.map(Month::getFullName).orElse(null);
-    }
-
-    private String resolveContent(String result, Set<String> usedIds, Set<String> allUsedIds) {
-        String res = result;
-        if (RESOLVE_CONTENT_PATTERN.matcher(res).matches()) {
-            StringBuilder newRes = new StringBuilder();
-            int piv = 0;
-            int next;
-            while ((next = res.indexOf('#', piv)) >= 0) {
-
-                // We found the next string ref. Append the text
-                // up to it.
-                if (next > 0) {
-                    newRes.append(res.substring(piv, next));
-                }
-                int stringEnd = res.indexOf('#', next + 1);
-                if (stringEnd >= 0) {
-                    // We found the boundaries of the string ref,
-                    // now resolve that one.
-                    String refLabel = res.substring(next + 1, stringEnd);
-                    String resolved = resolveString(refLabel, usedIds, allUsedIds);
-
-                    if (resolved == null) {
-                        // Could not resolve string. Display the #
-                        // characters rather than removing them:
-                        newRes.append(res.substring(next, stringEnd + 1));
-                    } else {
-                        // The string was resolved, so we display its meaning only,
-                        // stripping the # characters signifying the string label:
-                        newRes.append(resolved);
-                    }
-                    piv = stringEnd + 1;
-                } else {
-                    // We did not find the boundaries of the string ref. This
-                    // makes it impossible to interpret it as a string label.
-                    // So we should just append the rest of the text and finish.
-                    newRes.append(res.substring(next));
-                    piv = res.length();
-                    break;
-                }
-
-            }
-            if (piv < (res.length() - 1)) {
-                newRes.append(res.substring(piv));
-            }
-            res = newRes.toString();
-        }
-        return res;
-    }
-
     public String getEpilog() {
         return epilog;
     }
 
     public void setEpilog(String epilog) {
-        this.epilog = epilog;
+        if (!Objects.equals(this.epilog, epilog)) {
+            this.epilog = epilog;
+            eventBus.post(new DatabaseContentChangedEvent());
+        }
     }
 
     /**
@@ -555,8 +613,11 @@ public class BibDatabase {
      * The following events are posted:
      *
      *   - {@link EntryAddedEvent}
+     *   - {@link EntriesAddedEvent}
      *   - {@link EntryChangedEvent}
      *   - {@link EntryRemovedEvent}
+     *   - {@link EntriesRemovedEvent}
+     *   - {@link DatabaseContentChangedEvent}
      *
      * @param listener listener (subscriber) to add
      */
@@ -579,9 +640,24 @@ public class BibDatabase {
 
     @Subscribe
     private void relayEntryChangeEvent(FieldChangedEvent event) {
+        entryIndex.listen(event);
+        entryLinkIndex.listen(event);
+        SearchIndex index = searchIndex;
+        if (index != null) {
+            index.listen(event);
+        }
+        DuplicateIndex duplicates = duplicateIndex;
+        if (duplicates != null) {
+            duplicates.listen(event);
+        }
         eventBus.post(event);
     }
 
+    @Subscribe
+    private void relayStringChangeEvent(@SuppressWarnings("unused") BibtexStringChangedEvent event) {
+        eventBus.post(new DatabaseContentChangedEvent());
+    }
+
     public Optional<BibEntry> getReferencedEntry(BibEntry entry) {
         return entry.getField(FieldName.CROSSREF).flatMap(this::getEntryByKey);
     }
@@ -0,0 +1,361 @@
+package org.jabref.model.database;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jabref.model.entry.BibtexString;
+import org.jabref.model.entry.Month;
+import org.jabref.model.entry.event.BibtexStringChangedEvent;
+
+import com.google.common.eventbus.Subscribe;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/**
+ * Resolves references of the form #label# to the {@link BibtexString}s of a single {@link BibDatabase}.
+ * <p>
+ * The strings are indexed by their case-folded name. Resolved strings are cached together with the ids of all strings
+ * used for resolving them. The cache is invalidated as soon as a string is added, removed or changed. Invalidation
+ * follows the recorded dependencies, i.e. if "a" references "b" and "b" changes, the cached values of "b" and "a"
+ * are removed while all other cached values are kept.
+ */
+class BibtexStringResolver {
+
+    private static final Log LOGGER = LogFactory.getLog(BibtexStringResolver.class);
+
+    /**
+     * case-folded name -> strings in insertion order; BibTeX labels are case-insensitive, but the database allows
+     * strings whose names only differ in case
+     */
+    private final Map<String, List<BibtexString>> stringsByName = new HashMap<>();
+
+    /**
+     * case-folded name -> resolved content
+     */
+    private final Map<String, ResolvedString> resolvedStrings = new ConcurrentHashMap<>();
+
+    /**
+     * case-folded name -> case-folded names of the cached strings referencing it
+     */
+    private final Map<String, Set<String>> dependentNames = new HashMap<>();
+
+    /**
+     * Incremented on each invalidation to prevent caching values computed from outdated strings
+     */
+    private long generation;
+
+    /**
+     * Checks whether the content contains a reference of the form #label#. This is equivalent to matching the regular
+     * expression {@code .*#[^#]+#.*}, but needs only a single pass over the content without creating any objects.
+     * <p>
+     * As '.' does not match line terminators, a content containing line terminators is only considered to contain a
+     * reference if all line terminators are enclosed by the same pair of #.
+     */
+    static boolean containsReference(String content) {
+        int lastHash = -1;
+        boolean hashPairWithContent = false;
+        boolean terminatorFound = false;
+        boolean hashBeforeFirstTerminator = false;
+        boolean hashAfterFirstTerminator = false;
+        boolean hashBetweenTerminators = false;
+        int lastTerminator = -1;
+
+        for (int i = 0; i < content.length(); i++) {
+            char c = content.charAt(i);
+            if (c == '#') {
+                if ((lastHash >= 0) && ((i - lastHash) > 1)) {
+                    hashPairWithContent = true;
+                }
+                if (terminatorFound) {
+                    hashAfterFirstTerminator = true;
+                } else {
+                    hashBeforeFirstTerminator = true;
+                }
+                lastHash = i;
+            } else if (isLineTerminator(c)) {
+                if (hashAfterFirstTerminator) {
+                    hashBetweenTerminators = true;
+                }
+                terminatorFound = true;
+                lastTerminator = i;
+            }
+        }
+
+        if (!terminatorFound) {
+            return hashPairWithContent;
+        }
+        return hashBeforeFirstTerminator && !hashBetweenTerminators && (lastHash > lastTerminator);
+    }
+
+    private static boolean isLineTerminator(char c) {
+        return (c == '\n') || (c == '\r') || (c == '\u0085') || (c == '\u2028') || (c == '\u2029');
+    }
+
+    /**
+     * Folds the case the same way {@link String#equalsIgnoreCase(String)} compares characters.
+     */
+    private static String foldCase(String name) {
+        char[] folded = new char[name.length()];
+        for (int i = 0; i < name.length(); i++) {
+            folded[i] = Character.toLowerCase(Character.toUpperCase(name.charAt(i)));
+        }
+        return new String(folded);
+    }
+
+    public synchronized void addString(BibtexString string) {
+        stringsByName.computeIfAbsent(foldCase(string.getName()), key -> new ArrayList<>(1)).add(string);
+        invalidate(string.getName());
+        string.registerListener(this);
+    }
+
+    public synchronized void removeString(BibtexString string) {
+        string.unregisterListener(this);
+        removeFromNameIndex(string, string.getName());
+        invalidate(string.getName());
+    }
+
+    @Subscribe
+    public synchronized void listen(BibtexStringChangedEvent event) {
+        BibtexString string = event.getBibtexString();
+        if (removeFromNameIndex(string, event.getOldName())) {
+            stringsByName.computeIfAbsent(foldCase(string.getName()), key -> new ArrayList<>(1)).add(string);
+        }
+        invalidate(event.getOldName());
+        invalidate(string.getName());
+    }
+
+    /**
+     * Returns the first string having exactly the given name.
+     */
+    public synchronized Optional<BibtexString> getStringByName(String name) {
+        List<BibtexString> strings = stringsByName.get(foldCase(name));
+        if (strings == null) {
+            return Optional.empty();
+        }
+        return strings.stream().filter(string -> string.getName().equals(name)).findFirst();
+    }
+
+    /**
+     * Resolves all references in the given content.
+     *
+     * @param allUsedIds maybenull set which the ids of all strings used for resolving the content are added to
+     */
+    public String resolveContent(String content, Set<String> allUsedIds) {
+        if (!containsReference(content)) {
+            return content;
+        }
+        return resolveContent(content, new Resolution(allUsedIds));
+    }
+
+    private boolean removeFromNameIndex(BibtexString string, String name) {
+        String key = foldCase(name);
+        List<BibtexString> strings = stringsByName.get(key);
+        if (strings == null) {
+            return false;
+        }
+
+        boolean removed = strings.removeIf(indexedString -> indexedString == string);
+        if (strings.isEmpty()) {
+            stringsByName.remove(key);
+        }
+        return removed;
+    }
+
+    private synchronized Optional<BibtexString> getStringByLabel(String key) {
+        List<BibtexString> strings = stringsByName.get(key);
+        if (strings == null) {
+            return Optional.empty();
+        }
+        return Optional.of(strings.get(0));
+    }
+
+    private synchronized void invalidate(String name) {
+        generation++;
+
+        Deque<String> namesToInvalidate = new ArrayDeque<>();
+        namesToInvalidate.add(foldCase(name));
+        while (!namesToInvalidate.isEmpty()) {
+            String key = namesToInvalidate.poll();
+            resolvedStrings.remove(key);
+            Set<String> dependents = dependentNames.remove(key);
+            if (dependents != null) {
+                namesToInvalidate.addAll(dependents);
+            }
+        }
+    }
+
+    private synchronized void cache(String key, ResolvedString resolvedString, long startGeneration) {
+        if (startGeneration != generation) {
+            // a string has changed during the resolution, thus the result may be outdated
+            return;
+        }
+
+        resolvedStrings.put(key, resolvedString);
+        for (String referencedKey : resolvedString.referencedKeys) {
+            dependentNames.computeIfAbsent(referencedKey, k -> new HashSet<>()).add(key);
+        }
+    }
+
+    synchronized long getGeneration() {
+        return generation;
+    }
+
+    private String resolveContent(String content, Resolution resolution) {
+        if (!containsReference(content)) {
+            return content;
+        }
+
+        StringBuilder newRes = new StringBuilder();
+        int piv = 0;
+        int next;
+        while ((next = content.indexOf('#', piv)) >= 0) {
+
+            // We found the next string ref. Append the text
+            // up to it.
+            if (next > 0) {
+                newRes.append(content, piv, next);
+            }
+            int stringEnd = content.indexOf('#', next + 1);
+            if (stringEnd >= 0) {
+                // We found the boundaries of the string ref,
+                // now resolve that one.
+                String refLabel = content.substring(next + 1, stringEnd);
+                String resolved = resolveString(refLabel, resolution);
+
+                if (resolved == null) {
+                    // Could not resolve string. Display the #
+                    // characters rather than removing them:
+                    newRes.append(content, next, stringEnd + 1);
+                } else {
+                    // The string was resolved, so we display its meaning only,
+                    // stripping the # characters signifying the string label:
+                    newRes.append(resolved);
+                }
+                piv = stringEnd + 1;
+            } else {
+                // We did not find the boundaries of the string ref. This
+                // makes it impossible to interpret it as a string label.
+                // So we should just append the rest of the text and finish.
+                newRes.append(content.substring(next));
+                piv = content.length();
+                break;
+            }
+
+        }
+        if (piv < (content.length() - 1)) {
+            newRes.append(content.substring(piv));
+        }
+        return newRes.toString();
+    }
+
+    /**
+     * If the label represents a string contained in this database, returns
+     * that string's content. Resolves references to other strings, taking
+     * care not to follow a circular reference pattern.
+     * If the string is undefined, returns null.
+     */
+    private String resolveString(String label, Resolution resolution) {
+        String key = foldCase(label);
+        resolution.referencedKeys.add(key);
+
+        ResolvedString cached = resolvedStrings.get(key);
+        if (cached != null) {
+            resolution.allUsedIds.addAll(cached.usedIds);
+            return cached.content;
+        }
+
+        Optional<BibtexString> string = getStringByLabel(key);
+        if (!string.isPresent()) {
+            // If we get to this point, the string has obviously not been defined locally.
+            // Check if one of the standard BibTeX month strings has been used:
+            Optional<Month> month = Month.getMonthByShortName(label);
+            return month.map(Month::getFullName).orElse(null);
+        }
+
+        String id = string.get().getId();
+        // First check if this string label has been resolved
+        // earlier in this recursion. If so, we have a
+        // circular reference, and have to stop to avoid
+        // infinite recursion.
+        if (resolution.usedIds.contains(id)) {
+            LOGGER.info("Stopped due to circular reference in strings: " + label);
+            resolution.circularReferences++;
+            return label;
+        }
+
+        long startGeneration = getGeneration();
+        int circularReferencesBefore = resolution.circularReferences;
+
+        // Ok, we found the string. Now we must make sure we
+        // resolve any references to other strings in this one.
+        Resolution innerResolution = resolution.enter(id);
+        String result = resolveContent(string.get().getContent(), innerResolution);
+        resolution.leave(id, innerResolution);
+
+        // The result of a circular reference depends on where the resolution started, thus it must not be cached
+        if (resolution.circularReferences == circularReferencesBefore) {
+            cache(key, new ResolvedString(result, innerResolution.allUsedIds, innerResolution.referencedKeys),
+                    startGeneration);
+        }
+        return result;
+    }
+
+    private static class ResolvedString {
+
+        private final String content;
+        private final Set<String> usedIds;
+        private final Set<String> referencedKeys;
+
+        ResolvedString(String content, Set<String> usedIds, Set<String> referencedKeys) {
+            this.content = content;
+            this.usedIds = Collections.unmodifiableSet(usedIds);
+            this.referencedKeys = referencedKeys;
+        }
+    }
+
+    /**
+     * State of a single (possibly nested) resolution
+     */
+    private static class Resolution {
+
+        /** ids of the strings currently being resolved, used to detect circular references */
+        private final Set<String> usedIds;
+        /** ids of all strings used in this resolution */
+        private final Set<String> allUsedIds;
+        /** case-folded labels referenced directly in this resolution */
+        private final Set<String> referencedKeys = new HashSet<>();
+        private int circularReferences;
+
+        Resolution(Set<String> allUsedIds) {
+            this(new HashSet<>(), allUsedIds == null ? new HashSet<>() : allUsedIds);
+        }
+
+        private Resolution(Set<String> usedIds, Set<String> allUsedIds) {
+            this.usedIds = usedIds;
+            this.allUsedIds = allUsedIds;
+        }
+
+        Resolution enter(String id) {
+            usedIds.add(id);
+            Resolution inner = new Resolution(usedIds, new HashSet<>());
+            inner.allUsedIds.add(id);
+            inner.circularReferences = circularReferences;
+            return inner;
+        }
+
+        void leave(String id, Resolution inner) {
+            usedIds.remove(id);
+            allUsedIds.addAll(inner.allUsedIds);
+            circularReferences = inner.circularReferences;
+        }
+    }
+}
@@ -0,0 +1,234 @@
+package org.jabref.model.database;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.jabref.model.entry.AuthorList;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.FieldName;
+import org.jabref.model.entry.event.FieldChangedEvent;
+
+/**
+ * Groups entries which may be duplicates of each other, so that the duplicate check only has to compare a few
+ * candidates instead of every pair of entries.
+ * <p>
+ * Each entry is put into several buckets, two entries are candidates if they share at least one bucket:
+ * <ul>
+ * <li>one bucket per identifier (DOI, ePrint, PubMed ID and ISBN), as entries having the same identifier are
+ * duplicates regardless of their other fields</li>
+ * <li>the buckets of the MinHash signature of the title, so that entries with similar titles share a bucket with high
+ * probability</li>
+ * <li>one bucket for the year and the last name of the first author (or editor)</li>
+ * </ul>
+ * Apart from the identifiers, duplicates must have the same entry type, thus the type is part of the other buckets.
+ * Entries having none of these fields are put into a single bucket per entry type.
+ * <p>
+ * The index of the entries of a {@link BibDatabase} is kept in sync by the database, which feeds it the added, removed
+ * and changed entries.
+ */
+public class DuplicateIndex {
+
+    private static final List<String> IDENTIFIER_FIELDS = Arrays.asList(FieldName.DOI, FieldName.EPRINT,
+            FieldName.PMID, FieldName.ISBN);
+
+    // fields the buckets are computed from, see getKeys
+    private static final Set<String> KEY_FIELDS = new HashSet<>(Arrays.asList(FieldName.DOI, FieldName.EPRINT,
+            FieldName.PMID, FieldName.ISBN, FieldName.TITLE, FieldName.YEAR, FieldName.DATE, FieldName.AUTHOR,
+            FieldName.EDITOR, BibEntry.TYPE_HEADER));
+
+    private static final int SHINGLE_LENGTH = 3;
+    // similar titles share a band with high probability, unrelated ones rarely do
+    private static final int BANDS = 10;
+    private static final int ROWS_PER_BAND = 3;
+
+    private final Map<String, Set<BibEntry>> entriesByKey = new HashMap<>();
+    private final Map<BibEntry, IndexedEntry> indexedEntries = new IdentityHashMap<>();
+    // the entries are numbered in the order they are added, which is the order of the database
+    private long nextPosition;
+
+    /**
+     * @param entries the entries to index, the candidates are returned in this order
+     */
+    public DuplicateIndex(Collection<BibEntry> entries) {
+        entries.forEach(this::addEntry);
+    }
+
+    static List<String> getKeys(BibEntry entry) {
+        List<String> keys = new ArrayList<>();
+        for (String field : IDENTIFIER_FIELDS) {
+            entry.getField(field).ifPresent(value -> keys.add(field + ':' + value));
+        }
+
+        String type = entry.getType();
+        entry.getField(FieldName.TITLE).map(DuplicateIndex::normalize).filter(title -> !title.isEmpty())
+                .ifPresent(title -> {
+                    int[] signature = getMinHashSignature(title);
+                    for (int band = 0; band < BANDS; band++) {
+                        StringBuilder key = new StringBuilder(type).append(":title").append(band);
+                        for (int row = band * ROWS_PER_BAND; row < ((band + 1) * ROWS_PER_BAND); row++) {
+                            key.append(':').append(signature[row]);
+                        }
+                        keys.add(key.toString());
+                    }
+                });
+
+        Optional<String> year = entry.getFieldOrAlias(FieldName.YEAR);
+        Optional<String> firstAuthor = getFirstAuthor(entry);
+        if (year.isPresent() || firstAuthor.isPresent()) {
+            keys.add(type + ":year:" + year.map(DuplicateIndex::normalize).orElse("") + ":author:"
+                    + firstAuthor.orElse(""));
+        }
+
+        if (keys.isEmpty()) {
+            keys.add(type);
+        }
+        return keys;
+    }
+
+    private static Optional<String> getFirstAuthor(BibEntry entry) {
+        Optional<String> authors = entry.getField(FieldName.AUTHOR);
+        if (!authors.isPresent()) {
+            authors = entry.getField(FieldName.EDITOR);
+        }
+        return authors.map(AuthorList::parse)
+                .filter(authorList -> !authorList.isEmpty())
+                .flatMap(authorList -> authorList.getAuthor(0).getLast())
+                .map(DuplicateIndex::normalize)
+                .filter(lastName -> !lastName.isEmpty());
+    }
+
+    /**
+     * Lower-cases the text and reduces it to words of letters and digits separated by single spaces. Thus, braces,
+     * punctuation and line breaks do not affect the buckets.
+     */
+    private static String normalize(String text) {
+        StringBuilder normalized = new StringBuilder(text.length());
+        boolean separate = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                if (separate && (normalized.length() > 0)) {
+                    normalized.append(' ');
+                }
+                normalized.append(Character.toLowerCase(c));
+                separate = false;
+            } else if (Character.isWhitespace(c)) {
+                separate = true;
+            }
+        }
+        return normalized.toString();
+    }
+
+    /**
+     * Computes the MinHash signature of the character shingles of the text. The probability that two signatures agree
+     * in a row is the Jaccard similarity of the shingle sets.
+     */
+    private static int[] getMinHashSignature(String text) {
+        int[] signature = new int[BANDS * ROWS_PER_BAND];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+        int shingles = Math.max(1, (text.length() - SHINGLE_LENGTH) + 1);
+        for (int i = 0; i < shingles; i++) {
+            int shingle = text.substring(i, Math.min(text.length(), i + SHINGLE_LENGTH)).hashCode();
+            for (int row = 0; row < signature.length; row++) {
+                signature[row] = Math.min(signature[row], hash(shingle, row));
+            }
+        }
+        return signature;
+    }
+
+    /**
+     * Hashes the value with the row-specific seed using the finalizer of MurmurHash3
+     */
+    private static int hash(int value, int row) {
+        int hash = value ^ (row * 0x9E3779B9);
+        hash ^= hash >>> 16;
+        hash *= 0x85EBCA6B;
+        hash ^= hash >>> 13;
+        hash *= 0xC2B2AE35;
+        hash ^= hash >>> 16;
+        return hash;
+    }
+
+    /**
+     * Adds the entry or, if it is indexed already, updates its buckets while keeping its position
+     */
+    public synchronized void addEntry(BibEntry entry) {
+        IndexedEntry previousEntry = indexedEntries.get(entry);
+        long position = previousEntry == null ? nextPosition++ : previousEntry.position;
+        removeEntry(entry);
+        List<String> keys = getKeys(entry);
+        indexedEntries.put(entry, new IndexedEntry(position, keys));
+        for (String key : keys) {
+            // entries are compared by content, but equal entries have to be distinguished
+            entriesByKey.computeIfAbsent(key, k -> Collections.newSetFromMap(new IdentityHashMap<>(2))).add(entry);
+        }
+    }
+
+    public synchronized void removeEntry(BibEntry entry) {
+        IndexedEntry indexedEntry = indexedEntries.remove(entry);
+        if (indexedEntry == null) {
+            return;
+        }
+        for (String key : indexedEntry.keys) {
+            Set<BibEntry> entries = entriesByKey.get(key);
+            if (entries != null) {
+                entries.remove(entry);
+                if (entries.isEmpty()) {
+                    entriesByKey.remove(key);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the indexed entries, except for the given one, which may be duplicates of the given entry. The entry
+     * itself does not have to be indexed. The candidates are ordered by the time they have been added to the index.
+     */
+    public synchronized List<BibEntry> getCandidates(BibEntry entry) {
+        IndexedEntry indexedEntry = indexedEntries.get(entry);
+        List<String> keys = indexedEntry == null ? getKeys(entry) : indexedEntry.keys;
+
+        Set<BibEntry> candidates = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (String key : keys) {
+            candidates.addAll(entriesByKey.getOrDefault(key, Collections.emptySet()));
+        }
+        candidates.remove(entry);
+
+        List<BibEntry> sortedCandidates = new ArrayList<>(candidates);
+        sortedCandidates.sort(Comparator.comparingLong(candidate -> indexedEntries.get(candidate).position));
+        return sortedCandidates;
+    }
+
+    public synchronized void listen(FieldChangedEvent event) {
+        if (!KEY_FIELDS.contains(event.getFieldName())) {
+            return;
+        }
+
+        BibEntry entry = event.getBibEntry();
+        // only update indexed entries, the event may arrive after the entry has been removed
+        if (indexedEntries.containsKey(entry)) {
+            addEntry(entry);
+        }
+    }
+
+    private static class IndexedEntry {
+
+        private final long position;
+        private final List<String> keys;
+
+        IndexedEntry(long position, List<String> keys) {
+            this.position = position;
+            this.keys = keys;
+        }
+    }
+}
@@ -4,8 +4,8 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 
-import org.jabref.model.database.event.EntryAddedEvent;
-import org.jabref.model.database.event.EntryRemovedEvent;
+import org.jabref.model.database.event.EntriesAddedEvent;
+import org.jabref.model.database.event.EntriesRemovedEvent;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.event.FieldChangedEvent;
 
@@ -92,18 +92,22 @@ public class DuplicationChecker {
     }
 
     @Subscribe
-    public void listen(EntryRemovedEvent entryRemovedEvent) {
-        Optional<String> citeKey = entryRemovedEvent.getBibEntry().getCiteKeyOptional();
-        if (citeKey.isPresent()) {
-            removeKeyFromSet(citeKey.get());
+    public void listen(EntriesRemovedEvent entriesRemovedEvent) {
+        for (BibEntry entry : entriesRemovedEvent.getBibEntries()) {
+            Optional<String> citeKey = entry.getCiteKeyOptional();
+            if (citeKey.isPresent()) {
+                removeKeyFromSet(citeKey.get());
+            }
         }
     }
 
     @Subscribe
-    public void listen(EntryAddedEvent entryAddedEvent) {
-        Optional<String> citekey = entryAddedEvent.getBibEntry().getCiteKeyOptional();
-        if (citekey.isPresent()) {
-            addKeyToSet(citekey.get());
+    public void listen(EntriesAddedEvent entriesAddedEvent) {
+        for (BibEntry entry : entriesAddedEvent.getBibEntries()) {
+            Optional<String> citekey = entry.getCiteKeyOptional();
+            if (citekey.isPresent()) {
+                addKeyToSet(citekey.get());
+            }
         }
     }
 
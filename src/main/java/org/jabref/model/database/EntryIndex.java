@@ -0,0 +1,107 @@
+package org.jabref.model.database;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.jabref.model.database.event.EntryAddedEvent;
+import org.jabref.model.database.event.EntryRemovedEvent;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.event.FieldChangedEvent;
+
+/**
+ * Secondary indexes of a single {@link BibDatabase}: internal id -> entry and BibTeX key -> entries.
+ * <p>
+ * The index is kept in sync by the database which feeds it the {@link EntryAddedEvent}s, {@link EntryRemovedEvent}s
+ * and {@link FieldChangedEvent}s of its entries. The events are passed in directly (and not via the event bus) so that
+ * the index is up-to-date before any subscriber of the database is notified.
+ */
+class EntryIndex {
+
+    private final Map<String, BibEntry> entriesById = new HashMap<>();
+
+    /** the lists are in insertion order, which is not necessarily the order of the database */
+    private final Map<String, List<BibEntry>> entriesByKey = new HashMap<>();
+
+    public synchronized boolean containsId(String id) {
+        return entriesById.containsKey(id);
+    }
+
+    public synchronized Optional<BibEntry> getEntryById(String id) {
+        return Optional.ofNullable(entriesById.get(id));
+    }
+
+    /**
+     * Returns all entries having the given key. The returned list is a copy and may be modified freely.
+     */
+    public synchronized List<BibEntry> getEntriesByKey(String key) {
+        List<BibEntry> entries = entriesByKey.get(key);
+        if (entries == null) {
+            return Collections.emptyList();
+        }
+        return new ArrayList<>(entries);
+    }
+
+    public synchronized void listen(EntryAddedEvent event) {
+        BibEntry entry = event.getBibEntry();
+        entriesById.put(entry.getId(), entry);
+        entry.getCiteKeyOptional().ifPresent(key -> addKey(key, entry));
+    }
+
+    public synchronized void listen(EntryRemovedEvent event) {
+        // the database removes entries based on their id, thus the passed entry may be a copy of the indexed one
+        BibEntry entry = entriesById.remove(event.getBibEntry().getId());
+        if (entry != null) {
+            entry.getCiteKeyOptional().ifPresent(key -> removeKey(key, entry));
+        }
+    }
+
+    public synchronized void listen(FieldChangedEvent event) {
+        BibEntry entry = event.getBibEntry();
+        String fieldName = event.getFieldName();
+
+        if (BibEntry.ID_FIELD.equals(fieldName)) {
+            // the event is posted before the id of the entry is changed, thus we must use the old value of the event
+            if (entriesById.remove(event.getOldValue(), entry)) {
+                entriesById.put(event.getNewValue(), entry);
+            }
+        } else if (BibEntry.KEY_FIELD.equals(fieldName) && isIndexed(entry)) {
+            removeKey(event.getOldValue(), entry);
+            addKey(event.getNewValue(), entry);
+        }
+    }
+
+    /**
+     * Entries removed from the database still post their events to the database, so these have to be ignored.
+     */
+    private boolean isIndexed(BibEntry entry) {
+        return entriesById.get(entry.getId()) == entry;
+    }
+
+    private void addKey(String key, BibEntry entry) {
+        if (key == null) {
+            return;
+        }
+        entriesByKey.computeIfAbsent(key, k -> new ArrayList<>(1)).add(entry);
+    }
+
+    private void removeKey(String key, BibEntry entry) {
+        if (key == null) {
+            return;
+        }
+
+        List<BibEntry> entries = entriesByKey.get(key);
+        if (entries == null) {
+            return;
+        }
+
+        // BibEntry#equals compares the content, but we are interested in the very instance
+        entries.removeIf(indexedEntry -> indexedEntry == entry);
+        if (entries.isEmpty()) {
+            entriesByKey.remove(key);
+        }
+    }
+}
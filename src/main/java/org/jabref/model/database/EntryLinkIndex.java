@@ -0,0 +1,137 @@
+package org.jabref.model.database;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.FieldProperty;
+import org.jabref.model.entry.InternalBibtexFields;
+import org.jabref.model.entry.event.FieldChangedEvent;
+
+/**
+ * Reverse index of the links between the entries of a single {@link BibDatabase}: BibTeX key -> entries linking to
+ * this key in one of their entry link fields (e.g., crossref or related).
+ * <p>
+ * The index is kept in sync by the database, see {@link EntryIndex}. The linked keys of an entry are taken from its
+ * content again whenever one of its link fields changes, thus the index does not depend on the order of the events.
+ */
+class EntryLinkIndex {
+
+    private static final List<String> LINK_FIELDS = new ArrayList<>();
+
+    static {
+        for (String fieldName : InternalBibtexFields.getAllPublicFieldNames()) {
+            Set<FieldProperty> properties = InternalBibtexFields.getFieldProperties(fieldName);
+            if (properties.contains(FieldProperty.SINGLE_ENTRY_LINK)
+                    || properties.contains(FieldProperty.MULTIPLE_ENTRY_LINK)) {
+                LINK_FIELDS.add(fieldName);
+            }
+        }
+    }
+
+    /**
+     * contains all indexed entries, also those without links. Entries are compared by content, thus the identity map
+     */
+    private final Map<BibEntry, Set<String>> linkedKeysByEntry = new IdentityHashMap<>();
+
+    /** the lists are in insertion order, which is not necessarily the order of the database */
+    private final Map<String, List<BibEntry>> entriesByLinkedKey = new HashMap<>();
+
+    /**
+     * Returns the names of all fields linking to other entries
+     */
+    public static List<String> getLinkFields() {
+        return Collections.unmodifiableList(LINK_FIELDS);
+    }
+
+    /**
+     * Returns all entries linking to the given key. The returned list is a copy and may be modified freely.
+     */
+    public synchronized List<BibEntry> getEntriesLinkingTo(String key) {
+        List<BibEntry> entries = entriesByLinkedKey.get(key);
+        if (entries == null) {
+            return Collections.emptyList();
+        }
+        return new ArrayList<>(entries);
+    }
+
+    public synchronized void addEntry(BibEntry entry) {
+        Set<String> linkedKeys = getLinkedKeys(entry);
+        linkedKeysByEntry.put(entry, linkedKeys);
+        for (String key : linkedKeys) {
+            addLink(key, entry);
+        }
+    }
+
+    public synchronized void removeEntry(BibEntry entry) {
+        Set<String> linkedKeys = linkedKeysByEntry.remove(entry);
+        if (linkedKeys != null) {
+            for (String key : linkedKeys) {
+                removeLink(key, entry);
+            }
+        }
+    }
+
+    public synchronized void listen(FieldChangedEvent event) {
+        if (!LINK_FIELDS.contains(event.getFieldName())) {
+            return;
+        }
+
+        // entries removed from the database still post their events to the database, these are not indexed
+        BibEntry entry = event.getBibEntry();
+        if (linkedKeysByEntry.containsKey(entry)) {
+            removeEntry(entry);
+            addEntry(entry);
+        }
+    }
+
+    private static Set<String> getLinkedKeys(BibEntry entry) {
+        Set<String> linkedKeys = Collections.emptySet();
+        for (String field : LINK_FIELDS) {
+            if (entry.hasField(field)) {
+                if (linkedKeys.isEmpty()) {
+                    linkedKeys = new LinkedHashSet<>();
+                }
+                linkedKeys.addAll(getLinkedKeys(entry, field));
+            }
+        }
+        return linkedKeys;
+    }
+
+    /**
+     * Returns the keys the given field of the entry links to, in the order of the field
+     */
+    static List<String> getLinkedKeys(BibEntry entry, String field) {
+        return entry.getField(field).map(fieldContent -> {
+            if (InternalBibtexFields.getFieldProperties(field).contains(FieldProperty.SINGLE_ENTRY_LINK)) {
+                return Collections.singletonList(fieldContent);
+            } else { // MULTIPLE_ENTRY_LINK
+                return Arrays.asList(fieldContent.split(","));
+            }
+        }).orElse(Collections.emptyList());
+    }
+
+    private void addLink(String key, BibEntry entry) {
+        entriesByLinkedKey.computeIfAbsent(key, k -> new ArrayList<>(1)).add(entry);
+    }
+
+    private void removeLink(String key, BibEntry entry) {
+        List<BibEntry> entries = entriesByLinkedKey.get(key);
+        if (entries == null) {
+            return;
+        }
+
+        // BibEntry#equals compares the content, but we are interested in the very instance
+        entries.removeIf(linkingEntry -> linkingEntry == entry);
+        if (entries.isEmpty()) {
+            entriesByLinkedKey.remove(key);
+        }
+    }
+}
@@ -1,10 +1,15 @@
 package org.jabref.model.database;
 
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
-import org.jabref.model.database.event.EntryRemovedEvent;
+import org.jabref.model.database.event.EntriesRemovedEvent;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.FieldProperty;
 import org.jabref.model.entry.InternalBibtexFields;
@@ -12,24 +17,26 @@ import org.jabref.model.entry.event.FieldChangedEvent;
 
 import com.google.common.eventbus.Subscribe;
 
+/**
+ * Updates the links of the entries of the database (e.g., crossref or related) when the key of the linked entry is
+ * changed or the linked entry is removed. Only the entries found in the {@link EntryLinkIndex} of the database are
+ * updated.
+ * <p>
+ * While keys are changed in bulk (see {@link BibDatabase#changeKeys(Runnable)}), the changes are collected and the
+ * links are updated afterwards in one pass. Thereby each linking entry is updated once, and links are updated
+ * correctly also if the keys of two entries are swapped.
+ */
 public class KeyChangeListener {
 
     private final BibDatabase database;
 
-    private final List<String> keyFields = new ArrayList<>();
-
+    private int bulkChangeDepth;
+    // the key of each entry before its first change in the current bulk change
+    private final Map<BibEntry, String> originalKeys = new IdentityHashMap<>();
+    private final List<BibEntry> changedEntries = new ArrayList<>();
 
     public KeyChangeListener(BibDatabase database) {
         this.database = database;
-
-        // Look for fields with FieldProperies.SINGLE_ENTRY_LINK or FieldProperties.MULTIPLE_ENTRY_LINK to speed up the search later
-
-        for (String fieldName : InternalBibtexFields.getAllPublicFieldNames()) {
-            if (InternalBibtexFields.getFieldProperties(fieldName).contains(FieldProperty.SINGLE_ENTRY_LINK)
-                    || InternalBibtexFields.getFieldProperties(fieldName).contains(FieldProperty.MULTIPLE_ENTRY_LINK)) {
-                keyFields.add(fieldName);
-            }
-        }
     }
 
     @Subscribe
@@ -37,46 +44,137 @@ public class KeyChangeListener {
         if (event.getFieldName().equals(BibEntry.KEY_FIELD)) {
             String newKey = event.getNewValue();
             String oldKey = event.getOldValue();
-            updateEntryLinks(newKey, oldKey);
+            if (isBulkChangeRunning()) {
+                recordKeyChange(event.getBibEntry(), oldKey);
+            } else {
+                updateEntryLinks(newKey, oldKey);
+            }
         }
     }
 
     @Subscribe
-    public void listen(EntryRemovedEvent event) {
-        event.getBibEntry().getCiteKeyOptional().ifPresent(oldKey -> updateEntryLinks(null, oldKey));
+    public void listen(EntriesRemovedEvent event) {
+        // the links to all removed entries are removed in one pass
+        Map<String, String> newKeys = new HashMap<>();
+        for (BibEntry entry : event.getBibEntries()) {
+            if (isKeyChangeRecorded(entry)) {
+                // the links to the original key are removed after the bulk change
+                continue;
+            }
+            entry.getCiteKeyOptional().ifPresent(oldKey -> newKeys.put(oldKey, null));
+        }
+
+        if (!newKeys.isEmpty()) {
+            updateEntryLinks(newKeys);
+        }
+    }
+
+    synchronized void startBulkChange() {
+        bulkChangeDepth++;
+    }
+
+    void endBulkChange() {
+        Map<String, String> newKeys;
+        synchronized (this) {
+            bulkChangeDepth--;
+            if (bulkChangeDepth > 0) {
+                return;
+            }
+            newKeys = getNewKeys();
+            originalKeys.clear();
+            changedEntries.clear();
+        }
+
+        if (!newKeys.isEmpty()) {
+            updateEntryLinks(newKeys);
+        }
+    }
+
+    private synchronized boolean isBulkChangeRunning() {
+        return bulkChangeDepth > 0;
+    }
+
+    private synchronized boolean isKeyChangeRecorded(BibEntry entry) {
+        return originalKeys.containsKey(entry);
+    }
+
+    private synchronized void recordKeyChange(BibEntry entry, String oldKey) {
+        if (!originalKeys.containsKey(entry)) {
+            originalKeys.put(entry, oldKey);
+            changedEntries.add(entry);
+        }
+    }
+
+    /**
+     * Returns original key -> new key (or null if the entry has lost its key or has been removed)
+     */
+    private Map<String, String> getNewKeys() {
+        Map<String, String> newKeys = new HashMap<>();
+        for (BibEntry entry : changedEntries) {
+            String originalKey = originalKeys.get(entry);
+            if (originalKey == null) {
+                // nothing could link to an entry without key
+                continue;
+            }
+
+            boolean isContained = database.getEntryById(entry.getId()).filter(stored -> stored == entry).isPresent();
+            String newKey = isContained ? entry.getCiteKeyOptional().orElse(null) : null;
+            if (!originalKey.equals(newKey)) {
+                // with duplicate keys, the links are updated according to the first entry changed
+                newKeys.putIfAbsent(originalKey, newKey);
+            }
+        }
+        return newKeys;
     }
 
     private void updateEntryLinks(String newKey, String oldKey) {
-        for (BibEntry entry : database.getEntries()) {
-            for (String field : keyFields) {
-                entry.getField(field).ifPresent(fieldContent -> {
-                    if (InternalBibtexFields.getFieldProperties(field).contains(FieldProperty.SINGLE_ENTRY_LINK)) {
-                        replaceSingleKeyInField(newKey, oldKey, entry, field, fieldContent);
-                    } else { // MULTIPLE_ENTRY_LINK
-                        replaceKeyInMultiplesKeyField(newKey, oldKey, entry, field, fieldContent);
-                    }
-                });
+        if (oldKey == null) {
+            return;
+        }
+
+        Map<String, String> newKeys = new HashMap<>();
+        newKeys.put(oldKey, newKey);
+        updateEntryLinks(newKeys);
+    }
+
+    private void updateEntryLinks(Map<String, String> newKeys) {
+        // an entry linking to several changed keys is updated only once
+        Set<BibEntry> linkingEntries = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (String oldKey : newKeys.keySet()) {
+            linkingEntries.addAll(database.getEntriesLinkingTo(oldKey));
+        }
+
+        for (BibEntry entry : linkingEntries) {
+            for (String field : EntryLinkIndex.getLinkFields()) {
+                if (InternalBibtexFields.getFieldProperties(field).contains(FieldProperty.SINGLE_ENTRY_LINK)) {
+                    replaceSingleKeyInField(newKeys, entry, field);
+                } else { // MULTIPLE_ENTRY_LINK
+                    replaceKeysInMultipleKeysField(newKeys, entry, field);
+                }
             }
         }
     }
 
-    private void replaceKeyInMultiplesKeyField(String newKey, String oldKey, BibEntry entry, String field,
-            String fieldContent) {
-        List<String> keys = new ArrayList<>(Arrays.asList(fieldContent.split(",")));
-        int index = keys.indexOf(oldKey);
-        if (index != -1) {
-            if (newKey == null) {
-                keys.remove(index);
-            } else {
-                keys.set(index, newKey);
+    private void replaceKeysInMultipleKeysField(Map<String, String> newKeys, BibEntry entry, String field) {
+        List<String> keys = EntryLinkIndex.getLinkedKeys(entry, field);
+        List<String> updatedKeys = new ArrayList<>(keys.size());
+        for (String key : keys) {
+            if (!newKeys.containsKey(key)) {
+                updatedKeys.add(key);
+            } else if (newKeys.get(key) != null) {
+                updatedKeys.add(newKeys.get(key));
             }
-            entry.setField(field, String.join(",", keys));
+        }
+
+        if (!updatedKeys.equals(keys)) {
+            entry.setField(field, String.join(",", updatedKeys));
         }
     }
 
-    private void replaceSingleKeyInField(String newKey, String oldKey, BibEntry entry, String field,
-            String fieldContent) {
-        if (fieldContent.equals(oldKey)) {
+    private void replaceSingleKeyInField(Map<String, String> newKeys, BibEntry entry, String field) {
+        Optional<String> fieldContent = entry.getField(field);
+        if (fieldContent.isPresent() && newKeys.containsKey(fieldContent.get())) {
+            String newKey = newKeys.get(fieldContent.get());
             if (newKey == null) {
                 entry.clearField(field);
             } else {
@@ -7,7 +7,8 @@ import com.google.common.eventbus.EventBus;
 import com.google.common.eventbus.Subscribe;
 
 /**
- * Filters change events and only relays major changes.
+ * Filters change events and only relays major changes. Added and removed entries are relayed by a single
+ * {@link EntriesAddedEvent} or {@link EntriesRemovedEvent} per change of the database.
  */
 public class CoarseChangeFilter {
 
@@ -24,6 +25,11 @@ public class CoarseChangeFilter {
 
     @Subscribe
     public synchronized void listen(@SuppressWarnings("unused") BibDatabaseContextChangedEvent event) {
+        if ((event instanceof EntryAddedEvent) || (event instanceof EntryRemovedEvent)) {
+            // added and removed entries are relayed at once by the following EntriesAddedEvent or EntriesRemovedEvent
+            return;
+        }
+
         if (!(event instanceof FieldChangedEvent)) {
             eventBus.post(event);
         } else {
@@ -0,0 +1,11 @@
+package org.jabref.model.database.event;
+
+import org.jabref.model.database.BibDatabase;
+
+/**
+ * {@link DatabaseContentChangedEvent} is fired when the preamble or the epilog of a {@link BibDatabase} has been changed
+ * or when one of its strings has been added, removed or changed.
+ */
+public class DatabaseContentChangedEvent extends BibDatabaseContextChangedEvent {
+    // no data
+}
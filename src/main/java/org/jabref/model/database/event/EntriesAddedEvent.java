@@ -0,0 +1,22 @@
+package org.jabref.model.database.event;
+
+import java.util.List;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.event.EntryEventSource;
+
+/**
+ * {@link EntriesAddedEvent} is fired once after new {@link BibEntry}s were added to the {@link BibDatabase}, after
+ * the {@link EntryAddedEvent}s of the single entries.
+ */
+public class EntriesAddedEvent extends EntriesEvent {
+
+    /**
+     * @param bibEntries the entries which have been added
+     * @param location   Location affected by this event
+     */
+    public EntriesAddedEvent(List<BibEntry> bibEntries, EntryEventSource location) {
+        super(bibEntries, location);
+    }
+}
@@ -0,0 +1,39 @@
+package org.jabref.model.database.event;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.event.EntryEventSource;
+
+/**
+ * This abstract class pretends a minimal set of attributes and methods which an event concerning several entries of a
+ * {@link BibDatabase} at once should have.
+ * <p>
+ * The database posts these events in addition to the events of the single entries, after all of these. Listeners
+ * which do not have to react to each entry separately should listen to these events only.
+ */
+public abstract class EntriesEvent extends BibDatabaseContextChangedEvent {
+
+    private final List<BibEntry> bibEntries;
+    private final EntryEventSource location;
+
+    /**
+     * @param bibEntries BibEntry objects which are involved in this event
+     * @param location   Location affected by this event
+     */
+    public EntriesEvent(List<BibEntry> bibEntries, EntryEventSource location) {
+        this.bibEntries = Collections.unmodifiableList(Objects.requireNonNull(bibEntries));
+        this.location = Objects.requireNonNull(location);
+    }
+
+    public List<BibEntry> getBibEntries() {
+        return bibEntries;
+    }
+
+    public EntryEventSource getEntryEventSource() {
+        return location;
+    }
+}
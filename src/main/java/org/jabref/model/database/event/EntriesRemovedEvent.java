@@ -0,0 +1,22 @@
+package org.jabref.model.database.event;
+
+import java.util.List;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.event.EntryEventSource;
+
+/**
+ * {@link EntriesRemovedEvent} is fired once after {@link BibEntry}s were removed from the {@link BibDatabase}, after
+ * the {@link EntryRemovedEvent}s of the single entries.
+ */
+public class EntriesRemovedEvent extends EntriesEvent {
+
+    /**
+     * @param bibEntries the entries which have been removed
+     * @param location   Location affected by this event
+     */
+    public EntriesRemovedEvent(List<BibEntry> bibEntries, EntryEventSource location) {
+        super(bibEntries, location);
+    }
+}
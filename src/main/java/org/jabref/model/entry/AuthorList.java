@@ -8,9 +8,12 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Objects;
-import java.util.WeakHashMap;
 import java.util.stream.Collectors;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+
 /**
  * This is an immutable class representing information of either <CODE>author</CODE>
  * or <CODE>editor</CODE> field in bibtex record.
@@ -120,7 +123,13 @@ import java.util.stream.Collectors;
  */
 public class AuthorList {
 
-    private static final WeakHashMap<String, AuthorList> AUTHOR_CACHE = new WeakHashMap<>();
+    // limited, as the names of all databases opened would be kept otherwise
+    private static final int MAXIMUM_CACHE_SIZE = 100000;
+    // concurrent, as names are parsed by several threads, e.g., when searching or checking the integrity of a database
+    private static final Cache<String, AuthorList> AUTHOR_CACHE = CacheBuilder.newBuilder()
+            .maximumSize(MAXIMUM_CACHE_SIZE)
+            .recordStats()
+            .build();
     // Avoid partition where these values are contained
     private final static Collection<String> AVOID_TERMS_IN_LOWER_CASE = Arrays.asList("jr", "sr", "jnr", "snr", "von", "zu", "van", "der");
     private final List<Author> authors;
@@ -165,6 +174,24 @@ public class AuthorList {
     public static AuthorList parse(String authors) {
         Objects.requireNonNull(authors);
 
+        AuthorList authorList = AUTHOR_CACHE.getIfPresent(authors);
+        if (authorList == null) {
+            AuthorListParser parser = new AuthorListParser();
+            authorList = parser.parse(separateCommaSeparatedNames(authors));
+            AUTHOR_CACHE.put(authors, authorList);
+        }
+        return authorList;
+    }
+
+    /**
+     * Returns the number of parsed author lists taken from the cache and of those parsed, e.g., to analyze how
+     * effective the cache is for a large database.
+     */
+    public static CacheStats getCacheStatistics() {
+        return AUTHOR_CACHE.stats();
+    }
+
+    private static String separateCommaSeparatedNames(String authors) {
         // Handle case names in order lastname, firstname and separated by ","
         // E.g., Ali Babar, M., Dingsøyr, T., Lago, P., van der Vliet, H.
         final boolean authorsContainAND = authors.toUpperCase(Locale.ENGLISH).contains(" AND ");
@@ -209,13 +236,7 @@ public class AuthorList {
             }
         }
 
-        AuthorList authorList = AUTHOR_CACHE.get(authors);
-        if (authorList == null) {
-            AuthorListParser parser = new AuthorListParser();
-            authorList = parser.parse(authors);
-            AUTHOR_CACHE.put(authors, authorList);
-        }
-        return authorList;
+        return authors;
     }
 
     /**
@@ -1,9 +1,9 @@
 package org.jabref.model.entry;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
@@ -13,6 +13,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 import java.util.regex.Pattern;
 
 import javafx.beans.binding.Bindings;
@@ -42,33 +43,56 @@ public class BibEntry implements Cloneable {
     public static final String OBSOLETE_TYPE_HEADER = "bibtextype";
     public static final String KEY_FIELD = "bibtexkey";
     public static final String DEFAULT_TYPE = "misc";
-    protected static final String ID_FIELD = "id";
+    public static final String ID_FIELD = "id";
     private static final Log LOGGER = LogFactory.getLog(BibEntry.class);
     private static final Pattern REMOVE_TRAILING_WHITESPACE = Pattern.compile("\\s+$");
+    private static final EventBus[] NO_EVENT_BUSES = new EventBus[0];
     private final SharedBibEntryData sharedBibEntryData;
     /**
-     * Map to store the words in every field
+     * Map to store the words in every field. Created on first use, as are the other caches and the event bus, since
+     * most entries are never asked for them.
      */
-    private final Map<String, Set<String>> fieldsAsWords = new HashMap<>();
+    private volatile Map<String, Set<String>> fieldsAsWords;
     /**
      * Cache that stores latex free versions of fields.
      */
-    private final Map<String, String> latexFreeFields = new ConcurrentHashMap<>();
-    private final EventBus eventBus = new EventBus();
+    private volatile Map<String, String> latexFreeFields;
+    /**
+     * Cache that stores the keys computed to sort entries, see {@link #getSortKey(String, Function)}.
+     */
+    private volatile Map<String, CachedSortKey> sortKeys;
+    private volatile EventBus eventBus;
+    /**
+     * Event buses shared with other entries, see {@link #registerEventBus(EventBus)}
+     */
+    private volatile EventBus[] sharedEventBuses = NO_EVENT_BUSES;
     private String id;
     private String type;
-    private ObservableMap<String, String> fields = FXCollections.observableMap(new ConcurrentHashMap<>());
+    private FieldMap fields = new FieldMap();
+    /**
+     * Wraps {@link #fields} as soon as someone observes them, all changes are made through it from then on
+     */
+    private volatile ObservableMap<String, String> observableFields;
     // Search and grouping status is stored in boolean fields for quick reference:
     private boolean searchHit;
     private boolean groupHit;
     private String parsedSerialization;
+    /**
+     * Identifies how {@link #parsedSerialization} has been written by JabRef, see {@link #cacheSerialization}, or null
+     * if it has been read from the file
+     */
+    private String serializationFormat;
     private String commentsBeforeEntry = "";
     /**
      * Marks whether the complete serialization, which was read from file, should be used.
      *
      * Is set to false, if parts of the entry change. This causes the entry to be serialized based on the internal state (and not based on the old serialization)
      */
-    private boolean changed;
+    private volatile boolean changed;
+    /**
+     * Incremented on each change, used to detect changes while the entry is serialized in the background
+     */
+    private volatile long modificationCount;
 
     /**
      * Constructs a new BibEntry. The internal ID is set to IdGenerator.next()
@@ -164,9 +188,9 @@ public class BibEntry implements Cloneable {
 
         String oldId = this.id;
 
-        eventBus.post(new FieldChangedEvent(this, BibEntry.ID_FIELD, id, oldId));
+        post(new FieldChangedEvent(this, BibEntry.ID_FIELD, id, oldId));
         this.id = id;
-        changed = true;
+        markChanged();
     }
 
     /**
@@ -233,8 +257,8 @@ public class BibEntry implements Cloneable {
         // the change listener to access the new value if the change
         // sets off a change in database sorting etc.
         this.type = newType.toLowerCase(Locale.ENGLISH);
-        changed = true;
-        eventBus.post(new FieldChangedEvent(this, TYPE_HEADER, newType, oldType, eventSource));
+        markChanged();
+        post(new FieldChangedEvent(this, TYPE_HEADER, newType, oldType, eventSource));
     }
 
     /**
@@ -407,16 +431,21 @@ public class BibEntry implements Cloneable {
             throw new IllegalArgumentException("The field name '" + name + "' is reserved");
         }
 
-        changed = true;
+        markChanged();
 
-        fields.put(fieldName, value.intern());
+        ObservableMap<String, String> observable = observableFields;
+        if (observable == null) {
+            fields.put(fieldName, value.intern());
+        } else {
+            observable.put(fieldName, value.intern());
+        }
         invalidateFieldCache(fieldName);
 
         FieldChange change = new FieldChange(this, fieldName, oldValue, value);
         if (isNewField) {
-            eventBus.post(new FieldAddedOrRemovedEvent(change, eventSource));
+            post(new FieldAddedOrRemovedEvent(change, eventSource));
         } else {
-            eventBus.post(new FieldChangedEvent(change, eventSource));
+            post(new FieldChangedEvent(change, eventSource));
         }
         return Optional.of(change);
     }
@@ -467,13 +496,18 @@ public class BibEntry implements Cloneable {
             return Optional.empty();
         }
 
-        changed = true;
+        markChanged();
 
-        fields.remove(fieldName);
+        ObservableMap<String, String> observable = observableFields;
+        if (observable == null) {
+            fields.remove(fieldName);
+        } else {
+            observable.remove(fieldName);
+        }
         invalidateFieldCache(fieldName);
 
         FieldChange change = new FieldChange(this, fieldName, oldValue.get(), null);
-        eventBus.post(new FieldAddedOrRemovedEvent(change, eventSource));
+        post(new FieldAddedOrRemovedEvent(change, eventSource));
         return Optional.of(change);
     }
 
@@ -526,7 +560,7 @@ public class BibEntry implements Cloneable {
     @Override
     public Object clone() {
         BibEntry clone = new BibEntry(type);
-        clone.fields = FXCollections.observableMap(new ConcurrentHashMap<>(fields));
+        clone.fields = new FieldMap(fields);
         return clone;
     }
 
@@ -599,6 +633,65 @@ public class BibEntry implements Cloneable {
     public void setParsedSerialization(String parsedSerialization) {
         changed = false;
         this.parsedSerialization = parsedSerialization;
+        this.serializationFormat = null;
+    }
+
+    /**
+     * Stores the serialization written when saving the entry, so that the next save in the same format can write it as
+     * it was (like a parsed serialization) instead of serializing the entry again.
+     * <p>
+     * The serialization is discarded if the entry has been changed since {@link #getModificationCount()} returned the
+     * given count, i.e., while the entry was being serialized.
+     *
+     * @param serializationFormat identifies the settings the serialization depends on, e.g., the database mode
+     */
+    public void cacheSerialization(String serialization, String serializationFormat,
+            long modificationCountBeforeSerialization) {
+        this.parsedSerialization = serialization;
+        this.serializationFormat = Objects.requireNonNull(serializationFormat);
+        changed = false;
+        if (modificationCount != modificationCountBeforeSerialization) {
+            changed = true;
+        }
+    }
+
+    /**
+     * Returns whether the entry is unchanged and its serialization can be written as it is in the given format. A
+     * serialization read from the file is valid in every format, as the user wants unchanged entries to stay as they
+     * are.
+     */
+    public boolean hasSerializationInFormat(String serializationFormat) {
+        return !changed && ((this.serializationFormat == null) || this.serializationFormat.equals(serializationFormat));
+    }
+
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
+    /**
+     * Returns the sort key cached under the given name. The key is computed again if the entry has been changed since
+     * it was cached, thus it always reflects the current fields.
+     * <p>
+     * The name has to identify how the key is computed, e.g., by the fields a comparator sorts by, and the same name
+     * must always be used with keys of the same type.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T getSortKey(String name, Function<BibEntry, T> computeKey) {
+        long currentModificationCount = modificationCount;
+        Map<String, CachedSortKey> cachedKeys = sortKeys;
+        if (cachedKeys == null) {
+            cachedKeys = new ConcurrentHashMap<>(2);
+            sortKeys = cachedKeys;
+        }
+
+        CachedSortKey cachedKey = cachedKeys.get(name);
+        if ((cachedKey != null) && (cachedKey.modificationCount == currentModificationCount)) {
+            return (T) cachedKey.key;
+        }
+
+        T key = computeKey.apply(this);
+        cachedKeys.put(name, new CachedSortKey(key, currentModificationCount));
+        return key;
     }
 
     public void setCommentsBeforeEntry(String parsedComments) {
@@ -614,6 +707,12 @@ public class BibEntry implements Cloneable {
         this.changed = changed;
     }
 
+    private void markChanged() {
+        // the count has to be incremented first, see cacheSerialization
+        modificationCount++;
+        changed = true;
+    }
+
     public Optional<FieldChange> putKeywords(List<String> keywords, Character delimiter) {
         Objects.requireNonNull(delimiter);
         return putKeywords(new KeywordList(keywords), delimiter);
@@ -697,7 +796,8 @@ public class BibEntry implements Cloneable {
     }
 
     public Map<String, String> getFieldMap() {
-        return fields;
+        ObservableMap<String, String> observable = observableFields;
+        return observable == null ? fields : observable;
     }
 
     public SharedBibEntryData getSharedBibEntryData() {
@@ -724,18 +824,70 @@ public class BibEntry implements Cloneable {
     }
 
     public void registerListener(Object object) {
-        this.eventBus.register(object);
+        EventBus bus = eventBus;
+        if (bus == null) {
+            synchronized (this) {
+                bus = eventBus;
+                if (bus == null) {
+                    bus = new EventBus();
+                    eventBus = bus;
+                }
+            }
+        }
+        bus.register(object);
     }
 
     public void unregisterListener(Object object) {
+        EventBus bus = eventBus;
+        if (bus == null) {
+            // nothing has been registered
+            return;
+        }
+
         try {
-            this.eventBus.unregister(object);
+            bus.unregister(object);
         } catch (IllegalArgumentException e) {
             // occurs if the event source has not been registered, should not prevent shutdown
             LOGGER.debug(e);
         }
     }
 
+    /**
+     * Posts the events of this entry to the given event bus as well. Unlike {@link #registerListener(Object)}, this
+     * does not need an event bus per entry, as the given bus may be shared by many entries, e.g., by all entries of a
+     * database. The listeners of the bus have to tell the entries apart by the entry of the event.
+     */
+    public synchronized void registerEventBus(EventBus bus) {
+        Objects.requireNonNull(bus);
+        for (EventBus sharedBus : sharedEventBuses) {
+            if (sharedBus == bus) {
+                return;
+            }
+        }
+
+        EventBus[] buses = Arrays.copyOf(sharedEventBuses, sharedEventBuses.length + 1);
+        buses[sharedEventBuses.length] = bus;
+        sharedEventBuses = buses;
+    }
+
+    public synchronized void unregisterEventBus(EventBus bus) {
+        List<EventBus> buses = new ArrayList<>(Arrays.asList(sharedEventBuses));
+        if (buses.removeIf(sharedBus -> sharedBus == bus)) {
+            sharedEventBuses = buses.isEmpty() ? NO_EVENT_BUSES : buses.toArray(new EventBus[buses.size()]);
+        }
+    }
+
+    private void post(Object event) {
+        // without listeners, there is no event bus of this entry to post to
+        EventBus bus = eventBus;
+        if (bus != null) {
+            bus.post(event);
+        }
+        for (EventBus sharedBus : sharedEventBuses) {
+            sharedBus.post(event);
+        }
+    }
+
     public BibEntry withField(String field, String value) {
         setField(field, value);
         return this;
@@ -759,7 +911,13 @@ public class BibEntry implements Cloneable {
 
     public Set<String> getFieldAsWords(String field) {
         String fieldName = toLowerCase(field);
-        Set<String> storedList = fieldsAsWords.get(fieldName);
+        Map<String, Set<String>> cachedWords = fieldsAsWords;
+        if (cachedWords == null) {
+            cachedWords = new ConcurrentHashMap<>(2);
+            fieldsAsWords = cachedWords;
+        }
+
+        Set<String> storedList = cachedWords.get(fieldName);
         if (storedList != null) {
             return storedList;
         } else {
@@ -768,7 +926,7 @@ public class BibEntry implements Cloneable {
                 return Collections.emptySet();
             } else {
                 HashSet<String> words = new HashSet<>(StringUtil.getStringAsWords(fieldValue));
-                fieldsAsWords.put(fieldName, words);
+                cachedWords.put(fieldName, words);
                 return words;
             }
         }
@@ -779,23 +937,38 @@ public class BibEntry implements Cloneable {
     }
 
     private void invalidateFieldCache(String fieldName) {
-        latexFreeFields.remove(fieldName);
-        fieldsAsWords.remove(fieldName);
+        Map<String, String> cachedLatexFreeFields = latexFreeFields;
+        if (cachedLatexFreeFields != null) {
+            cachedLatexFreeFields.remove(fieldName);
+        }
+        Map<String, Set<String>> cachedWords = fieldsAsWords;
+        if (cachedWords != null) {
+            cachedWords.remove(fieldName);
+        }
     }
 
     public Optional<String> getLatexFreeField(String name) {
         if (!hasField(name)) {
             return Optional.empty();
-        } else if (latexFreeFields.containsKey(name)) {
-            return Optional.ofNullable(latexFreeFields.get(toLowerCase(name)));
+        }
+
+        Map<String, String> cachedLatexFreeFields = latexFreeFields;
+        if (cachedLatexFreeFields == null) {
+            cachedLatexFreeFields = new ConcurrentHashMap<>(4);
+            latexFreeFields = cachedLatexFreeFields;
+        }
+
+        if (cachedLatexFreeFields.containsKey(name)) {
+            return Optional.ofNullable(cachedLatexFreeFields.get(toLowerCase(name)));
         } else if (KEY_FIELD.equals(name)) {
             // the key field should not be converted
             Optional<String> citeKey = getCiteKeyOptional();
-            latexFreeFields.put(name, citeKey.get());
+            cachedLatexFreeFields.put(name, citeKey.get());
             return citeKey;
         } else {
-            String latexFreeField = LatexToUnicodeAdapter.format(getField(name).get()).intern();
-            latexFreeFields.put(name, latexFreeField);
+            // the converted values are not interned, they are kept once per entry in this cache only
+            String latexFreeField = LatexToUnicodeAdapter.format(getField(name).get());
+            cachedLatexFreeFields.put(name, latexFreeField);
             return Optional.of(latexFreeField);
         }
     }
@@ -838,7 +1011,7 @@ public class BibEntry implements Cloneable {
     }
 
     public ObjectBinding<String> getFieldBinding(String fieldName) {
-        return Bindings.valueAt(fields, fieldName);
+        return Bindings.valueAt(getFieldsObservable(), fieldName);
     }
 
     public Optional<FieldChange> addFile(LinkedFile file) {
@@ -848,7 +1021,28 @@ public class BibEntry implements Cloneable {
     }
 
     public ObservableMap<String, String> getFieldsObservable() {
-        return fields;
+        ObservableMap<String, String> observable = observableFields;
+        if (observable == null) {
+            synchronized (this) {
+                observable = observableFields;
+                if (observable == null) {
+                    observable = FXCollections.observableMap(fields);
+                    observableFields = observable;
+                }
+            }
+        }
+        return observable;
+    }
+
+    private static class CachedSortKey {
+
+        private final Object key;
+        private final long modificationCount;
+
+        CachedSortKey(Object key, long modificationCount) {
+            this.key = key;
+            this.modificationCount = modificationCount;
+        }
     }
 
     private interface GetFieldInterface {
@@ -3,10 +3,19 @@ package org.jabref.model.entry;
 import java.util.Locale;
 import java.util.Objects;
 
+import org.jabref.model.entry.event.BibtexStringChangedEvent;
+
+import com.google.common.eventbus.EventBus;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
 /**
  * This class models a BibTex String ("@String")
  */
 public class BibtexString implements Cloneable {
+
+    private static final Log LOGGER = LogFactory.getLog(BibtexString.class);
+
     /**
      * Type of a \@String.
      * <p>
@@ -77,6 +86,10 @@ public class BibtexString implements Cloneable {
     private Type type;
     private String parsedSerialization;
     private boolean hasChanged;
+    /**
+     * Created on the first registration of a listener, as most strings are never observed
+     */
+    private EventBus eventBus;
 
     public BibtexString(String name, String content) {
         this.id = IdGenerator.next();
@@ -93,6 +106,7 @@ public class BibtexString implements Cloneable {
     public void setId(String id) {
         this.id = id;
         hasChanged = true;
+        postChangedEvent(name);
     }
 
     public String getName() {
@@ -100,9 +114,11 @@ public class BibtexString implements Cloneable {
     }
 
     public void setName(String name) {
+        String oldName = this.name;
         this.name = name;
         hasChanged = true;
         type = Type.get(name);
+        postChangedEvent(oldName);
     }
 
     /*
@@ -115,6 +131,7 @@ public class BibtexString implements Cloneable {
     public void setContent(String content) {
         this.content = content;
         hasChanged = true;
+        postChangedEvent(name);
     }
 
     public Type getType() {
@@ -158,6 +175,32 @@ public class BibtexString implements Cloneable {
         return "";
     }
 
+    public synchronized void registerListener(Object listener) {
+        if (eventBus == null) {
+            eventBus = new EventBus();
+        }
+        eventBus.register(listener);
+    }
+
+    public synchronized void unregisterListener(Object listener) {
+        if (eventBus == null) {
+            return;
+        }
+        try {
+            eventBus.unregister(listener);
+        } catch (IllegalArgumentException e) {
+            // occurs if the listener has not been registered
+            LOGGER.debug(e);
+        }
+    }
+
+    private void postChangedEvent(String oldName) {
+        EventBus bus = eventBus;
+        if (bus != null) {
+            bus.post(new BibtexStringChangedEvent(this, oldName));
+        }
+    }
+
     @Override
     public Object clone() {
         BibtexString clone = new BibtexString(name, content);
@@ -0,0 +1,170 @@
+package org.jabref.model.entry;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Stores the fields of a {@link BibEntry}: field name -> value.
+ * <p>
+ * An entry typically has less than twenty fields, thus the names and values are stored alternately in a single array
+ * which is searched linearly. This takes a fraction of the memory of a hash map and its nodes. The field names are
+ * interned, as the same few names are used by all entries.
+ * <p>
+ * The array is replaced as a whole on every change. Thus readers need no lock and never see a partial change, and
+ * iterating the fields while they are changed by another thread iterates the fields at the start of the iteration.
+ * Copies of the map share the array until one of them is changed.
+ */
+final class FieldMap extends AbstractMap<String, String> {
+
+    private static final String[] NO_FIELDS = new String[0];
+
+    /**
+     * name, value, name, value, ...
+     */
+    private volatile String[] namesAndValues = NO_FIELDS;
+
+    FieldMap() {
+        // empty
+    }
+
+    FieldMap(FieldMap fields) {
+        this.namesAndValues = fields.namesAndValues;
+    }
+
+    @Override
+    public String get(Object name) {
+        String[] fields = namesAndValues;
+        int index = indexOf(fields, name);
+        return index < 0 ? null : fields[index + 1];
+    }
+
+    @Override
+    public boolean containsKey(Object name) {
+        return indexOf(namesAndValues, name) >= 0;
+    }
+
+    @Override
+    public int size() {
+        return namesAndValues.length / 2;
+    }
+
+    @Override
+    public synchronized String put(String name, String value) {
+        Objects.requireNonNull(name, "field name must not be null");
+        Objects.requireNonNull(value, "field value must not be null");
+
+        String[] fields = namesAndValues;
+        int index = indexOf(fields, name);
+        if (index >= 0) {
+            String[] newFields = fields.clone();
+            newFields[index + 1] = value;
+            namesAndValues = newFields;
+            return fields[index + 1];
+        }
+
+        String[] newFields = Arrays.copyOf(fields, fields.length + 2);
+        newFields[fields.length] = name.intern();
+        newFields[fields.length + 1] = value;
+        namesAndValues = newFields;
+        return null;
+    }
+
+    @Override
+    public synchronized String remove(Object name) {
+        String[] fields = namesAndValues;
+        int index = indexOf(fields, name);
+        if (index < 0) {
+            return null;
+        }
+
+        if (fields.length == 2) {
+            namesAndValues = NO_FIELDS;
+        } else {
+            String[] newFields = new String[fields.length - 2];
+            System.arraycopy(fields, 0, newFields, 0, index);
+            System.arraycopy(fields, index + 2, newFields, index, fields.length - index - 2);
+            namesAndValues = newFields;
+        }
+        return fields[index + 1];
+    }
+
+    @Override
+    public synchronized void clear() {
+        namesAndValues = NO_FIELDS;
+    }
+
+    @Override
+    public Set<Entry<String, String>> entrySet() {
+        return new AbstractSet<Entry<String, String>>() {
+
+            @Override
+            public Iterator<Entry<String, String>> iterator() {
+                return new FieldIterator(namesAndValues);
+            }
+
+            @Override
+            public int size() {
+                return FieldMap.this.size();
+            }
+        };
+    }
+
+    private static int indexOf(String[] fields, Object name) {
+        if (name == null) {
+            return -1;
+        }
+        // the stored names are interned, thus most lookups with constant names are found by the identity check
+        for (int i = 0; i < fields.length; i += 2) {
+            if (fields[i] == name) {
+                return i;
+            }
+        }
+        for (int i = 0; i < fields.length; i += 2) {
+            if (fields[i].equals(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private class FieldIterator implements Iterator<Entry<String, String>> {
+
+        private final String[] fields;
+        private int next;
+        private String lastName;
+
+        FieldIterator(String[] fields) {
+            this.fields = fields;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next < fields.length;
+        }
+
+        @Override
+        public Entry<String, String> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            lastName = fields[next];
+            Entry<String, String> field = new SimpleImmutableEntry<>(lastName, fields[next + 1]);
+            next += 2;
+            return field;
+        }
+
+        @Override
+        public void remove() {
+            if (lastName == null) {
+                throw new IllegalStateException();
+            }
+            FieldMap.this.remove(lastName);
+            lastName = null;
+        }
+    }
+}
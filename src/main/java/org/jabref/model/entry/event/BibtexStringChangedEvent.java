@@ -0,0 +1,32 @@
+package org.jabref.model.entry.event;
+
+import java.util.Objects;
+
+import org.jabref.model.entry.BibtexString;
+
+/**
+ * <code>BibtexStringChangedEvent</code> is fired when the name, the content or the id of a <code>BibtexString</code>
+ * has been modified.
+ */
+public class BibtexStringChangedEvent {
+
+    private final BibtexString bibtexString;
+    private final String oldName;
+
+    /**
+     * @param bibtexString Affected BibtexString object
+     * @param oldName      name of the string before the change (equals the current name if the name was not changed)
+     */
+    public BibtexStringChangedEvent(BibtexString bibtexString, String oldName) {
+        this.bibtexString = Objects.requireNonNull(bibtexString);
+        this.oldName = oldName;
+    }
+
+    public BibtexString getBibtexString() {
+        return bibtexString;
+    }
+
+    public String getOldName() {
+        return oldName;
+    }
+}
@@ -0,0 +1,361 @@
+package org.jabref.model.groups;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.event.BibDatabaseContextChangedEvent;
+import org.jabref.model.database.event.EntriesAddedEvent;
+import org.jabref.model.database.event.EntriesRemovedEvent;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.event.EntryChangedEvent;
+
+import com.google.common.eventbus.EventBus;
+import com.google.common.eventbus.Subscribe;
+
+/**
+ * Keeps track of the entries of a database which are matched by the groups of a group tree, so that the number of
+ * matches of all groups is updated by testing only the changed entry against each group.
+ * <p>
+ * For each group, a bit set stores which entries are contained in the group itself. The hierarchical context of the
+ * groups (see {@link GroupTreeNode#getSearchMatcher()}) is resolved by combining the bits of the parent or the
+ * children.
+ * <p>
+ * The {@link EntryChangedEvent}s, {@link EntriesAddedEvent}s and {@link EntriesRemovedEvent}s of the database are
+ * relayed to the listeners registered at the index after the numbers of matches have been updated. Entries added or
+ * removed in bulk are thus relayed once.
+ * <p>
+ * The index is built by the first call of {@link #getHits(GroupTreeNode)}, which should thus be run in the background.
+ * Changes made before are not tracked, since they are part of the entries found when building the index.
+ */
+public class GroupMembershipIndex {
+
+    private final BibDatabase database;
+    private final GroupTreeNode root;
+    private final EventBus eventBus = new EventBus();
+
+    // entries are compared by content, but equal entries are counted separately
+    private final Map<BibEntry, Integer> slots = new IdentityHashMap<>();
+    private final Deque<Integer> freeSlots = new ArrayDeque<>();
+    private final Map<GroupTreeNode, Membership> memberships = new IdentityHashMap<>();
+    private boolean isBuilt;
+    private boolean treeChanged;
+
+    public GroupMembershipIndex(BibDatabase database, GroupTreeNode root) {
+        this.database = Objects.requireNonNull(database);
+        this.root = Objects.requireNonNull(root);
+
+        root.subscribeToDescendantChanged(node -> markTreeChanged());
+        database.registerListener(this);
+    }
+
+    public GroupTreeNode getRoot() {
+        return root;
+    }
+
+    private synchronized void markTreeChanged() {
+        treeChanged = true;
+    }
+
+    private void build() {
+        for (BibEntry entry : database.getEntries()) {
+            slots.put(entry, slots.size());
+        }
+        update();
+        isBuilt = true;
+    }
+
+    /**
+     * Returns the number of entries matched by the given group, taking the hierarchical context into account. Groups
+     * which are not part of the tree of this index are matched against all entries.
+     */
+    public synchronized int getHits(GroupTreeNode node) {
+        if (!isBuilt) {
+            build();
+        } else if (isOutdated()) {
+            update();
+        }
+
+        Membership membership = memberships.get(node);
+        if (membership == null) {
+            return node.calculateNumberOfMatches(database);
+        }
+        return membership.hits;
+    }
+
+    private boolean isOutdated() {
+        if (treeChanged) {
+            return true;
+        }
+        // groups are replaced without notification when they are edited
+        for (Map.Entry<GroupTreeNode, Membership> membership : memberships.entrySet()) {
+            if (membership.getKey().getGroup() != membership.getValue().group) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Adds the groups added to the tree, recomputes the contained entries of changed groups and then the numbers of
+     * matches of all groups.
+     */
+    private void update() {
+        List<GroupTreeNode> nodes = new ArrayList<>();
+        collectNodes(root, nodes);
+
+        Map<GroupTreeNode, Membership> oldMemberships = new IdentityHashMap<>(memberships);
+        memberships.clear();
+        for (GroupTreeNode node : nodes) {
+            Membership membership = oldMemberships.get(node);
+            if ((membership == null) || (membership.group != node.getGroup())) {
+                membership = new Membership(node.getGroup());
+                for (Map.Entry<BibEntry, Integer> slot : slots.entrySet()) {
+                    membership.containedEntries.set(slot.getValue(), membership.group.contains(slot.getKey()));
+                }
+            }
+            memberships.put(node, membership);
+        }
+
+        Map<GroupTreeNode, BitSet> includedEntries = new IdentityHashMap<>();
+        Map<GroupTreeNode, BitSet> refinedEntries = new IdentityHashMap<>();
+        for (GroupTreeNode node : nodes) {
+            GroupHierarchyType context = node.getGroup().getHierarchicalContext();
+            if (context == GroupHierarchyType.INCLUDING) {
+                memberships.get(node).hits = getIncludedEntries(node, includedEntries).cardinality();
+            } else if (context == GroupHierarchyType.REFINING) {
+                memberships.get(node).hits = getRefinedEntries(node, refinedEntries).cardinality();
+            } else {
+                memberships.get(node).hits = memberships.get(node).containedEntries.cardinality();
+            }
+        }
+        treeChanged = false;
+    }
+
+    private static void collectNodes(GroupTreeNode node, List<GroupTreeNode> nodes) {
+        nodes.add(node);
+        for (GroupTreeNode child : node.getChildren()) {
+            collectNodes(child, nodes);
+        }
+    }
+
+    /**
+     * The entries contained in the group or, if it is including, in one of its subgroups (recursively)
+     */
+    private BitSet getIncludedEntries(GroupTreeNode node, Map<GroupTreeNode, BitSet> cache) {
+        BitSet cached = cache.get(node);
+        if (cached != null) {
+            return cached;
+        }
+
+        BitSet entries = (BitSet) memberships.get(node).containedEntries.clone();
+        if (node.getGroup().getHierarchicalContext() == GroupHierarchyType.INCLUDING) {
+            for (GroupTreeNode child : node.getChildren()) {
+                entries.or(getIncludedEntries(child, cache));
+            }
+        }
+        cache.put(node, entries);
+        return entries;
+    }
+
+    /**
+     * The entries contained in the group and, if it is refining, in its supergroup (recursively)
+     */
+    private BitSet getRefinedEntries(GroupTreeNode node, Map<GroupTreeNode, BitSet> cache) {
+        BitSet cached = cache.get(node);
+        if (cached != null) {
+            return cached;
+        }
+
+        BitSet entries = (BitSet) memberships.get(node).containedEntries.clone();
+        Optional<GroupTreeNode> parent = node.getParent();
+        if ((node.getGroup().getHierarchicalContext() == GroupHierarchyType.REFINING) && parent.isPresent()) {
+            entries.and(getRefinedEntries(parent.get(), cache));
+        }
+        cache.put(node, entries);
+        return entries;
+    }
+
+    /**
+     * Returns the groups matching the entry in the given slot, see {@link #update()} for the same computation on all
+     * entries
+     */
+    private Map<GroupTreeNode, Boolean> getMatchingGroups(int slot) {
+        Map<GroupTreeNode, Boolean> included = new IdentityHashMap<>();
+        Map<GroupTreeNode, Boolean> refined = new IdentityHashMap<>();
+        Map<GroupTreeNode, Boolean> matches = new IdentityHashMap<>();
+        for (GroupTreeNode node : memberships.keySet()) {
+            GroupHierarchyType context = node.getGroup().getHierarchicalContext();
+            if (context == GroupHierarchyType.INCLUDING) {
+                matches.put(node, isIncluded(node, slot, included));
+            } else if (context == GroupHierarchyType.REFINING) {
+                matches.put(node, isRefined(node, slot, refined));
+            } else {
+                matches.put(node, memberships.get(node).containedEntries.get(slot));
+            }
+        }
+        return matches;
+    }
+
+    private boolean isIncluded(GroupTreeNode node, int slot, Map<GroupTreeNode, Boolean> cache) {
+        Boolean cached = cache.get(node);
+        if (cached != null) {
+            return cached;
+        }
+
+        boolean isIncluded = memberships.get(node).containedEntries.get(slot);
+        if (node.getGroup().getHierarchicalContext() == GroupHierarchyType.INCLUDING) {
+            for (GroupTreeNode child : node.getChildren()) {
+                isIncluded |= isIncluded(child, slot, cache);
+            }
+        }
+        cache.put(node, isIncluded);
+        return isIncluded;
+    }
+
+    private boolean isRefined(GroupTreeNode node, int slot, Map<GroupTreeNode, Boolean> cache) {
+        Boolean cached = cache.get(node);
+        if (cached != null) {
+            return cached;
+        }
+
+        boolean isRefined = memberships.get(node).containedEntries.get(slot);
+        Optional<GroupTreeNode> parent = node.getParent();
+        if (isRefined && (node.getGroup().getHierarchicalContext() == GroupHierarchyType.REFINING)
+                && parent.isPresent()) {
+            isRefined = isRefined(parent.get(), slot, cache);
+        }
+        cache.put(node, isRefined);
+        return isRefined;
+    }
+
+    /**
+     * Tests the entry against all groups and updates the numbers of matches by the difference to the previous result
+     *
+     * @param isNew whether the entry is added to the database, otherwise only entries already known are updated
+     */
+    private synchronized void updateEntry(BibEntry entry, boolean isNew) {
+        if (!isBuilt) {
+            return;
+        }
+        if (isOutdated()) {
+            update();
+        }
+
+        Integer slot = slots.get(entry);
+        if (slot == null) {
+            if (!isNew) {
+                // the entry is not part of the database (anymore)
+                return;
+            }
+            slot = freeSlots.isEmpty() ? slots.size() : freeSlots.pop();
+            slots.put(entry, slot);
+        }
+
+        Map<GroupTreeNode, Boolean> matchedBefore = getMatchingGroups(slot);
+        for (Membership membership : memberships.values()) {
+            membership.containedEntries.set(slot, membership.group.contains(entry));
+        }
+        updateHits(matchedBefore, getMatchingGroups(slot));
+    }
+
+    private synchronized void removeEntry(BibEntry entry) {
+        if (!isBuilt) {
+            return;
+        }
+        if (isOutdated()) {
+            update();
+        }
+
+        Integer slot = slots.remove(entry);
+        if (slot == null) {
+            // the event may refer to another instance with the same id
+            Optional<BibEntry> storedEntry = slots.keySet().stream()
+                    .filter(slotEntry -> slotEntry.getId().equals(entry.getId()))
+                    .findFirst();
+            if (!storedEntry.isPresent()) {
+                return;
+            }
+            slot = slots.remove(storedEntry.get());
+        }
+
+        Map<GroupTreeNode, Boolean> matchedBefore = getMatchingGroups(slot);
+        for (Membership membership : memberships.values()) {
+            membership.containedEntries.clear(slot);
+        }
+        updateHits(matchedBefore, getMatchingGroups(slot));
+        freeSlots.push(slot);
+    }
+
+    private void updateHits(Map<GroupTreeNode, Boolean> matchedBefore, Map<GroupTreeNode, Boolean> matchedAfter) {
+        for (Map.Entry<GroupTreeNode, Membership> membership : memberships.entrySet()) {
+            boolean before = matchedBefore.get(membership.getKey());
+            boolean after = matchedAfter.get(membership.getKey());
+            if (before && !after) {
+                membership.getValue().hits--;
+            } else if (!before && after) {
+                membership.getValue().hits++;
+            }
+        }
+    }
+
+    @Subscribe
+    public void listen(EntriesAddedEvent event) {
+        for (BibEntry entry : event.getBibEntries()) {
+            updateEntry(entry, true);
+        }
+        relay(event);
+    }
+
+    @Subscribe
+    public void listen(EntriesRemovedEvent event) {
+        for (BibEntry entry : event.getBibEntries()) {
+            removeEntry(entry);
+        }
+        relay(event);
+    }
+
+    @Subscribe
+    public void listen(EntryChangedEvent event) {
+        updateEntry(event.getBibEntry(), false);
+        relay(event);
+    }
+
+    private void relay(BibDatabaseContextChangedEvent event) {
+        // outside of the lock, the listeners may query the numbers of matches from other threads
+        eventBus.post(event);
+    }
+
+    public void registerListener(Object listener) {
+        eventBus.register(listener);
+    }
+
+    public void unregisterListener(Object listener) {
+        eventBus.unregister(listener);
+    }
+
+    /**
+     * Stops following the changes of the database, the index must not be used afterwards
+     */
+    public void shutdown() {
+        database.unregisterListener(this);
+    }
+
+    private static class Membership {
+
+        private final AbstractGroup group;
+        private final BitSet containedEntries = new BitSet();
+        private int hits;
+
+        Membership(AbstractGroup group) {
+            this.group = group;
+        }
+    }
+}
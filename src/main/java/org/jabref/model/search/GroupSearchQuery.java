@@ -12,12 +12,14 @@ public class GroupSearchQuery implements SearchMatcher {
     private final boolean caseSensitive;
     private final boolean regularExpression;
     private final SearchRule rule;
+    private final SearchMatcher matcher;
 
     public GroupSearchQuery(String query, boolean caseSensitive, boolean regularExpression) {
         this.query = Objects.requireNonNull(query);
         this.caseSensitive = caseSensitive;
         this.regularExpression = regularExpression;
         this.rule = Objects.requireNonNull(getSearchRule());
+        this.matcher = rule.compile(query);
     }
 
     @Override
@@ -28,7 +30,7 @@ public class GroupSearchQuery implements SearchMatcher {
 
     @Override
     public boolean isMatch(BibEntry entry) {
-        return this.getRule().applyRule(query, entry);
+        return matcher.isMatch(entry);
     }
 
     private SearchRule getSearchRule() {
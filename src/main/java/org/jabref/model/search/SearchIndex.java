@@ -0,0 +1,260 @@
+package org.jabref.model.search;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.event.FieldChangedEvent;
+import org.jabref.model.strings.LatexToUnicodeAdapter;
+
+/**
+ * Inverted index of the terms contained in the fields of the entries of a single
+ * {@link org.jabref.model.database.BibDatabase}.
+ * <p>
+ * The LaTeX-free field contents are split into terms consisting of letters and digits. The terms are case-folded. For
+ * each term, the index stores the entries containing it, separately for each field.
+ * <p>
+ * The index narrows down the entries which may match a search word: a field contains the word only if each run of
+ * letters and digits of the word is part of a term of the field. The candidates still have to be checked by the
+ * search rule, but usually these are only a small fraction of the database.
+ * <p>
+ * The terms containing a fragment of a word are found by scanning all terms. As type-ahead search extends the
+ * previous query, the terms found for the last fragments are kept and only these are scanned for an extended fragment.
+ */
+public class SearchIndex {
+
+    /**
+     * Shorter fragments are contained in most entries, thus they are not used to narrow down the candidates
+     */
+    private static final int MINIMUM_FRAGMENT_LENGTH = 2;
+    private static final int CACHED_FRAGMENTS = 16;
+
+    /**
+     * term -> field -> entries
+     */
+    private final Map<String, Map<String, Set<BibEntry>>> postings = new HashMap<>();
+
+    /**
+     * fragment -> terms containing it, cleared whenever a new term is added
+     */
+    private final Map<String, List<String>> termsByFragment = new LinkedHashMap<String, List<String>>(CACHED_FRAGMENTS,
+            0.75f, true) {
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, List<String>> eldest) {
+            return size() > CACHED_FRAGMENTS;
+        }
+    };
+
+    /**
+     * Splits the text into runs of letters and digits and folds their case the same way
+     * {@link String#equalsIgnoreCase(String)} compares characters.
+     */
+    static List<String> getTerms(String text) {
+        List<String> terms = new ArrayList<>();
+        StringBuilder term = new StringBuilder();
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                term.append(Character.toLowerCase(Character.toUpperCase(c)));
+            } else if (term.length() > 0) {
+                terms.add(term.toString());
+                term.setLength(0);
+            }
+        }
+        if (term.length() > 0) {
+            terms.add(term.toString());
+        }
+        return terms;
+    }
+
+    private static String getLatexFreeContent(String field, String content) {
+        // see BibEntry#getLatexFreeField
+        if (BibEntry.KEY_FIELD.equals(field)) {
+            return content;
+        }
+        return LatexToUnicodeAdapter.format(content);
+    }
+
+    private static boolean isIndexedField(String field) {
+        return !BibEntry.ID_FIELD.equals(field) && !BibEntry.TYPE_HEADER.equals(field);
+    }
+
+    private static Set<BibEntry> newEntrySet() {
+        // entries are compared by content, but the index has to distinguish equal entries
+        return Collections.newSetFromMap(new IdentityHashMap<>(4));
+    }
+
+    public synchronized void addEntries(Collection<BibEntry> entries) {
+        entries.forEach(this::addEntry);
+    }
+
+    public synchronized void addEntry(BibEntry entry) {
+        for (String field : entry.getFieldNames()) {
+            entry.getLatexFreeField(field).ifPresent(content -> addTerms(entry, field, content));
+        }
+    }
+
+    public synchronized void removeEntry(BibEntry entry) {
+        for (Map.Entry<String, String> field : entry.getFieldMap().entrySet()) {
+            removeTerms(entry, field.getKey(), getLatexFreeContent(field.getKey(), field.getValue()));
+        }
+    }
+
+    public synchronized void listen(FieldChangedEvent event) {
+        String field = event.getFieldName();
+        if (!isIndexedField(field)) {
+            return;
+        }
+
+        BibEntry entry = event.getBibEntry();
+        if (event.getOldValue() != null) {
+            removeTerms(entry, field, getLatexFreeContent(field, event.getOldValue()));
+        }
+        entry.getLatexFreeField(field).ifPresent(content -> addTerms(entry, field, content));
+    }
+
+    private void addTerms(BibEntry entry, String field, String content) {
+        for (String term : getTerms(content)) {
+            Map<String, Set<BibEntry>> entriesByField = postings.get(term);
+            if (entriesByField == null) {
+                entriesByField = new HashMap<>(2);
+                postings.put(term, entriesByField);
+                termsByFragment.clear();
+            }
+            entriesByField.computeIfAbsent(field, key -> newEntrySet()).add(entry);
+        }
+    }
+
+    private void removeTerms(BibEntry entry, String field, String content) {
+        for (String term : getTerms(content)) {
+            Map<String, Set<BibEntry>> entriesByField = postings.get(term);
+            if (entriesByField == null) {
+                continue;
+            }
+
+            Set<BibEntry> entries = entriesByField.get(field);
+            if ((entries != null) && entries.remove(entry) && entries.isEmpty()) {
+                entriesByField.remove(field);
+                if (entriesByField.isEmpty()) {
+                    // cached fragments may still refer to the term, but find no entries for it
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the entries which may contain all of the given words, each in any field.
+     *
+     * @return the candidates or an empty optional if the words do not allow to narrow down the entries
+     */
+    public synchronized Optional<Set<BibEntry>> getCandidates(List<String> words) {
+        Optional<Set<BibEntry>> candidates = Optional.empty();
+        for (String word : words) {
+            candidates = intersect(candidates, getCandidates(word, field -> true));
+        }
+        return candidates;
+    }
+
+    /**
+     * Returns the entries which may contain the given word in one of the fields accepted by the filter.
+     *
+     * @return the candidates or an empty optional if the word does not allow to narrow down the entries
+     */
+    public synchronized Optional<Set<BibEntry>> getCandidates(String word, Predicate<String> fieldFilter) {
+        Optional<Set<BibEntry>> candidates = Optional.empty();
+        for (String fragment : getTerms(word)) {
+            if (fragment.length() >= MINIMUM_FRAGMENT_LENGTH) {
+                candidates = intersect(candidates, Optional.of(getEntriesContaining(fragment, fieldFilter)));
+            }
+        }
+        return candidates;
+    }
+
+    private Set<BibEntry> getEntriesContaining(String fragment, Predicate<String> fieldFilter) {
+        Set<BibEntry> entries = newEntrySet();
+        for (String term : getTermsContaining(fragment)) {
+            Map<String, Set<BibEntry>> entriesByField = postings.get(term);
+            if (entriesByField == null) {
+                continue;
+            }
+
+            for (Map.Entry<String, Set<BibEntry>> field : entriesByField.entrySet()) {
+                if (fieldFilter.test(field.getKey())) {
+                    entries.addAll(field.getValue());
+                }
+            }
+        }
+        return entries;
+    }
+
+    private List<String> getTermsContaining(String fragment) {
+        List<String> cached = termsByFragment.get(fragment);
+        if (cached != null) {
+            return cached;
+        }
+
+        // the terms containing the fragment also contain each part of it, thus the smallest known list suffices
+        Collection<String> terms = termsByFragment.entrySet().stream()
+                .filter(cachedFragment -> fragment.contains(cachedFragment.getKey()))
+                .map(Map.Entry::getValue)
+                .min(Comparator.comparingInt(List::size))
+                .map(list -> (Collection<String>) list)
+                .orElse(postings.keySet());
+
+        List<String> result = new ArrayList<>();
+        for (String term : terms) {
+            if (term.contains(fragment)) {
+                result.add(term);
+            }
+        }
+        termsByFragment.put(fragment, result);
+        return result;
+    }
+
+    /**
+     * Intersects two candidate sets, an empty optional standing for all entries.
+     */
+    public static Optional<Set<BibEntry>> intersect(Optional<Set<BibEntry>> first, Optional<Set<BibEntry>> second) {
+        if (!first.isPresent()) {
+            return second;
+        } else if (!second.isPresent()) {
+            return first;
+        }
+
+        Set<BibEntry> smaller = first.get().size() <= second.get().size() ? first.get() : second.get();
+        Set<BibEntry> larger = smaller == first.get() ? second.get() : first.get();
+        Set<BibEntry> intersection = newEntrySet();
+        for (BibEntry entry : smaller) {
+            if (larger.contains(entry)) {
+                intersection.add(entry);
+            }
+        }
+        return Optional.of(intersection);
+    }
+
+    /**
+     * Unites two candidate sets, an empty optional standing for all entries.
+     */
+    public static Optional<Set<BibEntry>> union(Optional<Set<BibEntry>> first, Optional<Set<BibEntry>> second) {
+        if (!first.isPresent() || !second.isPresent()) {
+            return Optional.empty();
+        }
+
+        Set<BibEntry> union = newEntrySet();
+        union.addAll(first.get());
+        union.addAll(second.get());
+        return Optional.of(union);
+    }
+}
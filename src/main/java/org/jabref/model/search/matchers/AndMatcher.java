@@ -4,23 +4,18 @@ import org.jabref.model.entry.BibEntry;
 import org.jabref.model.search.SearchMatcher;
 
 /**
- * Subclass of MatcherSet that ANDs or ORs between its rules, returning 0 or
- * 1.
+ * Subclass of MatcherSet that ANDs between its rules.
  */
 public class AndMatcher extends MatcherSet {
 
     @Override
     public boolean isMatch(BibEntry bibEntry) {
-        int score = 0;
-
-        // We let each rule add a maximum of 1 to the score.
+        // An AND rule demands that all rules match, thus the remaining rules need not be checked after a mismatch
         for (SearchMatcher rule : matchers) {
-            if (rule.isMatch(bibEntry)) {
-                score++;
+            if (!rule.isMatch(bibEntry)) {
+                return false;
             }
         }
-
-        // Then an AND rule demands that score == number of rules
-        return score == matchers.size();
+        return true;
     }
 }
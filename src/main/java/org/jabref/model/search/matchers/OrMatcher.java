@@ -4,23 +4,18 @@ import org.jabref.model.entry.BibEntry;
 import org.jabref.model.search.SearchMatcher;
 
 /**
- * Subclass of MatcherSet that ANDs or ORs between its rules, returning 0 or
- * 1.
+ * Subclass of MatcherSet that ORs between its rules.
  */
 public class OrMatcher extends MatcherSet {
 
     @Override
     public boolean isMatch(BibEntry bibEntry) {
-        int score = 0;
-
-        // We let each rule add a maximum of 1 to the score.
+        // An OR rule demands that one rule matches, thus the remaining rules need not be checked after a match
         for (SearchMatcher rule : matchers) {
             if (rule.isMatch(bibEntry)) {
-                score++;
+                return true;
             }
         }
-
-        // OR rule demands score > 0.
-        return score > 0;
+        return false;
     }
 }
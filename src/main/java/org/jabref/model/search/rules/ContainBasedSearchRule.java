@@ -1,10 +1,13 @@
 package org.jabref.model.search.rules;
 
-import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
 
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.search.SearchIndex;
+import org.jabref.model.search.SearchMatcher;
 
 /**
  * Search rule for contain-based search.
@@ -28,34 +31,49 @@ public class ContainBasedSearchRule implements SearchRule {
 
     @Override
     public boolean applyRule(String query, BibEntry bibEntry) {
+        return compile(query).isMatch(bibEntry);
+    }
 
+    @Override
+    public SearchMatcher compile(String query) {
         String searchString = query;
         if (!caseSensitive) {
             searchString = searchString.toLowerCase(Locale.ROOT);
         }
 
-        List<String> unmatchedWords = new SentenceAnalyzer(searchString).getWords();
+        List<String> words = new SentenceAnalyzer(searchString).getWords();
 
-        for (String fieldKey : bibEntry.getFieldNames()) {
-            String formattedFieldContent = bibEntry.getLatexFreeField(fieldKey).get();
-            if (!caseSensitive) {
-                formattedFieldContent = formattedFieldContent.toLowerCase(Locale.ROOT);
-            }
+        return bibEntry -> {
+            // the words found in the previous fields
+            boolean[] matchedWords = new boolean[words.size()];
+            int unmatchedWords = words.size();
 
-            Iterator<String> unmatchedWordsIterator = unmatchedWords.iterator();
-            while (unmatchedWordsIterator.hasNext()) {
-                String word = unmatchedWordsIterator.next();
-                if (formattedFieldContent.contains(word)) {
-                    unmatchedWordsIterator.remove();
+            for (String fieldKey : bibEntry.getFieldNames()) {
+                String formattedFieldContent = bibEntry.getLatexFreeField(fieldKey).get();
+                if (!caseSensitive) {
+                    formattedFieldContent = formattedFieldContent.toLowerCase(Locale.ROOT);
+                }
+
+                for (int i = 0; i < matchedWords.length; i++) {
+                    if (!matchedWords[i] && formattedFieldContent.contains(words.get(i))) {
+                        matchedWords[i] = true;
+                        unmatchedWords--;
+                    }
                 }
-            }
 
-            if (unmatchedWords.isEmpty()) {
-                return true;
+                if (unmatchedWords == 0) {
+                    return true;
+                }
             }
-        }
 
-        return false; // Didn't match all words.
+            return false; // Didn't match all words.
+        };
+    }
+
+    @Override
+    public Optional<Set<BibEntry>> getCandidates(String query, SearchIndex index) {
+        // the index ignores the case, thus the words do not have to be converted
+        return index.getCandidates(new SentenceAnalyzer(query).getWords());
     }
 
 }
@@ -3,13 +3,16 @@ package org.jabref.model.search.rules;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-import java.util.function.Predicate;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.Keyword;
+import org.jabref.model.search.SearchIndex;
+import org.jabref.model.search.SearchMatcher;
+import org.jabref.model.search.matchers.MatcherSet;
+import org.jabref.model.search.matchers.MatcherSets;
+import org.jabref.model.search.matchers.NotMatcher;
 import org.jabref.search.SearchBaseVisitor;
 import org.jabref.search.SearchLexer;
 import org.jabref.search.SearchParser;
@@ -37,6 +40,7 @@ public class GrammarBasedSearchRule implements SearchRule {
 
     private ParseTree tree;
     private String query;
+    private SearchMatcher matcher;
 
     public static class ThrowingErrorListener extends BaseErrorListener {
 
@@ -75,7 +79,7 @@ public class GrammarBasedSearchRule implements SearchRule {
         return this.query;
     }
 
-    private void init(String query) throws ParseCancellationException {
+    private synchronized void init(String query) throws ParseCancellationException {
         if (Objects.equals(this.query, query)) {
             return;
         }
@@ -89,16 +93,53 @@ public class GrammarBasedSearchRule implements SearchRule {
         parser.setErrorHandler(new BailErrorStrategy()); // ParseCancelationException on parse errors
         tree = parser.start();
         this.query = query;
+        this.matcher = null;
     }
 
     @Override
     public boolean applyRule(String query, BibEntry bibEntry) {
-        try {
-            return new BibtexSearchVisitor(caseSensitiveSearch, regExpSearch, bibEntry).visit(tree);
-        } catch (Exception e) {
-            LOGGER.debug("Search failed", e);
-            return false;
+        return compile(query).isMatch(bibEntry);
+    }
+
+    /**
+     * Converts the parse tree into a tree of matchers, so that matching an entry neither walks the parse tree nor
+     * compiles the patterns of the comparisons again.
+     */
+    @Override
+    public synchronized SearchMatcher compile(String query) {
+        if (!validateSearchStrings(query)) {
+            return entry -> false;
+        }
+
+        if (matcher == null) {
+            try {
+                SearchMatcher compiledMatcher = new MatcherVisitor(caseSensitiveSearch, regExpSearch).visit(tree);
+                matcher = entry -> {
+                    try {
+                        return compiledMatcher.isMatch(entry);
+                    } catch (Exception e) {
+                        LOGGER.debug("Search failed", e);
+                        return false;
+                    }
+                };
+            } catch (Exception e) {
+                LOGGER.debug("Search failed", e);
+                matcher = entry -> false;
+            }
+        }
+        return matcher;
+    }
+
+    /**
+     * Uses the index for comparisons with fields which contain or match a value, the other comparisons do not narrow
+     * down the candidates. Regular expressions are not supported by the index.
+     */
+    @Override
+    public Optional<Set<BibEntry>> getCandidates(String query, SearchIndex index) {
+        if (regExpSearch || !validateSearchStrings(query)) {
+            return Optional.empty();
         }
+        return new CandidatesVisitor(caseSensitiveSearch, index).visit(tree);
     }
 
     @Override
@@ -126,55 +167,62 @@ public class GrammarBasedSearchRule implements SearchRule {
         }
     }
 
-    public static class Comparator {
+    public static class Comparator implements SearchMatcher {
 
         private final ComparisonOperator operator;
         private final Pattern fieldPattern;
         private final Pattern valuePattern;
 
+        // the special field names matched by the field pattern, see compare
+        private final boolean isEntryTypeField;
+        private final boolean isAnyKeywordField;
+        private final boolean isAnyField;
+
         public Comparator(String field, String value, ComparisonOperator operator, boolean caseSensitive, boolean regex) {
             this.operator = operator;
 
             int option = caseSensitive ? 0 : Pattern.CASE_INSENSITIVE;
             this.fieldPattern = Pattern.compile(regex ? field : "\\Q" + field + "\\E", option);
             this.valuePattern = Pattern.compile(regex ? value : "\\Q" + value + "\\E", option);
+
+            this.isEntryTypeField = fieldPattern.matcher(BibEntry.TYPE_HEADER).matches();
+            this.isAnyKeywordField = fieldPattern.matcher("anykeyword").matches();
+            this.isAnyField = fieldPattern.matcher("anyfield").matches();
         }
 
         public boolean compare(BibEntry entry) {
             // special case for searching for entrytype=phdthesis
-            if (fieldPattern.matcher(BibEntry.TYPE_HEADER).matches()) {
+            if (isEntryTypeField) {
                 return matchFieldValue(entry.getType());
             }
 
             // special case for searching a single keyword
-            if (fieldPattern.matcher("anykeyword").matches()) {
+            if (isAnyKeywordField) {
                 return entry.getKeywords(',').stream().map(Keyword::toString).anyMatch(this::matchFieldValue);
             }
 
             // specification of fieldsKeys to search is done in the search expression itself
-            Set<String> fieldsKeys = entry.getFieldNames();
-
-            // special case for searching allfields=cat and title=dog
-            if (!fieldPattern.matcher("anyfield").matches()) {
-                // Filter out the requested fields
-                fieldsKeys = fieldsKeys.stream().filter(matchFieldKey()).collect(Collectors.toSet());
-            }
-
-            for (String field : fieldsKeys) {
-                Optional<String> fieldValue = entry.getLatexFreeField(field);
-                if (fieldValue.isPresent()) {
-                    if (matchFieldValue(fieldValue.get())) {
-                        return true;
+            boolean hasRequestedField = false;
+            for (String field : entry.getFieldNames()) {
+                // special case for searching allfields=cat and title=dog
+                if (isAnyField || fieldPattern.matcher(field).matches()) {
+                    hasRequestedField = true;
+                    Optional<String> fieldValue = entry.getLatexFreeField(field);
+                    if (fieldValue.isPresent()) {
+                        if (matchFieldValue(fieldValue.get())) {
+                            return true;
+                        }
                     }
                 }
             }
 
             // special case of asdf!=whatever and entry does not contain asdf
-            return fieldsKeys.isEmpty() && (operator == ComparisonOperator.DOES_NOT_CONTAIN);
+            return !hasRequestedField && (operator == ComparisonOperator.DOES_NOT_CONTAIN);
         }
 
-        private Predicate<String> matchFieldKey() {
-            return s -> fieldPattern.matcher(s).matches();
+        @Override
+        public boolean isMatch(BibEntry entry) {
+            return compare(entry);
         }
 
         public boolean matchFieldValue(String content) {
@@ -193,32 +241,122 @@ public class GrammarBasedSearchRule implements SearchRule {
     }
 
     /**
-     * Search results in boolean. It may be later on converted to an int.
+     * Builds the matcher of a search expression. Nested expressions joined by the same operator are flattened into a
+     * single matcher set.
      */
-    static class BibtexSearchVisitor extends SearchBaseVisitor<Boolean> {
+    static class MatcherVisitor extends SearchBaseVisitor<SearchMatcher> {
 
         private final boolean caseSensitive;
         private final boolean regex;
 
-        private final BibEntry entry;
-
-        public BibtexSearchVisitor(boolean caseSensitive, boolean regex, BibEntry bibEntry) {
+        public MatcherVisitor(boolean caseSensitive, boolean regex) {
             this.caseSensitive = caseSensitive;
             this.regex = regex;
-            this.entry = bibEntry;
         }
 
-        public boolean comparison(String field, ComparisonOperator operator, String value) {
-            return new Comparator(field, value, operator, caseSensitive, regex).compare(entry);
+        @Override
+        public SearchMatcher visitStart(SearchParser.StartContext ctx) {
+            return visit(ctx.expression());
+        }
+
+        @Override
+        public SearchMatcher visitComparison(SearchParser.ComparisonContext context) {
+            // remove possible enclosing " symbols
+            String right = context.right.getText();
+            if (right.startsWith("\"") && right.endsWith("\"")) {
+                right = right.substring(1, right.length() - 1);
+            }
+
+            Optional<SearchParser.NameContext> fieldDescriptor = Optional.ofNullable(context.left);
+            if (fieldDescriptor.isPresent()) {
+                return new Comparator(fieldDescriptor.get().getText(), right,
+                        ComparisonOperator.build(context.operator.getText()), caseSensitive, regex);
+            } else {
+                return new ContainBasedSearchRule(caseSensitive).compile(right);
+            }
         }
 
         @Override
-        public Boolean visitStart(SearchParser.StartContext ctx) {
+        public SearchMatcher visitUnaryExpression(SearchParser.UnaryExpressionContext ctx) {
+            return new NotMatcher(visit(ctx.expression())); // negate
+        }
+
+        @Override
+        public SearchMatcher visitParenExpression(SearchParser.ParenExpressionContext ctx) {
+            return visit(ctx.expression()); // ignore parenthesis
+        }
+
+        @Override
+        public SearchMatcher visitBinaryExpression(SearchParser.BinaryExpressionContext ctx) {
+            MatcherSets.MatcherType type = getMatcherType(ctx);
+            MatcherSet matchers = MatcherSets.build(type);
+            addOperands(ctx, type, matchers);
+            return matchers;
+        }
+
+        private static MatcherSets.MatcherType getMatcherType(SearchParser.BinaryExpressionContext ctx) {
+            if ("AND".equalsIgnoreCase(ctx.operator.getText())) {
+                return MatcherSets.MatcherType.AND;
+            } else {
+                return MatcherSets.MatcherType.OR;
+            }
+        }
+
+        private void addOperands(SearchParser.ExpressionContext ctx, MatcherSets.MatcherType type, MatcherSet matchers) {
+            SearchParser.ExpressionContext expression = ctx;
+            while (expression instanceof SearchParser.ParenExpressionContext) {
+                expression = ((SearchParser.ParenExpressionContext) expression).expression();
+            }
+
+            if ((expression instanceof SearchParser.BinaryExpressionContext)
+                    && (getMatcherType((SearchParser.BinaryExpressionContext) expression) == type)) {
+                SearchParser.BinaryExpressionContext binaryExpression = (SearchParser.BinaryExpressionContext) expression;
+                addOperands(binaryExpression.left, type, matchers);
+                addOperands(binaryExpression.right, type, matchers);
+            } else {
+                matchers.addRule(visit(expression));
+            }
+        }
+    }
+
+    /**
+     * Collects the candidates of the index which may match the search expression, an empty optional standing for all
+     * entries.
+     */
+    static class CandidatesVisitor extends SearchBaseVisitor<Optional<Set<BibEntry>>> {
+
+        private final boolean caseSensitive;
+        private final SearchIndex index;
+
+        public CandidatesVisitor(boolean caseSensitive, SearchIndex index) {
+            this.caseSensitive = caseSensitive;
+            this.index = index;
+        }
+
+        private Optional<Set<BibEntry>> comparison(String field, ComparisonOperator operator, String value) {
+            if (operator == ComparisonOperator.DOES_NOT_CONTAIN) {
+                return Optional.empty();
+            }
+
+            // see Comparator#compare
+            if (BibEntry.TYPE_HEADER.equalsIgnoreCase(field) || "anykeyword".equalsIgnoreCase(field)) {
+                return Optional.empty();
+            } else if ("anyfield".equalsIgnoreCase(field)) {
+                return index.getCandidates(value, fieldName -> true);
+            } else if (caseSensitive) {
+                return index.getCandidates(value, field::equals);
+            } else {
+                return index.getCandidates(value, field::equalsIgnoreCase);
+            }
+        }
+
+        @Override
+        public Optional<Set<BibEntry>> visitStart(SearchParser.StartContext ctx) {
             return visit(ctx.expression());
         }
 
         @Override
-        public Boolean visitComparison(SearchParser.ComparisonContext context) {
+        public Optional<Set<BibEntry>> visitComparison(SearchParser.ComparisonContext context) {
             // remove possible enclosing " symbols
             String right = context.right.getText();
             if (right.startsWith("\"") && right.endsWith("\"")) {
@@ -229,26 +367,27 @@ public class GrammarBasedSearchRule implements SearchRule {
             if (fieldDescriptor.isPresent()) {
                 return comparison(fieldDescriptor.get().getText(), ComparisonOperator.build(context.operator.getText()), right);
             } else {
-                return new ContainBasedSearchRule(caseSensitive).applyRule(right, entry);
+                return new ContainBasedSearchRule(caseSensitive).getCandidates(right, index);
             }
         }
 
         @Override
-        public Boolean visitUnaryExpression(SearchParser.UnaryExpressionContext ctx) {
-            return !visit(ctx.expression()); // negate
+        public Optional<Set<BibEntry>> visitUnaryExpression(SearchParser.UnaryExpressionContext ctx) {
+            // the negation may match any entry
+            return Optional.empty();
         }
 
         @Override
-        public Boolean visitParenExpression(SearchParser.ParenExpressionContext ctx) {
-            return visit(ctx.expression()); // ignore parenthesis
+        public Optional<Set<BibEntry>> visitParenExpression(SearchParser.ParenExpressionContext ctx) {
+            return visit(ctx.expression());
         }
 
         @Override
-        public Boolean visitBinaryExpression(SearchParser.BinaryExpressionContext ctx) {
+        public Optional<Set<BibEntry>> visitBinaryExpression(SearchParser.BinaryExpressionContext ctx) {
             if ("AND".equalsIgnoreCase(ctx.operator.getText())) {
-                return visit(ctx.left) && visit(ctx.right); // and
+                return SearchIndex.intersect(visit(ctx.left), visit(ctx.right));
             } else {
-                return visit(ctx.left) || visit(ctx.right); // or
+                return SearchIndex.union(visit(ctx.left), visit(ctx.right));
             }
         }
     }
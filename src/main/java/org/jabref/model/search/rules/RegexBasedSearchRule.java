@@ -7,6 +7,7 @@ import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
 
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.search.SearchMatcher;
 
 /**
  * Search rule for regex-based search.
@@ -40,26 +41,32 @@ public class RegexBasedSearchRule implements SearchRule {
 
     @Override
     public boolean applyRule(String query, BibEntry bibEntry) {
+        return compile(query).isMatch(bibEntry);
+    }
+
+    @Override
+    public SearchMatcher compile(String query) {
         Pattern pattern;
 
         try {
             pattern = Pattern.compile(query, caseSensitive ? 0 : Pattern.CASE_INSENSITIVE);
         } catch (PatternSyntaxException ex) {
-            return false;
+            return entry -> false;
         }
 
-        for (String field : bibEntry.getFieldNames()) {
-            Optional<String> fieldOptional = bibEntry.getField(field);
-            if (fieldOptional.isPresent()) {
-                String fieldContentNoBrackets = bibEntry.getLatexFreeField(field).get();
-                Matcher m = pattern.matcher(fieldContentNoBrackets);
-                if (m.find()) {
-                    return true;
+        return bibEntry -> {
+            for (String field : bibEntry.getFieldNames()) {
+                Optional<String> fieldOptional = bibEntry.getField(field);
+                if (fieldOptional.isPresent()) {
+                    String fieldContentNoBrackets = bibEntry.getLatexFreeField(field).get();
+                    Matcher m = pattern.matcher(fieldContentNoBrackets);
+                    if (m.find()) {
+                        return true;
+                    }
                 }
             }
-
-        }
-        return false;
+            return false;
+        };
     }
 
 }
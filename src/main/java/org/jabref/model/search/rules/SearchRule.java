@@ -1,10 +1,31 @@
 package org.jabref.model.search.rules;
 
+import java.util.Optional;
+import java.util.Set;
+
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.search.SearchIndex;
+import org.jabref.model.search.SearchMatcher;
 
 public interface SearchRule {
 
     boolean applyRule(String query, BibEntry bibEntry);
 
     boolean validateSearchStrings(String query);
+
+    /**
+     * Prepares the query for matching many entries: patterns are compiled and words are split only once. The returned
+     * matcher is equivalent to calling {@link #applyRule(String, BibEntry)} with the query and may be used concurrently.
+     */
+    SearchMatcher compile(String query);
+
+    /**
+     * Narrows down the entries which have to be checked by {@link #applyRule(String, BibEntry)} using the index. All
+     * entries which are not returned do not match the query.
+     *
+     * @return the candidates or an empty optional if all entries have to be checked
+     */
+    default Optional<Set<BibEntry>> getCandidates(String query, SearchIndex index) {
+        return Optional.empty();
+    }
 }
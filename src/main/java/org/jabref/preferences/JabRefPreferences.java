@@ -14,6 +14,7 @@ import java.net.InetAddress;
 import java.net.UnknownHostException;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -69,6 +70,7 @@ import org.jabref.logic.util.UpdateFieldPreferences;
 import org.jabref.logic.util.Version;
 import org.jabref.logic.util.io.AutoLinkPreferences;
 import org.jabref.logic.util.io.FileHistory;
+import org.jabref.logic.util.io.FileIndex;
 import org.jabref.logic.xmp.XMPPreferences;
 import org.jabref.model.bibtexkeypattern.GlobalBibtexKeyPattern;
 import org.jabref.model.database.BibDatabaseMode;
@@ -282,6 +284,9 @@ public class JabRefPreferences implements PreferencesService {
     public static final String KEY_GEN_FIRST_LETTER_A = "keyGenFirstLetterA";
     public static final String ENFORCE_LEGAL_BIBTEX_KEY = "enforceLegalBibtexKey";
     public static final String LOCAL_AUTO_SAVE = "localAutoSave";
+    public static final String BACKUP_JOURNAL = "backupJournal";
+    public static final String DATABASE_SNAPSHOT = "databaseSnapshot";
+    public static final String FILE_INDEX = "fileIndex";
     public static final String RUN_AUTOMATIC_FILE_SEARCH = "runAutomaticFileSearch";
     public static final String NUMERIC_FIELDS = "numericFields";
     public static final String AUTOLINK_REG_EXP_SEARCH_EXPRESSION_KEY = "regExpSearchExpression";
@@ -729,6 +734,9 @@ public class JabRefPreferences implements PreferencesService {
         defaults.put(NUMERIC_FIELDS, "mittnum;author");
         defaults.put(RUN_AUTOMATIC_FILE_SEARCH, Boolean.FALSE);
         defaults.put(LOCAL_AUTO_SAVE, Boolean.FALSE);
+        defaults.put(BACKUP_JOURNAL, Boolean.TRUE);
+        defaults.put(DATABASE_SNAPSHOT, Boolean.TRUE);
+        defaults.put(FILE_INDEX, Boolean.TRUE);
         defaults.put(ENFORCE_LEGAL_BIBTEX_KEY, Boolean.TRUE);
         // Curly brackets ({}) are the default delimiters, not quotes (") as these cause trouble when they appear within the field value:
         // Currently, JabRef does not escape them
@@ -1406,7 +1414,7 @@ public class JabRefPreferences implements PreferencesService {
     public ImportFormatPreferences getImportFormatPreferences() {
         return new ImportFormatPreferences(customImports, getDefaultEncoding(), getKeywordDelimiter(),
                 getBibtexKeyPatternPreferences(), getFieldContentParserPreferences(),
-                isKeywordSyncEnabled());
+                isKeywordSyncEnabled(), getBoolean(DATABASE_SNAPSHOT));
     }
 
     public BibtexKeyPatternPreferences getBibtexKeyPatternPreferences() {
@@ -1631,7 +1639,19 @@ public class JabRefPreferences implements PreferencesService {
                 getBoolean(JabRefPreferences.AUTOLINK_USE_REG_EXP_SEARCH_KEY),
                 get(JabRefPreferences.AUTOLINK_REG_EXP_SEARCH_EXPRESSION_KEY),
                 getBoolean(JabRefPreferences.AUTOLINK_EXACT_KEY_ONLY),
-                getKeywordDelimiter());
+                getKeywordDelimiter(),
+                getFileIndexDirectory());
+    }
+
+    /**
+     * Returns the directory the indexes of the file directories are stored in or an empty optional if the file
+     * directories should not be indexed
+     */
+    public Optional<Path> getFileIndexDirectory() {
+        if (getBoolean(FILE_INDEX)) {
+            return Optional.of(FileIndex.DEFAULT_INDEX_DIRECTORY);
+        }
+        return Optional.empty();
     }
 
     public AutoCompletePreferences getAutoCompletePreferences() {
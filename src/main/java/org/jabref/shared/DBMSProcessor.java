@@ -5,9 +5,13 @@ import java.sql.DatabaseMetaData;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -24,11 +28,24 @@ import org.apache.commons.logging.LogFactory;
 
 /**
  * Processes all incoming or outgoing bib data to external SQL Database and manages its structure.
+ * <p>
+ * The connection is used by the FX thread and by the background pulls of {@link DBMSSynchronizer}. Thus, all methods
+ * using it are synchronized, so that statements of other threads do not interfere with a running transaction.
  */
 public abstract class DBMSProcessor {
 
     public static final String PROCESSOR_ID = UUID.randomUUID().toString();
 
+    /**
+     * Maximum number of IDs passed to a single query, Oracle does not accept more than 1000 elements in an IN list
+     */
+    static final int MAXIMUM_IDS_PER_QUERY = 500;
+
+    /**
+     * Maximum number of rows inserted by a single statement, keeping the number of parameters low for all drivers
+     */
+    static final int MAXIMUM_ROWS_PER_INSERT = 500;
+
 
     protected static final Log LOGGER = LogFactory.getLog(DBMSProcessor.class);
 
@@ -42,13 +59,20 @@ public abstract class DBMSProcessor {
         this.connectionProperties = dbmsConnection.getProperties();
     }
 
+    /**
+     * Checks whether the connection to the shared database is still valid.
+     */
+    public synchronized boolean isConnectionValid() throws SQLException {
+        return connection.isValid(0);
+    }
+
     /**
      * Scans the database for required tables.
      *
      * @return <code>true</code> if the structure matches the requirements, <code>false</code> if not.
      * @throws SQLException
      */
-    public boolean checkBaseIntegrity() throws SQLException {
+    public synchronized boolean checkBaseIntegrity() throws SQLException {
         return checkTableAvailibility("ENTRY", "FIELD", "METADATA");
     }
 
@@ -57,7 +81,7 @@ public abstract class DBMSProcessor {
      *
      * @return <code>true</code> if the structure is old, else <code>false</code>.
      */
-    public boolean checkForPre3Dot6Intergrity() throws SQLException {
+    public synchronized boolean checkForPre3Dot6Intergrity() throws SQLException {
         return checkTableAvailibility(
                 "ENTRIES",
                 "ENTRY_GROUP",
@@ -97,7 +121,7 @@ public abstract class DBMSProcessor {
      *
      * @throws SQLException
      */
-    public void setupSharedDatabase() throws SQLException {
+    public synchronized void setupSharedDatabase() throws SQLException {
         setUp();
 
         if (!checkBaseIntegrity()) {
@@ -131,106 +155,172 @@ public abstract class DBMSProcessor {
      * @param bibEntry {@link BibEntry} to be inserted
      */
     public void insertEntry(BibEntry bibEntry) {
-        if (!checkForBibEntryExistence(bibEntry)) {
-            insertIntoEntryTable(bibEntry);
-            insertIntoFieldTable(bibEntry);
-        }
+        insertEntries(Collections.singletonList(bibEntry));
+    }
+
+    /**
+     * Inserts the given entries into shared database using a single transaction. Entries which already exist on shared
+     * database are skipped. The rows are inserted in batches instead of one statement per entry and field.
+     *
+     * @param bibEntries {@link BibEntry} instances to be inserted
+     * @return <code>false</code> if the entries could not be inserted, else <code>true</code>
+     */
+    public synchronized boolean insertEntries(List<BibEntry> bibEntries) {
+        try {
+            List<BibEntry> notYetExistingEntries = filterForBibEntryExistence(bibEntries);
+            if (notYetExistingEntries.isEmpty()) {
+                return true;
+            }
 
+            connection.setAutoCommit(false); // disable auto commit due to transaction
+            try {
+                insertIntoEntryTable(notYetExistingEntries);
+                insertIntoFieldTable(notYetExistingEntries);
+                connection.commit(); // apply all changes in current transaction
+            } catch (SQLException e) {
+                // the generated IDs are rolled back as well
+                for (BibEntry bibEntry : notYetExistingEntries) {
+                    bibEntry.getSharedBibEntryData().setSharedID(-1);
+                }
+                connection.rollback(); // undo changes made in current transaction
+                throw e;
+            } finally {
+                connection.setAutoCommit(true); // enable auto commit mode again
+            }
+            return true;
+        } catch (SQLException e) {
+            LOGGER.error("SQL Error: ", e);
+            return false;
+        }
     }
 
     /**
-     * Inserts the given bibEntry into ENTRY table.
+     * Inserts the given entries into ENTRY table and sets the generated IDs locally.
+     * Several rows are inserted by a single statement, the generated keys are returned in the order of the rows.
      *
-     * @param bibEntry {@link BibEntry} to be inserted
+     * @param bibEntries {@link BibEntry} instances to be inserted
      */
-    protected void insertIntoEntryTable(BibEntry bibEntry) {
-        // Inserting into ENTRY table
-        StringBuilder insertIntoEntryQuery = new StringBuilder()
-                .append("INSERT INTO ")
-                .append(escape("ENTRY"))
-                .append("(")
-                .append(escape("TYPE"))
-                .append(") VALUES(?)");
+    protected void insertIntoEntryTable(List<BibEntry> bibEntries) throws SQLException {
+        for (int i = 0; i < bibEntries.size(); i += MAXIMUM_ROWS_PER_INSERT) {
+            List<BibEntry> rows = bibEntries.subList(i, Math.min(bibEntries.size(), i + MAXIMUM_ROWS_PER_INSERT));
 
-        // This is the only method to get generated keys which is accepted by MySQL, PostgreSQL and Oracle.
-        try (PreparedStatement preparedEntryStatement = connection.prepareStatement(insertIntoEntryQuery.toString(),
-                new String[] {"SHARED_ID"})) {
+            StringBuilder insertIntoEntryQuery = new StringBuilder()
+                    .append("INSERT INTO ")
+                    .append(escape("ENTRY"))
+                    .append("(")
+                    .append(escape("TYPE"))
+                    .append(") VALUES");
+            for (int row = 0; row < rows.size(); row++) {
+                insertIntoEntryQuery.append(row == 0 ? "(?)" : ", (?)");
+            }
 
-            preparedEntryStatement.setString(1, bibEntry.getType());
-            preparedEntryStatement.executeUpdate();
+            try (PreparedStatement preparedEntryStatement = prepareInsertIntoEntryTable(insertIntoEntryQuery.toString())) {
+                for (int row = 0; row < rows.size(); row++) {
+                    // columnIndex starts with 1
+                    preparedEntryStatement.setString(row + 1, rows.get(row).getType());
+                }
+                preparedEntryStatement.executeUpdate();
+                setGeneratedIDs(preparedEntryStatement, rows);
+            }
+        }
+    }
+
+    /**
+     * Prepares an INSERT statement of the ENTRY table which returns the generated SHARED_ID.
+     */
+    protected PreparedStatement prepareInsertIntoEntryTable(String query) throws SQLException {
+        // This is the only method to get generated keys which is accepted by MySQL, PostgreSQL and Oracle.
+        return connection.prepareStatement(query, new String[] {"SHARED_ID"});
+    }
 
-            try (ResultSet generatedKeys = preparedEntryStatement.getGeneratedKeys()) {
-                if (generatedKeys.next()) {
-                    bibEntry.getSharedBibEntryData().setSharedID(generatedKeys.getInt(1)); // set generated ID locally
+    /**
+     * Sets the keys generated by the executed statement as shared IDs of the given entries, in the same order.
+     */
+    protected void setGeneratedIDs(PreparedStatement executedStatement, List<BibEntry> bibEntries) throws SQLException {
+        try (ResultSet generatedKeys = executedStatement.getGeneratedKeys()) {
+            for (BibEntry bibEntry : bibEntries) {
+                if (!generatedKeys.next()) {
+                    throw new SQLException("Missing generated key for inserted entry");
                 }
+                bibEntry.getSharedBibEntryData().setSharedID(generatedKeys.getInt(1)); // set generated ID locally
             }
-        } catch (SQLException e) {
-            LOGGER.error("SQL Error: ", e);
         }
     }
 
     /**
-     * Checks whether the given bibEntry already exists on shared database.
-     * @param bibEntry {@link BibEntry} to be checked
-     * @return <code>true</code> if existent, else <code>false</code>
+     * Filters the given entries for the ones which do not exist on shared database yet.
+     *
+     * @param bibEntries {@link BibEntry} instances to be checked
+     * @return the entries which are not present on shared database
      */
-    private boolean checkForBibEntryExistence(BibEntry bibEntry) {
-        try {
-            // Check if already exists
+    private List<BibEntry> filterForBibEntryExistence(List<BibEntry> bibEntries) throws SQLException {
+        List<Integer> sharedIDs = new ArrayList<>();
+        for (BibEntry bibEntry : bibEntries) {
             int sharedID = bibEntry.getSharedBibEntryData().getSharedID();
             if (sharedID != -1) {
-                StringBuilder selectQuery = new StringBuilder()
-                        .append("SELECT * FROM ")
-                        .append(escape("ENTRY"))
-                        .append(" WHERE ")
-                        .append(escape("SHARED_ID"))
-                        .append(" = ?");
-
-                try (PreparedStatement preparedSelectStatement = connection.prepareStatement(selectQuery.toString())) {
-                    preparedSelectStatement.setInt(1, sharedID);
-                    try (ResultSet resultSet = preparedSelectStatement.executeQuery()) {
-                        if (resultSet.next()) {
-                            return true;
-                        }
+                sharedIDs.add(sharedID);
+            }
+        }
+
+        Set<Integer> existingIDs = new HashSet<>();
+        for (int i = 0; i < sharedIDs.size(); i += MAXIMUM_IDS_PER_QUERY) {
+            List<Integer> ids = sharedIDs.subList(i, Math.min(sharedIDs.size(), i + MAXIMUM_IDS_PER_QUERY));
+            StringBuilder selectQuery = new StringBuilder()
+                    .append("SELECT ")
+                    .append(escape("SHARED_ID"))
+                    .append(" FROM ")
+                    .append(escape("ENTRY"))
+                    .append(getIDCondition("SHARED_ID", ids.size()));
+
+            try (PreparedStatement preparedSelectStatement = connection.prepareStatement(selectQuery.toString())) {
+                for (int j = 0; j < ids.size(); j++) {
+                    preparedSelectStatement.setInt(j + 1, ids.get(j));
+                }
+                try (ResultSet resultSet = preparedSelectStatement.executeQuery()) {
+                    while (resultSet.next()) {
+                        existingIDs.add(resultSet.getInt("SHARED_ID"));
                     }
                 }
             }
-        } catch (SQLException e) {
-            LOGGER.error("SQL Error: ", e);
         }
-        return false;
+
+        List<BibEntry> notYetExistingEntries = new ArrayList<>();
+        for (BibEntry bibEntry : bibEntries) {
+            if (!existingIDs.contains(bibEntry.getSharedBibEntryData().getSharedID())) {
+                notYetExistingEntries.add(bibEntry);
+            }
+        }
+        return notYetExistingEntries;
     }
 
     /**
-     * Inserts the given bibEntry into FIELD table.
+     * Inserts the fields of the given entries into FIELD table using a single batch.
      *
-     * @param bibEntry {@link BibEntry} to be inserted
+     * @param bibEntries {@link BibEntry} instances whose fields are to be inserted
      */
-    private void insertIntoFieldTable(BibEntry bibEntry) {
-        try {
-            // Inserting into FIELD table
-            for (String fieldName : bibEntry.getFieldNames()) {
-                StringBuilder insertFieldQuery = new StringBuilder()
-                    .append("INSERT INTO ")
-                    .append(escape("FIELD"))
-                    .append("(")
-                    .append(escape("ENTRY_SHARED_ID"))
-                    .append(", ")
-                    .append(escape("NAME"))
-                    .append(", ")
-                    .append(escape("VALUE"))
-                    .append(") VALUES(?, ?, ?)");
-
-                try (PreparedStatement preparedFieldStatement = connection.prepareStatement(insertFieldQuery.toString())) {
+    private void insertIntoFieldTable(List<BibEntry> bibEntries) throws SQLException {
+        StringBuilder insertFieldQuery = new StringBuilder()
+            .append("INSERT INTO ")
+            .append(escape("FIELD"))
+            .append("(")
+            .append(escape("ENTRY_SHARED_ID"))
+            .append(", ")
+            .append(escape("NAME"))
+            .append(", ")
+            .append(escape("VALUE"))
+            .append(") VALUES(?, ?, ?)");
+
+        try (PreparedStatement preparedFieldStatement = connection.prepareStatement(insertFieldQuery.toString())) {
+            for (BibEntry bibEntry : bibEntries) {
+                for (Map.Entry<String, String> field : bibEntry.getFieldMap().entrySet()) {
                     // columnIndex starts with 1
                     preparedFieldStatement.setInt(1, bibEntry.getSharedBibEntryData().getSharedID());
-                    preparedFieldStatement.setString(2, fieldName);
-                    preparedFieldStatement.setString(3, bibEntry.getField(fieldName).get());
-                    preparedFieldStatement.executeUpdate();
+                    preparedFieldStatement.setString(2, field.getKey());
+                    preparedFieldStatement.setString(3, field.getValue());
+                    preparedFieldStatement.addBatch();
                 }
             }
-        } catch (SQLException e) {
-            LOGGER.error("SQL Error: ", e);
+            preparedFieldStatement.executeBatch();
         }
     }
 
@@ -238,16 +328,17 @@ public abstract class DBMSProcessor {
      * Updates the whole {@link BibEntry} on shared database.
      *
      * @param localBibEntry {@link BibEntry} affected by changes
+     * @return <code>false</code> if the entry does not exist on shared database (anymore), else <code>true</code>
      * @throws SQLException
      */
-    public void updateEntry(BibEntry localBibEntry) throws OfflineLockException, SQLException {
+    public synchronized boolean updateEntry(BibEntry localBibEntry) throws OfflineLockException, SQLException {
         connection.setAutoCommit(false); // disable auto commit due to transaction
 
         try {
             Optional<BibEntry> sharedEntryOptional = getSharedEntry(localBibEntry.getSharedBibEntryData().getSharedID());
 
             if (!sharedEntryOptional.isPresent()) {
-                return;
+                return false;
             }
 
             BibEntry sharedBibEntry = sharedEntryOptional.get();
@@ -259,7 +350,7 @@ public abstract class DBMSProcessor {
             if ((localBibEntry.getSharedBibEntryData().getVersion() >= sharedBibEntry.getSharedBibEntryData()
                     .getVersion()) || localBibEntry.equals(sharedBibEntry)) {
 
-                insertOrUpdateFields(localBibEntry);
+                insertOrUpdateFields(localBibEntry, sharedBibEntry);
 
                 // updating entry type
                 StringBuilder updateEntryTypeQuery = new StringBuilder()
@@ -292,6 +383,7 @@ public abstract class DBMSProcessor {
         } finally {
             connection.setAutoCommit(true); // enable auto commit mode again
         }
+        return true;
     }
 
     /**
@@ -300,93 +392,84 @@ public abstract class DBMSProcessor {
     private void removeSharedFieldsByDifference(BibEntry localBibEntry, BibEntry sharedBibEntry) throws SQLException {
         Set<String> nullFields = new HashSet<>(sharedBibEntry.getFieldNames());
         nullFields.removeAll(localBibEntry.getFieldNames());
-        for (String nullField : nullFields) {
-            StringBuilder deleteFieldQuery = new StringBuilder()
-                .append("DELETE FROM ")
-                .append(escape("FIELD"))
-                .append(" WHERE ")
-                .append(escape("NAME"))
-                .append(" = ? AND ")
-                .append(escape("ENTRY_SHARED_ID"))
-                .append(" = ?");
+        if (nullFields.isEmpty()) {
+            return;
+        }
 
-            try (PreparedStatement preparedDeleteFieldStatement = connection
-                    .prepareStatement(deleteFieldQuery.toString())) {
+        StringBuilder deleteFieldQuery = new StringBuilder()
+            .append("DELETE FROM ")
+            .append(escape("FIELD"))
+            .append(" WHERE ")
+            .append(escape("NAME"))
+            .append(" = ? AND ")
+            .append(escape("ENTRY_SHARED_ID"))
+            .append(" = ?");
+
+        try (PreparedStatement preparedDeleteFieldStatement = connection
+                .prepareStatement(deleteFieldQuery.toString())) {
+            for (String nullField : nullFields) {
                 preparedDeleteFieldStatement.setString(1, nullField);
                 preparedDeleteFieldStatement.setInt(2, localBibEntry.getSharedBibEntryData().getSharedID());
-                preparedDeleteFieldStatement.executeUpdate();
+                preparedDeleteFieldStatement.addBatch();
             }
+            preparedDeleteFieldStatement.executeBatch();
         }
     }
 
     /**
-     * Helping method. Inserts a key-value pair into FIELD table for every field if not existing. Otherwise only an update is performed.
+     * Helping method. Inserts a key-value pair into FIELD table for every field not existing on the given shared entry.
+     * Otherwise only an update is performed. The updates and the inserts are executed as one batch each.
      */
-    private void insertOrUpdateFields(BibEntry localBibEntry) throws SQLException {
-        for (String fieldName : localBibEntry.getFieldNames()) {
-            // avoiding to use deprecated BibEntry.getField() method. null values are accepted by PreparedStatement!
-            Optional<String> valueOptional = localBibEntry.getField(fieldName);
-            String value = null;
-            if (valueOptional.isPresent()) {
-                value = valueOptional.get();
-            }
-
-            StringBuilder selectFieldQuery = new StringBuilder()
-                    .append("SELECT * FROM ")
-                    .append(escape("FIELD"))
-                    .append(" WHERE ")
-                    .append(escape("NAME"))
-                    .append(" = ? AND ")
-                    .append(escape("ENTRY_SHARED_ID"))
-                    .append(" = ?");
+    private void insertOrUpdateFields(BibEntry localBibEntry, BibEntry sharedBibEntry) throws SQLException {
+        StringBuilder updateFieldQuery = new StringBuilder()
+                .append("UPDATE ")
+                .append(escape("FIELD"))
+                .append(" SET ")
+                .append(escape("VALUE"))
+                .append(" = ? WHERE ")
+                .append(escape("NAME"))
+                .append(" = ? AND ")
+                .append(escape("ENTRY_SHARED_ID"))
+                .append(" = ?");
 
-            try (PreparedStatement preparedSelectFieldStatement = connection
-                    .prepareStatement(selectFieldQuery.toString())) {
-                preparedSelectFieldStatement.setString(1, fieldName);
-                preparedSelectFieldStatement.setInt(2, localBibEntry.getSharedBibEntryData().getSharedID());
-
-                try (ResultSet selectFieldResultSet = preparedSelectFieldStatement.executeQuery()) {
-                    if (selectFieldResultSet.next()) { // check if field already exists
-                        StringBuilder updateFieldQuery = new StringBuilder()
-                                .append("UPDATE ")
-                                .append(escape("FIELD"))
-                                .append(" SET ")
-                                .append(escape("VALUE"))
-                                .append(" = ? WHERE ")
-                                .append(escape("NAME"))
-                                .append(" = ? AND ")
-                                .append(escape("ENTRY_SHARED_ID"))
-                                .append(" = ?");
-
-                        try (PreparedStatement preparedUpdateFieldStatement = connection
-                                .prepareStatement(updateFieldQuery.toString())) {
-                            preparedUpdateFieldStatement.setString(1, value);
-                            preparedUpdateFieldStatement.setString(2, fieldName);
-                            preparedUpdateFieldStatement.setInt(3, localBibEntry.getSharedBibEntryData().getSharedID());
-                            preparedUpdateFieldStatement.executeUpdate();
-                        }
-                    } else {
-                        StringBuilder insertFieldQuery = new StringBuilder()
-                                .append("INSERT INTO ")
-                                .append(escape("FIELD"))
-                                .append("(")
-                                .append(escape("ENTRY_SHARED_ID"))
-                                .append(", ")
-                                .append(escape("NAME"))
-                                .append(", ")
-                                .append(escape("VALUE"))
-                                .append(") VALUES(?, ?, ?)");
-
-                        try (PreparedStatement preparedFieldStatement = connection
-                                .prepareStatement(insertFieldQuery.toString())) {
-                            preparedFieldStatement.setInt(1, localBibEntry.getSharedBibEntryData().getSharedID());
-                            preparedFieldStatement.setString(2, fieldName);
-                            preparedFieldStatement.setString(3, value);
-                            preparedFieldStatement.executeUpdate();
-                        }
-                    }
+        StringBuilder insertFieldQuery = new StringBuilder()
+                .append("INSERT INTO ")
+                .append(escape("FIELD"))
+                .append("(")
+                .append(escape("ENTRY_SHARED_ID"))
+                .append(", ")
+                .append(escape("NAME"))
+                .append(", ")
+                .append(escape("VALUE"))
+                .append(") VALUES(?, ?, ?)");
+
+        int sharedID = localBibEntry.getSharedBibEntryData().getSharedID();
+        Set<String> sharedFieldNames = sharedBibEntry.getFieldNames();
+        try (PreparedStatement preparedUpdateFieldStatement = connection.prepareStatement(updateFieldQuery.toString());
+                PreparedStatement preparedInsertFieldStatement = connection.prepareStatement(insertFieldQuery.toString())) {
+            boolean anyUpdate = false;
+            boolean anyInsert = false;
+            for (Map.Entry<String, String> field : localBibEntry.getFieldMap().entrySet()) {
+                if (sharedFieldNames.contains(field.getKey())) { // check if field already exists
+                    preparedUpdateFieldStatement.setString(1, field.getValue());
+                    preparedUpdateFieldStatement.setString(2, field.getKey());
+                    preparedUpdateFieldStatement.setInt(3, sharedID);
+                    preparedUpdateFieldStatement.addBatch();
+                    anyUpdate = true;
+                } else {
+                    preparedInsertFieldStatement.setInt(1, sharedID);
+                    preparedInsertFieldStatement.setString(2, field.getKey());
+                    preparedInsertFieldStatement.setString(3, field.getValue());
+                    preparedInsertFieldStatement.addBatch();
+                    anyInsert = true;
                 }
             }
+            if (anyUpdate) {
+                preparedUpdateFieldStatement.executeBatch();
+            }
+            if (anyInsert) {
+                preparedInsertFieldStatement.executeBatch();
+            }
         }
     }
 
@@ -396,20 +479,55 @@ public abstract class DBMSProcessor {
      * @param bibEntry {@link BibEntry} to be deleted
      */
     public void removeEntry(BibEntry bibEntry) {
-        StringBuilder query = new StringBuilder()
-                .append("DELETE FROM ")
-                .append(escape("ENTRY"))
-                .append(" WHERE ")
-                .append(escape("SHARED_ID"))
-                .append(" = ?");
+        removeEntries(Collections.singletonList(bibEntry));
+    }
 
-        try (PreparedStatement preparedStatement = connection.prepareStatement(query.toString())) {
-            preparedStatement.setInt(1, bibEntry.getSharedBibEntryData().getSharedID());
-            preparedStatement.executeUpdate();
+    /**
+     * Removes the given entries from shared database using a single transaction. The rows are deleted by one statement
+     * per {@link #MAXIMUM_IDS_PER_QUERY} entries instead of one statement per entry.
+     *
+     * @param bibEntries {@link BibEntry} instances to be removed
+     */
+    public synchronized void removeEntries(List<BibEntry> bibEntries) {
+        List<Integer> sharedIDs = new ArrayList<>(bibEntries.size());
+        for (BibEntry bibEntry : bibEntries) {
+            sharedIDs.add(bibEntry.getSharedBibEntryData().getSharedID());
+        }
+        if (sharedIDs.isEmpty()) {
+            return;
+        }
+
+        try {
+            connection.setAutoCommit(false); // disable auto commit due to transaction
+            try {
+                for (int i = 0; i < sharedIDs.size(); i += MAXIMUM_IDS_PER_QUERY) {
+                    List<Integer> ids = sharedIDs.subList(i, Math.min(sharedIDs.size(), i + MAXIMUM_IDS_PER_QUERY));
+                    StringBuilder query = new StringBuilder()
+                            .append("DELETE FROM ")
+                            .append(escape("ENTRY"))
+                            .append(" WHERE ")
+                            .append(escape("SHARED_ID"))
+                            .append(" IN (")
+                            .append(String.join(", ", Collections.nCopies(ids.size(), "?")))
+                            .append(")");
+
+                    try (PreparedStatement preparedStatement = connection.prepareStatement(query.toString())) {
+                        for (int j = 0; j < ids.size(); j++) {
+                            preparedStatement.setInt(j + 1, ids.get(j));
+                        }
+                        preparedStatement.executeUpdate();
+                    }
+                }
+                connection.commit(); // apply all changes in current transaction
+            } catch (SQLException e) {
+                LOGGER.error("SQL Error: ", e);
+                connection.rollback(); // undo changes made in current transaction
+            } finally {
+                connection.setAutoCommit(true); // enable auto commit mode again
+            }
         } catch (SQLException e) {
             LOGGER.error("SQL Error: ", e);
         }
-
     }
 
     /**
@@ -417,83 +535,134 @@ public abstract class DBMSProcessor {
      * @return instance of {@link BibEntry}
      */
     public Optional<BibEntry> getSharedEntry(int sharedID) {
-        List<BibEntry> sharedEntries = getSharedEntryList(sharedID);
+        List<BibEntry> sharedEntries = getSharedEntries(Collections.singletonList(sharedID));
         if (!sharedEntries.isEmpty()) {
             return Optional.of(sharedEntries.get(0));
         }
         return Optional.empty();
     }
 
-    public List<BibEntry> getSharedEntries() {
-        return getSharedEntryList(0);
+    public synchronized List<BibEntry> getSharedEntries() {
+        return getSharedEntryList(Collections.emptyList());
     }
 
     /**
-     * @param sharedID Entry ID. If 0, all entries are going to be fetched.
-     * @return List of {@link BibEntry} instances
+     * Fetches the given entries together with their fields. Instead of one query per entry, the IDs are passed in
+     * batches of {@link #MAXIMUM_IDS_PER_QUERY}.
+     *
+     * @param sharedIDs Entry IDs, not existing ones are skipped
+     * @return List of {@link BibEntry} instances ordered by their ID
      */
-    private List<BibEntry> getSharedEntryList(int sharedID) {
+    public synchronized List<BibEntry> getSharedEntries(List<Integer> sharedIDs) {
         List<BibEntry> sharedEntries = new ArrayList<>();
+        for (int i = 0; i < sharedIDs.size(); i += MAXIMUM_IDS_PER_QUERY) {
+            sharedEntries.addAll(getSharedEntryList(
+                    sharedIDs.subList(i, Math.min(sharedIDs.size(), i + MAXIMUM_IDS_PER_QUERY))));
+        }
+        sharedEntries.sort(Comparator.comparingInt(entry -> entry.getSharedBibEntryData().getSharedID()));
+        return sharedEntries;
+    }
 
-        StringBuilder selectEntryQuery = new StringBuilder();
-        selectEntryQuery.append("SELECT * FROM ");
-        selectEntryQuery.append(escape("ENTRY"));
+    /**
+     * Fetches the entries and afterwards the fields of all of them using a single query.
+     *
+     * @param sharedIDs Entry IDs. If empty, all entries are going to be fetched.
+     * @return List of {@link BibEntry} instances
+     */
+    private List<BibEntry> getSharedEntryList(List<Integer> sharedIDs) {
+        Map<Integer, BibEntry> sharedEntries = new LinkedHashMap<>();
 
-        if (sharedID != 0) {
-            selectEntryQuery.append(" WHERE ");
-            selectEntryQuery.append(escape("SHARED_ID"));
-            selectEntryQuery.append(" = ");
-            selectEntryQuery.append(sharedID);
-        }
+        StringBuilder selectEntryQuery = new StringBuilder()
+                .append("SELECT * FROM ")
+                .append(escape("ENTRY"))
+                .append(getIDCondition("SHARED_ID", sharedIDs.size()))
+                .append(" ORDER BY ")
+                .append(escape("SHARED_ID"));
+
+        StringBuilder selectFieldQuery = new StringBuilder()
+                .append("SELECT * FROM ")
+                .append(escape("FIELD"))
+                .append(getIDCondition("ENTRY_SHARED_ID", sharedIDs.size()));
+
+        try (PreparedStatement preparedSelectEntryStatement = connection.prepareStatement(selectEntryQuery.toString());
+                PreparedStatement preparedSelectFieldStatement = connection.prepareStatement(selectFieldQuery.toString())) {
+            for (int i = 0; i < sharedIDs.size(); i++) {
+                // columnIndex starts with 1
+                preparedSelectEntryStatement.setInt(i + 1, sharedIDs.get(i));
+                preparedSelectFieldStatement.setInt(i + 1, sharedIDs.get(i));
+            }
 
-        selectEntryQuery.append(" ORDER BY ");
-        selectEntryQuery.append(escape("SHARED_ID"));
+            try (ResultSet selectEntryResultSet = preparedSelectEntryStatement.executeQuery()) {
+                while (selectEntryResultSet.next()) {
+                    BibEntry bibEntry = new BibEntry();
+                    // setting the base attributes once
+                    bibEntry.getSharedBibEntryData().setSharedID(selectEntryResultSet.getInt("SHARED_ID"));
+                    bibEntry.setType(selectEntryResultSet.getString("TYPE"));
+                    bibEntry.getSharedBibEntryData().setVersion(selectEntryResultSet.getInt("VERSION"));
+                    sharedEntries.put(bibEntry.getSharedBibEntryData().getSharedID(), bibEntry);
+                }
+            }
 
-        try (ResultSet selectEntryResultSet = connection.createStatement().executeQuery(selectEntryQuery.toString())) {
-            while (selectEntryResultSet.next()) {
-                BibEntry bibEntry = new BibEntry();
-                // setting the base attributes once
-                bibEntry.getSharedBibEntryData().setSharedID(selectEntryResultSet.getInt("SHARED_ID"));
-                bibEntry.setType(selectEntryResultSet.getString("TYPE"));
-                bibEntry.getSharedBibEntryData().setVersion(selectEntryResultSet.getInt("VERSION"));
-
-                StringBuilder selectFieldQuery = new StringBuilder()
-                    .append("SELECT * FROM ")
-                    .append(escape("FIELD"))
-                    .append(" WHERE ")
-                    .append(escape("ENTRY_SHARED_ID"))
-                    .append(" = ?");
+            if (sharedEntries.isEmpty()) {
+                return new ArrayList<>();
+            }
 
-                try (PreparedStatement preparedSelectFieldStatement = connection.prepareStatement(selectFieldQuery.toString())) {
-                    preparedSelectFieldStatement.setInt(1, selectEntryResultSet.getInt("SHARED_ID"));
-                    try (ResultSet selectFieldResultSet = preparedSelectFieldStatement.executeQuery()) {
-                        while (selectFieldResultSet.next()) {
-                            bibEntry.setField(selectFieldResultSet.getString("NAME"),
-                                    Optional.ofNullable(selectFieldResultSet.getString("VALUE")), EntryEventSource.SHARED);
-                        }
+            try (ResultSet selectFieldResultSet = preparedSelectFieldStatement.executeQuery()) {
+                while (selectFieldResultSet.next()) {
+                    // fields of entries inserted after the first query are skipped
+                    BibEntry bibEntry = sharedEntries.get(selectFieldResultSet.getInt("ENTRY_SHARED_ID"));
+                    if (bibEntry != null) {
+                        bibEntry.setField(selectFieldResultSet.getString("NAME"),
+                                Optional.ofNullable(selectFieldResultSet.getString("VALUE")), EntryEventSource.SHARED);
                     }
                 }
-                sharedEntries.add(bibEntry);
             }
         } catch (SQLException e) {
             LOGGER.error("SQL Error", e);
         }
 
-        return sharedEntries;
+        return new ArrayList<>(sharedEntries.values());
+    }
+
+    /**
+     * Returns a WHERE clause restricting the given column to the given number of IDs, which have to be set as
+     * parameters of the statement. An empty clause is returned if there are no IDs.
+     */
+    private String getIDCondition(String column, int numberOfIDs) {
+        if (numberOfIDs == 0) {
+            return "";
+        }
+
+        StringBuilder condition = new StringBuilder()
+                .append(" WHERE ")
+                .append(escape(column))
+                .append(" IN (");
+        for (int i = 0; i < numberOfIDs; i++) {
+            if (i > 0) {
+                condition.append(", ");
+            }
+            condition.append('?');
+        }
+        return condition.append(')').toString();
     }
 
     /**
      * Retrieves a mapping between the columns SHARED_ID and VERSION.
      */
-    public Map<Integer, Integer> getSharedIDVersionMapping() {
+    public synchronized Map<Integer, Integer> getSharedIDVersionMapping() {
         Map<Integer, Integer> sharedIDVersionMapping = new HashMap<>();
         StringBuilder selectEntryQuery = new StringBuilder()
-            .append("SELECT * FROM ")
+            .append("SELECT ")
+            .append(escape("SHARED_ID"))
+            .append(", ")
+            .append(escape("VERSION"))
+            .append(" FROM ")
             .append(escape("ENTRY"))
             .append(" ORDER BY ")
             .append(escape("SHARED_ID"));
 
-        try (ResultSet selectEntryResultSet = connection.createStatement().executeQuery(selectEntryQuery.toString())) {
+        try (Statement statement = connection.createStatement();
+                ResultSet selectEntryResultSet = statement.executeQuery(selectEntryQuery.toString())) {
             while (selectEntryResultSet.next()) {
                 sharedIDVersionMapping.put(selectEntryResultSet.getInt("SHARED_ID"), selectEntryResultSet.getInt("VERSION"));
             }
@@ -507,7 +676,7 @@ public abstract class DBMSProcessor {
     /**
      * Fetches and returns all shared meta data.
      */
-    public Map<String, String> getSharedMetaData() {
+    public synchronized Map<String, String> getSharedMetaData() {
         Map<String, String> data = new HashMap<>();
 
         try (ResultSet resultSet = connection.createStatement().executeQuery("SELECT * FROM " + escape("METADATA"))) {
@@ -526,7 +695,7 @@ public abstract class DBMSProcessor {
      *
      * @param data JabRef meta data as map
      */
-    public void setSharedMetaData(Map<String, String> data) throws SQLException {
+    public synchronized void setSharedMetaData(Map<String, String> data) throws SQLException {
         StringBuilder updateQuery = new StringBuilder()
                     .append("UPDATE ")
                     .append(escape("METADATA"))
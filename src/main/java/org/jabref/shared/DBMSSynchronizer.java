@@ -2,11 +2,20 @@ package org.jabref.shared;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.jabref.logic.exporter.BibDatabaseWriter;
 import org.jabref.logic.exporter.MetaDataSerializer;
@@ -15,6 +24,9 @@ import org.jabref.logic.importer.util.MetaDataParser;
 import org.jabref.model.bibtexkeypattern.GlobalBibtexKeyPattern;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.database.event.EntriesAddedEvent;
+import org.jabref.model.database.event.EntriesEvent;
+import org.jabref.model.database.event.EntriesRemovedEvent;
 import org.jabref.model.database.event.EntryAddedEvent;
 import org.jabref.model.database.event.EntryRemovedEvent;
 import org.jabref.model.entry.BibEntry;
@@ -43,6 +55,10 @@ public class DBMSSynchronizer {
 
     private static final Log LOGGER = LogFactory.getLog(DBMSSynchronizer.class);
 
+    private static final int NOT_SHARED_ID = -1;
+    private static final long PULL_DELAY_MILLISECONDS = 200;
+    private static final long INSERTION_DELAY_MILLISECONDS = 50;
+
     private DBMSProcessor dbmsProcessor;
     private DBMSType dbmsType;
     private String dbName;
@@ -53,6 +69,14 @@ public class DBMSSynchronizer {
     private Connection currentConnection;
     private final Character keywordSeparator;
     private final GlobalBibtexKeyPattern globalCiteKeyPattern;
+    private final ScheduledExecutorService pullExecutor;
+    private final AtomicBoolean pullScheduled = new AtomicBoolean();
+    private final AtomicBoolean insertionScheduled = new AtomicBoolean();
+    private final List<BibEntry> addedEntries = new ArrayList<>();
+    // not this, as removed entries are deleted from shared database while the local database is locked
+    private final Object localSynchronizationLock = new Object();
+    // the pulled changes are applied to the local database by this executor, see setLocalChangeExecutor
+    private volatile Executor localChangeExecutor = Runnable::run;
 
     public DBMSSynchronizer(BibDatabaseContext bibDatabaseContext, Character keywordSeparator,
             GlobalBibtexKeyPattern globalCiteKeyPattern) {
@@ -62,21 +86,96 @@ public class DBMSSynchronizer {
         this.eventBus = new EventBus();
         this.keywordSeparator = keywordSeparator;
         this.globalCiteKeyPattern = Objects.requireNonNull(globalCiteKeyPattern);
+        this.pullExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "DBMSSynchronizer pull");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Sets the executor which applies the changes pulled from the shared database to the local database. The changes
+     * are fetched on the thread pulling them, which is usually not the UI thread. The listeners of the local database
+     * (e.g., the main table) expect to be notified on the UI thread, thus the GUI passes an executor running the
+     * changes there. By default, the changes are applied on the pulling thread.
+     */
+    public void setLocalChangeExecutor(Executor localChangeExecutor) {
+        this.localChangeExecutor = Objects.requireNonNull(localChangeExecutor);
     }
 
     /**
-     * Listening method. Inserts a new {@link BibEntry} into shared database.
+     * Listening method. Inserts the new {@link BibEntry} instances into shared database.
+     * The entries added in a burst, e.g. by an import, are collected and inserted using a single transaction, see
+     * {@link #synchronizeAddedEntries()}.
      *
-     * @param event {@link EntryAddedEvent} object
+     * @param event {@link EntriesAddedEvent} object
      */
     @Subscribe
-    public void listen(EntryAddedEvent event) {
+    public void listen(EntriesAddedEvent event) {
         // While synchronizing the local database (see synchronizeLocalDatabase() below), some EntryEvents may be posted.
         // In this case DBSynchronizer should not try to insert the bibEntry entry again (but it would not harm).
-        if (isEventSourceAccepted(event) && checkCurrentConnection()) {
+        if (isEventSourceAccepted(event)) {
+            synchronized (addedEntries) {
+                addedEntries.addAll(event.getBibEntries());
+            }
+            if (insertionScheduled.compareAndSet(false, true)) {
+                try {
+                    pullExecutor.schedule(() -> {
+                        insertionScheduled.set(false);
+                        synchronizeAddedEntries();
+                    }, INSERTION_DELAY_MILLISECONDS, TimeUnit.MILLISECONDS);
+                } catch (RejectedExecutionException e) {
+                    LOGGER.debug("Rejecting insertion as the shared database has been closed.");
+                }
+            }
+        }
+    }
+
+    /**
+     * Inserts the entries added locally, which are not yet inserted, into shared database.
+     * If the insertion fails, the entries still present locally are inserted with the next pull.
+     */
+    public synchronized void synchronizeAddedEntries() {
+        List<BibEntry> entries;
+        synchronized (addedEntries) {
+            if (addedEntries.isEmpty()) {
+                return;
+            }
+            entries = new ArrayList<>(addedEntries);
+            addedEntries.clear();
+        }
+
+        if (checkCurrentConnection()) {
             synchronizeLocalMetaData();
-            synchronizeLocalDatabase(); // Pull changes for the case that there were some
-            dbmsProcessor.insertEntry(event.getBibEntry());
+            if (dbmsProcessor.insertEntries(entries)) {
+                dbmsProcessor.notifyClients();
+                schedulePullChanges(); // Pull changes for the case that there were some
+                return;
+            }
+        }
+
+        synchronized (addedEntries) {
+            // entries removed locally meanwhile are not inserted anymore
+            entries.removeIf(entry -> !bibDatabase.containsEntryWithId(entry.getId()));
+            addedEntries.addAll(0, entries);
+        }
+    }
+
+    /**
+     * Removes the entry from the entries waiting for insertion.
+     *
+     * @return <code>true</code> if the entry has not been inserted into shared database yet
+     */
+    private boolean removeAddedEntry(BibEntry bibEntry) {
+        synchronized (addedEntries) {
+            // the entry of an event may be another instance with the same id
+            return addedEntries.removeIf(addedEntry -> addedEntry.getId().equals(bibEntry.getId()));
+        }
+    }
+
+    private boolean isAddedEntry(BibEntry bibEntry) {
+        synchronized (addedEntries) {
+            return addedEntries.stream().anyMatch(addedEntry -> addedEntry.getId().equals(bibEntry.getId()));
         }
     }
 
@@ -89,27 +188,44 @@ public class DBMSSynchronizer {
     public void listen(FieldChangedEvent event) {
         // While synchronizing the local database (see synchronizeLocalDatabase() below), some EntryEvents may be posted.
         // In this case DBSynchronizer should not try to update the bibEntry entry again (but it would not harm).
-        if (isPresentLocalBibEntry(event.getBibEntry()) && isEventSourceAccepted(event) && checkCurrentConnection()) {
+        // Entries waiting for insertion are inserted with their current fields.
+        if (isPresentLocalBibEntry(event.getBibEntry()) && isEventSourceAccepted(event)
+                && !isAddedEntry(event.getBibEntry()) && checkCurrentConnection()) {
             synchronizeLocalMetaData();
             BibEntry bibEntry = event.getBibEntry();
             synchronizeSharedEntry(bibEntry);
-            synchronizeLocalDatabase(); // Pull changes for the case that there were some
+            schedulePullChanges(); // Pull changes for the case that there were some
         }
     }
 
     /**
-     * Listening method. Deletes the given {@link BibEntry} from shared database.
+     * Listening method. Deletes the given {@link BibEntry} instances from shared database using a single transaction.
      *
-     * @param event {@link EntryRemovedEvent} object
+     * @param event {@link EntriesRemovedEvent} object
      */
     @Subscribe
-    public void listen(EntryRemovedEvent event) {
+    public void listen(EntriesRemovedEvent event) {
         // While synchronizing the local database (see synchronizeLocalDatabase() below), some EntryEvents may be posted.
         // In this case DBSynchronizer should not try to delete the bibEntry entry again (but it would not harm).
-        if (isEventSourceAccepted(event) && checkCurrentConnection()) {
-            dbmsProcessor.removeEntry(event.getBibEntry());
+        if (!isEventSourceAccepted(event)) {
+            return;
+        }
+
+        List<BibEntry> insertedEntries = new ArrayList<>();
+        for (BibEntry bibEntry : event.getBibEntries()) {
+            if (!removeAddedEntry(bibEntry)) {
+                insertedEntries.add(bibEntry);
+            }
+        }
+
+        if (!insertedEntries.isEmpty() && checkCurrentConnection()) {
+            synchronized (this) {
+                // entries whose insertion is running are removed after it
+                dbmsProcessor.removeEntries(insertedEntries);
+            }
             synchronizeLocalMetaData();
-            synchronizeLocalDatabase(); // Pull changes for the case that there where some
+            dbmsProcessor.notifyClients();
+            schedulePullChanges(); // Pull changes for the case that there where some
         }
     }
 
@@ -130,7 +246,9 @@ public class DBMSSynchronizer {
 
     @Subscribe
     public void listen(EntryEvent event) {
-        if (isEventSourceAccepted(event)) {
+        // clients are notified after added entries have been inserted and removed entries have been deleted
+        if (isEventSourceAccepted(event) && !(event instanceof EntryAddedEvent)
+                && !(event instanceof EntryRemovedEvent)) {
             dbmsProcessor.notifyClients();
         }
     }
@@ -162,89 +280,153 @@ public class DBMSSynchronizer {
     /**
      * Synchronizes the local database with shared one.
      * Possible update types are removal, update or insert of a {@link BibEntry}.
+     * Only the entries whose shared version is newer than the local one are fetched from the shared database.
+     * Synchronizations of different threads are performed one after another.
+     * The changes are fetched on the calling thread and applied to the local database by the executor set with
+     * {@link #setLocalChangeExecutor(Executor)}. Entries already updated or inserted meanwhile are skipped, so that
+     * new entries are inserted once.
      */
     public void synchronizeLocalDatabase() {
-        if (!checkCurrentConnection()) {
-            return;
+        synchronized (localSynchronizationLock) {
+            if (checkCurrentConnection()) {
+                synchronizeLocalEntries();
+            }
         }
+    }
 
-        List<BibEntry> localEntries = bibDatabase.getEntries();
+    private void synchronizeLocalEntries() {
+        // a copy, as the entries may be changed by another thread meanwhile
+        Map<Integer, BibEntry> localEntries = getLocalEntriesBySharedID(new ArrayList<>(bibDatabase.getEntries()));
         Map<Integer, Integer> idVersionMap = dbmsProcessor.getSharedIDVersionMapping();
 
-        // remove old entries locally
-        removeNotSharedEntries(localEntries, idVersionMap.keySet());
+        // entries removed from the shared database
+        Set<Integer> removedIDs = new HashSet<>();
+        for (Integer sharedID : localEntries.keySet()) {
+            if ((sharedID != NOT_SHARED_ID) && !idVersionMap.containsKey(sharedID)) {
+                removedIDs.add(sharedID);
+            }
+        }
 
-        // compare versions and update local entry if needed
+        // compare versions and collect the entries which are new or have to be updated
+        List<Integer> changedIDs = new ArrayList<>();
         for (Map.Entry<Integer, Integer> idVersionEntry : idVersionMap.entrySet()) {
-            boolean match = false;
-            for (BibEntry localEntry : localEntries) {
-                if (idVersionEntry.getKey() == localEntry.getSharedBibEntryData().getSharedID()) {
-                    match = true;
-                    if (idVersionEntry.getValue() > localEntry.getSharedBibEntryData().getVersion()) {
-                        Optional<BibEntry> sharedEntry = dbmsProcessor.getSharedEntry(idVersionEntry.getKey());
-                        if (sharedEntry.isPresent()) {
-                            // update fields
-                            localEntry.setType(sharedEntry.get().getType(), EntryEventSource.SHARED);
-                            localEntry.getSharedBibEntryData()
-                                    .setVersion(sharedEntry.get().getSharedBibEntryData().getVersion());
-                            for (String field : sharedEntry.get().getFieldNames()) {
-                                localEntry.setField(field, sharedEntry.get().getField(field), EntryEventSource.SHARED);
-                            }
-
-                            Set<String> redundantLocalEntryFields = localEntry.getFieldNames();
-                            redundantLocalEntryFields.removeAll(sharedEntry.get().getFieldNames());
-
-                            // remove not existing fields
-                            for (String redundantField : redundantLocalEntryFields) {
-                                localEntry.clearField(redundantField, EntryEventSource.SHARED);
-                            }
-                        }
-                    }
-                }
+            BibEntry localEntry = localEntries.get(idVersionEntry.getKey());
+            if ((localEntry == null)
+                    || (idVersionEntry.getValue() > localEntry.getSharedBibEntryData().getVersion())) {
+                changedIDs.add(idVersionEntry.getKey());
             }
-            if (!match) {
-                Optional<BibEntry> bibEntry = dbmsProcessor.getSharedEntry(idVersionEntry.getKey());
-                if (bibEntry.isPresent()) {
-                    bibDatabase.insertEntry(bibEntry.get(), EntryEventSource.SHARED);
+        }
+        List<BibEntry> sharedEntries = dbmsProcessor.getSharedEntries(changedIDs);
+
+        if (removedIDs.isEmpty() && sharedEntries.isEmpty()) {
+            return;
+        }
+        localChangeExecutor.execute(() -> applySharedChanges(removedIDs, sharedEntries));
+    }
+
+    private static Map<Integer, BibEntry> getLocalEntriesBySharedID(List<BibEntry> entries) {
+        Map<Integer, BibEntry> localEntries = new HashMap<>();
+        for (BibEntry localEntry : entries) {
+            localEntries.put(localEntry.getSharedBibEntryData().getSharedID(), localEntry);
+        }
+        return localEntries;
+    }
+
+    /**
+     * Applies the changes fetched from the shared database to the local database. As the local database may have been
+     * changed since the changes have been fetched, the local entries are looked up again and only the entries which
+     * are still older than the fetched ones are updated. Thus, applying the same changes twice does not hurt.
+     *
+     * @param removedIDs    the shared IDs of the entries which have been removed from the shared database
+     * @param sharedEntries the entries which are new or have been changed in the shared database
+     */
+    private void applySharedChanges(Set<Integer> removedIDs, List<BibEntry> sharedEntries) {
+        Map<Integer, BibEntry> localEntries = getLocalEntriesBySharedID(new ArrayList<>(bibDatabase.getEntries()));
+
+        // remove old entries locally
+        removeNotSharedEntries(localEntries, removedIDs);
+
+        List<BibEntry> newEntries = new ArrayList<>();
+        for (BibEntry sharedEntry : sharedEntries) {
+            BibEntry localEntry = localEntries.get(sharedEntry.getSharedBibEntryData().getSharedID());
+            if (localEntry == null) {
+                newEntries.add(sharedEntry);
+            } else if (sharedEntry.getSharedBibEntryData().getVersion()
+                    > localEntry.getSharedBibEntryData().getVersion()) {
+                // update fields
+                localEntry.setType(sharedEntry.getType(), EntryEventSource.SHARED);
+                localEntry.getSharedBibEntryData().setVersion(sharedEntry.getSharedBibEntryData().getVersion());
+                for (String field : sharedEntry.getFieldNames()) {
+                    localEntry.setField(field, sharedEntry.getField(field), EntryEventSource.SHARED);
+                }
+
+                Set<String> redundantLocalEntryFields = localEntry.getFieldNames();
+                redundantLocalEntryFields.removeAll(sharedEntry.getFieldNames());
+
+                // remove not existing fields
+                for (String redundantField : redundantLocalEntryFields) {
+                    localEntry.clearField(redundantField, EntryEventSource.SHARED);
                 }
             }
         }
+        bibDatabase.insertEntries(newEntries, EntryEventSource.SHARED);
     }
 
     /**
-     * Removes all local entries which are not present on shared database.
+     * Removes the local entries which have been removed from the shared database.
+     * Entries which are not yet inserted into the shared database are kept.
      *
-     * @param localEntries List of {@link BibEntry} the entries should be removed from
-     * @param sharedIDs Set of all IDs which are present on shared database
+     * @param localEntries Map of the {@link BibEntry} the entries should be removed from by their shared ID
+     * @param removedIDs Set of the IDs which have been removed from the shared database
      */
-    private void removeNotSharedEntries(List<BibEntry> localEntries, Set<Integer> sharedIDs) {
-        for (int i = 0; i < localEntries.size(); i++) {
-            BibEntry localEntry = localEntries.get(i);
-            boolean match = false;
-            for (int sharedID : sharedIDs) {
-                if (localEntry.getSharedBibEntryData().getSharedID() == sharedID) {
-                    match = true;
-                    break;
-                }
+    private void removeNotSharedEntries(Map<Integer, BibEntry> localEntries, Set<Integer> removedIDs) {
+        List<BibEntry> removedEntries = new ArrayList<>();
+        Iterator<Map.Entry<Integer, BibEntry>> iterator = localEntries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Integer, BibEntry> localEntry = iterator.next();
+            if (removedIDs.contains(localEntry.getKey())) {
+                eventBus.post(new SharedEntryNotPresentEvent(localEntry.getValue()));
+                removedEntries.add(localEntry.getValue());
+                iterator.remove();
             }
-            if (!match) {
-                eventBus.post(new SharedEntryNotPresentEvent(localEntry));
-                bibDatabase.removeEntry(localEntry, EntryEventSource.SHARED); // Should not reach the listeners above.
-                i--; // due to index shift on localEntries
+        }
+        bibDatabase.removeEntries(removedEntries, EntryEventSource.SHARED); // Should not reach the listeners above.
+    }
+
+    /**
+     * Pulls the changes of the shared database after a short delay. Further calls within the delay are coalesced into
+     * the same pull, thus a burst of local changes or notifications does not result in a pull per change.
+     * The pulls are performed one after another on a single background thread.
+     */
+    public void schedulePullChanges() {
+        if (pullScheduled.compareAndSet(false, true)) {
+            try {
+                pullExecutor.schedule(() -> {
+                    pullScheduled.set(false);
+                    pullChanges();
+                }, PULL_DELAY_MILLISECONDS, TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException e) {
+                LOGGER.debug("Rejecting pull as the shared database has been closed.");
             }
         }
     }
 
     /**
      * Synchronizes the shared {@link BibEntry} with the local one.
+     * If the entry has been removed from the shared database meanwhile, it is removed locally as well.
      */
-    public void synchronizeSharedEntry(BibEntry bibEntry) {
+    public synchronized void synchronizeSharedEntry(BibEntry bibEntry) {
         if (!checkCurrentConnection()) {
             return;
         }
         try {
             BibDatabaseWriter.applySaveActions(bibEntry, metaData); // perform possibly existing save actions
-            dbmsProcessor.updateEntry(bibEntry);
+            if (!dbmsProcessor.updateEntry(bibEntry)
+                    && (bibEntry.getSharedBibEntryData().getSharedID() != NOT_SHARED_ID)) {
+                // do not wait for the next pull, the user is still editing the entry
+                eventBus.post(new SharedEntryNotPresentEvent(bibEntry));
+                bibDatabase.removeEntry(bibEntry, EntryEventSource.SHARED);
+            }
         } catch (OfflineLockException exception) {
             eventBus.post(new UpdateRefusedEvent(bibDatabaseContext, exception.getLocalBibEntry(), exception.getSharedBibEntry()));
         } catch (SQLException e) {
@@ -306,12 +488,14 @@ public class DBMSSynchronizer {
 
     /**
      * Synchronizes the local BibEntries and applies the fetched MetaData on them.
+     * Entries whose insertion failed before are inserted first.
      */
     public void pullChanges() {
         if (!checkCurrentConnection()) {
             return;
         }
 
+        synchronizeAddedEntries();
         synchronizeLocalDatabase();
         synchronizeLocalMetaData();
     }
@@ -324,7 +508,7 @@ public class DBMSSynchronizer {
      */
     public boolean checkCurrentConnection() {
         try {
-            boolean isValid = currentConnection.isValid(0);
+            boolean isValid = dbmsProcessor.isConnectionValid();
             if (!isValid) {
                 eventBus.post(new ConnectionLostEvent(bibDatabaseContext));
             }
@@ -343,7 +527,20 @@ public class DBMSSynchronizer {
      * @return <code>true</code> if the event is able to trigger operations in {@link DBMSSynchronizer}, else <code>false</code>
      */
     public boolean isEventSourceAccepted(EntryEvent event) {
-        EntryEventSource eventSource = event.getEntryEventSource();
+        return isEventSourceAccepted(event.getEntryEventSource());
+    }
+
+    /**
+     * Checks whether the {@link EntryEventSource} of an {@link EntriesEvent} is crucial for this class.
+     *
+     * @param event An {@link EntriesEvent}
+     * @return <code>true</code> if the event is able to trigger operations in {@link DBMSSynchronizer}, else <code>false</code>
+     */
+    public boolean isEventSourceAccepted(EntriesEvent event) {
+        return isEventSourceAccepted(event.getEntryEventSource());
+    }
+
+    private boolean isEventSourceAccepted(EntryEventSource eventSource) {
         return ((eventSource == EntryEventSource.LOCAL) || (eventSource == EntryEventSource.UNDO));
     }
 
@@ -361,6 +558,8 @@ public class DBMSSynchronizer {
     }
 
     public void closeSharedDatabase() {
+        synchronizeAddedEntries();
+        pullExecutor.shutdownNow();
         try {
             dbmsProcessor.stopNotificationListener();
             currentConnection.close();
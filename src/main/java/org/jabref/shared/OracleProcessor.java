@@ -1,9 +1,13 @@
 package org.jabref.shared;
 
+import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.Collections;
+import java.util.List;
 import java.util.Properties;
 
+import org.jabref.model.entry.BibEntry;
 import org.jabref.shared.listener.OracleNotificationListener;
 
 import oracle.jdbc.OracleConnection;
@@ -59,6 +63,28 @@ public class OracleProcessor extends DBMSProcessor {
                 "\"VALUE\"  CLOB NOT NULL)");
     }
 
+    /**
+     * Oracle supports neither multi-row VALUES nor generated keys of batches, thus the entries are inserted one after
+     * another using the same statement.
+     */
+    @Override
+    protected void insertIntoEntryTable(List<BibEntry> bibEntries) throws SQLException {
+        StringBuilder insertIntoEntryQuery = new StringBuilder()
+                .append("INSERT INTO ")
+                .append(escape("ENTRY"))
+                .append("(")
+                .append(escape("TYPE"))
+                .append(") VALUES(?)");
+
+        try (PreparedStatement preparedEntryStatement = prepareInsertIntoEntryTable(insertIntoEntryQuery.toString())) {
+            for (BibEntry bibEntry : bibEntries) {
+                preparedEntryStatement.setString(1, bibEntry.getType());
+                preparedEntryStatement.executeUpdate();
+                setGeneratedIDs(preparedEntryStatement, Collections.singletonList(bibEntry));
+            }
+        }
+    }
+
     @Override
     String escape(String expression) {
         return "\"" + expression + "\"";
@@ -19,6 +19,6 @@ public class OracleNotificationListener implements DatabaseChangeListener {
 
     @Override
     public void onDatabaseChangeNotification(DatabaseChangeEvent event) {
-        dbmsSynchronizer.pullChanges();
+        dbmsSynchronizer.schedulePullChanges();
     }
 }
@@ -20,7 +20,7 @@ public class PostgresSQLNotificationListener implements PGNotificationListener {
     @Override
     public void notification(int processId, String channel, String payload) {
         if (!payload.equals(DBMSProcessor.PROCESSOR_ID)) {
-            dbmsSynchronizer.pullChanges();
+            dbmsSynchronizer.schedulePullChanges();
         }
     }
 
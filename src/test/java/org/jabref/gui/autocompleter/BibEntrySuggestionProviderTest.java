@@ -114,4 +114,44 @@ public class BibEntrySuggestionProviderTest {
         Collection<BibEntry> result = autoCompleter.call(getRequest(("k")));
         Assert.assertEquals(Collections.singletonList(entry), result);
     }
+
+    @Test
+    public void completeAfterRemovingEntryReturnsNothing() {
+        BibEntry entry = new BibEntry();
+        entry.setCiteKey("testKey");
+        autoCompleter.indexEntry(entry);
+
+        autoCompleter.removeEntry(entry);
+
+        Collection<BibEntry> result = autoCompleter.call(getRequest(("test")));
+        Assert.assertEquals(Collections.emptyList(), result);
+    }
+
+    @Test
+    public void completeOldKeyAfterChangingKeyReturnsNothing() {
+        BibEntry entry = new BibEntry();
+        entry.setCiteKey("testKey");
+        autoCompleter.indexEntry(entry);
+
+        entry.setCiteKey("otherKey");
+        autoCompleter.indexEntry(entry);
+
+        Collection<BibEntry> result = autoCompleter.call(getRequest(("test")));
+        Assert.assertEquals(Collections.emptyList(), result);
+    }
+
+    @Test
+    public void completeAfterRemovingOneOfTwoEqualEntriesReturnsOtherEntry() {
+        BibEntry entryOne = new BibEntry();
+        entryOne.setCiteKey("testKey");
+        autoCompleter.indexEntry(entryOne);
+        BibEntry entryTwo = (BibEntry) entryOne.clone();
+        autoCompleter.indexEntry(entryTwo);
+
+        autoCompleter.removeEntry(entryOne);
+
+        Collection<BibEntry> result = autoCompleter.call(getRequest(("test")));
+        Assert.assertEquals(1, result.size());
+        Assert.assertSame(entryTwo, result.iterator().next());
+    }
 }
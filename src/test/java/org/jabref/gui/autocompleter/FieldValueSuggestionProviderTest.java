@@ -160,4 +160,57 @@ public class FieldValueSuggestionProviderTest {
         Collection<String> result = autoCompleter.call(getRequest(("te")));
         Assert.assertEquals(Collections.singletonList("test value"), result);
     }
+
+    @Test
+    public void completeAfterRemovingEntryReturnsNothing() {
+        BibEntry entry = new BibEntry();
+        entry.setField("field", "testValue");
+        autoCompleter.indexEntry(entry);
+
+        autoCompleter.removeEntry(entry);
+
+        Collection<String> result = autoCompleter.call(getRequest(("test")));
+        Assert.assertEquals(Collections.emptyList(), result);
+    }
+
+    @Test
+    public void completeAfterChangingEntryReturnsOnlyNewValue() {
+        BibEntry entry = new BibEntry();
+        entry.setField("field", "testValueOne");
+        autoCompleter.indexEntry(entry);
+
+        entry.setField("field", "testValueTwo");
+        autoCompleter.indexEntry(entry);
+
+        Collection<String> result = autoCompleter.call(getRequest(("testValue")));
+        Assert.assertEquals(Collections.singletonList("testValueTwo"), result);
+    }
+
+    @Test
+    public void completeAfterRemovingOneOfTwoEntriesWithSameValueReturnsValue() {
+        BibEntry entryOne = new BibEntry();
+        entryOne.setField("field", "testValue");
+        autoCompleter.indexEntry(entryOne);
+        BibEntry entryTwo = new BibEntry();
+        entryTwo.setField("field", "testValue");
+        autoCompleter.indexEntry(entryTwo);
+
+        autoCompleter.removeEntry(entryOne);
+
+        Collection<String> result = autoCompleter.call(getRequest(("test")));
+        Assert.assertEquals(Collections.singletonList("testValue"), result);
+    }
+
+    @Test
+    public void completeReturnsLimitedNumberOfResults() {
+        for (int i = 0; i < 1000; i++) {
+            BibEntry entry = new BibEntry();
+            entry.setField("field", String.format("testValue%04d", i));
+            autoCompleter.indexEntry(entry);
+        }
+
+        Collection<String> result = autoCompleter.call(getRequest(("testValue")));
+        Assert.assertEquals(100, result.size());
+        Assert.assertEquals("testValue0000", result.iterator().next());
+    }
 }
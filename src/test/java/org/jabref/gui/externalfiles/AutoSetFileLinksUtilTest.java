@@ -3,6 +3,7 @@ package org.jabref.gui.externalfiles;
 import java.nio.file.Path;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import java.util.TreeSet;
 
 import org.jabref.gui.externalfiletype.ExternalFileTypes;
@@ -25,7 +26,7 @@ import static org.mockito.Mockito.when;
 public class AutoSetFileLinksUtilTest {
 
     private final FileDirectoryPreferences fileDirPrefs = mock(FileDirectoryPreferences.class);
-    private final AutoLinkPreferences autoLinkPrefs = new AutoLinkPreferences(false, "", true, ';');
+    private final AutoLinkPreferences autoLinkPrefs = new AutoLinkPreferences(false, "", true, ';', Optional.empty());
     private final BibDatabaseContext databaseContext = mock(BibDatabaseContext.class);
     private final ExternalFileTypes externalFileTypes = mock(ExternalFileTypes.class);
     private final BibEntry entry = new BibEntry("article");
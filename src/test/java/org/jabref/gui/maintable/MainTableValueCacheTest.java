@@ -0,0 +1,104 @@
+package org.jabref.gui.maintable;
+
+import java.util.Collections;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibtexString;
+import org.jabref.model.entry.FieldName;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class MainTableValueCacheTest {
+
+    private BibDatabase database;
+    private MainTableValueCache cache;
+    private MainTableColumn titleColumn;
+    private BibEntry entry;
+
+    @Before
+    public void setUp() {
+        database = new BibDatabase();
+        cache = new MainTableValueCache(database);
+        cache.clear(1);
+        titleColumn = new MainTableColumn(FieldName.TITLE, Collections.singletonList(FieldName.TITLE), database);
+
+        entry = new BibEntry();
+        entry.setField(FieldName.TITLE, "K{\\\"{a}}se");
+        database.insertEntry(entry);
+    }
+
+    @Test
+    public void valueIsComputedOnce() {
+        assertEquals("Käse", cache.getColumnValue(entry, 0, titleColumn));
+        assertEquals("Käse", cache.getColumnValue(entry, 0, titleColumn));
+
+        assertEquals(1, cache.getMisses());
+        assertEquals(1, cache.getHits());
+    }
+
+    @Test
+    public void changedFieldIsComputedAgain() {
+        cache.getColumnValue(entry, 0, titleColumn);
+
+        entry.setField(FieldName.TITLE, "Tea");
+
+        assertEquals("Tea", cache.getColumnValue(entry, 0, titleColumn));
+    }
+
+    @Test
+    public void changedStringIsResolvedAgain() {
+        BibtexString string = new BibtexString("name", "Coffee");
+        database.addString(string);
+        entry.setField(FieldName.TITLE, "#name#");
+        cache.getColumnValue(entry, 0, titleColumn);
+
+        string.setContent("Tea");
+
+        assertEquals("Tea", cache.getColumnValue(entry, 0, titleColumn));
+    }
+
+    @Test
+    public void changedStringDoesNotAffectValueWithoutReference() {
+        cache.getColumnValue(entry, 0, titleColumn);
+
+        database.addString(new BibtexString("name", "Coffee"));
+        cache.getColumnValue(entry, 0, titleColumn);
+
+        assertEquals(1, cache.getMisses());
+    }
+
+    @Test
+    public void changedCrossrefEntryIsResolvedAgain() {
+        BibEntry parent = new BibEntry();
+        parent.setCiteKey("parent");
+        parent.setField(FieldName.BOOKTITLE, "Coffee");
+        database.insertEntry(parent);
+        MainTableColumn booktitleColumn = new MainTableColumn(FieldName.BOOKTITLE,
+                Collections.singletonList(FieldName.BOOKTITLE), database);
+        entry.setField(FieldName.CROSSREF, "parent");
+        cache.getColumnValue(entry, 0, booktitleColumn);
+
+        parent.setField(FieldName.BOOKTITLE, "Tea");
+
+        assertEquals("Tea", cache.getColumnValue(entry, 0, booktitleColumn));
+    }
+
+    @Test
+    public void replacedCrossrefEntryIsResolved() {
+        MainTableColumn booktitleColumn = new MainTableColumn(FieldName.BOOKTITLE,
+                Collections.singletonList(FieldName.BOOKTITLE), database);
+        entry.setField(FieldName.CROSSREF, "parent");
+        cache.getColumnValue(entry, 0, booktitleColumn);
+
+        BibEntry parent = new BibEntry();
+        parent.setCiteKey("parent");
+        parent.setField(FieldName.BOOKTITLE, "Tea");
+        database.insertEntry(parent);
+
+        assertEquals("Tea", cache.getColumnValue(entry, 0, booktitleColumn));
+    }
+}
@@ -0,0 +1,131 @@
+package org.jabref.logic.autosaveandbackup;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class BackupJournalTest {
+
+    @Rule public TemporaryFolder folder = new TemporaryFolder();
+
+    private Path journalPath;
+    private BibDatabase database;
+    private BibEntry first;
+    private BibEntry second;
+
+    @Before
+    public void setUp() throws IOException {
+        journalPath = folder.newFile("test.bib.sav.journal").toPath();
+
+        // the snapshot is parsed again, thus its entries have other ids than the ones recorded in the journal
+        database = new BibDatabase();
+        first = new BibEntry("article");
+        first.setCiteKey("first");
+        second = new BibEntry("book");
+        second.setCiteKey("second");
+        database.insertEntries(first, second);
+    }
+
+    private void writeJournal(String... records) throws IOException {
+        try (BackupJournal journal = BackupJournal.create(journalPath, Arrays.asList("id1", "id2"))) {
+            for (String record : records) {
+                journal.append(record);
+            }
+        }
+    }
+
+    @Test
+    public void replayChangesFieldsOfSnapshotEntries() throws IOException {
+        writeJournal(BackupJournal.fieldChanged("id2", "title", "A\ttitle\nwith \\line breaks"),
+                BackupJournal.fieldChanged("id1", "bibtexkey", null),
+                BackupJournal.fieldChanged("id1", BibEntry.TYPE_HEADER, "misc"));
+
+        assertTrue(BackupJournal.replay(journalPath, database));
+
+        assertEquals(Optional.of("A\ttitle\nwith \\line breaks"), second.getField("title"));
+        assertEquals(Optional.empty(), first.getCiteKeyOptional());
+        assertEquals("misc", first.getType());
+    }
+
+    @Test
+    public void replayAddsAndRemovesEntries() throws IOException {
+        BibEntry added = new BibEntry("inproceedings");
+        added.setCiteKey("added");
+        added.setField("year", "2017");
+        BibEntry removed = new BibEntry();
+        removed.setId("id1");
+
+        writeJournal(BackupJournal.entryAdded(added), BackupJournal.entryRemoved(removed),
+                BackupJournal.fieldChanged(added.getId(), "year", "2018"));
+
+        assertTrue(BackupJournal.replay(journalPath, database));
+
+        assertEquals(2, database.getEntryCount());
+        assertEquals(second, database.getEntries().get(0));
+        BibEntry replayed = database.getEntries().get(1);
+        assertEquals("inproceedings", replayed.getType());
+        assertEquals(Optional.of("added"), replayed.getCiteKeyOptional());
+        assertEquals(Optional.of("2018"), replayed.getField("year"));
+    }
+
+    @Test
+    public void replayFollowsChangedIds() throws IOException {
+        writeJournal(BackupJournal.fieldChanged("id1", BibEntry.ID_FIELD, "newId"),
+                BackupJournal.fieldChanged("newId", "title", "Title"));
+
+        assertTrue(BackupJournal.replay(journalPath, database));
+
+        assertEquals(Optional.of("Title"), first.getField("title"));
+    }
+
+    @Test
+    public void replayAddsEntryContainedInSnapshotOnlyOnce() throws IOException {
+        BibEntry entry = new BibEntry("article");
+
+        try (BackupJournal journal = BackupJournal.create(journalPath, Arrays.asList("id1", entry.getId()))) {
+            journal.append(BackupJournal.entryAdded(entry));
+        }
+
+        assertTrue(BackupJournal.replay(journalPath, database));
+
+        assertEquals(2, database.getEntryCount());
+    }
+
+    @Test
+    public void replayIgnoresIncompleteRecord() throws IOException {
+        writeJournal(BackupJournal.fieldChanged("id1", "title", "Title"));
+        Files.write(journalPath, "F\tid1\ttitle\tTit".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        assertTrue(BackupJournal.replay(journalPath, database));
+
+        assertEquals(Optional.of("Title"), first.getField("title"));
+    }
+
+    @Test
+    public void replayRejectsJournalOfOtherSnapshot() throws IOException {
+        try (BackupJournal journal = BackupJournal.create(journalPath, Collections.singletonList("id1"))) {
+            journal.append(BackupJournal.fieldChanged("id1", "title", "Title"));
+        }
+
+        assertFalse(BackupJournal.replay(journalPath, database));
+
+        assertEquals(Optional.empty(), first.getField("title"));
+    }
+}
@@ -1,13 +1,28 @@
 package org.jabref.logic.autosaveandbackup;
 
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Optional;
+
+import org.jabref.logic.importer.OpenDatabase;
+import org.jabref.logic.importer.ParserResult;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibtexString;
+import org.jabref.preferences.JabRefPreferences;
 
 import org.junit.Assert;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 public class BackupManagerTest {
 
+    @Rule public TemporaryFolder folder = new TemporaryFolder();
+
     @Test
     public void backupFileNameIsCorrectlyGeneratedWithinTmpDirectory() {
         Path bibPath = Paths.get("tmp", "test.bib");
@@ -15,4 +30,63 @@ public class BackupManagerTest {
         Assert.assertEquals(Paths.get("tmp", "test.bib.sav"), savPath);
     }
 
+    @Test
+    public void journalFileNameIsCorrectlyGeneratedWithinTmpDirectory() {
+        Path bibPath = Paths.get("tmp", "test.bib");
+        Path journalPath = BackupManager.getJournalPath(bibPath);
+        Assert.assertEquals(Paths.get("tmp", "test.bib.sav.journal"), journalPath);
+    }
+
+    @Test
+    public void restoreBackupContainsStringChangedBeforeJournaledEntryChange() throws Exception {
+        JabRefPreferences preferences = JabRefPreferences.getInstance();
+        boolean previousUseJournal = preferences.getBoolean(JabRefPreferences.BACKUP_JOURNAL);
+        preferences.putBoolean(JabRefPreferences.BACKUP_JOURNAL, true);
+
+        Path bibFile = folder.newFile("test.bib").toPath();
+        BibDatabase database = new BibDatabase();
+        BibEntry entry = new BibEntry("article");
+        entry.setCiteKey("key");
+        database.insertEntry(entry);
+        BibDatabaseContext context = new BibDatabaseContext(database);
+        context.setDatabaseFile(bibFile.toFile());
+
+        BackupManager.start(context);
+        try {
+            // the journal is started after the first complete backup
+            long deadline = System.currentTimeMillis() + 10000;
+            while (!Files.exists(BackupManager.getJournalPath(bibFile)) && (System.currentTimeMillis() < deadline)) {
+                Thread.sleep(50);
+            }
+
+            database.addString(new BibtexString("aps", "American Physical Society"));
+            entry.setField("title", "Tea");
+
+            // the complete backup triggered by the string is written in the background
+            ParserResult restored = restore(bibFile, preferences);
+            deadline = System.currentTimeMillis() + 10000;
+            while ((!restored.getDatabase().getStringByName("aps").isPresent()
+                    || !getTitle(restored).isPresent())
+                    && (System.currentTimeMillis() < deadline)) {
+                Thread.sleep(50);
+                restored = restore(bibFile, preferences);
+            }
+
+            Assert.assertEquals(Optional.of("American Physical Society"),
+                    restored.getDatabase().getStringByName("aps").map(BibtexString::getContent));
+            Assert.assertEquals(Optional.of("Tea"), getTitle(restored));
+        } finally {
+            BackupManager.shutdown(context);
+            preferences.putBoolean(JabRefPreferences.BACKUP_JOURNAL, previousUseJournal);
+        }
+    }
+
+    private static ParserResult restore(Path bibFile, JabRefPreferences preferences) throws IOException {
+        BackupManager.restoreBackup(bibFile);
+        return OpenDatabase.loadDatabase(bibFile.toFile(), preferences.getImportFormatPreferences());
+    }
+
+    private static Optional<String> getTitle(ParserResult result) {
+        return result.getDatabase().getEntries().stream().findFirst().flatMap(entry -> entry.getField("title"));
+    }
 }
@@ -1,5 +1,8 @@
 package org.jabref.logic.bibtex;
 
+import java.util.Optional;
+
+import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseMode;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibtexEntryTypes;
@@ -221,4 +224,17 @@ public class DuplicateCheckTest {
 
         assertFalse(DuplicateCheck.isDuplicate(editionOne, editionTwo, BibDatabaseMode.BIBTEX));
     }
+
+    @Test
+    public void containsDuplicateReturnsFirstDuplicateOfDatabase() {
+        BibEntry first = (BibEntry) simpleArticle.clone();
+        BibEntry second = (BibEntry) simpleArticle.clone();
+        BibDatabase database = new BibDatabase();
+        database.insertEntries(unrelatedArticle, first, second);
+
+        assertEquals(Optional.of(first), DuplicateCheck.containsDuplicate(database, simpleArticle, BibDatabaseMode.BIBTEX));
+        assertEquals(Optional.empty(), DuplicateCheck.containsDuplicate(database,
+                new BibEntry(BibtexEntryTypes.BOOK.getName()).withField(FieldName.TITLE, "Other"),
+                BibDatabaseMode.BIBTEX));
+    }
 }
@@ -170,6 +170,52 @@ public class FieldComparatorTest {
         assertEquals(1, comparator.compare(bigger, smaller));
     }
 
+    @Test
+    public void compareNameFieldsByLastName() throws Exception {
+        FieldComparator comparator = new FieldComparator("author");
+        BibEntry smaller = new BibEntry();
+        smaller.setField("author", "Zoe Adams");
+        BibEntry bigger = new BibEntry();
+        bigger.setField("author", "Adam Zuse");
+
+        assertEquals(1, comparator.compare(bigger, smaller));
+    }
+
+    @Test
+    public void compareNumericFieldsBeforeText() throws Exception {
+        FieldComparator comparator = new FieldComparator("volume");
+        BibEntry smaller = new BibEntry();
+        smaller.setField("volume", "12");
+        BibEntry bigger = new BibEntry();
+        bigger.setField("volume", "I");
+
+        assertEquals(1, comparator.compare(bigger, smaller));
+    }
+
+    @Test
+    public void compareChangedFieldByNewValue() throws Exception {
+        FieldComparator comparator = new FieldComparator("title");
+        BibEntry first = new BibEntry();
+        first.setField("title", "A");
+        BibEntry second = new BibEntry();
+        second.setField("title", "B");
+        assertEquals(-1, Integer.signum(comparator.compare(first, second)));
+
+        first.setField("title", "C");
+
+        assertEquals(1, Integer.signum(comparator.compare(first, second)));
+    }
+
+    @Test
+    public void compareMissingFieldAfterPresentField() throws Exception {
+        FieldComparator comparator = new FieldComparator("title");
+        BibEntry missing = new BibEntry();
+        BibEntry present = new BibEntry();
+        present.setField("title", "A");
+
+        assertEquals(1, comparator.compare(missing, present));
+    }
+
     @Test
     public void nameOfComparisonField() throws Exception {
         FieldComparator comparator = new FieldComparator("title");
@@ -0,0 +1,65 @@
+package org.jabref.logic.citationstyle;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.jabref.logic.util.TestEntry;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.FieldName;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class CitationStyleEnginePoolTest {
+
+    private final String style = CitationStyle.getDefault().getSource();
+
+    @Test
+    public void engineIsReused() throws Exception {
+        CitationStyleEnginePool pool = new CitationStyleEnginePool();
+        List<BibEntry> entries = Collections.singletonList(TestEntry.getTestEntry());
+
+        List<String> firstCitations = pool.generateCitations(entries, style, CitationStyleOutputFormat.TEXT);
+        List<String> secondCitations = pool.generateCitations(entries, style, CitationStyleOutputFormat.TEXT);
+
+        assertEquals(firstCitations, secondCitations);
+        assertEquals(1, pool.getNumberOfIdleEngines());
+    }
+
+    @Test
+    public void changedEntryIsNotGeneratedFromPreviousData() throws Exception {
+        CitationStyleEnginePool pool = new CitationStyleEnginePool();
+        BibEntry entry = TestEntry.getTestEntry();
+        pool.generateCitations(Collections.singletonList(entry), style, CitationStyleOutputFormat.TEXT);
+
+        entry.setField(FieldName.TITLE, "Changed title");
+        String citation = pool.generateCitations(Collections.singletonList(entry), style,
+                CitationStyleOutputFormat.TEXT).get(0);
+
+        assertTrue(citation, citation.contains("Changed title"));
+    }
+
+    @Test
+    public void numberOfIdleEnginesIsLimited() throws Exception {
+        CitationStyleEnginePool pool = new CitationStyleEnginePool(1);
+        List<BibEntry> entries = Collections.singletonList(TestEntry.getTestEntry());
+
+        pool.generateCitations(entries, style, CitationStyleOutputFormat.TEXT);
+        pool.generateCitations(entries, style, CitationStyleOutputFormat.HTML);
+
+        assertEquals(1, pool.getNumberOfIdleEngines());
+    }
+
+    @Test
+    public void poolGeneratesSameCitationAsGenerator() throws Exception {
+        CitationStyleEnginePool pool = new CitationStyleEnginePool();
+        BibEntry entry = TestEntry.getTestEntry();
+
+        String citation = pool.generateCitations(Collections.singletonList(entry), style,
+                CitationStyleOutputFormat.TEXT).get(0);
+
+        assertEquals(CitationStyleGenerator.generateCitation(entry, style, CitationStyleOutputFormat.TEXT), citation);
+    }
+}
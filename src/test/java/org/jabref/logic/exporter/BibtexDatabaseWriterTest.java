@@ -7,6 +7,7 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Collections;
+import java.util.Optional;
 import java.util.Scanner;
 
 import org.jabref.logic.formatter.casechanger.LowerCaseFormatter;
@@ -42,6 +43,8 @@ import org.junit.Test;
 import org.mockito.Answers;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 
 public class BibtexDatabaseWriterTest {
@@ -388,6 +391,118 @@ public class BibtexDatabaseWriterTest {
                 session.getStringValue());
     }
 
+    @Test
+    public void writeEntryKeepsEntryChangedUntilSerializationsAreCached() throws Exception {
+        BibEntry entry = new BibEntry();
+        entry.setType(BibtexEntryTypes.ARTICLE);
+        entry.setField("author", "Mr. author");
+        database.insertEntry(entry);
+
+        StringSaveSession session = databaseWriter.savePartOfDatabase(bibtexContext, Collections.singletonList(entry),
+                new SavePreferences());
+
+        assertTrue(entry.hasChanged());
+
+        session.cacheEntrySerializations();
+
+        assertFalse(entry.hasChanged());
+        assertEquals(OS.NEWLINE + "@Article{," + OS.NEWLINE + "  author = {Mr. author}," + OS.NEWLINE + "}"
+                + OS.NEWLINE, entry.getParsedSerialization());
+    }
+
+    @Test
+    public void writeEntryAgainAfterChange() throws Exception {
+        BibEntry entry = new BibEntry();
+        entry.setType(BibtexEntryTypes.ARTICLE);
+        database.insertEntry(entry);
+        databaseWriter.savePartOfDatabase(bibtexContext, Collections.singletonList(entry), new SavePreferences())
+                .cacheEntrySerializations();
+
+        entry.setField("author", "Mr. author");
+        StringSaveSession session = databaseWriter.savePartOfDatabase(bibtexContext, Collections.singletonList(entry), new SavePreferences());
+
+        assertEquals(OS.NEWLINE +
+                        "@Article{," + OS.NEWLINE + "  author = {Mr. author}," + OS.NEWLINE + "}"
+                        + OS.NEWLINE + OS.NEWLINE
+                        + "@Comment{jabref-meta: databaseType:bibtex;}"
+                        + OS.NEWLINE,
+                session.getStringValue());
+    }
+
+    @Test
+    public void writeEntryIgnoresSerializationCachedInOtherFormat() throws Exception {
+        BibEntry entry = new BibEntry();
+        entry.setType(BibtexEntryTypes.ARTICLE);
+        entry.setField("author", "Mr. author");
+        entry.cacheSerialization("cached serialization", "other format", entry.getModificationCount());
+        database.insertEntry(entry);
+
+        StringSaveSession session = databaseWriter.savePartOfDatabase(bibtexContext, Collections.singletonList(entry),
+                new SavePreferences());
+
+        assertEquals(OS.NEWLINE +
+                        "@Article{," + OS.NEWLINE + "  author = {Mr. author}," + OS.NEWLINE + "}"
+                        + OS.NEWLINE + OS.NEWLINE
+                        + "@Comment{jabref-meta: databaseType:bibtex;}"
+                        + OS.NEWLINE,
+                session.getStringValue());
+    }
+
+    @Test
+    public void writeEntryIgnoresSerializationCachedBeforeEntryTypeChange() throws Exception {
+        try {
+            EntryTypes.addOrModifyCustomEntryType(new CustomEntryType("customizedType", "author", "title"),
+                    BibDatabaseMode.BIBTEX);
+            BibEntry entry = new BibEntry();
+            entry.setType("customizedType");
+            entry.setField("author", "Mr. author");
+            entry.setField("title", "A title");
+            database.insertEntry(entry);
+            databaseWriter.savePartOfDatabase(bibtexContext, Collections.singletonList(entry), new SavePreferences())
+                    .cacheEntrySerializations();
+
+            EntryTypes.addOrModifyCustomEntryType(new CustomEntryType("customizedType", "title", "author"),
+                    BibDatabaseMode.BIBTEX);
+            databaseWriter.savePartOfDatabase(bibtexContext, Collections.singletonList(entry), new SavePreferences())
+                    .cacheEntrySerializations();
+
+            assertEquals(OS.NEWLINE + "@Customizedtype{," + OS.NEWLINE + "  title  = {A title}," + OS.NEWLINE
+                    + "  author = {Mr. author}," + OS.NEWLINE + "}" + OS.NEWLINE, entry.getParsedSerialization());
+        } finally {
+            EntryTypes.removeAllCustomEntryTypes();
+        }
+    }
+
+    @Test
+    public void cacheSerializationIgnoresChangeDuringSerialization() throws Exception {
+        BibEntry entry = new BibEntry();
+        long modificationCount = entry.getModificationCount();
+        entry.setField("author", "Mr. author");
+
+        entry.cacheSerialization("outdated serialization", "format", modificationCount);
+
+        assertTrue(entry.hasChanged());
+    }
+
+    @Test
+    public void saveActionsAreOnlyAppliedToChangedEntries() throws Exception {
+        FieldFormatterCleanups saveActions = new FieldFormatterCleanups(true,
+                Collections.singletonList(new FieldFormatterCleanup("title", new LowerCaseFormatter())));
+        metaData.setSaveActions(saveActions);
+        BibEntry unchangedEntry = new BibEntry();
+        unchangedEntry.setField("title", "Unchanged");
+        unchangedEntry.setParsedSerialization("presaved serialization");
+        BibEntry changedEntry = new BibEntry();
+        changedEntry.setField("title", "Changed");
+        database.insertEntry(unchangedEntry);
+        database.insertEntry(changedEntry);
+
+        databaseWriter.savePartOfDatabase(bibtexContext, database.getEntries(), new SavePreferences());
+
+        assertEquals(Optional.of("Unchanged"), unchangedEntry.getField("title"));
+        assertEquals(Optional.of("changed"), changedEntry.getField("title"));
+    }
+
     @Test
     public void writeSavedSerializationOfStringIfUnchanged() throws Exception {
         BibtexString string = new BibtexString("name", "content");
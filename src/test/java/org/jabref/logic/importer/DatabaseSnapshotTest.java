@@ -0,0 +1,198 @@
+package org.jabref.logic.importer;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.jabref.logic.importer.fileformat.BibtexImporter;
+import org.jabref.model.database.BibDatabaseMode;
+import org.jabref.model.entry.BibEntry;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.Answers;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class DatabaseSnapshotTest {
+
+    private static final String CONTENT = "@Preamble{\"\\newcommand{\\noopsort}[1]{} \"}\n"
+            + "\n"
+            + "@String{aps = {American Physical Society}}\n"
+            + "\n"
+            + "% a comment before the entry\n"
+            + "@Article{Smith2017,\n"
+            + "  author    = {John Smith},\n"
+            + "  title     = {Tea},\n"
+            + "  publisher = aps,\n"
+            + "}\n"
+            + "\n"
+            + "@Lecturenotes{Doe2016,\n"
+            + "  author = {Jane Doe},\n"
+            + "  title  = {Coffee},\n"
+            + "}\n"
+            + "\n"
+            + "@Comment{jabref-meta: databaseType:biblatex;}\n"
+            + "\n"
+            + "@Comment{jabref-entrytype: Lecturenotes: req[author;title] opt[language;url]}\n"
+            + "\n"
+            + "Some text after the last entry\n";
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+    private Path databaseFile;
+    private Path snapshotFile;
+    private DatabaseSnapshot snapshot;
+    private ImportFormatPreferences importFormatPreferences;
+
+    @Before
+    public void setUp() throws IOException {
+        databaseFile = temporaryFolder.getRoot().toPath().resolve("library.bib");
+        Files.write(databaseFile, CONTENT.getBytes(StandardCharsets.UTF_8));
+        snapshotFile = temporaryFolder.getRoot().toPath().resolve("library.snapshot");
+        snapshot = new DatabaseSnapshot(snapshotFile);
+
+        importFormatPreferences = mock(ImportFormatPreferences.class, Answers.RETURNS_DEEP_STUBS);
+        when(importFormatPreferences.getEncoding()).thenReturn(StandardCharsets.UTF_8);
+        when(importFormatPreferences.getKeywordSeparator()).thenReturn(',');
+    }
+
+    private ParserResult parseAndStore() throws IOException {
+        DatabaseSnapshot.FileVersion version = DatabaseSnapshot.FileVersion.of(databaseFile);
+        ParserResult result = new BibtexImporter(importFormatPreferences).importDatabase(databaseFile,
+                StandardCharsets.UTF_8);
+        snapshot.store(version, result, importFormatPreferences);
+        return result;
+    }
+
+    @Test
+    public void loadReturnsStoredResult() throws IOException {
+        ParserResult parsed = parseAndStore();
+
+        ParserResult loaded = snapshot.load(DatabaseSnapshot.FileVersion.of(databaseFile), importFormatPreferences)
+                .get();
+
+        assertEquals(parsed.getDatabase().getEntries(), loaded.getDatabase().getEntries());
+        assertEquals(parsed.getDatabase().getPreamble(), loaded.getDatabase().getPreamble());
+        assertEquals(parsed.getDatabase().getEpilog(), loaded.getDatabase().getEpilog());
+        assertEquals(Optional.of("American Physical Society"),
+                loaded.getDatabase().getStringByName("aps").map(string -> string.getContent()));
+        assertEquals(Optional.of(BibDatabaseMode.BIBLATEX), loaded.getMetaData().getMode());
+        assertEquals(Optional.of(StandardCharsets.UTF_8), loaded.getMetaData().getEncoding());
+        assertEquals(parsed.getEntryTypes(), loaded.getEntryTypes());
+        assertEquals(Optional.of(databaseFile.toFile()), loaded.getFile());
+    }
+
+    @Test
+    public void loadedEntriesKeepTheirParsedSerialization() throws IOException {
+        ParserResult parsed = parseAndStore();
+
+        ParserResult loaded = snapshot.load(DatabaseSnapshot.FileVersion.of(databaseFile), importFormatPreferences)
+                .get();
+
+        BibEntry parsedEntry = parsed.getDatabase().getEntries().get(0);
+        BibEntry loadedEntry = loaded.getDatabase().getEntries().get(0);
+        assertEquals(parsedEntry.getParsedSerialization(), loadedEntry.getParsedSerialization());
+        assertEquals(parsedEntry.getUserComments(), loadedEntry.getUserComments());
+        assertFalse(loadedEntry.hasChanged());
+        assertFalse(loaded.getDatabase().getStringByName("aps").get().hasChanged());
+    }
+
+    @Test
+    public void storeReplacesLoadedSnapshot() throws IOException {
+        parseAndStore();
+        snapshot.load(DatabaseSnapshot.FileVersion.of(databaseFile), importFormatPreferences);
+
+        Files.write(databaseFile, CONTENT.replace("Tea", "Pie").getBytes(StandardCharsets.UTF_8));
+        ParserResult parsed = parseAndStore();
+        ParserResult loaded = snapshot.load(DatabaseSnapshot.FileVersion.of(databaseFile), importFormatPreferences)
+                .get();
+
+        assertEquals(parsed.getDatabase().getEntries(), loaded.getDatabase().getEntries());
+    }
+
+    @Test
+    public void loadReturnsNothingForChangedContentWithSameSizeAndModificationTime() throws IOException {
+        parseAndStore();
+        FileTime lastModified = Files.getLastModifiedTime(databaseFile);
+
+        Files.write(databaseFile, CONTENT.replace("Tea", "Pie").getBytes(StandardCharsets.UTF_8));
+        Files.setLastModifiedTime(databaseFile, lastModified);
+
+        assertFalse(snapshot.load(DatabaseSnapshot.FileVersion.of(databaseFile), importFormatPreferences)
+                .isPresent());
+    }
+
+    @Test
+    public void loadDeletesSnapshotOfChangedFile() throws IOException {
+        parseAndStore();
+
+        Files.write(databaseFile, CONTENT.replace("Tea", "Pie").getBytes(StandardCharsets.UTF_8));
+
+        assertFalse(snapshot.load(DatabaseSnapshot.FileVersion.of(databaseFile), importFormatPreferences)
+                .isPresent());
+        assertFalse(Files.exists(snapshotFile));
+    }
+
+    @Test
+    public void loadMarksSnapshotAsUsed() throws IOException {
+        parseAndStore();
+        FileTime longAgo = FileTime.fromMillis(System.currentTimeMillis() - TimeUnit.DAYS.toMillis(100));
+        Files.setLastModifiedTime(snapshotFile, longAgo);
+
+        snapshot.load(DatabaseSnapshot.FileVersion.of(databaseFile), importFormatPreferences);
+
+        assertTrue(Files.getLastModifiedTime(snapshotFile).compareTo(longAgo) > 0);
+    }
+
+    @Test
+    public void storeDeletesUnusedSnapshots() throws IOException {
+        Path unusedSnapshot = temporaryFolder.newFile("unused.snapshot").toPath();
+        Files.setLastModifiedTime(unusedSnapshot,
+                FileTime.fromMillis(System.currentTimeMillis() - TimeUnit.DAYS.toMillis(100)));
+        Path recentSnapshot = temporaryFolder.newFile("recent.snapshot").toPath();
+
+        parseAndStore();
+
+        assertFalse(Files.exists(unusedSnapshot));
+        assertTrue(Files.exists(recentSnapshot));
+        assertTrue(Files.exists(snapshotFile));
+    }
+
+    @Test
+    public void loadReturnsNothingForOtherPreferences() throws IOException {
+        parseAndStore();
+
+        when(importFormatPreferences.getKeywordSeparator()).thenReturn(';');
+
+        assertFalse(snapshot.load(DatabaseSnapshot.FileVersion.of(databaseFile), importFormatPreferences)
+                .isPresent());
+    }
+
+    @Test
+    public void loadReturnsNothingWithoutSnapshot() throws IOException {
+        assertFalse(snapshot.load(DatabaseSnapshot.FileVersion.of(databaseFile), importFormatPreferences)
+                .isPresent());
+    }
+
+    @Test
+    public void resultWithWarningsIsNotStored() throws IOException {
+        Files.write(databaseFile, "@Comment{jabref-entrytype: Broken}\n".getBytes(StandardCharsets.UTF_8));
+
+        ParserResult parsed = parseAndStore();
+
+        assertTrue(parsed.hasWarnings());
+        assertFalse(snapshot.load(DatabaseSnapshot.FileVersion.of(databaseFile), importFormatPreferences)
+                .isPresent());
+    }
+}
@@ -0,0 +1,77 @@
+package org.jabref.logic.importer.fileformat;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class MarkedCharBufferTest {
+
+    private static MarkedCharBuffer bufferOf(String content) throws IOException {
+        return MarkedCharBuffer.of(new StringReader(content), 64);
+    }
+
+    @Test
+    public void readReturnsCharactersInOrder() throws IOException {
+        MarkedCharBuffer buffer = bufferOf("ab");
+        assertEquals('a', buffer.read());
+        assertEquals('b', buffer.read());
+        assertEquals(MarkedCharBuffer.EOF, buffer.read());
+    }
+
+    @Test
+    public void peekDoesNotConsumeCharacter() throws IOException {
+        MarkedCharBuffer buffer = bufferOf("ab");
+        assertEquals('a', buffer.peek());
+        assertEquals('a', buffer.read());
+        assertEquals("a", buffer.getTextSinceMark());
+    }
+
+    @Test
+    public void getTextSinceMarkReturnsTextReadSinceLastCall() throws IOException {
+        MarkedCharBuffer buffer = bufferOf("abcd");
+        buffer.read();
+        buffer.read();
+        assertEquals("ab", buffer.getTextSinceMark());
+        buffer.read();
+        assertEquals("c", buffer.getTextSinceMark());
+    }
+
+    @Test
+    public void unreadRemovesCharacterFromRecordedText() throws IOException {
+        MarkedCharBuffer buffer = bufferOf("abc");
+        buffer.read();
+        int character = buffer.read();
+        buffer.unread(character);
+        assertEquals("a", buffer.getTextSinceMark());
+        assertEquals('b', buffer.read());
+    }
+
+    @Test
+    public void unreadOfOtherCharacterIsReadAgainAndRecordedTwice() throws IOException {
+        MarkedCharBuffer buffer = bufferOf("ab");
+        buffer.read();
+        buffer.read();
+        buffer.unread('x');
+        assertEquals('x', buffer.read());
+        assertEquals("abx", buffer.getTextSinceMark());
+    }
+
+    @Test
+    public void unreadEOFReturnsEOFCharacter() throws IOException {
+        MarkedCharBuffer buffer = bufferOf("a");
+        buffer.read();
+        buffer.unread(buffer.read());
+        assertEquals(65535, buffer.read());
+        assertEquals("a", buffer.getTextSinceMark());
+    }
+
+    @Test(expected = IOException.class)
+    public void unreadMoreThanLookaheadThrowsException() throws IOException {
+        MarkedCharBuffer buffer = MarkedCharBuffer.of(new StringReader("ab"), 1);
+        buffer.unread(buffer.read());
+        buffer.unread('x');
+    }
+}
@@ -0,0 +1,151 @@
+package org.jabref.logic.importer.fileformat;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import org.jabref.logic.importer.ImportFormatPreferences;
+import org.jabref.logic.importer.ParserResult;
+import org.jabref.model.database.BibDatabaseMode;
+import org.jabref.model.entry.BibEntry;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Answers;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ParallelBibtexParserTest {
+
+    private ImportFormatPreferences importFormatPreferences;
+    private ParallelBibtexParser parser;
+
+    @Before
+    public void setUp() {
+        importFormatPreferences = mock(ImportFormatPreferences.class, Answers.RETURNS_DEEP_STUBS);
+        when(importFormatPreferences.getKeywordSeparator()).thenReturn(',');
+        // split each item into a separate chunk
+        parser = new ParallelBibtexParser(importFormatPreferences, 1000, 1);
+    }
+
+    private static MarkedCharBuffer toBuffer(String content) throws IOException {
+        return MarkedCharBuffer.of(new StringReader(content), BibtexParser.LOOKAHEAD);
+    }
+
+    private ParserResult parseSequentially(String content) throws IOException {
+        return new BibtexParser(importFormatPreferences).parse(new StringReader(content));
+    }
+
+    @Test
+    public void findChunkStartsSplitsAtTopLevelAtStartingALine() throws IOException {
+        String content = "@article{a,\n@inner = {x}}\n@article{b, title = {x @y}}\n\n@article{c,}";
+
+        assertEquals(Arrays.asList(0, content.indexOf("@article{b"), content.indexOf("@article{c")),
+                ParallelBibtexParser.findChunkStarts(toBuffer(content), 1));
+    }
+
+    @Test
+    public void findChunkStartsKeepsMinimumChunkSize() throws IOException {
+        String content = "@article{a,}\n@article{b,}\n@article{c,}";
+
+        assertEquals(Arrays.asList(0, content.indexOf("@article{c")),
+                ParallelBibtexParser.findChunkStarts(toBuffer(content), 14));
+    }
+
+    @Test
+    public void findChunkStartsIgnoresEscapedBraces() throws IOException {
+        String content = "@article{a, title = {\\}}}\n@article{b,}";
+
+        assertEquals(Arrays.asList(0, content.indexOf("@article{b")),
+                ParallelBibtexParser.findChunkStarts(toBuffer(content), 1));
+    }
+
+    @Test
+    public void findChunkStartsDoesNotSplitEmptyContent() throws IOException {
+        assertEquals(Collections.singletonList(0), ParallelBibtexParser.findChunkStarts(toBuffer(""), 1));
+    }
+
+    @Test
+    public void parseKeepsEntriesInFileOrder() throws IOException {
+        ParserResult result = parser.parse(new StringReader("@article{a,}\n@book{b,}\n@misc{c,}\n"));
+
+        List<BibEntry> entries = result.getDatabase().getEntries();
+        assertEquals(3, entries.size());
+        assertEquals(Optional.of("a"), entries.get(0).getCiteKeyOptional());
+        assertEquals(Optional.of("b"), entries.get(1).getCiteKeyOptional());
+        assertEquals(Optional.of("c"), entries.get(2).getCiteKeyOptional());
+    }
+
+    @Test
+    public void parseReportsDuplicateKeysOfDifferentChunks() throws IOException {
+        ParserResult result = parser.parse(new StringReader("@article{a,}\n@book{b,}\n@misc{a,}\n"));
+
+        assertEquals(Collections.singletonList("a"), result.getDuplicateKeys());
+    }
+
+    @Test
+    public void parseReportsDuplicateStringNamesOfDifferentChunks() throws IOException {
+        String content = "@String{aaa = {first}}\n@article{a,}\n@String{aaa = {second}}\n";
+
+        ParserResult result = parser.parse(new StringReader(content));
+
+        assertEquals(parseSequentially(content).warnings(), result.warnings());
+        assertEquals("first", result.getDatabase().getStringValues().iterator().next().getContent());
+    }
+
+    @Test
+    public void parseResolvesStringsOfOtherChunks() throws IOException {
+        ParserResult result = parser
+                .parse(new StringReader("@String{aaa = {Resolved}}\n\n@article{a, title = aaa}\n"));
+
+        BibEntry entry = result.getDatabase().getEntries().get(0);
+        assertEquals(Optional.of("Resolved"), entry.getResolvedFieldOrAlias("title", result.getDatabase()));
+    }
+
+    @Test
+    public void parseKeepsCommentsInFrontOfFirstEntryOfChunk() throws IOException {
+        String content = "@article{a,}\n\n% Comment for b\n\n@book{b,}\n@comment{plain}\n@misc{c,}\n";
+
+        List<BibEntry> expected = parseSequentially(content).getDatabase().getEntries();
+        List<BibEntry> entries = parser.parse(new StringReader(content)).getDatabase().getEntries();
+
+        assertEquals(expected.size(), entries.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).getParsedSerialization(), entries.get(i).getParsedSerialization());
+            assertEquals(expected.get(i).getUserComments(), entries.get(i).getUserComments());
+        }
+    }
+
+    @Test
+    public void parseMergesPreambleMetaDataAndEpilog() throws IOException {
+        String content = "% DBID: 2j1yrtu0o5f\n@preamble{\"First\"}\n@article{a,}\n@preamble{\"Second\"}\n"
+                + "@comment{jabref-entrytype: Lecturenotes: req[author;title] opt[language;url]}\n"
+                + "@comment{jabref-meta: databaseType:biblatex;}\n"
+                + "The epilog";
+
+        ParserResult result = parser.parse(new StringReader(content));
+
+        assertEquals(Optional.of("2j1yrtu0o5f"), result.getDatabase().getSharedDatabaseID());
+        assertEquals(Optional.of("\"Second\""), result.getDatabase().getPreamble());
+        assertTrue(result.getEntryTypes().containsKey("Lecturenotes"));
+        assertEquals(Optional.of(BibDatabaseMode.BIBLATEX), result.getMetaData().getMode());
+        assertEquals("The epilog", result.getDatabase().getEpilog());
+    }
+
+    @Test
+    public void parseFallsBackToSequentialParsingIfChunkBoundaryIsInsideAnEntry() throws IOException {
+        String content = "@article{a, title = \"quoted\n@book{b, title = {not an entry}}\"}\n@misc{c,}\n";
+
+        ParserResult expected = parseSequentially(content);
+        ParserResult result = parser.parse(new StringReader(content));
+
+        assertEquals(expected.getDatabase().getEntries(), result.getDatabase().getEntries());
+        assertEquals(expected.warnings(), result.warnings());
+    }
+}
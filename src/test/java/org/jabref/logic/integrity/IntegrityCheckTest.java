@@ -2,11 +2,13 @@ package org.jabref.logic.integrity;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import org.jabref.logic.bibtexkeypattern.BibtexKeyPatternPreferences;
 import org.jabref.logic.journals.Abbreviation;
@@ -28,6 +30,7 @@ import org.mockito.Mockito;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.mock;
 
@@ -347,6 +350,43 @@ public class IntegrityCheckTest {
         assertEquals(clonedEntry, entry);
     }
 
+    @Test
+    public void messagesArePassedInOrderOfDatabase() {
+        BibDatabase database = new BibDatabase();
+        for (int i = 0; i < 100; i++) {
+            BibEntry entry = new BibEntry();
+            entry.setField("year", i % 2 == 0 ? "2014" : "no year " + i);
+            database.insertEntry(entry);
+        }
+        BibDatabaseContext context = new BibDatabaseContext(database, new Defaults());
+        IntegrityCheck check = createIntegrityCheck(context);
+
+        List<IntegrityMessage> messages = new ArrayList<>();
+        boolean isComplete = check.checkBibtexDatabase(messages::addAll, () -> false);
+
+        assertTrue(isComplete);
+        assertEquals(check.checkBibtexDatabase(), messages);
+        List<BibEntry> entriesWithProblems = messages.stream().map(IntegrityMessage::getEntry).distinct()
+                .collect(Collectors.toList());
+        assertEquals(database.getEntries().stream().filter(entry -> !entry.getField("year").get().equals("2014"))
+                .collect(Collectors.toList()), entriesWithProblems);
+    }
+
+    @Test
+    public void canceledCheckSkipsRemainingEntries() {
+        BibEntry entry = new BibEntry();
+        entry.setField("year", "no year");
+        BibDatabase database = new BibDatabase();
+        database.insertEntry(entry);
+
+        List<IntegrityMessage> messages = new ArrayList<>();
+        boolean isComplete = createIntegrityCheck(new BibDatabaseContext(database, new Defaults()))
+                .checkBibtexDatabase(messages::addAll, () -> true);
+
+        assertFalse(isComplete);
+        assertEquals(Collections.emptyList(), messages);
+    }
+
     @Test
     public void testASCIIChecks() {
         assertCorrect(createContext("title", "Only ascii characters!'@12"));
@@ -375,6 +415,13 @@ public class IntegrityCheckTest {
         return createContext(field, value, new MetaData());
     }
 
+    private IntegrityCheck createIntegrityCheck(BibDatabaseContext context) {
+        return new IntegrityCheck(context,
+                mock(FileDirectoryPreferences.class),
+                createBibtexKeyPatternPreferences(),
+                new JournalAbbreviationRepository(new Abbreviation("IEEE Software", "IEEE SW")));
+    }
+
     private void assertWrong(BibDatabaseContext context) {
         List<IntegrityMessage> messages = new IntegrityCheck(context,
                 mock(FileDirectoryPreferences.class),
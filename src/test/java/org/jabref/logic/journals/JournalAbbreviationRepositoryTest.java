@@ -69,4 +69,37 @@ public class JournalAbbreviationRepositoryTest {
 
     }
 
+    @Test
+    public void lookupIgnoresCase() {
+        JournalAbbreviationRepository repository = new JournalAbbreviationRepository();
+        repository.addEntry(new Abbreviation("Long Name", "L. N."));
+
+        assertEquals("L. N.", repository.getIsoAbbreviation("long NAME").orElse("WRONG"));
+        assertTrue(repository.isKnownName(" l. n. "));
+        assertTrue(repository.isKnownName("l n"));
+        assertTrue(repository.isAbbreviatedName("L. n."));
+        assertTrue(repository.isAbbreviatedName("L N"));
+        assertFalse(repository.isAbbreviatedName("Long Name"));
+    }
+
+    @Test
+    public void lastAddedAbbreviationWins() {
+        JournalAbbreviationRepository repository = new JournalAbbreviationRepository();
+        repository.addEntry(new Abbreviation("Old Long Name", "L. N."));
+        repository.addEntry(new Abbreviation("New Long Name", "L. N."));
+
+        assertEquals("New Long Name", repository.getAbbreviation("L. N.").get().getName());
+    }
+
+    @Test
+    public void replacedAbbreviationIsNotFoundAnymore() {
+        JournalAbbreviationRepository repository = new JournalAbbreviationRepository();
+        repository.addEntry(new Abbreviation("Other Name", "L. N."));
+        repository.addEntry(new Abbreviation("Long Name", "L. N."));
+        repository.addEntry(new Abbreviation("Long Name", "LA. N."));
+
+        assertEquals(2, repository.size());
+        assertEquals("LA. N.", repository.getIsoAbbreviation("LA. N.").orElse("WRONG"));
+        assertEquals("Other Name", repository.getAbbreviation("L. N.").get().getName());
+    }
 }
@@ -1,5 +1,9 @@
 package org.jabref.logic.search;
 
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.jabref.model.database.BibDatabase;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibtexEntryTypes;
 import org.jabref.model.entry.FieldName;
@@ -185,4 +189,86 @@ public class SearchQueryTest {
 
     }
 
+    @Test
+    public void isMatchedForNestedAndOrExpressions() {
+        BibEntry entry = new BibEntry();
+        entry.setField("author", "asdf");
+        entry.setField("title", "text");
+
+        assertTrue(new SearchQuery("author=asdf and (title=other or (title=text and not year=2017))", false, false)
+                .isMatch(entry));
+        assertFalse(new SearchQuery("author=asdf and (title=other or (title=text and year!=2017)) and year=2017",
+                false, false).isMatch(entry));
+    }
+
+    @Test
+    public void isMatchedIfNegatedFieldIsMissing() {
+        BibEntry entry = new BibEntry();
+        entry.setField("author", "asdf");
+
+        assertTrue(new SearchQuery("year!=2017", false, false).isMatch(entry));
+    }
+
+    @Test
+    public void findMatchesKeepsDatabaseOrder() {
+        BibDatabase database = new BibDatabase();
+        BibEntry first = new BibEntry();
+        first.setField("title", "Second thoughts");
+        BibEntry second = new BibEntry();
+        second.setField("title", "Other");
+        BibEntry third = new BibEntry();
+        third.setField("author", "Second, Jane");
+        database.insertEntries(first, second, third);
+
+        assertEquals(Arrays.asList(first, third), new SearchQuery("second", false, false).findMatches(database));
+    }
+
+    @Test
+    public void findMatchesChecksCandidatesOfIndex() {
+        BibDatabase database = new BibDatabase();
+        BibEntry entry = new BibEntry();
+        entry.setField("title", "Rome and Romania");
+        database.insertEntry(entry);
+
+        assertEquals(Collections.singletonList(entry),
+                new SearchQuery("title=\"Rome and\"", false, false).findMatches(database));
+        assertEquals(Collections.emptyList(),
+                new SearchQuery("title=\"Romania and\"", false, false).findMatches(database));
+    }
+
+    @Test
+    public void findMatchesFollowsChangedEntries() {
+        BibDatabase database = new BibDatabase();
+        BibEntry entry = new BibEntry();
+        entry.setField("title", "Vikings");
+        database.insertEntry(entry);
+        SearchQuery query = new SearchQuery("author=smith", false, false);
+        assertEquals(Collections.emptyList(), query.findMatches(database));
+
+        entry.setField("author", "Smith, John");
+
+        assertEquals(Collections.singletonList(entry), query.findMatches(database));
+    }
+
+    @Test
+    public void findMatchesWithNegationChecksAllEntries() {
+        BibDatabase database = new BibDatabase();
+        BibEntry entry = new BibEntry();
+        entry.setField("title", "Vikings");
+        database.insertEntry(entry);
+
+        assertEquals(Collections.singletonList(entry),
+                new SearchQuery("NOT title=romans", false, false).findMatches(database));
+    }
+
+    @Test
+    public void findMatchesWithRegularExpressionChecksAllEntries() {
+        BibDatabase database = new BibDatabase();
+        BibEntry entry = new BibEntry();
+        entry.setField("title", "Vikings");
+        database.insertEntry(entry);
+
+        assertEquals(Collections.singletonList(entry), new SearchQuery("vi.*gs", false, true).findMatches(database));
+    }
+
 }
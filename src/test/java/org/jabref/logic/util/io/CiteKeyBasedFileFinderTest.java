@@ -7,6 +7,8 @@ import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -16,6 +18,7 @@ import org.jabref.logic.importer.ImportFormatPreferences;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.entry.BibEntry;
 
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -32,8 +35,11 @@ public class CiteKeyBasedFileFinderTest {
 
     @Rule
     public TemporaryFolder temporaryFolder = new TemporaryFolder();
+    @Rule
+    public TemporaryFolder indexFolder = new TemporaryFolder();
     private BibEntry entry;
     private Path rootDir;
+    private Optional<Path> indexDirectory;
     @Mock
     private ImportFormatPreferences prefs;
 
@@ -45,6 +51,7 @@ public class CiteKeyBasedFileFinderTest {
         entry = database.getEntries().iterator().next();
 
         rootDir = temporaryFolder.getRoot().toPath();
+        indexDirectory = Optional.of(indexFolder.getRoot().toPath());
 
         Path subDir = Files.createDirectory(rootDir.resolve("Organization Science"));
         Path pdfSubDir = Files.createDirectory(rootDir.resolve("pdfs"));
@@ -73,24 +80,74 @@ public class CiteKeyBasedFileFinderTest {
 
     }
 
+    @After
+    public void tearDown() {
+        FileIndex.shutdown();
+    }
+
     @Test
     public void testFindAssociatedFiles() {
         List<String> extensions = Arrays.asList("jpg", "pdf");
         List<Path> dirs = Arrays.asList(rootDir.resolve("graphicsDir"), rootDir.resolve("pdfs"));
-        FileFinder fileFinder = new CiteKeyBasedFileFinder(false);
+        FileFinder fileFinder = new CiteKeyBasedFileFinder(false, indexDirectory);
+        List<Path> results = fileFinder.findAssociatedFiles(entry, dirs, extensions);
+
+        Path jpgFile = rootDir.resolve(Paths.get("graphicsDir", "subDir", "HipKro03test.jpg"));
+        Path pdfFile = rootDir.resolve(Paths.get("pdfs", "sub", "HipKro03-sub.pdf"));
+
+        assertEquals(Arrays.asList(jpgFile, pdfFile), results.stream().sorted().collect(Collectors.toList()));
+    }
+
+    @Test
+    public void findAssociatedFilesWithoutIndexScansDirectories() {
+        List<String> extensions = Arrays.asList("jpg", "pdf");
+        List<Path> dirs = Arrays.asList(rootDir.resolve("graphicsDir"), rootDir.resolve("pdfs"));
+        FileFinder fileFinder = new CiteKeyBasedFileFinder(false, Optional.empty());
         List<Path> results = fileFinder.findAssociatedFiles(entry, dirs, extensions);
 
         Path jpgFile = rootDir.resolve(Paths.get("graphicsDir", "subDir", "HipKro03test.jpg"));
         Path pdfFile = rootDir.resolve(Paths.get("pdfs", "sub", "HipKro03-sub.pdf"));
 
         assertEquals(Arrays.asList(jpgFile, pdfFile), results.stream().sorted().collect(Collectors.toList()));
+        assertEquals(0, indexFolder.getRoot().list().length);
+    }
+
+    @Test
+    public void findAssociatedFilesPrefersExactMatchOverPrefixMatch() throws IOException {
+        BibEntry prefixEntry = new BibEntry();
+        prefixEntry.setCiteKey("Smith");
+        BibEntry exactEntry = new BibEntry();
+        exactEntry.setCiteKey("Smith2017");
+        Path dir = Files.createDirectory(rootDir.resolve("smith"));
+        Path exactFile = Files.createFile(dir.resolve("Smith2017.pdf"));
+        Path prefixFile = Files.createFile(dir.resolve("Smith2017a.pdf"));
+
+        Map<BibEntry, List<Path>> results = new CiteKeyBasedFileFinder(false, indexDirectory).findAssociatedFiles(
+                Arrays.asList(prefixEntry, exactEntry), Collections.singletonList(dir),
+                Collections.singletonList("pdf"));
+
+        assertEquals(Collections.singletonList(prefixFile), results.get(prefixEntry));
+        assertEquals(Collections.singletonList(exactFile), results.get(exactEntry));
+    }
+
+    @Test
+    public void findAssociatedFilesWithExactKeyOnlyIgnoresPrefixMatches() throws IOException {
+        BibEntry entry = new BibEntry();
+        entry.setCiteKey("Smith");
+        Path dir = Files.createDirectory(rootDir.resolve("smith"));
+        Files.createFile(dir.resolve("Smith2017.pdf"));
+
+        Map<BibEntry, List<Path>> results = new CiteKeyBasedFileFinder(true, indexDirectory).findAssociatedFiles(
+                Collections.singletonList(entry), Collections.singletonList(dir), Collections.singletonList("pdf"));
+
+        assertEquals(Collections.emptyList(), results.get(entry));
     }
 
     @Test
     public void findFilesByExtensionInNonExistingDirectoryFindsNothing() {
         List<String> extensions = Arrays.asList("jpg", "pdf");
         List<Path> dirs = Collections.singletonList(rootDir.resolve("asdfasdf/asdfasdf"));
-        CiteKeyBasedFileFinder fileFinder = new CiteKeyBasedFileFinder(false);
+        CiteKeyBasedFileFinder fileFinder = new CiteKeyBasedFileFinder(false, indexDirectory);
         Set<Path> results = fileFinder.findFilesByExtension(dirs, extensions);
 
         assertEquals(Collections.emptySet(), results);
@@ -98,7 +155,7 @@ public class CiteKeyBasedFileFinderTest {
 
     @Test(expected = NullPointerException.class)
     public void findFilesByExtensionWithNullThrowsException() {
-        CiteKeyBasedFileFinder fileFinder = new CiteKeyBasedFileFinder(false);
+        CiteKeyBasedFileFinder fileFinder = new CiteKeyBasedFileFinder(false, indexDirectory);
         fileFinder.findFilesByExtension(Collections.emptyList(), null);
     }
 
@@ -0,0 +1,149 @@
+package org.jabref.logic.util.io;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class FileIndexTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+    private Path rootDir;
+    private Path subDir;
+    private Path indexFile;
+
+    @Before
+    public void setUp() throws IOException {
+        rootDir = temporaryFolder.newFolder("files").toPath();
+        subDir = Files.createDirectory(rootDir.resolve("sub"));
+        Files.createFile(rootDir.resolve("a.pdf"));
+        Files.createFile(subDir.resolve("b.pdf"));
+        indexFile = temporaryFolder.getRoot().toPath().resolve("files.idx");
+    }
+
+    /**
+     * Files may be created within the resolution of the modification times, thus the change is made visible
+     */
+    private static void touch(Path directory) throws IOException {
+        FileTime lastModified = Files.getLastModifiedTime(directory);
+        Files.setLastModifiedTime(directory, FileTime.fromMillis(lastModified.toMillis() + 10000));
+    }
+
+    @Test
+    public void refreshIndexesAllFiles() {
+        FileIndex index = new FileIndex(rootDir, indexFile, false);
+        index.refresh();
+
+        assertEquals(Arrays.asList(rootDir.resolve("a.pdf"), subDir.resolve("b.pdf")), index.getFilesBelow(rootDir));
+        assertEquals(Collections.singletonList(rootDir.resolve("a.pdf")), index.getFiles(rootDir));
+        assertEquals(Collections.singletonList(subDir), index.getSubdirectories(rootDir));
+    }
+
+    @Test
+    public void refreshFindsAddedAndRemovedFiles() throws IOException {
+        FileIndex index = new FileIndex(rootDir, indexFile, false);
+        index.refresh();
+
+        Files.delete(subDir.resolve("b.pdf"));
+        Path newDir = Files.createDirectory(subDir.resolve("new"));
+        Files.createFile(newDir.resolve("c.pdf"));
+        touch(subDir);
+        index.refresh();
+
+        assertEquals(Arrays.asList(rootDir.resolve("a.pdf"), newDir.resolve("c.pdf")), index.getFilesBelow(rootDir));
+    }
+
+    @Test
+    public void refreshIndexesAddedDirectoryTree() throws IOException {
+        FileIndex index = new FileIndex(rootDir, indexFile, false);
+        index.refresh();
+
+        Path deepDir = Files.createDirectories(subDir.resolve("x").resolve("y"));
+        Path otherDir = Files.createDirectory(subDir.resolve("z"));
+        Files.createFile(deepDir.resolve("c.pdf"));
+        Files.createFile(otherDir.resolve("d.pdf"));
+        touch(subDir);
+        index.refresh();
+
+        assertEquals(Arrays.asList(rootDir.resolve("a.pdf"), subDir.resolve("b.pdf"), deepDir.resolve("c.pdf"),
+                otherDir.resolve("d.pdf")), index.getFilesBelow(rootDir));
+    }
+
+    @Test
+    public void refreshFindsRemovedDirectory() throws IOException {
+        FileIndex index = new FileIndex(rootDir, indexFile, false);
+        index.refresh();
+
+        Files.delete(subDir.resolve("b.pdf"));
+        Files.delete(subDir);
+        touch(rootDir);
+        index.refresh();
+
+        assertEquals(Collections.singletonList(rootDir.resolve("a.pdf")), index.getFilesBelow(rootDir));
+        assertEquals(Collections.emptyList(), index.getSubdirectories(rootDir));
+    }
+
+    @Test
+    public void refreshFindsAddedFileWhenWatchingChanges() throws IOException, InterruptedException {
+        FileIndex index = new FileIndex(rootDir, indexFile, true);
+        index.refresh();
+
+        Path newFile = Files.createFile(subDir.resolve("c.pdf"));
+        index.refresh();
+        // the events may be reported with a delay
+        long deadline = System.currentTimeMillis() + 10000;
+        while (!index.getFiles(subDir).contains(newFile) && (System.currentTimeMillis() < deadline)) {
+            Thread.sleep(50);
+            index.refresh();
+        }
+
+        assertEquals(Arrays.asList(subDir.resolve("b.pdf"), newFile), index.getFiles(subDir));
+    }
+
+    @Test
+    public void networkFileStoresAreRecognized() {
+        assertTrue(FileIndex.isNetworkFileStoreType("nfs4"));
+        assertTrue(FileIndex.isNetworkFileStoreType("CIFS"));
+        assertFalse(FileIndex.isNetworkFileStoreType("ext4"));
+        assertFalse(FileIndex.isNetworkFileStoreType("NTFS"));
+    }
+
+    @Test
+    public void storedIndexIsLoaded() throws IOException {
+        new FileIndex(rootDir, indexFile, false).refresh();
+        assertTrue(Files.exists(indexFile));
+
+        Files.createFile(rootDir.resolve("c.pdf"));
+        touch(rootDir);
+        FileIndex index = new FileIndex(rootDir, indexFile, false);
+
+        // not checked for changes yet
+        assertEquals(Arrays.asList(rootDir.resolve("a.pdf"), subDir.resolve("b.pdf")), index.getFilesBelow(rootDir));
+        index.refresh();
+        assertEquals(Arrays.asList(rootDir.resolve("a.pdf"), rootDir.resolve("c.pdf"), subDir.resolve("b.pdf")),
+                index.getFilesBelow(rootDir));
+    }
+
+    @Test
+    public void filesAreResolvedAgainstGivenDirectory() {
+        FileIndex index = new FileIndex(rootDir, indexFile, false);
+        index.refresh();
+
+        Path relativeDir = Paths.get("").toAbsolutePath().relativize(rootDir.toAbsolutePath());
+        assertEquals(Arrays.asList(relativeDir.resolve("a.pdf"), relativeDir.resolve("sub").resolve("b.pdf")),
+                index.getFilesBelow(relativeDir));
+    }
+}
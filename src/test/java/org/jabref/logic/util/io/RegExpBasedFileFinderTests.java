@@ -4,22 +4,29 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibtexEntryTypes;
 
+import org.junit.After;
 import org.junit.Assert;
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 import static org.junit.Assert.assertEquals;
 
 public class RegExpBasedFileFinderTests {
 
     private static final String filesDirectory = "src/test/resources/org/jabref/logic/importer/unlinkedFilesTestFolder";
+    @Rule
+    public TemporaryFolder indexFolder = new TemporaryFolder();
     private BibDatabase database;
     private BibEntry entry;
+    private Optional<Path> indexDirectory;
 
     @Before
     public void setUp() {
@@ -41,6 +48,13 @@ public class RegExpBasedFileFinderTests {
 
         database = new BibDatabase();
         database.insertEntry(entry);
+
+        indexDirectory = Optional.of(indexFolder.getRoot().toPath());
+    }
+
+    @After
+    public void tearDown() {
+        FileIndex.shutdown();
     }
 
     @Test
@@ -53,7 +67,7 @@ public class RegExpBasedFileFinderTests {
         List<String> extensions = Collections.singletonList("pdf");
 
         List<Path> dirs = Collections.singletonList(Paths.get(filesDirectory));
-        RegExpBasedFileFinder fileFinder = new RegExpBasedFileFinder("**/[bibtexkey].*\\\\.[extension]", ',');
+        RegExpBasedFileFinder fileFinder = new RegExpBasedFileFinder("**/[bibtexkey].*\\\\.[extension]", ',', indexDirectory);
 
         //when
         List<Path> result = fileFinder.findAssociatedFiles(localEntry, dirs, extensions);
@@ -69,7 +83,7 @@ public class RegExpBasedFileFinderTests {
         List<String> extensions = Collections.singletonList("pdf");
 
         List<Path> dirs = Collections.singletonList(Paths.get(filesDirectory));
-        RegExpBasedFileFinder fileFinder = new RegExpBasedFileFinder("**/[year]_[auth]_[firstpage].*\\\\.[extension]", ',');
+        RegExpBasedFileFinder fileFinder = new RegExpBasedFileFinder("**/[year]_[auth]_[firstpage].*\\\\.[extension]", ',', indexDirectory);
 
         //when
         List<Path> result = fileFinder.findAssociatedFiles(entry, dirs, extensions);
@@ -91,7 +105,7 @@ public class RegExpBasedFileFinderTests {
         List<String> extensions = Collections.singletonList("pdf");
 
         List<Path> dirs = Collections.singletonList(Paths.get(filesDirectory));
-        RegExpBasedFileFinder fileFinder = new RegExpBasedFileFinder("**/[year]_[auth]_[firstpage]\\\\.[extension]", ',');
+        RegExpBasedFileFinder fileFinder = new RegExpBasedFileFinder("**/[year]_[auth]_[firstpage]\\\\.[extension]", ',', indexDirectory);
 
         //when
         List<Path> result = fileFinder.findAssociatedFiles(localEntry, dirs, extensions);
@@ -111,7 +125,7 @@ public class RegExpBasedFileFinderTests {
         List<String> extensions = Collections.singletonList("pdf");
 
         List<Path> dirs = Collections.singletonList(Paths.get(filesDirectory));
-        RegExpBasedFileFinder fileFinder = new RegExpBasedFileFinder("**/[bibtexkey].*\\\\.[extension]", ',');
+        RegExpBasedFileFinder fileFinder = new RegExpBasedFileFinder("**/[bibtexkey].*\\\\.[extension]", ',', indexDirectory);
 
         //when
         List<Path> result = fileFinder.findAssociatedFiles(localEntry, dirs, extensions);
@@ -131,7 +145,7 @@ public class RegExpBasedFileFinderTests {
         List<String> extensions = Collections.singletonList("pdf");
 
         List<Path> dirs = Collections.singletonList(Paths.get(filesDirectory));
-        RegExpBasedFileFinder fileFinder = new RegExpBasedFileFinder("*/[bibtexkey].*\\\\.[extension]", ',');
+        RegExpBasedFileFinder fileFinder = new RegExpBasedFileFinder("*/[bibtexkey].*\\\\.[extension]", ',', indexDirectory);
 
         //when
         List<Path> result = fileFinder.findAssociatedFiles(localEntry, dirs, extensions);
@@ -170,6 +170,80 @@ public class BibDatabaseTest {
         assertEquals(expectedEntry, actualEntry);
     }
 
+    @Test
+    public void insertEntriesPostsOneAddedEntriesEvent() {
+        List<BibEntry> expectedEntries = Arrays.asList(new BibEntry(), new BibEntry());
+        TestEventListener tel = new TestEventListener();
+        database.registerListener(tel);
+        database.insertEntries(expectedEntries);
+        assertEquals(1, tel.getNumberOfEntriesEvents());
+        assertEquals(expectedEntries, tel.getBibEntries());
+    }
+
+    @Test
+    public void removeEntriesPostsOneRemovedEntriesEvent() {
+        List<BibEntry> expectedEntries = Arrays.asList(new BibEntry(), new BibEntry());
+        database.insertEntries(expectedEntries);
+        TestEventListener tel = new TestEventListener();
+        database.registerListener(tel);
+        database.removeEntries(expectedEntries);
+        assertEquals(1, tel.getNumberOfEntriesEvents());
+        assertEquals(expectedEntries, tel.getBibEntries());
+        assertEquals(Collections.emptyList(), database.getEntries());
+    }
+
+    @Test
+    public void removeEntriesOfOtherDatabasePostsNoEvent() {
+        TestEventListener tel = new TestEventListener();
+        database.registerListener(tel);
+        database.removeEntries(Collections.singletonList(new BibEntry()));
+        assertEquals(0, tel.getNumberOfEntriesEvents());
+    }
+
+    @Test
+    public void changingRemovedEntryPostsNoEvent() {
+        BibEntry entry = new BibEntry();
+        database.insertEntry(entry);
+        database.removeEntry(entry);
+        TestEventListener tel = new TestEventListener();
+        database.registerListener(tel);
+
+        entry.setField("test", "some value");
+
+        assertNull(tel.getBibEntry());
+    }
+
+    @Test
+    public void changingStringsPreambleAndEpilogPostsContentChangedEvents() {
+        TestEventListener tel = new TestEventListener();
+        database.registerListener(tel);
+        BibtexString string = new BibtexString("aps", "American Physical Society");
+
+        database.addString(string);
+        string.setContent("APS");
+        database.removeString(string.getId());
+        string.setContent("Removed");
+        database.setPreamble("\\newcommand{\\noopsort}[1]{}");
+        database.setEpilog("The end");
+
+        assertEquals(5, tel.getNumberOfContentEvents());
+    }
+
+    @Test
+    public void insertEntriesWithIdInUseInsertsNoEntry() {
+        BibEntry entry = new BibEntry();
+        database.insertEntry(entry);
+        BibEntry newEntry = new BibEntry();
+        BibEntry entryWithSameId = new BibEntry();
+        entryWithSameId.setId(entry.getId());
+        try {
+            database.insertEntries(Arrays.asList(newEntry, entryWithSameId));
+            fail();
+        } catch (KeyCollisionException ignored) {
+            assertEquals(Collections.singletonList(entry), database.getEntries());
+        }
+    }
+
     @Test
     public void changingEntryPostsChangeEntryEvent() {
         BibEntry entry = new BibEntry();
@@ -258,6 +332,48 @@ public class BibDatabaseTest {
         assertEquals("AAAaaaAAA#", database.resolveForStrings("AAA#AAA#AAA#"));
     }
 
+    @Test
+    public void resolveForStringsReflectsChangedContentOfReferencedString() {
+        BibtexString outer = new BibtexString("AAA", "a #BBB#");
+        BibtexString inner = new BibtexString("BBB", "b");
+        database.addString(outer);
+        database.addString(inner);
+        assertEquals("a b", database.resolveForStrings("#AAA#"));
+
+        inner.setContent("c");
+
+        assertEquals("a c", database.resolveForStrings("#AAA#"));
+    }
+
+    @Test
+    public void resolveForStringsReflectsAddedString() {
+        database.addString(new BibtexString("AAA", "a #BBB#"));
+        assertEquals("a #BBB#", database.resolveForStrings("#AAA#"));
+
+        database.addString(new BibtexString("BBB", "b"));
+
+        assertEquals("a b", database.resolveForStrings("#AAA#"));
+    }
+
+    @Test
+    public void resolveForStringsIsCaseInsensitive() {
+        database.addString(new BibtexString("AAA", "a"));
+        assertEquals("a", database.resolveForStrings("#aaa#"));
+    }
+
+    @Test
+    public void hasStringLabelFindsRenamedString() {
+        BibtexString string = new BibtexString("AAA", "a");
+        database.addString(string);
+
+        string.setName("BBB");
+
+        assertFalse(database.hasStringLabel("AAA"));
+        assertTrue(database.hasStringLabel("BBB"));
+        assertEquals(Optional.of(string), database.getStringByName("BBB"));
+        assertEquals("a", database.resolveForStrings("#BBB#"));
+    }
+
     @Test
     public void getUsedStrings() {
         BibEntry entry = new BibEntry(IdGenerator.next());
@@ -316,6 +432,60 @@ public class BibDatabaseTest {
         assertEquals(Arrays.asList(entryA, entryB), database.getEntriesSorted(Comparator.comparing(BibEntry::getId)));
     }
 
+    @Test
+    public void getEntryByKeyFindsEntryAfterKeyChange() {
+        BibEntry entry = new BibEntry();
+        entry.setCiteKey("AAA");
+        database.insertEntry(entry);
+
+        entry.setCiteKey("BBB");
+
+        assertEquals(Optional.empty(), database.getEntryByKey("AAA"));
+        assertEquals(Optional.of(entry), database.getEntryByKey("BBB"));
+    }
+
+    @Test
+    public void getEntryByKeyDoesNotFindRemovedEntry() {
+        BibEntry entry = new BibEntry();
+        entry.setCiteKey("AAA");
+        database.insertEntry(entry);
+        database.removeEntry(entry);
+
+        entry.setCiteKey("BBB");
+
+        assertEquals(Optional.empty(), database.getEntryByKey("AAA"));
+        assertEquals(Optional.empty(), database.getEntryByKey("BBB"));
+    }
+
+    @Test
+    public void getEntriesByKeyReturnsEntriesInDatabaseOrder() {
+        BibEntry first = new BibEntry();
+        first.setCiteKey("BBB");
+        first.setField("title", "first");
+        BibEntry second = new BibEntry();
+        second.setCiteKey("AAA");
+        second.setField("title", "second");
+        database.insertEntries(first, second);
+
+        first.setCiteKey("AAA");
+
+        assertEquals(Arrays.asList(first, second), database.getEntriesByKey("AAA"));
+        assertEquals(Optional.of(first), database.getEntryByKey("AAA"));
+    }
+
+    @Test
+    public void getEntryByIdFindsEntryAfterIdChange() {
+        BibEntry entry = new BibEntry();
+        database.insertEntry(entry);
+        String oldId = entry.getId();
+
+        entry.setId("newId");
+
+        assertEquals(Optional.empty(), database.getEntryById(oldId));
+        assertEquals(Optional.of(entry), database.getEntryById("newId"));
+        assertTrue(database.containsEntryWithId("newId"));
+    }
+
     @Test
     public void preambleIsEmptyIfNotSet() {
         assertEquals(Optional.empty(), database.getPreamble());
@@ -0,0 +1,133 @@
+package org.jabref.model.database;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibtexEntryTypes;
+import org.jabref.model.entry.FieldName;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class DuplicateIndexTest {
+
+    private BibEntry simpleArticle;
+    private BibEntry unrelatedArticle;
+
+    @Before
+    public void setUp() {
+        simpleArticle = new BibEntry(BibtexEntryTypes.ARTICLE.getName())
+                .withField(FieldName.AUTHOR, "Single Author")
+                .withField(FieldName.TITLE, "A serious paper about something")
+                .withField(FieldName.YEAR, "2017");
+        unrelatedArticle = new BibEntry(BibtexEntryTypes.ARTICLE.getName())
+                .withField(FieldName.AUTHOR, "Completely Different")
+                .withField(FieldName.TITLE, "Holy Moly Uffdada und Trallalla")
+                .withField(FieldName.YEAR, "1992");
+    }
+
+    @Test
+    public void getCandidatesFindsEntryWithSimilarTitle() {
+        BibEntry similar = new BibEntry(BibtexEntryTypes.ARTICLE.getName())
+                .withField(FieldName.AUTHOR, "Another Author")
+                .withField(FieldName.TITLE, "A {S}erious papr about something.")
+                .withField(FieldName.YEAR, "2016");
+        DuplicateIndex index = new DuplicateIndex(Arrays.asList(simpleArticle, unrelatedArticle, similar));
+
+        assertEquals(Collections.singletonList(similar), index.getCandidates(simpleArticle));
+    }
+
+    @Test
+    public void getCandidatesFindsEntryWithSameYearAndFirstAuthor() {
+        BibEntry sameAuthor = new BibEntry(BibtexEntryTypes.ARTICLE.getName())
+                .withField(FieldName.AUTHOR, "Author, Single and Other, Second")
+                .withField(FieldName.YEAR, "2017");
+        DuplicateIndex index = new DuplicateIndex(Arrays.asList(simpleArticle, unrelatedArticle, sameAuthor));
+
+        assertEquals(Collections.singletonList(sameAuthor), index.getCandidates(simpleArticle));
+    }
+
+    @Test
+    public void getCandidatesFindsEntryOfOtherTypeWithSameIdentifier() {
+        simpleArticle.setField(FieldName.DOI, "10.1000/182");
+        BibEntry book = new BibEntry(BibtexEntryTypes.BOOK.getName())
+                .withField(FieldName.DOI, "10.1000/182");
+        DuplicateIndex index = new DuplicateIndex(Arrays.asList(simpleArticle, unrelatedArticle, book));
+
+        assertEquals(Collections.singletonList(book), index.getCandidates(simpleArticle));
+    }
+
+    @Test
+    public void getCandidatesIgnoresEntryOfOtherTypeWithSameTitle() {
+        BibEntry book = new BibEntry(BibtexEntryTypes.BOOK.getName())
+                .withField(FieldName.AUTHOR, "Single Author")
+                .withField(FieldName.TITLE, "A serious paper about something")
+                .withField(FieldName.YEAR, "2017");
+        DuplicateIndex index = new DuplicateIndex(Arrays.asList(simpleArticle, book));
+
+        assertTrue(index.getCandidates(simpleArticle).isEmpty());
+    }
+
+    @Test
+    public void getCandidatesDistinguishesEqualEntries() {
+        BibEntry copy = (BibEntry) simpleArticle.clone();
+        DuplicateIndex index = new DuplicateIndex(Arrays.asList(simpleArticle, copy));
+
+        assertEquals(1, index.getCandidates(simpleArticle).size());
+        assertTrue(index.getCandidates(simpleArticle).iterator().next() == copy);
+    }
+
+    @Test
+    public void getCandidatesReturnsCandidatesInOrderOfIndexing() {
+        BibEntry first = (BibEntry) simpleArticle.clone();
+        BibEntry last = (BibEntry) simpleArticle.clone();
+        DuplicateIndex index = new DuplicateIndex(Arrays.asList(first, simpleArticle, last));
+
+        first.setField(FieldName.TITLE, "A serious paper about something else");
+        index.addEntry(first);
+
+        List<BibEntry> candidates = index.getCandidates(simpleArticle);
+        assertEquals(2, candidates.size());
+        assertTrue(candidates.get(0) == first);
+        assertTrue(candidates.get(1) == last);
+    }
+
+    @Test
+    public void indexOfDatabaseFollowsChanges() {
+        BibDatabase database = new BibDatabase();
+        database.insertEntries(simpleArticle, unrelatedArticle);
+        DuplicateIndex index = database.getDuplicateIndex();
+        BibEntry newArticle = new BibEntry(BibtexEntryTypes.ARTICLE.getName())
+                .withField(FieldName.TITLE, "Holy Moly Uffdada und Trallalla");
+        assertEquals(Collections.singletonList(unrelatedArticle), index.getCandidates(newArticle));
+
+        unrelatedArticle.setField(FieldName.TITLE, "Something else");
+        database.insertEntry(newArticle);
+        database.removeEntry(simpleArticle);
+
+        assertTrue(index.getCandidates(newArticle).isEmpty());
+        assertFalse(index.getCandidates(unrelatedArticle).contains(simpleArticle));
+        assertTrue(index == database.getDuplicateIndex());
+    }
+
+    @Test
+    public void indexOfDatabaseRemovesEntryRemovedByCopy() {
+        BibDatabase database = new BibDatabase();
+        BibEntry sameTitle = (BibEntry) simpleArticle.clone();
+        database.insertEntries(simpleArticle, unrelatedArticle);
+        DuplicateIndex index = database.getDuplicateIndex();
+
+        // the database removes entries by their id, thus a copy removes the stored entry
+        BibEntry copy = (BibEntry) simpleArticle.clone();
+        copy.setId(simpleArticle.getId());
+        database.removeEntry(copy);
+
+        assertTrue(index.getCandidates(sameTitle).isEmpty());
+    }
+}
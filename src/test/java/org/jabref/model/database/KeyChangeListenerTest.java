@@ -1,5 +1,7 @@
 package org.jabref.model.database;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Optional;
 
 import org.jabref.model.entry.BibEntry;
@@ -90,4 +92,64 @@ public class KeyChangeListenerTest {
         assertEquals(Optional.empty(), entry2.getField("related"));
     }
 
+    @Test
+    public void testAddedLinkChanged() {
+        entry4.setField(FieldName.RELATED, "Entry1");
+        entry1.setCiteKey("Banana");
+        assertEquals(Optional.of("Banana"), entry4.getField("related"));
+    }
+
+    @Test
+    public void testLinkOfRemovedEntryNotChanged() {
+        db.removeEntry(entry2);
+        entry1.setCiteKey("Banana");
+        assertEquals(Optional.of("Entry1,Entry3"), entry2.getField("related"));
+    }
+
+    @Test
+    public void testEntriesLinkingToKey() {
+        assertEquals(Arrays.asList(entry2, entry3), db.getEntriesLinkingTo("Entry1"));
+        assertEquals(Collections.singletonList(entry1), db.getEntriesLinkingTo("Entry4"));
+        assertEquals(Collections.emptyList(), db.getEntriesLinkingTo("Entry5"));
+    }
+
+    @Test
+    public void testBulkChangeUpdatesLinkingEntryOnce() {
+        long modificationCount = entry2.getModificationCount();
+        db.changeKeys(() -> {
+            entry1.setCiteKey("Banana");
+            entry3.setCiteKey("Apple");
+            assertEquals(Optional.of("Entry1,Entry3"), entry2.getField("related"));
+        });
+        assertEquals(Optional.of("Banana,Apple"), entry2.getField("related"));
+        assertEquals(modificationCount + 1, entry2.getModificationCount());
+    }
+
+    @Test
+    public void testBulkChangeSwapsKeys() {
+        db.changeKeys(() -> {
+            entry1.setCiteKey("Entry3");
+            entry3.setCiteKey("Entry1");
+        });
+        assertEquals(Optional.of("Entry3,Entry1"), entry2.getField("related"));
+        assertEquals(Optional.of("Entry3,Entry2,Entry1"), entry3.getField("related"));
+    }
+
+    @Test
+    public void testBulkChangeOfSameKeyTwice() {
+        db.changeKeys(() -> {
+            entry4.setCiteKey("Banana");
+            entry4.setCiteKey("Apple");
+        });
+        assertEquals(Optional.of("Apple"), entry1.getField("crossref"));
+    }
+
+    @Test
+    public void testBulkChangeWithRemovedEntry() {
+        db.changeKeys(() -> {
+            entry4.setCiteKey("Banana");
+            db.removeEntry(entry4);
+        });
+        assertEquals(Optional.empty(), entry1.getField("crossref"));
+    }
 }
@@ -35,6 +35,22 @@ public class AuthorListTest {
         Assert.assertFalse(al.equals(AuthorList.parse("Smith")));
     }
 
+    @Test
+    public void parseTakesAuthorListFromCache() {
+        AuthorList authors = AuthorList.parse("Cached, Author and Other, Author");
+        long hits = AuthorList.getCacheStatistics().hitCount();
+
+        Assert.assertSame(authors, AuthorList.parse("Cached, Author and Other, Author"));
+        Assert.assertEquals(hits + 1, AuthorList.getCacheStatistics().hitCount());
+    }
+
+    @Test
+    public void parseSeparatesCommaSeparatedNamesOfCachedList() {
+        AuthorList.parse("Ali Babar, M., Dingsøyr, T.");
+
+        Assert.assertEquals(2, AuthorList.parse("Ali Babar, M., Dingsøyr, T.").getNumberOfAuthors());
+    }
+
     @Test
     public void testFixAuthorFirstNameFirstCommas() {
 
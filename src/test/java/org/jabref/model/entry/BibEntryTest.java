@@ -5,6 +5,9 @@ import java.util.List;
 import java.util.Optional;
 
 import org.jabref.model.database.BibDatabase;
+import org.jabref.model.event.TestEventListener;
+
+import com.google.common.eventbus.EventBus;
 
 import org.junit.After;
 import org.junit.Before;
@@ -12,6 +15,7 @@ import org.junit.Test;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
 
 public class BibEntryTest {
 
@@ -52,6 +56,74 @@ public class BibEntryTest {
         assertNotEquals(entry.getId(), entryClone.getId());
     }
 
+    @Test
+    public void clonedBibentryIsNotChangedWithOriginal() {
+        entry.setField("title", "Tea");
+        BibEntry entryClone = (BibEntry) entry.clone();
+
+        entry.setField("title", "Coffee");
+
+        assertEquals(Optional.of("Tea"), entryClone.getField("title"));
+    }
+
+    @Test
+    public void listenerRegisteredAfterChangesReceivesLaterChanges() {
+        entry.setField("title", "Tea");
+        TestEventListener listener = new TestEventListener();
+        entry.registerListener(listener);
+
+        entry.setField("title", "Coffee");
+
+        assertEquals(entry, listener.getBibEntry());
+    }
+
+    @Test
+    public void registeredEventBusReceivesChanges() {
+        EventBus bus = new EventBus();
+        TestEventListener listener = new TestEventListener();
+        bus.register(listener);
+        entry.registerEventBus(bus);
+
+        entry.setField("title", "Tea");
+
+        assertEquals(entry, listener.getBibEntry());
+    }
+
+    @Test
+    public void unregisteredEventBusDoesNotReceiveChanges() {
+        EventBus bus = new EventBus();
+        TestEventListener listener = new TestEventListener();
+        bus.register(listener);
+        entry.registerEventBus(bus);
+        entry.unregisterEventBus(bus);
+
+        entry.setField("title", "Tea");
+
+        assertNull(listener.getBibEntry());
+    }
+
+    @Test
+    public void unregisterListenerWithoutRegisteredListenerKeepsListeners() {
+        TestEventListener listener = new TestEventListener();
+        entry.unregisterListener(listener);
+        entry.registerListener(listener);
+        entry.unregisterListener(new TestEventListener());
+
+        entry.setField("title", "Tea");
+
+        assertEquals(entry, listener.getBibEntry());
+    }
+
+    @Test
+    public void getLatexFreeFieldReflectsChangedField() {
+        entry.setField("title", "Tea");
+        entry.getLatexFreeField("title");
+
+        entry.setField("title", "Coffee");
+
+        assertEquals(Optional.of("Coffee"), entry.getLatexFreeField("title"));
+    }
+
     @Test
     public void testGetAndAddToLinkedFileList() {
         List<LinkedFile> files = entry.getFiles();
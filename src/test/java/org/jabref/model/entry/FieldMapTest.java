@@ -0,0 +1,97 @@
+package org.jabref.model.entry;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class FieldMapTest {
+
+    private FieldMap fields;
+
+    @Before
+    public void setUp() {
+        fields = new FieldMap();
+        fields.put("author", "Smith");
+        fields.put("title", "Tea");
+        fields.put("year", "2017");
+    }
+
+    @Test
+    public void getReturnsStoredValue() {
+        assertEquals("Tea", fields.get("title"));
+        assertEquals(3, fields.size());
+    }
+
+    @Test
+    public void getReturnsNullForMissingField() {
+        assertNull(fields.get("journal"));
+        assertFalse(fields.containsKey("journal"));
+    }
+
+    @Test
+    public void putReplacesValue() {
+        assertEquals("Tea", fields.put("title", "Coffee"));
+
+        assertEquals("Coffee", fields.get("title"));
+        assertEquals(3, fields.size());
+    }
+
+    @Test
+    public void removeKeepsOtherFields() {
+        assertEquals("Tea", fields.remove("title"));
+
+        Map<String, String> expected = new HashMap<>();
+        expected.put("author", "Smith");
+        expected.put("year", "2017");
+        assertEquals(expected, fields);
+    }
+
+    @Test
+    public void fieldNameIsInterned() {
+        fields.put(new String("journal"), "Journal of Tea");
+
+        assertSame("journal", fields.keySet().stream().filter("journal"::equals).findFirst().get());
+    }
+
+    @Test
+    public void copyIsNotChangedWithOriginal() {
+        FieldMap copy = new FieldMap(fields);
+
+        fields.put("title", "Coffee");
+        fields.remove("year");
+
+        assertEquals("Tea", copy.get("title"));
+        assertTrue(copy.containsKey("year"));
+    }
+
+    @Test
+    public void iterationIsNotAffectedByConcurrentChange() {
+        Iterator<Map.Entry<String, String>> iterator = fields.entrySet().iterator();
+
+        fields.clear();
+
+        int iteratedFields = 0;
+        while (iterator.hasNext()) {
+            iterator.next();
+            iteratedFields++;
+        }
+        assertEquals(3, iteratedFields);
+    }
+
+    @Test
+    public void equalsMapWithSameFields() {
+        Map<String, String> other = new HashMap<>(fields);
+
+        assertEquals(other, fields);
+        assertEquals(other.hashCode(), fields.hashCode());
+    }
+}
@@ -1,5 +1,9 @@
 package org.jabref.model.event;
 
+import java.util.List;
+
+import org.jabref.model.database.event.DatabaseContentChangedEvent;
+import org.jabref.model.database.event.EntriesEvent;
 import org.jabref.model.database.event.EntryAddedEvent;
 import org.jabref.model.database.event.EntryRemovedEvent;
 import org.jabref.model.entry.BibEntry;
@@ -10,7 +14,9 @@ import com.google.common.eventbus.Subscribe;
 public class TestEventListener {
 
     private BibEntry bibEntry;
-
+    private List<BibEntry> bibEntries;
+    private int numberOfEntriesEvents;
+    private int numberOfContentEvents;
 
     @Subscribe
     public void listen(EntryAddedEvent event) {
@@ -27,8 +33,31 @@ public class TestEventListener {
         this.bibEntry = event.getBibEntry();
     }
 
+    @Subscribe
+    public void listen(EntriesEvent event) {
+        this.bibEntries = event.getBibEntries();
+        this.numberOfEntriesEvents++;
+    }
+
+    @Subscribe
+    public void listen(@SuppressWarnings("unused") DatabaseContentChangedEvent event) {
+        this.numberOfContentEvents++;
+    }
+
     public BibEntry getBibEntry() {
         return this.bibEntry;
     }
 
+    public List<BibEntry> getBibEntries() {
+        return this.bibEntries;
+    }
+
+    public int getNumberOfEntriesEvents() {
+        return this.numberOfEntriesEvents;
+    }
+
+    public int getNumberOfContentEvents() {
+        return this.numberOfContentEvents;
+    }
+
 }
@@ -0,0 +1,140 @@
+package org.jabref.model.groups;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.event.EntryChangedEvent;
+
+import com.google.common.eventbus.Subscribe;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class GroupMembershipIndexTest {
+
+    private BibDatabase database;
+    private GroupTreeNode root;
+    private GroupTreeNode nodeB;
+    private BibEntry entryAB;
+    private BibEntry entryBCD;
+
+    private static WordKeywordGroup getKeywordGroup(String keyword, GroupHierarchyType context) {
+        return new WordKeywordGroup(keyword, context, "keywords", keyword, true, ',', false);
+    }
+
+    /**
+     * Root
+     *      A, Including
+     *          A1 b, Independent
+     *          A2 c, Including
+     *              A21 d, Refining
+     *      B, Independent
+     *          B1 c, Refining
+     *              B11 d, Refining
+     */
+    @Before
+    public void setUp() {
+        database = new BibDatabase();
+        entryAB = new BibEntry().withField("keywords", "a, b");
+        entryBCD = new BibEntry().withField("keywords", "b, c, d");
+        database.insertEntries(entryAB, entryBCD, new BibEntry().withField("keywords", "d"));
+
+        root = new GroupTreeNode(new AllEntriesGroup("All entries"));
+        GroupTreeNode nodeA = root.addSubgroup(getKeywordGroup("a", GroupHierarchyType.INCLUDING));
+        nodeA.addSubgroup(getKeywordGroup("b", GroupHierarchyType.INDEPENDENT));
+        nodeA.addSubgroup(getKeywordGroup("c", GroupHierarchyType.INCLUDING))
+                .addSubgroup(getKeywordGroup("d", GroupHierarchyType.REFINING));
+        nodeB = root.addSubgroup(getKeywordGroup("b", GroupHierarchyType.INDEPENDENT));
+        nodeB.addSubgroup(getKeywordGroup("c", GroupHierarchyType.REFINING))
+                .addSubgroup(getKeywordGroup("d", GroupHierarchyType.REFINING));
+    }
+
+    private void assertHitsOfAllGroups(GroupMembershipIndex index) {
+        List<GroupTreeNode> nodes = new ArrayList<>();
+        nodes.add(root);
+        for (int i = 0; i < nodes.size(); i++) {
+            nodes.addAll(nodes.get(i).getChildren());
+        }
+
+        for (GroupTreeNode node : nodes) {
+            assertEquals(node.getPath(), node.calculateNumberOfMatches(database), index.getHits(node));
+        }
+    }
+
+    @Test
+    public void getHitsTakesHierarchicalContextIntoAccount() {
+        GroupMembershipIndex index = new GroupMembershipIndex(database, root);
+
+        assertHitsOfAllGroups(index);
+        assertEquals(3, index.getHits(root));
+        assertEquals(3, index.getHits(root.getChildren().get(0)));
+        assertEquals(1, index.getHits(nodeB.getChildren().get(0).getChildren().get(0)));
+    }
+
+    @Test
+    public void getHitsFollowsChangedEntries() {
+        GroupMembershipIndex index = new GroupMembershipIndex(database, root);
+
+        entryAB.setField("keywords", "c, d");
+        entryBCD.clearField("keywords");
+        assertHitsOfAllGroups(index);
+
+        database.removeEntry(entryAB);
+        database.insertEntry(new BibEntry().withField("keywords", "b, c"));
+        database.insertEntry(new BibEntry().withField("keywords", "a, b, c, d"));
+        assertHitsOfAllGroups(index);
+    }
+
+    @Test
+    public void getHitsFollowsChangedGroups() {
+        GroupMembershipIndex index = new GroupMembershipIndex(database, root);
+
+        nodeB.addSubgroup(getKeywordGroup("a", GroupHierarchyType.INCLUDING));
+        nodeB.setGroup(getKeywordGroup("d", GroupHierarchyType.INCLUDING));
+        assertHitsOfAllGroups(index);
+
+        root.getChildren().get(0).removeFromParent();
+        entryBCD.setField("keywords", "a");
+        assertHitsOfAllGroups(index);
+    }
+
+    @Test
+    public void getHitsCountsGroupsOutsideOfTree() {
+        GroupMembershipIndex index = new GroupMembershipIndex(database, root);
+
+        assertEquals(2, index.getHits(new GroupTreeNode(getKeywordGroup("d", GroupHierarchyType.INDEPENDENT))));
+    }
+
+    @Test
+    public void getHitsIncludesChangesMadeBeforeFirstQuery() {
+        GroupMembershipIndex index = new GroupMembershipIndex(database, root);
+
+        entryAB.setField("keywords", "d");
+        database.insertEntry(new BibEntry().withField("keywords", "a"));
+
+        assertHitsOfAllGroups(index);
+    }
+
+    @Test
+    public void shutdownStopsRelayingChanges() {
+        GroupMembershipIndex index = new GroupMembershipIndex(database, root);
+        List<EntryChangedEvent> events = new ArrayList<>();
+        index.registerListener(new Object() {
+
+            @Subscribe
+            public void listen(EntryChangedEvent event) {
+                events.add(event);
+            }
+        });
+
+        index.shutdown();
+        entryAB.setField("keywords", "d");
+
+        assertTrue(events.isEmpty());
+    }
+}
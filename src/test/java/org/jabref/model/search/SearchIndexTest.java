@@ -0,0 +1,130 @@
+package org.jabref.model.search;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.Set;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class SearchIndexTest {
+
+    private BibDatabase database;
+    private BibEntry vikings;
+    private BibEntry romans;
+
+    @Before
+    public void setUp() {
+        database = new BibDatabase();
+        vikings = new BibEntry();
+        vikings.setField("title", "The great Vikinger");
+        vikings.setField("author", "Smith, John");
+        romans = new BibEntry();
+        romans.setField("title", "Roman roads");
+        romans.setField("author", "Doe-Smith, Jane");
+        database.insertEntries(vikings, romans);
+    }
+
+    private Set<BibEntry> getCandidates(String... words) {
+        return database.getSearchIndex().getCandidates(Arrays.asList(words)).get();
+    }
+
+    @Test
+    public void getTermsSplitsAtNonLetters() {
+        assertEquals(Arrays.asList("doe", "smith", "2017"), SearchIndex.getTerms("Doe-Smith, 2017"));
+    }
+
+    @Test
+    public void getCandidatesFindsPartsOfTermsIgnoringCase() {
+        assertEquals(Collections.singleton(vikings), getCandidates("IKING"));
+    }
+
+    @Test
+    public void getCandidatesRequiresAllWords() {
+        assertEquals(Collections.singleton(romans), getCandidates("smith", "road"));
+    }
+
+    @Test
+    public void getCandidatesRequiresAllPartsOfWord() {
+        assertEquals(Collections.singleton(romans), getCandidates("doe-smi"));
+    }
+
+    @Test
+    public void getCandidatesDoesNotRestrictShortWords() {
+        assertEquals(Optional.empty(), database.getSearchIndex().getCandidates(Collections.singletonList("r")));
+    }
+
+    @Test
+    public void getCandidatesUsesFieldFilter() {
+        assertEquals(Collections.emptySet(), database.getSearchIndex().getCandidates("smith", "title"::equals).get());
+    }
+
+    @Test
+    public void getCandidatesFollowsFieldChanges() {
+        SearchIndex index = database.getSearchIndex();
+        assertEquals(Collections.singleton(vikings), getCandidates("great"));
+
+        vikings.setField("title", "The small Vikinger");
+        romans.setField("title", "Great roads");
+
+        assertEquals(Collections.singleton(romans), getCandidates("great"));
+        assertTrue(getCandidates("small").contains(vikings));
+        assertEquals(index, database.getSearchIndex());
+    }
+
+    @Test
+    public void getCandidatesFollowsAddedAndRemovedEntries() {
+        assertEquals(Collections.singleton(romans), getCandidates("roma"));
+
+        BibEntry greeks = new BibEntry();
+        greeks.setField("title", "Greeks and Romans");
+        database.insertEntry(greeks);
+        database.removeEntry(romans);
+
+        assertEquals(Collections.singleton(greeks), getCandidates("roma"));
+    }
+
+    @Test
+    public void getCandidatesIgnoresChangesOfRemovedEntries() {
+        assertEquals(Collections.singleton(romans), getCandidates("roma"));
+        database.removeEntry(romans);
+
+        romans.setField("title", "Roman aqueducts");
+
+        assertEquals(Collections.emptySet(), getCandidates("aqueducts"));
+    }
+
+    @Test
+    public void getCandidatesOfExtendedWordFindsNewTerms() {
+        assertEquals(Collections.singleton(vikings), getCandidates("vik"));
+
+        BibEntry norse = new BibEntry();
+        norse.setField("title", "Viking ships");
+        database.insertEntry(norse);
+
+        Set<BibEntry> candidates = getCandidates("viki");
+        assertEquals(2, candidates.size());
+        assertTrue(candidates.contains(norse));
+    }
+
+    @Test
+    public void getCandidatesDistinguishesEqualEntries() {
+        BibEntry copy = new BibEntry();
+        copy.setField("title", "Roman roads");
+        copy.setField("author", "Doe-Smith, Jane");
+        database.insertEntry(copy);
+        database.removeEntry(romans);
+
+        Set<BibEntry> candidates = getCandidates("roads");
+        assertEquals(1, candidates.size());
+        assertFalse(candidates.stream().anyMatch(entry -> entry == romans));
+    }
+}
@@ -2,6 +2,7 @@ package org.jabref.model.search.rules;
 
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibtexEntryTypes;
+import org.jabref.model.search.SearchMatcher;
 
 import org.junit.Assert;
 import org.junit.Test;
@@ -42,6 +43,25 @@ public class ContainBasedSearchRuleTest {
 
     }
 
+    @Test
+    public void testCompiledQueryMatchesSeveralEntries() {
+        BibEntry be = makeBibtexEntry();
+        BibEntry other = new BibEntry();
+        other.setField("title", "Marine biology");
+        SearchMatcher matcher = new ContainBasedSearchRule(false).compile("marine 2001 shields");
+
+        Assert.assertEquals(true, matcher.isMatch(be));
+        Assert.assertEquals(false, matcher.isMatch(other));
+        Assert.assertEquals(true, matcher.isMatch(be));
+    }
+
+    @Test
+    public void testCompiledInvalidRegexpMatchesNothing() {
+        SearchMatcher matcher = new RegexBasedSearchRule(false).compile("marine [A-Z");
+
+        Assert.assertEquals(false, matcher.isMatch(makeBibtexEntry()));
+    }
+
     public BibEntry makeBibtexEntry() {
         BibEntry e = new BibEntry(BibtexEntryTypes.INCOLLECTION.getName());
         e.setField("title", "Marine finfish larviculture in Europe");
@@ -2,6 +2,7 @@ package org.jabref.shared;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
@@ -92,6 +93,37 @@ public class DBMSProcessorTest {
         assertEquals(expectedFieldMap, actualFieldMap);
     }
 
+    @Test
+    public void testInsertEntries() {
+        BibEntry firstEntry = getBibEntryExample();
+        BibEntry secondEntry = getBibEntryExampleWithEmptyFields();
+        secondEntry.getSharedBibEntryData().setSharedID(-1);
+        dbmsProcessor.insertEntry(firstEntry);
+        BibEntry thirdEntry = getBibEntryExample();
+        thirdEntry.setType("article");
+
+        // the first entry is skipped as it exists already
+        dbmsProcessor.insertEntries(Arrays.asList(firstEntry, secondEntry, thirdEntry));
+
+        assertEquals(Arrays.asList(firstEntry, secondEntry, thirdEntry), dbmsProcessor.getSharedEntries());
+        assertEquals(thirdEntry, dbmsProcessor.getSharedEntry(thirdEntry.getSharedBibEntryData().getSharedID()).get());
+    }
+
+    @Test
+    public void testUpdateEntryWithAddedAndRemovedFields() throws OfflineLockException, SQLException {
+        BibEntry expectedEntry = getBibEntryExample();
+        dbmsProcessor.insertEntry(expectedEntry);
+
+        expectedEntry.clearField("booktitle");
+        expectedEntry.setField("title", "Another title");
+        expectedEntry.setField("pages", "1--10");
+        assertTrue(dbmsProcessor.updateEntry(expectedEntry));
+
+        BibEntry actualEntry = dbmsProcessor.getSharedEntry(expectedEntry.getSharedBibEntryData().getSharedID()).get();
+        assertEquals(expectedEntry, actualEntry);
+        assertEquals(2, actualEntry.getSharedBibEntryData().getVersion());
+    }
+
     @Test
     public void testUpdateEntry() throws OfflineLockException, SQLException {
         BibEntry expectedEntry = getBibEntryExample();
@@ -174,6 +206,38 @@ public class DBMSProcessorTest {
         assertEquals(expectedBibEntry, actualBibEntryOptional.get());
     }
 
+    @Test
+    public void testGetSharedEntriesByIDs() {
+        BibEntry firstEntry = getBibEntryExample();
+        BibEntry secondEntry = getBibEntryExample();
+        BibEntry thirdEntry = getBibEntryExample();
+        thirdEntry.setField("title", "Another title");
+
+        dbmsProcessor.insertEntry(firstEntry);
+        dbmsProcessor.insertEntry(secondEntry);
+        dbmsProcessor.insertEntry(thirdEntry);
+
+        List<BibEntry> actualEntries = dbmsProcessor.getSharedEntries(Arrays.asList(
+                thirdEntry.getSharedBibEntryData().getSharedID(), firstEntry.getSharedBibEntryData().getSharedID(),
+                -1));
+
+        assertEquals(Arrays.asList(firstEntry, thirdEntry), actualEntries);
+    }
+
+    @Test
+    public void testGetSharedEntriesByManyIDs() {
+        List<BibEntry> expectedEntries = new ArrayList<>();
+        List<Integer> sharedIDs = new ArrayList<>();
+        for (int i = 0; i <= DBMSProcessor.MAXIMUM_IDS_PER_QUERY; i++) {
+            BibEntry bibEntry = getBibEntryExample();
+            dbmsProcessor.insertEntry(bibEntry);
+            expectedEntries.add(bibEntry);
+            sharedIDs.add(bibEntry.getSharedBibEntryData().getSharedID());
+        }
+
+        assertEquals(expectedEntries, dbmsProcessor.getSharedEntries(sharedIDs));
+    }
+
     @Test
     public void testGetNotExistingSharedEntry() {
         Optional<BibEntry> actualBibEntryOptional = dbmsProcessor.getSharedEntry(1);
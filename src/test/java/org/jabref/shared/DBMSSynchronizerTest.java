@@ -77,6 +77,7 @@ public class DBMSSynchronizerTest {
         bibDatabase.insertEntry(expectedEntry);
         // should not add into shared database.
         bibDatabase.insertEntry(furtherEntry, EntryEventSource.SHARED);
+        dbmsSynchronizer.synchronizeAddedEntries();
 
         List<BibEntry> actualEntries = dbmsProcessor.getSharedEntries();
 
@@ -90,6 +91,7 @@ public class DBMSSynchronizerTest {
         expectedEntry.registerListener(dbmsSynchronizer);
 
         bibDatabase.insertEntry(expectedEntry);
+        dbmsSynchronizer.synchronizeAddedEntries();
         expectedEntry.setField("author", "Brad L and Gilson");
         expectedEntry.setField("title", "The micro multiplexer", EntryEventSource.SHARED);
 
@@ -100,10 +102,51 @@ public class DBMSSynchronizerTest {
 
     }
 
+    @Test
+    public void testEntryAddedEventsAreInsertedTogether() {
+        List<BibEntry> expectedEntries = Arrays.asList(getBibEntryExample(1), getBibEntryExample(2));
+        expectedEntries.forEach(entry -> entry.getSharedBibEntryData().setSharedID(-1));
+
+        bibDatabase.insertEntries(expectedEntries);
+        // changes made before the insertion are part of it
+        expectedEntries.get(1).setField("year", "2017");
+        dbmsSynchronizer.synchronizeAddedEntries();
+
+        assertEquals(expectedEntries, dbmsProcessor.getSharedEntries());
+        assertTrue(expectedEntries.stream().allMatch(entry -> entry.getSharedBibEntryData().getSharedID() != -1));
+    }
+
+    @Test
+    public void testEntryRemovedBeforeInsertionIsNotInserted() {
+        BibEntry bibEntry = getBibEntryExample(1);
+        bibDatabase.insertEntry(bibEntry);
+        bibDatabase.removeEntry(bibEntry);
+        dbmsSynchronizer.synchronizeAddedEntries();
+
+        assertTrue(dbmsProcessor.getSharedEntries().isEmpty());
+    }
+
+    @Test
+    public void testEntriesAreInsertedAgainAfterFailedInsertion() throws SQLException {
+        BibEntry bibEntry = getBibEntryExample(1);
+        bibEntry.getSharedBibEntryData().setSharedID(-1);
+        TestManager.clearTables(dbmsConnection);
+
+        bibDatabase.insertEntry(bibEntry);
+        dbmsSynchronizer.synchronizeAddedEntries();
+        assertEquals(-1, bibEntry.getSharedBibEntryData().getSharedID());
+
+        dbmsProcessor.setupSharedDatabase();
+        dbmsSynchronizer.synchronizeAddedEntries();
+
+        assertEquals(Collections.singletonList(bibEntry), dbmsProcessor.getSharedEntries());
+    }
+
     @Test
     public void testEntryRemovedEventListener() {
         BibEntry bibEntry = getBibEntryExample(1);
         bibDatabase.insertEntry(bibEntry);
+        dbmsSynchronizer.synchronizeAddedEntries();
 
         List<BibEntry> actualEntries = dbmsProcessor.getSharedEntries();
         assertEquals(1, actualEntries.size());
@@ -115,6 +158,7 @@ public class DBMSSynchronizerTest {
         assertEquals(0, actualEntries.size());
 
         bibDatabase.insertEntry(bibEntry);
+        dbmsSynchronizer.synchronizeAddedEntries();
         bibDatabase.removeEntry(bibEntry, EntryEventSource.SHARED);
 
         actualEntries = dbmsProcessor.getSharedEntries();
@@ -171,6 +215,7 @@ public class DBMSSynchronizerTest {
     public void testSynchronizeLocalDatabaseWithEntryUpdate() throws OfflineLockException, SQLException {
         BibEntry bibEntry = getBibEntryExample(1);
         bibDatabase.insertEntry(bibEntry);
+        dbmsSynchronizer.synchronizeAddedEntries();
         assertEquals(1, bibDatabase.getEntries().size());
 
         BibEntry modifiedBibEntry = getBibEntryExample(1);
@@ -185,6 +230,34 @@ public class DBMSSynchronizerTest {
         assertEquals(bibDatabase.getEntries(), dbmsProcessor.getSharedEntries());
     }
 
+    @Test
+    public void testSynchronizeLocalDatabaseKeepsEntriesNotYetShared() {
+        BibEntry sharedEntry = getBibEntryExample(1);
+        dbmsProcessor.insertEntry(sharedEntry);
+
+        BibEntry localEntry = new BibEntry();
+        localEntry.setField("title", "Not yet shared");
+        bibDatabase.insertEntry(localEntry, EntryEventSource.SHARED);
+
+        dbmsSynchronizer.synchronizeLocalDatabase();
+
+        assertEquals(Arrays.asList(localEntry, sharedEntry), bibDatabase.getEntries());
+    }
+
+    @Test
+    public void testSynchronizeLocalDatabaseSkipsUnchangedEntries() {
+        BibEntry bibEntry = getBibEntryExample(1);
+        dbmsProcessor.insertEntry(bibEntry);
+        dbmsSynchronizer.synchronizeLocalDatabase();
+
+        // the local entry has the same version as the shared one, thus it is not fetched again
+        BibEntry localEntry = bibDatabase.getEntries().get(0);
+        localEntry.setField("title", "Local title", EntryEventSource.SHARED);
+        dbmsSynchronizer.synchronizeLocalDatabase();
+
+        assertEquals("Local title", localEntry.getField("title").get());
+    }
+
     @Test
     public void testApplyMetaData() {
         BibEntry bibEntry = getBibEntryExample(1);
@@ -63,8 +63,10 @@ public class SynchronizationTestSimulator {
     public void simulateEntryInsertionAndManualPull() {
         //client A inserts an entry
         clientContextA.getDatabase().insertEntry(getBibEntryExample(1));
+        clientContextA.getDBMSSynchronizer().synchronizeAddedEntries();
         //client A inserts another entry
         clientContextA.getDatabase().insertEntry(getBibEntryExample(2));
+        clientContextA.getDBMSSynchronizer().synchronizeAddedEntries();
         //client B pulls the changes
         clientContextB.getDBMSSynchronizer().pullChanges();
 
@@ -76,6 +78,7 @@ public class SynchronizationTestSimulator {
         BibEntry bibEntry = getBibEntryExample(1);
         //client A inserts an entry
         clientContextA.getDatabase().insertEntry(bibEntry);
+        clientContextA.getDBMSSynchronizer().synchronizeAddedEntries();
         //client A changes the entry
         bibEntry.setField("custom", "custom value");
         //client B pulls the changes
@@ -91,6 +94,7 @@ public class SynchronizationTestSimulator {
         BibEntry bibEntry = getBibEntryExample(1);
         //client A inserts an entry
         clientContextA.getDatabase().insertEntry(bibEntry);
+        clientContextA.getDBMSSynchronizer().synchronizeAddedEntries();
         //client B pulls the entry
         clientContextB.getDBMSSynchronizer().pullChanges();
 
@@ -112,6 +116,7 @@ public class SynchronizationTestSimulator {
         BibEntry bibEntryOfClientA = getBibEntryExample(1);
         //client A inserts an entry
         clientContextA.getDatabase().insertEntry(bibEntryOfClientA);
+        clientContextA.getDBMSSynchronizer().synchronizeAddedEntries();
         //client B pulls the entry
         clientContextB.getDBMSSynchronizer().pullChanges();
 
@@ -138,6 +143,7 @@ public class SynchronizationTestSimulator {
         BibEntry bibEntryOfClientA = getBibEntryExample(1);
         //client A inserts an entry
         clientContextA.getDatabase().insertEntry(bibEntryOfClientA);
+        clientContextA.getDBMSSynchronizer().synchronizeAddedEntries();
         //client B pulls the entry
         clientContextB.getDBMSSynchronizer().pullChanges();
 